@@ -0,0 +1,60 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Weighs cache entries by their estimated size in bytes, for caches limited by
+ * {@code mosip.certify.cache.max-bytes} instead of a number of entries.
+ * <p>
+ * Strings are weighed at two bytes per character and byte arrays by their length. Other values
+ * are weighed by the length of their JSON form, which follows the size of the templates and
+ * documents they hold. The estimate is made once, when the entry is written.</p>
+ */
+@Slf4j
+public final class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    public static final CacheEntryWeigher INSTANCE = new CacheEntryWeigher();
+
+    // Object headers and references of an entry, and the weight of values that cannot be estimated
+    static final int ENTRY_OVERHEAD = 64;
+    static final int UNKNOWN_VALUE_WEIGHT = 1024;
+
+    private static final ObjectMapper SIZE_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private CacheEntryWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof OffHeapCaffeineCache.OffHeapValue offHeapValue) {
+            return offHeapValue.size();
+        }
+        if (value instanceof CharSequence text) {
+            return 2L * text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        try {
+            return SIZE_MAPPER.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            log.debug("Cannot estimate the size of a cached {}", value.getClass().getName());
+            return UNKNOWN_VALUE_WEIGHT;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Caffeine cache that keeps large values outside the Java heap.
+ * <p>
+ * A value whose serialized form is at least {@code minOffHeapBytes} long is stored as that form in
+ * a direct buffer, and deserialized again on every read. Only a small holder stays on the heap, so
+ * large templates do not add to the heap or to the work of the garbage collector. Strings are
+ * stored as UTF-8, other values as JSON; a value whose JSON form cannot be read back into its
+ * class stays on the heap. The direct memory is released when the entry is evicted and its holder
+ * is collected, and is limited by {@code -XX:MaxDirectMemorySize}.</p>
+ */
+@Slf4j
+public class OffHeapCaffeineCache extends CaffeineCache {
+
+    private static final ObjectMapper VALUE_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private final int minOffHeapBytes;
+
+    public OffHeapCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues, int minOffHeapBytes) {
+        super(name, cache, allowNullValues);
+        this.minOffHeapBytes = minOffHeapBytes;
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        Object storeValue = super.toStoreValue(userValue);
+        if (userValue == null) {
+            return storeValue;
+        }
+        try {
+            byte[] bytes = userValue instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8)
+                    : VALUE_MAPPER.writeValueAsBytes(userValue);
+            if (bytes.length < minOffHeapBytes) {
+                return storeValue;
+            }
+            OffHeapValue offHeapValue = new OffHeapValue(userValue.getClass(), bytes);
+            // Fails here rather than on a later read when the class cannot be read back from JSON
+            offHeapValue.read();
+            return offHeapValue;
+        } catch (Exception e) {
+            log.debug("Keeping a {} of cache {} on the heap", userValue.getClass().getName(), getName());
+            return storeValue;
+        }
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        if (storeValue instanceof OffHeapValue offHeapValue) {
+            try {
+                return offHeapValue.read();
+            } catch (Exception e) {
+                // Verified when stored, so only a broken buffer ends up here
+                throw new IllegalStateException("Failed to read an off-heap value of cache " + getName(), e);
+            }
+        }
+        return super.fromStoreValue(storeValue);
+    }
+
+    /**
+     * Serialized value in a direct buffer.
+     */
+    static final class OffHeapValue {
+        private final Class<?> type;
+        private final ByteBuffer buffer;
+
+        OffHeapValue(Class<?> type, byte[] bytes) {
+            this.type = type;
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            this.buffer = direct.asReadOnlyBuffer();
+        }
+
+        int size() {
+            return buffer.capacity();
+        }
+
+        Object read() throws Exception {
+            byte[] bytes = new byte[buffer.capacity()];
+            buffer.duplicate().get(bytes);
+            if (type == String.class) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            return VALUE_MAPPER.readValue(bytes, type);
+        }
+    }
+}
@@ -31,20 +31,24 @@ public class RedisCacheConfig {
 
     @Bean
     public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        return (builder) -> {
-            Map<String, RedisCacheConfiguration> configurationMap = new HashMap<>();
-            cacheNamesWithTTLMap.forEach((cacheName, ttl) -> {
-                RedisCacheConfiguration defaultConfiguration = RedisCacheConfiguration
-                                .defaultCacheConfig()
-                                .disableCachingNullValues()
-                                .entryTtl(Duration.ofSeconds(ttl));
-                if (cachePrefix != null && !cachePrefix.isEmpty()) {
-                    log.info("Using cache prefix: {}", cachePrefix);
-                    defaultConfiguration = defaultConfiguration.prefixCacheNameWith(cachePrefix);
-                }
-                configurationMap.put(cacheName, defaultConfiguration);
-            });
-            builder.withInitialCacheConfigurations(configurationMap);
-        };
+        // Statistics back the hit, miss and put metrics of every cache
+        return (builder) -> builder.withInitialCacheConfigurations(cacheConfigurations(cacheNamesWithTTLMap, cachePrefix))
+                .enableStatistics();
+    }
+
+    static Map<String, RedisCacheConfiguration> cacheConfigurations(Map<String, Integer> cacheNamesWithTTLMap, String cachePrefix) {
+        Map<String, RedisCacheConfiguration> configurationMap = new HashMap<>();
+        cacheNamesWithTTLMap.forEach((cacheName, ttl) -> {
+            RedisCacheConfiguration defaultConfiguration = RedisCacheConfiguration
+                            .defaultCacheConfig()
+                            .disableCachingNullValues()
+                            .entryTtl(Duration.ofSeconds(ttl));
+            if (cachePrefix != null && !cachePrefix.isEmpty()) {
+                log.info("Using cache prefix: {}", cachePrefix);
+                defaultConfiguration = defaultConfiguration.prefixCacheNameWith(cachePrefix);
+            }
+            configurationMap.put(cacheName, defaultConfiguration);
+        });
+        return configurationMap;
     }
 }
@@ -15,12 +15,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 @ConditionalOnProperty(value = "spring.cache.type", havingValue = "simple")
 @Configuration
@@ -35,6 +35,13 @@ public class SimpleCacheConfig extends CachingConfigurerSupport {
     @Value("#{${mosip.certify.cache.expire-in-seconds}}")
     private Map<String, Integer> cacheExpireInSeconds;
 
+    // Caches limited by the estimated bytes of their entries instead of mosip.certify.cache.size
+    @Value("#{${mosip.certify.cache.max-bytes:{:}}}")
+    private Map<String, Long> cacheMaxBytes;
+
+    // Caches whose values of at least this many bytes are kept off the heap
+    @Value("#{${mosip.certify.cache.off-heap.min-bytes:{:}}}")
+    private Map<String, Integer> offHeapMinBytes;
 
     @Bean
     @Override
@@ -48,12 +55,21 @@ public class SimpleCacheConfig extends CachingConfigurerSupport {
         return cacheManager;
     }
 
-    private ConcurrentMapCache buildMapCache(String name) {
-        return new ConcurrentMapCache(name,
-                CacheBuilder.newBuilder()
-                        .expireAfterWrite(cacheExpireInSeconds.getOrDefault(name, 60), TimeUnit.SECONDS)
-                        .maximumSize(cacheMaxSize.getOrDefault(name, 100))
-                        .build()
-                        .asMap(), true);
+    // Statistics are recorded for the cache metrics published through actuator
+    private CaffeineCache buildMapCache(String name) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(cacheExpireInSeconds.getOrDefault(name, 60), TimeUnit.SECONDS)
+                .recordStats();
+        Long maxBytes = cacheMaxBytes.get(name);
+        if (maxBytes != null) {
+            builder.maximumWeight(maxBytes).weigher(CacheEntryWeigher.INSTANCE);
+        } else {
+            builder.maximumSize(cacheMaxSize.getOrDefault(name, 100));
+        }
+        Integer minOffHeapBytes = offHeapMinBytes.get(name);
+        if (minOffHeapBytes != null) {
+            return new OffHeapCaffeineCache(name, builder.build(), true, minOffHeapBytes);
+        }
+        return new CaffeineCache(name, builder.build(), true);
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis cache with a local near-cache for read-mostly caches, enabled with
+ * {@code mosip.certify.cache.two-tier.enabled=true} on top of {@code spring.cache.type=redis}.
+ */
+@ConditionalOnExpression("'${spring.cache.type:}' == 'redis' and ${mosip.certify.cache.two-tier.enabled:false}")
+@Configuration
+@Slf4j
+public class TwoTierCacheConfig {
+
+    @Value("${mosip.certify.cache.names}")
+    private List<String> cacheNames;
+
+    @Value("#{${mosip.certify.cache.size}}")
+    private Map<String, Integer> cacheMaxSize;
+
+    @Value("#{${mosip.certify.cache.expire-in-seconds}}")
+    private Map<String, Integer> cacheExpireInSeconds;
+
+    @Value("#{${mosip.certify.cache.max-bytes:{:}}}")
+    private Map<String, Long> cacheMaxBytes;
+
+    @Value("${mosip.certify.cache.redis.key-prefix:}")
+    private String cachePrefix;
+
+    @Value("${mosip.certify.cache.two-tier.local-cache-names:credentialConfig,renderTemplate,certificatedatacache,templatecache}")
+    private List<String> localCacheNames;
+
+    @Value("${mosip.certify.cache.two-tier.local-max-size:1000}")
+    private int localMaxSize;
+
+    @Value("${mosip.certify.cache.two-tier.local-max-expire-seconds:300}")
+    private int localMaxExpireSeconds;
+
+    @Value("${mosip.certify.cache.two-tier.invalidation-channel:certify-cache-invalidation}")
+    private String invalidationChannel;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig().disableCachingNullValues();
+        if (cachePrefix != null && !cachePrefix.isEmpty()) {
+            defaults = defaults.prefixCacheNameWith(cachePrefix);
+        }
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(defaults)
+                .initialCacheNames(new LinkedHashSet<>(cacheNames))
+                .withInitialCacheConfigurations(RedisCacheConfig.cacheConfigurations(cacheExpireInSeconds, cachePrefix))
+                .enableStatistics()
+                .build();
+        remoteCacheManager.initializeCaches();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        String channel = channel();
+        log.info("Two-tier cache enabled for {}, invalidations on channel {}", localCacheNames, channel);
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(remoteCacheManager, localCacheNames, cacheMaxSize,
+                cacheExpireInSeconds, cacheMaxBytes, localMaxSize, localMaxExpireSeconds,
+                message -> redisTemplate.convertAndSend(channel, message));
+        cacheNames.forEach(cacheManager::getCache);
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) ->
+                cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(channel()));
+        return container;
+    }
+
+    // Deployments sharing a Redis with different key prefixes do not see each other's invalidations
+    private String channel() {
+        return cachePrefix == null || cachePrefix.isEmpty() ? invalidationChannel : cachePrefix + invalidationChannel;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache manager that puts a local Caffeine cache in front of the Redis caches listed as local
+ * caches, see {@link TwoTierCache}. Other caches are served by Redis only.
+ * <p>
+ * Local writes and evictions are published as invalidation messages, and messages of other
+ * instances evict the key from the local cache. Messages are not delivered to instances that are
+ * disconnected from Redis at that moment, so local entries expire after at most
+ * {@code localMaxExpireSeconds} even when the cache keeps its entries longer.</p>
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final ObjectMapper MESSAGE_MAPPER = new ObjectMapper();
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localCacheNames;
+    private final Map<String, Integer> cacheMaxSize;
+    private final Map<String, Integer> cacheExpireInSeconds;
+    private final Map<String, Long> cacheMaxBytes;
+    private final int localMaxSize;
+    private final int localMaxExpireSeconds;
+    // Publishes an invalidation message to the other instances
+    private final Function<String, ?> publisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Collection<String> localCacheNames,
+                               Map<String, Integer> cacheMaxSize, Map<String, Integer> cacheExpireInSeconds,
+                               Map<String, Long> cacheMaxBytes, int localMaxSize, int localMaxExpireSeconds,
+                               Function<String, ?> publisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheNames = Set.copyOf(localCacheNames);
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheExpireInSeconds = cacheExpireInSeconds;
+        this.cacheMaxBytes = cacheMaxBytes;
+        this.localMaxSize = localMaxSize;
+        this.localMaxExpireSeconds = localMaxExpireSeconds;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * Handles an invalidation message received from the channel.
+     */
+    public void onInvalidation(String message) {
+        Map<?, ?> invalidation;
+        try {
+            invalidation = MESSAGE_MAPPER.readValue(message, Map.class);
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable cache invalidation message");
+            return;
+        }
+        if (instanceId.equals(invalidation.get("origin"))) {
+            return;
+        }
+        Cache cache = caches.get(String.valueOf(invalidation.get("cache")));
+        if (cache instanceof TwoTierCache twoTierCache) {
+            Object key = invalidation.get("key");
+            twoTierCache.evictLocal(key == null ? null : String.valueOf(key));
+        }
+    }
+
+    private Cache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !localCacheNames.contains(name)) {
+            return remote;
+        }
+        int expireSeconds = Math.min(cacheExpireInSeconds.getOrDefault(name, localMaxExpireSeconds), localMaxExpireSeconds);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats();
+        Long maxBytes = cacheMaxBytes.get(name);
+        if (maxBytes != null) {
+            builder.maximumWeight(maxBytes).weigher(CacheEntryWeigher.INSTANCE);
+        } else {
+            builder.maximumSize(cacheMaxSize.getOrDefault(name, localMaxSize));
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = builder.build();
+        log.info("Cache {} is served from a local cache of {} seconds in front of Redis", name, expireSeconds);
+        return new TwoTierCache(remote, local, key -> publish(name, key));
+    }
+
+    private void publish(String cacheName, Object key) {
+        Map<String, Object> invalidation = new HashMap<>();
+        invalidation.put("origin", instanceId);
+        invalidation.put("cache", cacheName);
+        invalidation.put("key", key == null ? null : String.valueOf(key));
+        try {
+            publisher.apply(MESSAGE_MAPPER.writeValueAsString(invalidation));
+        } catch (Exception e) {
+            // Redis already has the new value, other instances see it once their local entry expires
+            log.warn("Failed to publish the invalidation of cache {}", cacheName, e);
+        }
+    }
+}
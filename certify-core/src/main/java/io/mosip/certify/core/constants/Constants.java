@@ -38,5 +38,6 @@ public class Constants {
     public  static final String VCTYPE = "vct";
     public  static final String CONFIRMATION = "cnf";
     public  static final String ISSUER = "iss";
+    public  static final String STATUS = "status";
     public static final String TYPE = "type";
 }
@@ -47,6 +47,10 @@ public class ErrorConstants {
     public static final String STATUS_LIST_CREDENTIAL_UPDATE_FAILED = "status_list_credential_update_failed";
     public static final String STATUS_LIST_INDEX_INITIALIZATION_FAILED = "status_list_index_initialization_failed";
     public static final String STATUS_LIST_INDEX_UNAVAILABLE = "status_list_index_unavailable";
+    public static final String STATUS_LIST_INDEX_RECLAIMED = "status_list_index_reclaimed";
     public static final String STATUS_LIST_CAPACITY_MISCONFIGURED = "status_list_capacity_misconfigured";
     public static final String INVALID_ENCODED_LIST = "invalid_encoded_list";
+    public static final String LEDGER_WRITE_FAILED = "ledger_write_failed";
+    public static final String SIGNING_FAILED = "signing_failed";
+    public static final String JSONLD_CONTEXT_LOAD_FAILED = "jsonld_context_load_failed";
 }
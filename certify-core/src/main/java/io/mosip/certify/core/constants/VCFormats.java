@@ -13,4 +13,6 @@ public class VCFormats {
     public static final String VC_SD_JWT = "vc+sd-jwt";
     public static final String JWT_VC_JSON = "jwt_vc_json";
     public static final String JWT_VC_JSON_LD = "jwt_vc_json-ld";
+    public static final String VC_JWT = "vc+jwt";
+    public static final String STATUS_LIST_JWT = "statuslist+jwt";
 }
@@ -0,0 +1,19 @@
+package io.mosip.certify.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CredentialLedgerSearchPage {
+    private List<CredentialStatusResponse> records;
+
+    /**
+     * Token to request the next page, null on the last page.
+     */
+    private String nextPageToken;
+}
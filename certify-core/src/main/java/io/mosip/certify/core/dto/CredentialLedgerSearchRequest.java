@@ -1,7 +1,11 @@
 package io.mosip.certify.core.dto;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Data;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 @Data
@@ -15,4 +19,25 @@ public class CredentialLedgerSearchRequest {
     private String credentialType;
 
     private Map<String, String> indexedAttributesEquals;
-}
\ No newline at end of file
+
+    /**
+     * Optional issuance date range, inclusive start and exclusive end. On a partitioned ledger
+     * only the partitions of the range are searched.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime issuanceDateFrom;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime issuanceDateTo;
+
+    /**
+     * Maximum number of ledger entries per page. The search returns every match when not set.
+     */
+    @Min(value = 1, message = "pageSize must be positive")
+    private Integer pageSize;
+
+    /**
+     * Token of the next page returned by the previous search, null for the first page.
+     */
+    private String pageToken;
+}
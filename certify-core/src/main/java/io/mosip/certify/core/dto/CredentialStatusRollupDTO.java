@@ -0,0 +1,17 @@
+package io.mosip.certify.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CredentialStatusRollupDTO {
+    private LocalDate statusDay;
+    private String statusPurpose;
+    private boolean statusValue;
+    private long updateCount;
+}
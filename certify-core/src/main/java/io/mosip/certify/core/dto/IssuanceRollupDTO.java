@@ -0,0 +1,23 @@
+package io.mosip.certify.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuanceRollupDTO {
+    private String issuerId;
+    private String credentialType;
+    private LocalDate issuanceDay;
+
+    /**
+     * Indexed attribute the count is grouped by, null for the total of the day.
+     */
+    private String attributeName;
+    private String attributeValue;
+    private long issuedCount;
+}
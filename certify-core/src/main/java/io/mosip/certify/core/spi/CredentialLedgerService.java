@@ -1,5 +1,6 @@
 package io.mosip.certify.core.spi;
 
+import io.mosip.certify.core.dto.CredentialLedgerSearchPage;
 import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.core.dto.CredentialStatusDetail;
 import io.mosip.certify.core.dto.CredentialStatusResponse;
@@ -8,9 +9,27 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface CredentialLedgerService {
     List<CredentialStatusResponse> searchCredentialLedger(CredentialLedgerSearchRequest request);
     List<CredentialStatusResponse> searchCredentialLedgerV2(CredentialLedgerSearchRequest request);
-    void storeLedgerEntry(String credentialId, String issuerId, String credentialType, CredentialStatusDetail statusDetails, Map<String, Object> indexedAttributes, LocalDateTime issuanceDate);
+
+    /**
+     * Returns one page of the search results, ordered by ledger entry. The size of the page is
+     * taken from {@link CredentialLedgerSearchRequest#getPageSize()}.
+     *
+     * @param v2 whether the responses use the v2 date fields.
+     */
+    CredentialLedgerSearchPage searchCredentialLedgerPage(CredentialLedgerSearchRequest request, boolean v2);
+
+    /**
+     * Passes every search result to the consumer while it is read from the database, without
+     * holding the result in memory.
+     *
+     * @param v2 whether the responses use the v2 date fields.
+     */
+    void streamCredentialLedger(CredentialLedgerSearchRequest request, boolean v2, Consumer<CredentialStatusResponse> consumer);
+
+    void storeLedgerEntry(String credentialId, String issuerId, String credentialType, CredentialStatusDetail statusDetails, Map<String, Object> indexedAttributes, LocalDateTime issuanceDate, LocalDateTime expirationDate);
 }
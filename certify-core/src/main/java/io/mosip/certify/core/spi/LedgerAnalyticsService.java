@@ -0,0 +1,32 @@
+package io.mosip.certify.core.spi;
+
+import io.mosip.certify.core.dto.CredentialStatusRollupDTO;
+import io.mosip.certify.core.dto.IssuanceRollupDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads the daily issuance and status update counts aggregated from the ledger. The counts lag
+ * behind the ledger by up to one aggregation run and never read ledger entries.
+ */
+public interface LedgerAnalyticsService {
+
+    /**
+     * Returns the number of credentials issued per issuer, credential type and day in the
+     * inclusive day range.
+     *
+     * @param issuerId optional issuer filter.
+     * @param credentialType optional credential type filter.
+     * @param attributeName indexed attribute to group by, null for the totals.
+     */
+    List<IssuanceRollupDTO> getIssuanceCounts(String issuerId, String credentialType, String attributeName, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the number of status updates per day, status purpose and status value in the
+     * inclusive day range.
+     *
+     * @param statusPurpose optional status purpose filter.
+     */
+    List<CredentialStatusRollupDTO> getStatusUpdateCounts(String statusPurpose, LocalDate from, LocalDate to);
+}
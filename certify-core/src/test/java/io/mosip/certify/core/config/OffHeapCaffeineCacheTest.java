@@ -0,0 +1,52 @@
+package io.mosip.certify.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.mosip.certify.core.dto.RenderingTemplateDTO;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OffHeapCaffeineCacheTest {
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder().build();
+    private final OffHeapCaffeineCache cache = new OffHeapCaffeineCache("renderTemplate", nativeCache, true, 1024);
+
+    @Test
+    public void put_LargeValue_IsStoredOffHeap() {
+        RenderingTemplateDTO template = new RenderingTemplateDTO();
+        template.setId("template-1");
+        template.setTemplate("<svg>" + "x".repeat(4096) + "</svg>");
+
+        cache.put("template-1", template);
+
+        assertTrue(nativeCache.getIfPresent("template-1") instanceof OffHeapCaffeineCache.OffHeapValue);
+        RenderingTemplateDTO cached = cache.get("template-1", RenderingTemplateDTO.class);
+        assertNotSame(template, cached);
+        assertEquals(template.getTemplate(), cached.getTemplate());
+    }
+
+    @Test
+    public void put_SmallValue_StaysOnHeap() {
+        cache.put("key", "small");
+
+        assertEquals("small", nativeCache.getIfPresent("key"));
+        assertEquals("small", cache.get("key", String.class));
+    }
+
+    @Test
+    public void get_WithLoader_StoresLoadedValueOffHeap() {
+        String svg = "<svg>" + "y".repeat(2048) + "</svg>";
+
+        assertEquals(svg, cache.get("key", () -> svg));
+        assertTrue(nativeCache.getIfPresent("key") instanceof OffHeapCaffeineCache.OffHeapValue);
+        assertEquals(svg, cache.get("key").get());
+    }
+
+    @Test
+    public void weigher_WeighsByEstimatedBytes() {
+        String svg = "z".repeat(1000);
+
+        assertEquals(CacheEntryWeigher.ENTRY_OVERHEAD + 2 * 3 + 2 * 1000, CacheEntryWeigher.INSTANCE.weigh("key", svg));
+        assertEquals(1000, CacheEntryWeigher.estimate(new OffHeapCaffeineCache.OffHeapValue(String.class, new byte[1000])));
+    }
+}
@@ -0,0 +1,98 @@
+package io.mosip.certify.core.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private final List<String> published = new ArrayList<>();
+    private TwoTierCacheManager node1;
+    private TwoTierCacheManager node2;
+
+    @Before
+    public void setUp() {
+        // Both nodes share the remote caches, as they would share Redis
+        remoteCacheManager = new ConcurrentMapCacheManager("credentialConfig", "vcissuance");
+        node1 = createNode();
+        node2 = createNode();
+    }
+
+    @Test
+    public void getCache_OnlyWrapsLocalCacheNames() {
+        assertTrue(node1.getCache("credentialConfig") instanceof TwoTierCache);
+        assertSame(remoteCacheManager.getCache("vcissuance"), node1.getCache("vcissuance"));
+    }
+
+    @Test
+    public void get_ServesRemoteValueFromLocalCache() {
+        remoteCacheManager.getCache("credentialConfig").put("key", "value");
+        TwoTierCache cache = (TwoTierCache) node1.getCache("credentialConfig");
+
+        assertEquals("value", cache.get("key", String.class));
+        remoteCacheManager.getCache("credentialConfig").evict("key");
+
+        assertEquals("value", cache.get("key", String.class));
+        assertEquals("value", cache.getLocalCache().getIfPresent("key"));
+    }
+
+    @Test
+    public void put_InvalidatesOtherNodes() {
+        Cache cache1 = node1.getCache("credentialConfig");
+        Cache cache2 = node2.getCache("credentialConfig");
+        cache1.put("key", "v1");
+        assertEquals("v1", cache2.get("key", String.class));
+
+        cache1.put("key", "v2");
+        deliver();
+
+        assertEquals("v2", cache2.get("key", String.class));
+        assertEquals("v2", cache1.get("key", String.class));
+    }
+
+    @Test
+    public void clear_InvalidatesOtherNodes() {
+        Cache cache1 = node1.getCache("credentialConfig");
+        TwoTierCache cache2 = (TwoTierCache) node2.getCache("credentialConfig");
+        cache1.put("key", "v1");
+        cache2.get("key");
+
+        cache1.clear();
+        deliver();
+
+        assertNull(cache2.getLocalCache().getIfPresent("key"));
+        assertNull(cache2.get("key"));
+    }
+
+    @Test
+    public void onInvalidation_IgnoresOwnMessages() {
+        TwoTierCache cache1 = (TwoTierCache) node1.getCache("credentialConfig");
+        cache1.put("key", "v1");
+
+        published.forEach(node1::onInvalidation);
+
+        assertEquals("v1", cache1.getLocalCache().getIfPresent("key"));
+    }
+
+    private TwoTierCacheManager createNode() {
+        return new TwoTierCacheManager(remoteCacheManager, List.of("credentialConfig"), Map.of(),
+                Map.of("credentialConfig", 3600), Map.of(), 100, 300, published::add);
+    }
+
+    private void deliver() {
+        List<String> messages = new ArrayList<>(published);
+        published.clear();
+        for (String message : messages) {
+            node1.onInvalidation(message);
+            node2.onInvalidation(message);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+#!/bin/bash
+# Builds the certify-service-with-plugins image with Spring AOT processing and a class data sharing
+# archive. Run from the repository root with docker and maven available.
+#
+#   ./certify-service-with-plugins/build-startup-optimized.sh [image-tag]
+#
+# The training run needs a database, a throwaway postgres with the docker-compose init script is
+# started for it and removed afterwards.
+
+set -e
+
+IMAGE_TAG=${1:-inji-certify-with-plugins:0.13.1-aot}
+BASE_IMAGE_TAG=inji-certify:0.13.1-aot
+TRAINING_PROFILES=${TRAINING_PROFILES:-default,csvdp-farmer}
+TRAINING_DB_PORT=${TRAINING_DB_PORT:-5434}
+TRAINING_DB_CONTAINER=certify-cds-training-db
+COMPOSE_DIR=docker-compose/docker-compose-injistack
+
+mvn -B clean install -DskipTests -Dgpg.skip -Paot -Daot.profiles="$TRAINING_PROFILES"
+docker build -t "$BASE_IMAGE_TAG" certify-service
+
+# The training run reads the same configuration as the AOT processing
+rm -rf certify-service-with-plugins/startup/config
+mkdir -p certify-service-with-plugins/startup/config
+cp $COMPOSE_DIR/config/certify-*.properties $COMPOSE_DIR/config/farmer_identity_data.csv certify-service-with-plugins/startup/config/
+
+docker rm -f $TRAINING_DB_CONTAINER > /dev/null 2>&1 || true
+docker run -d --name $TRAINING_DB_CONTAINER -p "$TRAINING_DB_PORT":5432 \
+  -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres \
+  -v "$PWD/$COMPOSE_DIR/certify_init.sql":/docker-entrypoint-initdb.d/certify_init.sql \
+  postgres:latest
+trap 'docker rm -f $TRAINING_DB_CONTAINER > /dev/null; rm -rf certify-service-with-plugins/startup/config' EXIT
+
+until docker exec $TRAINING_DB_CONTAINER psql -U postgres -d inji_certify -c "SELECT 1 FROM certify.credential_config LIMIT 1" > /dev/null 2>&1; do
+  sleep 1
+done
+
+docker build --network host -t "$IMAGE_TAG" \
+  --build-arg base_image="$BASE_IMAGE_TAG" \
+  --build-arg cds_training=true \
+  --build-arg training_profiles="$TRAINING_PROFILES" \
+  --build-arg training_db_host=localhost \
+  --build-arg training_db_port="$TRAINING_DB_PORT" \
+  certify-service-with-plugins
+
+echo "Built $IMAGE_TAG, start it with active_profile_env=$TRAINING_PROFILES"
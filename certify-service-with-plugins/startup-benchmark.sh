@@ -0,0 +1,76 @@
+#!/bin/bash
+# Measures the startup of a certify-service-with-plugins image, from `docker run` to
+#   - the "Started CertifyServiceApplication" log line,
+#   - the readiness probe reporting UP, which happens after the key setup and the issuance warm-up,
+#   - the first credential issued, when CREDENTIAL_REQUEST and ACCESS_TOKEN are set.
+# Run from the repository root, with the database of docker-compose/docker-compose-injistack up.
+#
+#   ./certify-service-with-plugins/startup-benchmark.sh <image> [runs]
+#
+# CREDENTIAL_REQUEST is a file with the body of the credential request, ACCESS_TOKEN the access token it
+# is sent with. Neither is created here, as the proof in the request has to be signed by the holder key
+# bound to the token, see docs/postman-collections.
+
+set -e
+
+IMAGE=${1:?usage: startup-benchmark.sh <image> [runs]}
+RUNS=${2:-5}
+PROFILES=${PROFILES:-default,csvdp-farmer}
+NETWORK=${NETWORK:-mosip_network}
+PORT=${PORT:-8090}
+CONTAINER=certify-startup-benchmark
+CONFIG_DIR=$PWD/docker-compose/docker-compose-injistack/config
+BASE_URL=http://localhost:$PORT/v1/certify
+
+millis() {
+  date +%s%3N
+}
+
+run_once() {
+  docker rm -f $CONTAINER > /dev/null 2>&1 || true
+  local start
+  start=$(millis)
+  docker run -d --name $CONTAINER --network "$NETWORK" -p "$PORT":8090 \
+    -e active_profile_env="$PROFILES" \
+    -e SPRING_CONFIG_NAME=certify \
+    -e SPRING_CONFIG_LOCATION=/home/mosip/config/ \
+    -v "$CONFIG_DIR":/home/mosip/config \
+    "$IMAGE" > /dev/null
+
+  local started="" ready="" issued="-"
+  while [ -z "$ready" ]; do
+    if [ -z "$(docker ps -q -f name=$CONTAINER)" ]; then
+      echo "Container exited during startup:" >&2
+      docker logs --tail 50 $CONTAINER >&2
+      exit 1
+    fi
+    if [ -z "$started" ] && docker logs $CONTAINER 2>&1 | grep -q "Started CertifyServiceApplication"; then
+      started=$(( $(millis) - start ))
+    fi
+    if curl -sf "$BASE_URL/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; then
+      ready=$(( $(millis) - start ))
+    else
+      sleep 0.1
+    fi
+  done
+
+  if [ -n "$CREDENTIAL_REQUEST" ] && [ -n "$ACCESS_TOKEN" ]; then
+    until curl -sf -o /dev/null -X POST "$BASE_URL/issuance/credential" \
+        -H "Content-Type: application/json" -H "Authorization: Bearer $ACCESS_TOKEN" \
+        --data @"$CREDENTIAL_REQUEST"; do
+      sleep 0.1
+    done
+    issued=$(( $(millis) - start ))
+  fi
+
+  echo "$started $ready $issued"
+  docker rm -f $CONTAINER > /dev/null
+}
+
+trap 'docker rm -f $CONTAINER > /dev/null 2>&1 || true' EXIT
+
+printf "%-5s %-12s %-12s %-18s\n" run started_ms ready_ms first_credential_ms
+for run in $(seq 1 "$RUNS"); do
+  read -r started ready issued < <(run_once)
+  printf "%-5s %-12s %-12s %-18s\n" "$run" "$started" "$ready" "$issued"
+done
@@ -0,0 +1,21 @@
+#!/bin/bash
+# Starts the service with the class data sharing archive created by train.sh, or from the fat jar
+# as the base image does when the image was built without it or plugins were added to the loader path.
+
+cd "$work_dir"
+
+if [ -f app/certify.jsa ] && ls ${loader_path_env}*.jar | cmp -s - app/loader_path.list; then
+  exec java @app/jvm.args \
+    -XX:SharedArchiveFile=app/certify.jsa \
+    -Dspring.cloud.config.label="${spring_config_label_env}" \
+    -Dspring.profiles.active="${active_profile_env}" \
+    -Dspring.cloud.config.uri="${spring_config_url_env}" \
+    io.mosip.certify.CertifyServiceApplication
+fi
+
+exec java -jar \
+  -Dloader.path="${loader_path_env}" \
+  -Dspring.cloud.config.label="${spring_config_label_env}" \
+  -Dspring.profiles.active="${active_profile_env}" \
+  -Dspring.cloud.config.uri="${spring_config_url_env}" \
+  certify-service.jar
@@ -0,0 +1,51 @@
+#!/bin/bash
+# Creates the class data sharing (AppCDS) archive of the image from a training run.
+# The training run starts the service with the plugins and the configuration in startup/config/,
+# lets the startup warm-up issue its synthetic credentials and exits, and the JVM then writes
+# every class it loaded to the archive.
+
+set -e
+
+cd "$work_dir"
+
+APP_DIR=app
+TRAINING_CONFIG_DIR=startup/config
+
+if [ ! -d "$TRAINING_CONFIG_DIR" ]; then
+  echo "Training configuration not found in $TRAINING_CONFIG_DIR, run build-startup-optimized.sh to build this image"
+  exit 1
+fi
+
+# The archive only covers classes loaded from plain jars on the class path, so the fat jar is
+# extracted and started with its main class rather than the launcher
+mkdir -p $APP_DIR
+unzip -q -o certify-service.jar -d $APP_DIR
+
+# The class path has to be identical when the archive is used, so it is resolved once here
+CLASS_PATH="$APP_DIR/BOOT-INF/classes"
+for jar in $APP_DIR/BOOT-INF/lib/*.jar ${loader_path_env}*.jar; do
+  CLASS_PATH="$CLASS_PATH:$jar"
+done
+echo "-cp $CLASS_PATH" > $APP_DIR/jvm.args
+ls ${loader_path_env}*.jar > $APP_DIR/loader_path.list
+
+if [ -f "$APP_DIR/BOOT-INF/classes/io/mosip/certify/CertifyServiceApplication__ApplicationContextInitializer.class" ]; then
+  echo "Found the Spring AOT initializer, the service will start with spring.aot.enabled=true"
+  echo "-Dspring.aot.enabled=true" >> $APP_DIR/jvm.args
+fi
+
+java @$APP_DIR/jvm.args \
+  -XX:ArchiveClassesAtExit=$APP_DIR/certify.jsa \
+  -Dspring.config.name=certify \
+  -Dspring.config.location=$TRAINING_CONFIG_DIR/ \
+  -Dspring.profiles.active="$training_profiles" \
+  -Dmosip.certify.database.hostname="$training_db_host" \
+  -Dmosip.certify.database.port="$training_db_port" \
+  -Dmosip.certify.mock.data-provider.csv-registry-uri=$TRAINING_CONFIG_DIR/farmer_identity_data.csv \
+  -Dmosip.certify.startup.exit-after-warmup=true \
+  io.mosip.certify.CertifyServiceApplication
+
+# Neither the keys created by the training run nor its configuration belong in the image
+rm -rf CERTIFY_PKCS12 $TRAINING_CONFIG_DIR
+
+echo "Created $APP_DIR/certify.jsa"
@@ -8,17 +8,19 @@ package io.mosip.certify.config;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.util.ObjectUtils;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,11 +28,9 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 
-import io.mosip.certify.core.constants.Constants;
+import io.mosip.certify.services.IssuanceWarmupService;
+import io.mosip.certify.services.KeyBootstrapService;
 import io.mosip.certify.services.KeyManagerConstants;
-import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
-import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyGenerateRequestDto;
-import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -46,16 +46,22 @@ public class AppConfig implements ApplicationRunner {
     private int defaultTotalMaxConnection;
 
     @Autowired
-    private KeymanagerService keymanagerService;
+    private KeyBootstrapService keyBootstrapService;
 
-    @Value("${mosip.certify.cache.security.secretkey.reference-id}")
-    private String cacheSecretKeyRefId;
+    @Autowired
+    private Environment env;
 
-    @Value("${mosip.certify.plugin-mode}")
-    private String pluginMode;
+    @Autowired
+    private ApplicationContext applicationContext;
 
+    // Set by the class data sharing training run of certify-service-with-plugins, which records the classes
+    // loaded up to the end of the warm-up
+    @Value("${mosip.certify.startup.exit-after-warmup:false}")
+    private boolean exitAfterWarmup;
+
+    // Resolved when the application runs, as the warm-up depends on beans defined here
     @Autowired
-    private Environment env;
+    private ObjectProvider<IssuanceWarmupService> issuanceWarmupService;
 
     @Bean
     public ObjectMapper objectMapper() {
@@ -80,73 +86,13 @@ public class AppConfig implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
-            initKeys();
-    }
-
-    private void initKeys(){
-        log.info("===================== CERTIFY_SERVICE ROOT KEY CHECK ========================");
-        String objectType = "CSR";
-        KeyPairGenerateRequestDto rootKeyRequest = new KeyPairGenerateRequestDto();
-        rootKeyRequest.setApplicationId(Constants.ROOT_KEY);
-        // Set the reference id to empty string, as keymanager is expecting the same for initialization
-        rootKeyRequest.setReferenceId(org.apache.commons.lang3.StringUtils.EMPTY);
-        keymanagerService.generateMasterKey(objectType, rootKeyRequest);
-        log.info("===================== CERTIFY_SERVICE MASTER KEY CHECK ========================");
-        KeyPairGenerateRequestDto masterKeyRequest = new KeyPairGenerateRequestDto();
-        masterKeyRequest.setApplicationId(Constants.CERTIFY_SERVICE_APP_ID);
-        // Set the reference id to empty string, as keymanager is expecting the same for initialization
-        masterKeyRequest.setReferenceId(org.apache.commons.lang3.StringUtils.EMPTY);
-        keymanagerService.generateMasterKey(objectType, masterKeyRequest);
-        // TODO: Generate an EC & ED key via K8s Job(INJICERT-469)
-        if(!ObjectUtils.isEmpty(cacheSecretKeyRefId)) {
-            SymmetricKeyGenerateRequestDto symmetricKeyGenerateRequestDto = new SymmetricKeyGenerateRequestDto();
-            symmetricKeyGenerateRequestDto.setApplicationId(Constants.CERTIFY_SERVICE_APP_ID);
-            symmetricKeyGenerateRequestDto.setReferenceId(cacheSecretKeyRefId);
-            symmetricKeyGenerateRequestDto.setForce(false);
-            keymanagerService.generateSymmetricKey(symmetricKeyGenerateRequestDto);
-            log.info("============= CERTIFY_SERVICE CACHE SYMMETRIC KEY CHECK COMPLETED =============");
-        }
-
-        log.info("===================== CERTIFY_PARTNER MASTER KEY CHECK ========================");
-        KeyPairGenerateRequestDto partnerMasterKeyRequest = new KeyPairGenerateRequestDto();
-        partnerMasterKeyRequest.setApplicationId(Constants.CERTIFY_PARTNER_APP_ID);
-        // Set the reference id to empty string, as keymanager is expecting the same for initialization
-        partnerMasterKeyRequest.setReferenceId(org.apache.commons.lang3.StringUtils.EMPTY);
-        keymanagerService.generateMasterKey(objectType, partnerMasterKeyRequest);
-        if(pluginMode.equals("DataProvider")) {
-            // Generate RSA Key Certificate
-            log.info("===================== CERTIFY_VC_SIGN_RSA KEY CHECK ========================");
-            KeyPairGenerateRequestDto rsaKeyRequest = new KeyPairGenerateRequestDto();
-            rsaKeyRequest.setApplicationId(Constants.CERTIFY_VC_SIGN_RSA);
-            rsaKeyRequest.setReferenceId(Constants.EMPTY_REF_ID);
-            rsaKeyRequest.setForce(false);
-            keymanagerService.generateMasterKey("certificate", rsaKeyRequest);
-            // Generate an Ed25519Key:
-            // 1. Generate a master key first to enable Keymanager to store the key.
-            log.info("===================== CERTIFY_VC_SIGN_ED25519 KEY CHECK ========================");
-            KeyPairGenerateRequestDto storeKey = new KeyPairGenerateRequestDto();
-            storeKey.setApplicationId(Constants.CERTIFY_VC_SIGN_ED25519);
-            storeKey.setReferenceId(Constants.EMPTY_REF_ID);
-            keymanagerService.generateMasterKey("certificate", storeKey);
-            // 2. Generate an Ed25519 key later
-            KeyPairGenerateRequestDto ed25519Req = new KeyPairGenerateRequestDto();
-            ed25519Req.setApplicationId(Constants.CERTIFY_VC_SIGN_ED25519);
-            ed25519Req.setReferenceId(Constants.ED25519_REF_ID);
-            keymanagerService.generateECSignKey("certificate", ed25519Req);
-
-            // Generate an EC K1 Key
-            KeyPairGenerateRequestDto ecK1Req = new KeyPairGenerateRequestDto();
-            ecK1Req.setApplicationId(Constants.CERTIFY_VC_SIGN_EC_K1);
-            ecK1Req.setReferenceId(Constants.EC_SECP256K1_SIGN);
-            keymanagerService.generateECSignKey("certificate", ecK1Req);
-
-            // Generate an EC R1 Key
-            KeyPairGenerateRequestDto ecR1Req = new KeyPairGenerateRequestDto();
-            ecR1Req.setApplicationId(Constants.CERTIFY_VC_SIGN_EC_R1);
-            ecR1Req.setReferenceId(Constants.EC_SECP256R1_SIGN);
-            keymanagerService.generateECSignKey("certificate", ecR1Req);
-        }
-        log.info("===================== CERTIFY KEY SETUP COMPLETED ========================");
-        log.info("===================== INJI Certify -- Started ============================");
+            keyBootstrapService.bootstrap();
+            // Readiness is only reported once the runners return, so the node takes no traffic before this
+            issuanceWarmupService.getObject().warmUp();
+            log.info("===================== INJI Certify -- Started ============================");
+            if (exitAfterWarmup) {
+                log.info("Exiting after the warm-up as mosip.certify.startup.exit-after-warmup is set");
+                System.exit(SpringApplication.exit(applicationContext));
+            }
     }
 }
@@ -0,0 +1,73 @@
+package io.mosip.certify.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.mosip.certify.core.config.TwoTierCache;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Meters of the certify caches, published per cache through actuator ({@code cache.gets},
+ * {@code cache.puts}, {@code cache.evictions}, {@code cache.size}, {@code cache.load} and
+ * {@code cache.load.duration}). Redis caches report gets and puts from the Redis cache statistics,
+ * which have no size, evictions or load time.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    /**
+     * Caffeine only reports load metrics of loading caches, while values of the simple caches are
+     * loaded through {@code get(key, valueLoader)}, so they are added here.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public CacheMeterBinderProvider<CaffeineCache> caffeineCacheMeterBinderProvider() {
+        return (cache, tags) -> {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+            CaffeineCacheMetrics<Object, Object, com.github.benmanes.caffeine.cache.Cache<Object, Object>> metrics =
+                    new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags);
+            Iterable<Tag> tagsWithCacheName = Tags.concat(tags, "cache", cache.getName());
+            return registry -> {
+                metrics.bindTo(registry);
+                bindLoadMetrics(registry, nativeCache, tagsWithCacheName,
+                        c -> c.stats().loadSuccessCount(), c -> c.stats().loadFailureCount(), c -> c.stats().totalLoadTime());
+            };
+        };
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return TwoTierCacheMetrics::new;
+    }
+
+    /**
+     * Registers the load meters of Micrometer's cache binders, dividing the duration by the
+     * number of loads gives the average load time.
+     */
+    static <C> void bindLoadMetrics(MeterRegistry registry, C cache, Iterable<Tag> tags, ToLongFunction<C> successCount,
+                                    ToLongFunction<C> failureCount, ToLongFunction<C> totalLoadTimeNanos) {
+        FunctionCounter.builder("cache.load", cache, c -> successCount.applyAsLong(c))
+                .tags(tags).tag("result", "success")
+                .description("The number of times cache lookup methods have successfully loaded a new value")
+                .register(registry);
+        FunctionCounter.builder("cache.load", cache, c -> failureCount.applyAsLong(c))
+                .tags(tags).tag("result", "failure")
+                .description("The number of times cache lookup methods failed to load a new value")
+                .register(registry);
+        TimeGauge.builder("cache.load.duration", cache, TimeUnit.NANOSECONDS, c -> totalLoadTimeNanos.applyAsLong(c))
+                .tags(tags)
+                .description("The time the cache has spent loading new values")
+                .register(registry);
+    }
+}
@@ -7,15 +7,32 @@ import org.springframework.context.annotation.Configuration;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @Configuration
 @ConfigurationProperties(prefix = "mosip.certify")
 @Getter
 @Setter
 public class IndexedAttributesConfig {
+
+    // Keys that can be used as a SQL literal and as part of an index name (63 characters at most)
+    private static final Pattern INDEXABLE_KEY = Pattern.compile("[A-Za-z0-9_]{1,47}");
+
     /**
      * Holds the mappings from a desired attribute name (key) to the
      * JSONPath expression (value) used to extract it from the source data.
      */
     private Map<String, String> indexedMappings = new HashMap<>();
-}
\ No newline at end of file
+
+    /**
+     * Whether a configured key gets its own expression index on the ledger and can be
+     * searched with {@code indexed_attributes ->> 'key'}.
+     */
+    public boolean isIndexedKey(String key) {
+        return indexedMappings.containsKey(key) && isIndexableKey(key);
+    }
+
+    public static boolean isIndexableKey(String key) {
+        return key != null && INDEXABLE_KEY.matcher(key).matches();
+    }
+}
@@ -0,0 +1,84 @@
+package io.mosip.certify.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import io.mosip.certify.core.config.TwoTierCache;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * Cache meters of a {@link TwoTierCache}. A get is a hit when either tier has the value, a miss
+ * when neither has it. Size and evictions are those of the local tier, which is the memory the
+ * instance spends on the cache. {@code cache.local.gets} reports the local tier separately.
+ */
+public class TwoTierCacheMetrics extends CacheMeterBinder<TwoTierCache> {
+
+    public TwoTierCacheMetrics(TwoTierCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoTierCache cache = getCache();
+        return cache == null ? null : cache.getLocalCache().estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoTierCache cache = getCache();
+        if (cache == null) {
+            return 0L;
+        }
+        CacheStatistics remote = remoteStatistics(cache);
+        return cache.getLocalCache().stats().hitCount() + (remote == null ? 0L : remote.getHits());
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoTierCache cache = getCache();
+        if (cache == null) {
+            return null;
+        }
+        CacheStatistics remote = remoteStatistics(cache);
+        return remote == null ? cache.getLocalCache().stats().missCount() : remote.getMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoTierCache cache = getCache();
+        return cache == null ? null : cache.getLocalCache().stats().evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TwoTierCache cache = getCache();
+        CacheStatistics remote = cache == null ? null : remoteStatistics(cache);
+        return remote == null ? 0L : remote.getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoTierCache cache = getCache();
+        FunctionCounter.builder("cache.local.gets", cache, c -> localStats(c).hitCount())
+                .tags(getTagsWithCacheName()).tag("result", "hit")
+                .description("The number of times the local tier had a value")
+                .register(registry);
+        FunctionCounter.builder("cache.local.gets", cache, c -> localStats(c).missCount())
+                .tags(getTagsWithCacheName()).tag("result", "miss")
+                .description("The number of times the value was read from the remote tier")
+                .register(registry);
+        CacheMetricsConfig.bindLoadMetrics(registry, cache, getTagsWithCacheName(),
+                TwoTierCache::getLoadSuccessCount, TwoTierCache::getLoadFailureCount, TwoTierCache::getTotalLoadTime);
+    }
+
+    private static CacheStats localStats(TwoTierCache cache) {
+        return cache.getLocalCache().stats();
+    }
+
+    private static CacheStatistics remoteStatistics(TwoTierCache cache) {
+        return cache.getRemoteCache() instanceof RedisCache redisCache ? redisCache.getStatistics() : null;
+    }
+}
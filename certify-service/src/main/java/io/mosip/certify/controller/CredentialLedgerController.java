@@ -1,29 +1,44 @@
 package io.mosip.certify.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.certify.core.dto.CredentialLedgerSearchPage;
 import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.core.dto.CredentialStatusResponse;
 import io.mosip.certify.core.spi.CredentialLedgerService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
 @RestController
 public class CredentialLedgerController {
 
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
     @Autowired
     private CredentialLedgerService credentialLedgerService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/ledger-search")
     public ResponseEntity<List<CredentialStatusResponse>> searchCredentials(
             @Valid @RequestBody CredentialLedgerSearchRequest request) {
+        if (request.getPageSize() != null) {
+            return toResponse(credentialLedgerService.searchCredentialLedgerPage(request, false));
+        }
         List<CredentialStatusResponse> result = credentialLedgerService.searchCredentialLedger(request);
         if (result.isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -34,10 +49,43 @@ public class CredentialLedgerController {
     @PostMapping("/v2/ledger-search")
     public ResponseEntity<List<CredentialStatusResponse>> searchCredentialsV2(
             @Valid @RequestBody CredentialLedgerSearchRequest request) {
+        if (request.getPageSize() != null) {
+            return toResponse(credentialLedgerService.searchCredentialLedgerPage(request, true));
+        }
         List<CredentialStatusResponse> result = credentialLedgerService.searchCredentialLedgerV2(request);
         if (result.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * Streams every search result as newline delimited JSON, one response object per line.
+     */
+    @PostMapping("/v2/ledger-search/stream")
+    public void streamCredentialsV2(@Valid @RequestBody CredentialLedgerSearchRequest request,
+                                    HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        credentialLedgerService.streamCredentialLedger(request, true, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    private ResponseEntity<List<CredentialStatusResponse>> toResponse(CredentialLedgerSearchPage page) {
+        if (page.getRecords().isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextPageToken() != null) {
+            builder.header(NEXT_PAGE_TOKEN_HEADER, page.getNextPageToken());
+        }
+        return builder.body(page.getRecords());
+    }
 }
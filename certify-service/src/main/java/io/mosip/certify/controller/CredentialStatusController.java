@@ -10,10 +10,13 @@ import io.mosip.certify.core.dto.UpdateCredentialStatusRequest;
 import io.mosip.certify.core.dto.UpdateCredentialStatusRequestV2;
 import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.core.spi.CredentialStatusService;
+import io.mosip.certify.credential.TokenStatusListJwt;
+import io.mosip.certify.credential.W3CVcJwt;
 import io.mosip.certify.services.StatusListCredentialService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,14 +37,22 @@ public class CredentialStatusController {
      *
      * @param id The status list credential ID
     //     * @param fragment Optional fragment identifier (for specific index references)
-     * @return Status List VC JSON document
+     * @return Status List VC JSON document, an enveloped VC-JWT when status lists are secured with JOSE,
+     * or a Status List Token for SD-JWT credentials
      * @throws CertifyException
      */
-    @GetMapping(value = "/status-list/{id}", produces = "application/json")
-    public String getStatusListById(@PathVariable("id") String id) throws CertifyException {
+    @GetMapping(value = "/status-list/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, W3CVcJwt.MEDIA_TYPE, TokenStatusListJwt.MEDIA_TYPE})
+    public ResponseEntity<String> getStatusListById(@PathVariable("id") String id) throws CertifyException {
 
         log.debug("Retrieving status list credential with ID: {}", id);
-        return statusListCredentialService.getStatusListCredential(id);
+        String statusListCredential = statusListCredentialService.getStatusListCredential(id);
+        MediaType mediaType = MediaType.APPLICATION_JSON;
+        if (TokenStatusListJwt.isStatusListToken(statusListCredential)) {
+            mediaType = MediaType.parseMediaType(TokenStatusListJwt.MEDIA_TYPE);
+        } else if (W3CVcJwt.isEnveloped(statusListCredential)) {
+            mediaType = MediaType.parseMediaType(W3CVcJwt.MEDIA_TYPE);
+        }
+        return ResponseEntity.ok().contentType(mediaType).body(statusListCredential);
     }
 
     @PostMapping("/status")
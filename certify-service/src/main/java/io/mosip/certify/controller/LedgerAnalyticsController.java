@@ -0,0 +1,42 @@
+package io.mosip.certify.controller;
+
+import io.mosip.certify.core.dto.CredentialStatusRollupDTO;
+import io.mosip.certify.core.dto.IssuanceRollupDTO;
+import io.mosip.certify.core.spi.LedgerAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/ledger-analytics")
+public class LedgerAnalyticsController {
+
+    @Autowired
+    private LedgerAnalyticsService ledgerAnalyticsService;
+
+    @GetMapping("/issuance")
+    public List<IssuanceRollupDTO> getIssuanceCounts(
+            @RequestParam(required = false) String issuerId,
+            @RequestParam(required = false) String credentialType,
+            @RequestParam(required = false) String attribute,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ledgerAnalyticsService.getIssuanceCounts(issuerId, credentialType, attribute, from, to);
+    }
+
+    @GetMapping("/credential-status")
+    public List<CredentialStatusRollupDTO> getStatusUpdateCounts(
+            @RequestParam(required = false) String statusPurpose,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ledgerAnalyticsService.getStatusUpdateCounts(statusPurpose, from, to);
+    }
+}
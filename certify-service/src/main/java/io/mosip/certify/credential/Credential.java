@@ -10,26 +10,26 @@ import java.util.Map;
 
 import io.mosip.certify.api.dto.VCResult;
 import io.mosip.certify.core.constants.Constants;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.certify.vcformatters.VCFormatter;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
-import io.mosip.kernel.signature.service.SignatureService;
 
 
 public abstract class Credential{
     
     protected VCFormatter vcFormatter;
 
-    protected SignatureService signatureService;
+    protected VCSigner vcSigner;
 
     /**
      * Constructor for credentials
      * @param vcFormatter
-     * @param signatureService
+     * @param vcSigner
      */
-    public Credential(VCFormatter vcFormatter, SignatureService signatureService){
+    public Credential(VCFormatter vcFormatter, VCSigner vcSigner){
         this.vcFormatter = vcFormatter;
-        this.signatureService = signatureService;
+        this.vcSigner = vcSigner;
     }
 
     /**
@@ -39,6 +39,15 @@ public abstract class Credential{
      */
     public abstract boolean canHandle(String format);
 
+    /**
+     * lets the factory know if the instance only secures status list credentials, so it is
+     * never used for a credential request of its format.
+     * @return
+     */
+    public boolean isStatusListOnly() {
+        return false;
+    }
+
 
     /** 
      * createCredential method is resposible to convert the given template and 
@@ -81,7 +90,7 @@ public abstract class Credential{
         payload.setB64JWSHeaderParam(false);
         payload.setCertificateUrl(didUrl);
         payload.setSignAlgorithm(signAlgorithm); // RSSignature2018 --> RS256, PS256, ES256
-        JWTSignatureResponseDto jwsSignedData = signatureService.jwsSign(payload);
+        JWTSignatureResponseDto jwsSignedData = vcSigner.jwsSign(payload);
         VCResult<String> vc = new VCResult<>();
         //TODO: Get the correct default
         vc.setFormat("vc");
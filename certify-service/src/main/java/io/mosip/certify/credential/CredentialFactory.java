@@ -33,8 +33,23 @@ public class CredentialFactory {
             return Optional.empty();
         }
         return credentials.stream()
-                .filter(credential -> credential.canHandle(format))
+                .filter(credential -> credential.canHandle(format) && !credential.isStatusListOnly())
                 .findFirst();
         
     }
+
+    /**
+     * Factory method to create objects that secure status list credentials in the given
+     * format, including the ones that are not issued as credentials.
+     * @param format
+     * @return
+     */
+    public Optional<Credential> getStatusListCredential(String format) {
+        if (format == null) {
+            return Optional.empty();
+        }
+        return credentials.stream()
+                .filter(credential -> credential.canHandle(format))
+                .findFirst();
+    }
 }
\ No newline at end of file
@@ -27,11 +27,11 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.PlainJWT;
 
 import io.mosip.certify.api.dto.VCResult;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.certify.utils.SDJsonUtils;
 import io.mosip.certify.vcformatters.VCFormatter;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
-import io.mosip.kernel.signature.service.SignatureService;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -40,8 +40,8 @@ import lombok.extern.slf4j.Slf4j;
 public class SDJWT extends Credential{
 
     @Autowired
-    public SDJWT(VCFormatter vcFormatter, SignatureService signatureService){
-        super(vcFormatter, signatureService);
+    public SDJWT(VCFormatter vcFormatter, VCSigner vcSigner){
+        super(vcFormatter, vcSigner);
     }
 
     @Autowired
@@ -131,7 +131,7 @@ public class SDJWT extends Credential{
         payload.setCertificateUrl("");
         //payload.setSignAlgorithm(signAlgorithm); // RSSignature2018 --> RS256, PS256, ES256
 
-        JWTSignatureResponseDto jwsSignedData = signatureService.jwsSignV2(payload);
+        JWTSignatureResponseDto jwsSignedData = vcSigner.jwsSignV2(payload);
         vcResult.setCredential(vcToSign.replaceAll("^[^~]*", jwsSignedData.getJwtSignedData()));
         return vcResult;
     }
@@ -0,0 +1,98 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package io.mosip.certify.credential;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import io.mosip.certify.api.dto.VCResult;
+import io.mosip.certify.core.constants.VCFormats;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.vcformatters.VCFormatter;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Status List Token in JWT format (media type application/statuslist+jwt), as per
+ *  https://datatracker.ietf.org/doc/draft-ietf-oauth-status-list/
+ * <p>Used as the status mechanism of SD-JWT credentials, which reference an index of the
+ * token through their status.status_list claim.</p>
+ */
+@Slf4j
+@Component
+public class TokenStatusListJwt extends Credential {
+
+    public static final String MEDIA_TYPE = "application/statuslist+jwt";
+
+    @Autowired
+    public TokenStatusListJwt(VCFormatter vcFormatter, VCSigner vcSigner) {
+        super(vcFormatter, vcSigner);
+    }
+
+    @Override
+    public boolean canHandle(String format) {
+        return VCFormats.STATUS_LIST_JWT.equals(format);
+    }
+
+    @Override
+    public boolean isStatusListOnly() {
+        return true;
+    }
+
+    /**
+     * Signs the Status List Token claims as a compact JWS.
+     * @param vcToSign the token claims as stringified JSON.
+     * @param headers headers to be added. Can be null.
+     * @param signAlgorithm as defined in com.danubetech.keyformats.jose.JWSAlgorithm
+     * @param appID app id from the keymanager tables
+     * @param refID reference id from the keymanager tables
+     * @param didUrl url where the public key is accessible.
+     */
+    @Override
+    public VCResult<?> addProof(String vcToSign, String headers, String signAlgorithm, String appID, String refID, String didUrl, String signatureCryptoSuite) {
+        VCResult<String> vcResult = new VCResult<>();
+        JWSSignatureRequestDtoV2 payload = new JWSSignatureRequestDtoV2();
+        payload.setDataToSign(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(vcToSign.getBytes(StandardCharsets.UTF_8)));
+        payload.setApplicationId(appID);
+        payload.setReferenceId(refID);
+        payload.setAdditionalHeaders(Map.of("typ", VCFormats.STATUS_LIST_JWT));
+        payload.setSignAlgorithm(signAlgorithm);
+        payload.setIncludePayload(true);
+        payload.setIncludeCertificateChain(true);
+        payload.setIncludeCertHash(true);
+        payload.setValidateJson(false);
+        payload.setB64JWSHeaderParam(true);
+        payload.setCertificateUrl("");
+
+        JWTSignatureResponseDto jwsSignedData = vcSigner.jwsSignV2(payload);
+        vcResult.setCredential(jwsSignedData.getJwtSignedData());
+        vcResult.setFormat(VCFormats.STATUS_LIST_JWT);
+        return vcResult;
+    }
+
+    /**
+     * Returns true when the document is a Status List Token, based on the typ header.
+     */
+    public static boolean isStatusListToken(String document) {
+        if (!W3CVcJwt.isEnveloped(document)) {
+            return false;
+        }
+        try {
+            String header = new String(Base64.getUrlDecoder().decode(document.strip().split("\\.")[0]), StandardCharsets.UTF_8);
+            return VCFormats.STATUS_LIST_JWT.equals(new JSONObject(header).optString("typ"));
+        } catch (Exception e) {
+            log.debug("Document is not a status list token", e);
+            return false;
+        }
+    }
+}
@@ -15,21 +15,23 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 import com.danubetech.dataintegrity.DataIntegrityProof;
-import com.danubetech.dataintegrity.signer.LdSigner;
-import com.danubetech.dataintegrity.signer.LdSignerRegistry;
-import com.danubetech.dataintegrity.suites.DataIntegrityProofDataIntegritySuite;
-import com.danubetech.dataintegrity.suites.DataIntegritySuites;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.mosip.certify.core.constants.*;
 import io.mosip.certify.core.dto.CertificateResponseDTO;
 import io.mosip.certify.proofgenerators.ProofGeneratorFactory;
-import io.mosip.certify.proofgenerators.dataintegrity.KeymanagerByteSigner;
-import io.mosip.certify.proofgenerators.dataintegrity.KeymanagerByteSignerFactory;
+import io.mosip.certify.proofgenerators.dataintegrity.DataIntegrityLdSignerPool;
+import io.mosip.certify.proofgenerators.dataintegrity.JcsDataIntegrityProofGenerator;
 import io.mosip.certify.services.CertifyIssuanceServiceImpl;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.utils.CanonicalizationCache;
 import io.mosip.certify.utils.CredentialUtils;
 import io.mosip.certify.utils.DIDDocumentUtil;
+import io.mosip.certify.utils.JsonLDContextLoader;
 import io.mosip.certify.vcformatters.VCFormatter;
-import io.mosip.kernel.signature.service.SignatureService;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -48,9 +50,17 @@ public class W3CJsonLD extends Credential{
     @Autowired
     ProofGeneratorFactory proofGeneratorFactory;
     @Autowired
-    SignatureServicev2 signatureService;
-    @Autowired
     DIDDocumentUtil didDocumentUtil;
+    @Autowired
+    DataIntegrityLdSignerPool dataIntegrityLdSignerPool;
+    @Autowired
+    JsonLDContextLoader jsonLDContextLoader;
+    @Autowired
+    CanonicalizationCache canonicalizationCache;
+    @Autowired
+    JcsDataIntegrityProofGenerator jcsDataIntegrityProofGenerator;
+    @Autowired
+    ObjectMapper objectMapper;
 
     @Value("#{${mosip.certify.signature-algo.key-alias-mapper}}")
     private Map<String, List<List<String>>> keyAliasMapper;
@@ -60,10 +70,10 @@ public class W3CJsonLD extends Credential{
      * Constructor for credentials
      *
      * @param vcFormatter
-     * @param signatureService
+     * @param vcSigner
      */
-    public W3CJsonLD(VCFormatter vcFormatter, SignatureService signatureService) {
-        super(vcFormatter, signatureService);
+    public W3CJsonLD(VCFormatter vcFormatter, VCSigner vcSigner) {
+        super(vcFormatter, vcSigner);
     }
 
 
@@ -87,32 +97,23 @@ public class W3CJsonLD extends Credential{
     @Override
     public VCResult<?> addProof(String vcToSign, String headers, String signAlgorithm, String appID, String refID, String didUrl, String signatureCryptoSuite){
         VCResult<JsonLDObject> vcResult = new VCResult<>();
+        vcResult.setFormat("ldp_vc");
+        if (jcsDataIntegrityProofGenerator.supports(signAlgorithm, signatureCryptoSuite)) {
+            // JSON canonicalization cryptosuites, the document is never processed as JSON-LD
+            vcResult.setCredential(addJcsProof(vcToSign, signAlgorithm, appID, refID, didUrl, signatureCryptoSuite));
+            return vcResult;
+        }
         Map<String,String> keyReferenceDetails = Map.of(Constants.APPLICATION_ID, appID, Constants.REFERENCE_ID, refID);
         JsonLDObject jsonLDObject = JsonLDObject.fromJson(vcToSign);
-        jsonLDObject.setDocumentLoader(null);
+        jsonLDObject.setDocumentLoader(jsonLDContextLoader);
         // NOTE: other aspects can be configured via keyMgrInput map
-        String validFrom;
-        if (jsonLDObject.getJsonObject().containsKey(VCDM1Constants.ISSUANCE_DATE)) {
-            validFrom = jsonLDObject.getJsonObject().get(VCDM1Constants.ISSUANCE_DATE).toString();
-        } else if (jsonLDObject.getJsonObject().containsKey(VCDM2Constants.VALID_FROM)){
-            validFrom = jsonLDObject.getJsonObject().get(VCDM2Constants.VALID_FROM).toString();
-        } else {
-            validFrom = ZonedDateTime.now(ZoneOffset.UTC)
-                    .format(DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN));
-        }
-        // TODO: VC Data Model spec doesn't specify a single date format or a
-        //  timezone restriction, this will have to be supported timely.
-        Date createDate = Date
-                .from(LocalDateTime
-                        .parse(validFrom,
-                                DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN))
-                        .atZone(ZoneId.systemDefault()).toInstant());
+        Date createDate = getProofCreatedDate(
+                jsonLDObject.getJsonObject().containsKey(VCDM1Constants.ISSUANCE_DATE) ? jsonLDObject.getJsonObject().get(VCDM1Constants.ISSUANCE_DATE).toString() : null,
+                jsonLDObject.getJsonObject().containsKey(VCDM2Constants.VALID_FROM) ? jsonLDObject.getJsonObject().get(VCDM2Constants.VALID_FROM).toString() : null);
 
         CertificateResponseDTO certificateResponseDTO = didDocumentUtil.getCertificateDataResponseDto(appID, refID);
         String kid = certificateResponseDTO.getKeyId();
-        DataIntegrityProofDataIntegritySuite dataIntegrityProofDataIntegritySuite = DataIntegritySuites.DATA_INTEGRITY_SUITE_DATAINTEGRITYPROOF;
-        List<String> supportedCryptoSuites = dataIntegrityProofDataIntegritySuite.findCryptosuitesForJwsAlgorithm(signAlgorithm);
-        if (supportedCryptoSuites == null || !supportedCryptoSuites.contains(signatureCryptoSuite)) {
+        if (!dataIntegrityLdSignerPool.isDataIntegrityCryptosuite(signAlgorithm, signatureCryptoSuite)) {
             // legacy signature algos such as Ed25519Signature{2018,2020}
             ProofGenerator proofGenerator = proofGeneratorFactory.getProofGenerator(signatureCryptoSuite)
                     .orElseThrow(() ->
@@ -122,27 +123,65 @@ public class W3CJsonLD extends Credential{
                     .verificationMethod(URI.create(didUrl + "#" + kid))
                     .build();
             LdProof ldProofWithJWS = CredentialUtils.generateLdProof(vcLdProof, jsonLDObject,
-                    keyReferenceDetails, proofGenerator);
+                    keyReferenceDetails, proofGenerator, canonicalizationCache);
             ldProofWithJWS.addToJsonLDObject(jsonLDObject);
         } else {
-            LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
-            KeymanagerByteSigner keymanagerByteSigner = KeymanagerByteSignerFactory.getInstance(appID, refID, signatureService, signAlgorithm);
-            signer.setSigner(keymanagerByteSigner);
-            signer.setCryptosuite(signatureCryptoSuite);
-
-            DataIntegrityProof dataIntegrityProof = DataIntegrityProof.builder()
+            DataIntegrityProof proofOptions = DataIntegrityProof.builder()
                     .created(createDate)
                     .proofPurpose(VCDMConstants.ASSERTION_METHOD)
                     .cryptosuite(signatureCryptoSuite)
                     .verificationMethod(URI.create(didUrl + "#" + kid))
                     .type(SignatureAlg.DATA_INTEGRITY).build();
 
-            dataIntegrityProof = CredentialUtils.generateDataIntegrityProof(dataIntegrityProof, jsonLDObject, signer);
+            DataIntegrityProof dataIntegrityProof = dataIntegrityLdSignerPool.withLdSigner(signatureCryptoSuite, appID, refID, signAlgorithm,
+                    signer -> CredentialUtils.generateDataIntegrityProof(proofOptions, jsonLDObject, signer, canonicalizationCache));
             dataIntegrityProof.addToJsonLDObject(jsonLDObject);
         }
         vcResult.setCredential(jsonLDObject);
-        vcResult.setFormat("ldp_vc");
         return vcResult;
     }
 
+    private JsonLDObject addJcsProof(String vcToSign, String signAlgorithm, String appID, String refID, String didUrl, String signatureCryptoSuite) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(vcToSign);
+        } catch (JsonProcessingException e) {
+            log.error("Unable to parse the credential to sign", e);
+            throw new CertifyException(ErrorConstants.VC_ISSUANCE_FAILED);
+        }
+        if (!(jsonNode instanceof ObjectNode document)) {
+            throw new CertifyException(ErrorConstants.VC_ISSUANCE_FAILED);
+        }
+        Date createDate = getProofCreatedDate(
+                document.hasNonNull(VCDM1Constants.ISSUANCE_DATE) ? document.get(VCDM1Constants.ISSUANCE_DATE).asText() : null,
+                document.hasNonNull(VCDM2Constants.VALID_FROM) ? document.get(VCDM2Constants.VALID_FROM).asText() : null);
+        String kid = didDocumentUtil.getCertificateDataResponseDto(appID, refID).getKeyId();
+        jcsDataIntegrityProofGenerator.addProof(document, createDate, didUrl + "#" + kid, signatureCryptoSuite,
+                appID, refID, signAlgorithm);
+        return JsonLDObject.fromJsonObject(objectMapper.convertValue(document, new TypeReference<Map<String, Object>>() {}));
+    }
+
+    /**
+     * The created date of the proof: the issuanceDate (VCDM 1.1) or validFrom (VCDM 2.0) of the
+     * credential, now when it has neither.
+     */
+    private static Date getProofCreatedDate(String issuanceDate, String validFrom) {
+        String created;
+        if (issuanceDate != null) {
+            created = issuanceDate;
+        } else if (validFrom != null) {
+            created = validFrom;
+        } else {
+            created = ZonedDateTime.now(ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN));
+        }
+        // TODO: VC Data Model spec doesn't specify a single date format or a
+        //  timezone restriction, this will have to be supported timely.
+        return Date
+                .from(LocalDateTime
+                        .parse(created,
+                                DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN))
+                        .atZone(ZoneId.systemDefault()).toInstant());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package io.mosip.certify.credential;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import io.mosip.certify.api.dto.VCResult;
+import io.mosip.certify.core.constants.VCFormats;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.vcformatters.VCFormatter;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * W3C VC secured with JOSE as an enveloped VC-JWT (media type application/vc+jwt), as per
+ *  https://www.w3.org/TR/vc-jose-cose/
+ * <p>The unsecured VC is the JWT payload as-is, so signing is a signature over the
+ * serialized bytes and needs no JSON-LD canonicalization.</p>
+ * <p>Only used to secure status list credentials ({@code mosip.certify.status-list.credential-format=vc+jwt}),
+ * credentials are not issued in this format.</p>
+ */
+@Slf4j
+@Component
+public class W3CVcJwt extends Credential {
+
+    public static final String MEDIA_TYPE = "application/vc+jwt";
+
+    private static final Pattern COMPACT_JWS = Pattern.compile("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+
+    @Autowired
+    public W3CVcJwt(VCFormatter vcFormatter, VCSigner vcSigner) {
+        super(vcFormatter, vcSigner);
+    }
+
+    @Override
+    public boolean canHandle(String format) {
+        return VCFormats.VC_JWT.equals(format);
+    }
+
+    @Override
+    public boolean isStatusListOnly() {
+        return true;
+    }
+
+    /**
+     * Adds a signature/proof by enveloping the VC in a compact JWS.
+     * @param vcToSign unsecured VC as stringified JSON.
+     * @param headers headers to be added. Can be null.
+     * @param signAlgorithm as defined in com.danubetech.keyformats.jose.JWSAlgorithm
+     * @param appID app id from the keymanager tables
+     * @param refID reference id from the keymanager tables
+     * @param didUrl url where the public key is accessible.
+     */
+    @Override
+    public VCResult<?> addProof(String vcToSign, String headers, String signAlgorithm, String appID, String refID, String didUrl, String signatureCryptoSuite) {
+        VCResult<String> vcResult = new VCResult<>();
+        JWSSignatureRequestDtoV2 payload = new JWSSignatureRequestDtoV2();
+        payload.setDataToSign(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(vcToSign.getBytes(StandardCharsets.UTF_8)));
+        payload.setApplicationId(appID);
+        payload.setReferenceId(refID);
+        payload.setAdditionalHeaders(Map.of("typ", VCFormats.VC_JWT, "cty", "vc"));
+        payload.setSignAlgorithm(signAlgorithm);
+        payload.setIncludePayload(true);
+        payload.setIncludeCertificateChain(true);
+        payload.setIncludeCertHash(true);
+        payload.setValidateJson(false);
+        payload.setB64JWSHeaderParam(true);
+        payload.setCertificateUrl("");
+
+        JWTSignatureResponseDto jwsSignedData = vcSigner.jwsSignV2(payload);
+        vcResult.setCredential(jwsSignedData.getJwtSignedData());
+        vcResult.setFormat(VCFormats.VC_JWT);
+        return vcResult;
+    }
+
+    /**
+     * Returns true when the document is a compact JWS, i.e. an enveloped VC-JWT rather than a JSON VC.
+     */
+    public static boolean isEnveloped(String vcDocument) {
+        return vcDocument != null && COMPACT_JWS.matcher(vcDocument.strip()).matches();
+    }
+
+    /**
+     * Returns the unsecured VC carried as the payload of an enveloped VC-JWT.
+     */
+    public static String getPayload(String compactJwt) {
+        String[] parts = compactJwt.strip().split("\\.");
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Not a compact JWS");
+        }
+        return new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+    }
+}
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
         },
         indexes = {
                 @Index(name = "idx_sla_available_indices",
-                        columnList = "status_list_credential_id, is_assigned, list_index")
+                        columnList = "status_list_credential_id, is_assigned, list_index"),
+                @Index(name = "idx_sla_assigned_expiration_date",
+                        columnList = "expiration_date")
         }
 )
 @Data
@@ -36,6 +38,18 @@ public class StatusListAvailableIndices {
     @Column(name = "is_assigned", nullable = false)
     private Boolean isAssigned = false;
 
+    /**
+     * Reverse link to the ledger entry of the credential holding this index.
+     */
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    /**
+     * Expiration date of the credential holding this index, used to reclaim the index.
+     */
+    @Column(name = "expiration_date")
+    private LocalDateTime expirationDate;
+
     @Column(name = "cr_dtimes", nullable = false, updatable = false)
     private LocalDateTime createdDtimes;
 
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "status_list_credential", indexes = {
-        @Index(name = "idx_slc_status_purpose", columnList = "status_purpose")
+        @Index(name = "idx_slc_status_purpose", columnList = "status_purpose"),
+        @Index(name = "idx_slc_status_list_group_id", columnList = "status_list_group_id")
 })
 @Data
 @NoArgsConstructor
@@ -40,12 +41,34 @@ public class StatusListCredential {
     @JdbcType(PostgreSQLEnumJdbcType.class)
     private CredentialStatus credentialStatus;
 
+    /**
+     * Id of the primary list of a group of lists sharing their indices, one list per purpose.
+     * Null for lists that are not part of a group.
+     */
+    @Column(name = "status_list_group_id", length = 255)
+    private String statusListGroupId;
+
+    /**
+     * Number of bits per status. Bitstring status lists use 1 bit, Token Status Lists 1, 2, 4 or 8.
+     * Null is treated as 1.
+     */
+    @Column(name = "status_size")
+    private Integer statusSize;
+
     @Column(name = "cr_dtimes", nullable = false, updatable = false)
     private LocalDateTime createdDtimes;
 
     @Column(name = "upd_dtimes")
     private LocalDateTime updatedDtimes;
 
+    /**
+     * Number of indices the list can hold.
+     */
+    public long getCapacityInEntries() {
+        int bitsPerStatus = statusSize == null ? 1 : statusSize;
+        return capacityInKB * 1024L * 8L / bitsPerStatus;
+    }
+
     public enum CredentialStatus {
         AVAILABLE,
         FULL;
@@ -6,9 +6,9 @@ import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.SignRequestDtoV2;
 import io.mosip.kernel.signature.dto.SignResponseDto;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -23,7 +23,7 @@ import java.util.Map;
 public class Ed25519Signature2020ProofGenerator implements ProofGenerator {
 
     @Autowired
-    SignatureServicev2 signatureService;
+    VCSigner vcSigner;
 
     Canonicalizer canonicalizer = new URDNA2015Canonicalizer();
 
@@ -45,7 +45,7 @@ public class Ed25519Signature2020ProofGenerator implements ProofGenerator {
         srd.setDataToSign(vcEncodedHash);
         srd.setResponseEncodingFormat("base58btc");
         srd.setSignAlgorithm(JWSAlgorithm.EdDSA);
-        SignResponseDto s = signatureService.signv2(srd);
+        SignResponseDto s = vcSigner.signv2(srd);
         return LdProof.builder().base(vcLdProof).defaultContexts(false)
                 .proofValue(s.getSignature()).build();
     }
@@ -6,9 +6,9 @@ import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
-import io.mosip.kernel.signature.service.SignatureService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -18,7 +18,7 @@ import java.util.Map;
 @Component
 public class RSASignature2018ProofGenerator implements ProofGenerator {
     @Autowired
-    SignatureService signatureService;
+    VCSigner vcSigner;
 
     Canonicalizer canonicalizer = new URDNA2015Canonicalizer();
 
@@ -45,7 +45,7 @@ public class RSASignature2018ProofGenerator implements ProofGenerator {
         payload.setB64JWSHeaderParam(false);
         payload.setCertificateUrl("");
         payload.setSignAlgorithm(JWSAlgorithm.RS256); // RSSignature2018 --> RS256, PS256, ES256
-        JWTSignatureResponseDto jwsSignedData = signatureService.jwsSign(payload);
+        JWTSignatureResponseDto jwsSignedData = vcSigner.jwsSign(payload);
         return LdProof.builder().base(vcLdProof).defaultContexts(false)
                 .jws(jwsSignedData.getJwtSignedData()).build();
     }
@@ -0,0 +1,87 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.dataintegrity.suites.DataIntegritySuites;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * DataIntegrityLdSignerPool keeps the {@link LdSigner}s of the DataIntegrityProof suite configured
+ * for a cryptosuite, application id, reference id and algorithm.
+ * <p>
+ * An LdSigner is configured with setters, so a signer is only ever used by one request at a time: it
+ * is borrowed from the pool of its key for the duration of {@link #withLdSigner} and given back
+ * afterwards. A signer is created and configured only when every pooled one is in use, and at most
+ * {@code mosip.certify.data-integrity.signer-pool.max-idle} of them are kept per key.</p>
+ * <p>
+ * The cryptosuites supported by a JWS algorithm are looked up once per algorithm.</p>
+ */
+@Slf4j
+@Component
+public class DataIntegrityLdSignerPool {
+
+    @Autowired
+    private VCSigner vcSigner;
+
+    @Value("${mosip.certify.data-integrity.signer-pool.max-idle:16}")
+    private int maxIdle;
+
+    private final Map<String, List<String>> cryptosuitesByAlgorithm = new ConcurrentHashMap<>();
+
+    private final Map<LdSignerKey, BlockingQueue<LdSigner>> pools = new ConcurrentHashMap<>();
+
+    record LdSignerKey(String cryptosuite, String applicationId, String referenceId, String signAlgorithm) {
+    }
+
+    /**
+     * @return true when the cryptosuite is a DataIntegrityProof cryptosuite of the JWS algorithm,
+     * false for the legacy signature suites
+     */
+    public boolean isDataIntegrityCryptosuite(String signAlgorithm, String cryptosuite) {
+        return cryptosuitesByAlgorithm.computeIfAbsent(signAlgorithm, algorithm -> {
+            List<String> cryptosuites = DataIntegritySuites.DATA_INTEGRITY_SUITE_DATAINTEGRITYPROOF
+                    .findCryptosuitesForJwsAlgorithm(algorithm);
+            return cryptosuites == null ? List.of() : List.copyOf(cryptosuites);
+        }).contains(cryptosuite);
+    }
+
+    /**
+     * Runs the signing with a configured LdSigner which no other request uses in the meantime.
+     * The signer must not be reconfigured by the caller.
+     */
+    public <T> T withLdSigner(String cryptosuite, String appId, String refId, String signAlgorithm,
+                              Function<LdSigner, T> signing) {
+        LdSignerKey key = new LdSignerKey(cryptosuite, appId, refId, signAlgorithm);
+        BlockingQueue<LdSigner> pool = pools.computeIfAbsent(key, k -> new LinkedBlockingQueue<>(Math.max(1, maxIdle)));
+        LdSigner signer = pool.poll();
+        if (signer == null) {
+            signer = newLdSigner(key);
+        }
+        try {
+            return signing.apply(signer);
+        } finally {
+            // Dropped when the pool already holds max-idle signers
+            pool.offer(signer);
+        }
+    }
+
+    private LdSigner newLdSigner(LdSignerKey key) {
+        log.debug("Creating LdSigner for {}", key);
+        LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+        signer.setSigner(new KeymanagerByteSigner(key.applicationId(), key.referenceId(), vcSigner, key.signAlgorithm()));
+        signer.setCryptosuite(key.cryptosuite());
+        return signer;
+    }
+}
@@ -0,0 +1,174 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JcsCanonicalizer writes a JSON tree in the JSON Canonicalization Scheme (RFC 8785).
+ * <p>
+ * Object members are sorted by the UTF-16 code units of their names, strings only escape the
+ * characters JSON requires and numbers are written as ECMAScript writes IEEE 754 doubles. The output
+ * is written straight to a stream, e.g. to hash it without building the canonical string.</p>
+ *
+ * Spec: https://www.rfc-editor.org/rfc/rfc8785
+ */
+public final class JcsCanonicalizer {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JcsCanonicalizer() {
+    }
+
+    /**
+     * @return SHA-256 of the canonical UTF-8 form of the tree
+     */
+    public static byte[] sha256(JsonNode node) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            write(node, new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String canonicalize(JsonNode node) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(node, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    public static void write(JsonNode node, OutputStream outputStream) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writeValue(node, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(JsonNode node, Writer writer) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                List<Map.Entry<String, JsonNode>> members = new ArrayList<>(node.size());
+                node.fields().forEachRemaining(members::add);
+                // String.compareTo compares UTF-16 code units, as RFC 8785 sorts the member names
+                members.sort(Map.Entry.comparingByKey());
+                writer.write('{');
+                for (int i = 0; i < members.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeString(members.get(i).getKey(), writer);
+                    writer.write(':');
+                    writeValue(members.get(i).getValue(), writer);
+                }
+                writer.write('}');
+            }
+            case ARRAY -> {
+                writer.write('[');
+                Iterator<JsonNode> elements = node.elements();
+                boolean first = true;
+                while (elements.hasNext()) {
+                    if (!first) {
+                        writer.write(',');
+                    }
+                    writeValue(elements.next(), writer);
+                    first = false;
+                }
+                writer.write(']');
+            }
+            case STRING -> writeString(node.textValue(), writer);
+            case NUMBER -> writer.write(formatNumber(node.doubleValue()));
+            case BOOLEAN -> writer.write(node.booleanValue() ? "true" : "false");
+            case NULL -> writer.write("null");
+            default -> throw new IllegalArgumentException("Unsupported JSON value: " + node.getNodeType());
+        }
+    }
+
+    private static void writeString(String value, Writer writer) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\b' -> writer.write("\\b");
+                case '\f' -> writer.write("\\f");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX[c >> 4]);
+                        writer.write(HEX[c & 0xf]);
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Number::toString of ECMAScript (ECMA-262 7.1.12.1), which RFC 8785 uses for numbers.
+     */
+    static String formatNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("NaN and Infinity are not valid JSON numbers");
+        }
+        if (value == 0) {
+            return "0";
+        }
+        // Double.toString gives the shortest decimal which round trips (JDK 19+), as ECMAScript requires,
+        // except that it never has less than two digits: 4.9E-324 where ECMAScript has 5e-324
+        double abs = Math.abs(value);
+        BigDecimal decimal = new BigDecimal(Double.toString(abs)).stripTrailingZeros();
+        if (decimal.precision() == 2) {
+            BigDecimal oneDigit = decimal.round(new MathContext(1, RoundingMode.HALF_EVEN));
+            if (oneDigit.doubleValue() == abs) {
+                decimal = oneDigit.stripTrailingZeros();
+            }
+        }
+        String digits = decimal.unscaledValue().toString();
+        int k = digits.length();
+        int n = k - decimal.scale();
+        StringBuilder builder = new StringBuilder(value < 0 ? "-" : "");
+        if (k <= n && n <= 21) {
+            builder.append(digits).append("0".repeat(n - k));
+        } else if (0 < n && n <= 21) {
+            builder.append(digits, 0, n).append('.').append(digits, n, k);
+        } else if (-6 < n && n <= 0) {
+            builder.append("0.").append("0".repeat(-n)).append(digits);
+        } else {
+            int exponent = n - 1;
+            builder.append(digits.charAt(0));
+            if (k > 1) {
+                builder.append('.').append(digits, 1, k);
+            }
+            builder.append('e').append(exponent < 0 ? '-' : '+').append(Math.abs(exponent));
+        }
+        return builder.toString();
+    }
+}
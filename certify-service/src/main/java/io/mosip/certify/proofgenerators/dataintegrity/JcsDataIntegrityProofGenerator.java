@@ -0,0 +1,103 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ipfs.multibase.Multibase;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.core.constants.VCDMConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JcsDataIntegrityProofGenerator adds the DataIntegrityProof of the JSON canonicalization cryptosuites
+ * ({@code eddsa-jcs-2022}, {@code ecdsa-jcs-2019}) without any JSON-LD processing.
+ * <p>
+ * The proof configuration and the unsecured document are canonicalized with {@link JcsCanonicalizer}
+ * straight from their JSON tree into SHA-256, the hash data
+ * {@code SHA-256(JCS(proof configuration)) || SHA-256(JCS(document))} is signed with the
+ * {@link VCSigner} and the multibase (base58btc) signature is the proof value. Contexts are neither
+ * loaded nor expanded, the proof configuration only takes the {@code @context} of the document as
+ * required by the cryptosuites.</p>
+ *
+ * Spec: https://www.w3.org/TR/vc-di-eddsa/#eddsa-jcs-2022, https://www.w3.org/TR/vc-di-ecdsa/#ecdsa-jcs-2019
+ */
+@Component
+public class JcsDataIntegrityProofGenerator {
+
+    private static final String CONTEXT = "@context";
+    private static final String PROOF = "proof";
+    private static final DateTimeFormatter CREATED_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    // JWS algorithms of each cryptosuite, ecdsa-jcs-2019 hashes with SHA-256 so only P-256 is supported
+    private static final Map<String, Set<String>> ALGORITHMS_BY_CRYPTOSUITE = Map.of(
+            SignatureAlg.ED_JCS_2022, Set.of("EdDSA", "Ed25519"),
+            SignatureAlg.EC_JCS_2019, Set.of("ES256"));
+
+    @Autowired
+    private VCSigner vcSigner;
+
+    @Value("${mosip.certify.data-integrity.jcs-fast-path.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * @return true when the proof of the cryptosuite and JWS algorithm is added by this generator
+     */
+    public boolean supports(String signAlgorithm, String cryptosuite) {
+        return enabled && ALGORITHMS_BY_CRYPTOSUITE.getOrDefault(cryptosuite, Set.of()).contains(signAlgorithm);
+    }
+
+    /**
+     * Signs the document and sets its {@code proof}, an existing proof is replaced.
+     *
+     * @param document unsecured document, modified in place
+     * @return the secured document
+     */
+    public ObjectNode addProof(ObjectNode document, Date created, String verificationMethod, String cryptosuite,
+                               String appId, String refId, String signAlgorithm) {
+        if (Strings.isEmpty(appId) || Strings.isEmpty(refId)) {
+            throw new CertifyException(ErrorConstants.MISSING_APPLICATION_OR_REFERENCE_ID);
+        }
+        document.remove(PROOF);
+        ObjectNode proof = document.objectNode()
+                .put("type", SignatureAlg.DATA_INTEGRITY)
+                .put("cryptosuite", cryptosuite)
+                .put("created", CREATED_FORMATTER.format(created.toInstant()))
+                .put("verificationMethod", verificationMethod)
+                .put("proofPurpose", VCDMConstants.ASSERTION_METHOD);
+
+        ObjectNode proofConfig = proof.deepCopy();
+        JsonNode context = document.get(CONTEXT);
+        if (context != null) {
+            proofConfig.set(CONTEXT, context);
+        }
+        byte[] hashData = new byte[64];
+        System.arraycopy(JcsCanonicalizer.sha256(proofConfig), 0, hashData, 0, 32);
+        System.arraycopy(JcsCanonicalizer.sha256(document), 0, hashData, 32, 32);
+
+        SignRequestDtoV2 signRequest = new SignRequestDtoV2();
+        signRequest.setApplicationId(appId);
+        signRequest.setReferenceId(refId);
+        signRequest.setSignAlgorithm(signAlgorithm);
+        signRequest.setDataToSign(Base64.getUrlEncoder().encodeToString(hashData));
+        signRequest.setResponseEncodingFormat("base58btc");
+        String signature = vcSigner.signv2(signRequest).getSignature();
+        // Re-encoded as the generic Data Integrity signer does, whatever multibase the signer answered with
+        proof.put("proofValue", Multibase.encode(Multibase.Base.Base58BTC, Multibase.decode(signature)));
+        document.set(PROOF, proof);
+        return document;
+    }
+}
@@ -4,8 +4,8 @@ import com.danubetech.keyformats.crypto.ByteSigner;
 import io.ipfs.multibase.Multibase;
 import io.mosip.certify.core.constants.ErrorConstants;
 import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.SignRequestDtoV2;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.apache.logging.log4j.util.Strings;
 
 import java.security.GeneralSecurityException;
@@ -13,7 +13,7 @@ import java.util.Base64;
 
 /**
  * KeymanagerByteSigner is a concrete implementation of ByteSigner that
- * interacts with the Keymanager to sign data using a specified crypto suite.
+ * signs data with the configured {@link VCSigner} using a specified crypto suite.
  * <p>
  * It supports signing data integrity proofs as per the Data Integrity VC
  * specification.</p>
@@ -25,20 +25,20 @@ public class KeymanagerByteSigner extends ByteSigner {
     private String appId;
     private String refId;
     private String jwsAlgorithm;
-    private SignatureServicev2 signatureService;
+    private VCSigner vcSigner;
 
     /**
      * @param appId
      * @param refId
-     * @param signatureService
+     * @param vcSigner
      * @param jwsAlgorithm
      */
     public KeymanagerByteSigner(String appId, String refId,
-                                SignatureServicev2 signatureService, String jwsAlgorithm) {
+                                VCSigner vcSigner, String jwsAlgorithm) {
         super(jwsAlgorithm);
         this.appId = appId;
         this.refId = refId;
-        this.signatureService = signatureService;
+        this.vcSigner = vcSigner;
         this.jwsAlgorithm = jwsAlgorithm;
     }
 
@@ -47,7 +47,7 @@ public class KeymanagerByteSigner extends ByteSigner {
      *  using the implementation from danubetech's VC signing library.
      *
      * @param bytes input data to sign, must be a canonicalized hash
-     * @return signature generated by the Keymanager
+     * @return signature generated by the VCSigner
      * @throws CertifyException when the algo-cryptoSuite combination is not
      *  supported or sufficient data is not provided
      */
@@ -64,7 +64,7 @@ public class KeymanagerByteSigner extends ByteSigner {
         s.setSignAlgorithm(jwsAlgorithm);
         s.setDataToSign(Base64.getUrlEncoder().encodeToString(bytes));
         s.setResponseEncodingFormat("base58btc");
-        String sign = signatureService.signv2(s).getSignature();
+        String sign = vcSigner.signv2(s).getSignature();
         return Multibase.decode(sign);
         // business logic to call keymanager correctly based on appId, referenceId,
         //  algo, format and spit out the signature
@@ -18,4 +18,9 @@ public interface CredentialStatusTransactionRepository extends JpaRepository<Cre
      * Find a batch of unprocessed transactions, ordered by creation time, with custom batch size.
      */
     List<CredentialStatusTransaction> findByIsProcessedFalseOrderByCreatedDtimesAsc(Pageable pageable);
+
+    /**
+     * Check if a status change for the given index is still waiting for the batch job.
+     */
+    boolean existsByStatusListCredentialIdAndStatusListIndexAndIsProcessedFalse(String statusListCredentialId, Long statusListIndex);
 }
\ No newline at end of file
@@ -4,7 +4,24 @@ import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.entity.Ledger;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LedgerIssuanceTableCustomRepository {
     List<Ledger> findBySearchRequest(CredentialLedgerSearchRequest request);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of the matching entries ordered by id.
+     *
+     * @param afterId id of the last entry of the previous page, null for the first page.
+     * @param limit maximum number of entries returned.
+     */
+    List<Ledger> findPageBySearchRequest(CredentialLedgerSearchRequest request, Long afterId, int limit);
+
+    /**
+     * Streams the matching entries ordered by id through a server-side cursor. Must be called
+     * within a transaction and the stream must be closed by the caller.
+     *
+     * @param fetchSize number of rows fetched per round trip.
+     */
+    Stream<Ledger> streamBySearchRequest(CredentialLedgerSearchRequest request, int fetchSize);
+}
@@ -1,17 +1,22 @@
 package io.mosip.certify.repository;
 
+import io.mosip.certify.config.IndexedAttributesConfig;
 import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.entity.Ledger;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public class LedgerIssuanceTableCustomRepositoryImpl implements LedgerIssuanceTableCustomRepository {
@@ -21,46 +26,107 @@ public class LedgerIssuanceTableCustomRepositoryImpl implements LedgerIssuanceTa
 
     private final ObjectMapper objectMapper;
 
-    public LedgerIssuanceTableCustomRepositoryImpl(ObjectMapper objectMapper) {
+    private final IndexedAttributesConfig indexedAttributesConfig;
+
+    public LedgerIssuanceTableCustomRepositoryImpl(ObjectMapper objectMapper, IndexedAttributesConfig indexedAttributesConfig) {
         this.objectMapper = objectMapper;
+        this.indexedAttributesConfig = indexedAttributesConfig;
     }
 
     @Override
     public List<Ledger> findBySearchRequest(CredentialLedgerSearchRequest request) {
         try {
-            StringBuilder sql = new StringBuilder("SELECT * FROM ledger WHERE issuer_id = :issuerId AND credential_type = :credentialType ");
+            StringBuilder sql = new StringBuilder("SELECT * FROM ledger WHERE ");
             Map<String, Object> params = new HashMap<>();
-            params.put("issuerId", request.getIssuerId());
-            params.put("credentialType", request.getCredentialType());
+            appendSearchCriteria(sql, params, request);
+            return createQuery(sql, params).getResultList();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to search LedgerIssuanceTable", e);
+        }
+    }
 
-            if (request.getCredentialId() != null && !request.getCredentialId().isEmpty()) {
-                sql.append(" AND credential_id = :credentialId ");
-                params.put("credentialId", request.getCredentialId());
+    @Override
+    public List<Ledger> findPageBySearchRequest(CredentialLedgerSearchRequest request, Long afterId, int limit) {
+        try {
+            StringBuilder sql = new StringBuilder("SELECT * FROM ledger WHERE ");
+            Map<String, Object> params = new HashMap<>();
+            appendSearchCriteria(sql, params, request);
+            if (afterId != null) {
+                sql.append(" AND id > :afterId ");
+                params.put("afterId", afterId);
             }
+            sql.append(" ORDER BY id LIMIT :limit");
+            params.put("limit", limit);
+            return createQuery(sql, params).getResultList();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to search LedgerIssuanceTable", e);
+        }
+    }
 
-            if (request.getIndexedAttributesEquals() != null && !request.getIndexedAttributesEquals().isEmpty()) {
-                int i = 0;
-                for (Map.Entry<String, String> entry : request.getIndexedAttributesEquals().entrySet()) {
-                    String key = entry.getKey();
-                    String value = entry.getValue();
-                    if (key == null || key.isBlank() || value == null || value.isBlank()) continue;
+    @Override
+    public Stream<Ledger> streamBySearchRequest(CredentialLedgerSearchRequest request, int fetchSize) {
+        try {
+            StringBuilder sql = new StringBuilder("SELECT * FROM ledger WHERE ");
+            Map<String, Object> params = new HashMap<>();
+            appendSearchCriteria(sql, params, request);
+            sql.append(" ORDER BY id");
+            Query query = createQuery(sql, params);
+            // PostgreSQL only uses a cursor when a fetch size is set within a transaction
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+            // Detach every entry so the persistence context does not grow with the result
+            return ((Stream<Ledger>) query.getResultStream()).peek(entityManager::detach);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to search LedgerIssuanceTable", e);
+        }
+    }
+
+    private void appendSearchCriteria(StringBuilder sql, Map<String, Object> params, CredentialLedgerSearchRequest request)
+            throws JsonProcessingException {
+        sql.append("issuer_id = :issuerId AND credential_type = :credentialType ");
+        params.put("issuerId", request.getIssuerId());
+        params.put("credentialType", request.getCredentialType());
+
+        if (request.getCredentialId() != null && !request.getCredentialId().isEmpty()) {
+            sql.append(" AND credential_id = :credentialId ");
+            params.put("credentialId", request.getCredentialId());
+        }
+
+        if (request.getIssuanceDateFrom() != null) {
+            sql.append(" AND issuance_date >= :issuanceDateFrom ");
+            params.put("issuanceDateFrom", request.getIssuanceDateFrom());
+        }
+        if (request.getIssuanceDateTo() != null) {
+            sql.append(" AND issuance_date < :issuanceDateTo ");
+            params.put("issuanceDateTo", request.getIssuanceDateTo());
+        }
 
-                    String paramName = "indexedAttr" + i;
+        if (request.getIndexedAttributesEquals() != null && !request.getIndexedAttributesEquals().isEmpty()) {
+            int i = 0;
+            for (Map.Entry<String, String> entry : request.getIndexedAttributesEquals().entrySet()) {
+                String key = entry.getKey();
+                String value = entry.getValue();
+                if (key == null || key.isBlank() || value == null || value.isBlank()) continue;
+
+                String paramName = "indexedAttr" + i;
+                if (indexedAttributesConfig.isIndexedKey(key)) {
+                    // The key must be a literal for the planner to match the expression index of LedgerAttributeIndexManager
+                    sql.append(" AND indexed_attributes ->> '" + key + "' = :" + paramName + " ");
+                    params.put(paramName, value);
+                } else {
                     sql.append(" AND indexed_attributes @> cast(:" + paramName + " AS jsonb) ");
                     params.put(paramName, objectMapper.writeValueAsString(Map.of(key, value)));
-                    i++;
                 }
+                i++;
             }
+        }
+    }
 
-            var query = entityManager.createNativeQuery(sql.toString(), Ledger.class);
-
-            for (Map.Entry<String, Object> entry : params.entrySet()) {
-                query.setParameter(entry.getKey(), entry.getValue());
-            }
-
-            return query.getResultList();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to search LedgerIssuanceTable", e);
+    private Query createQuery(StringBuilder sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql.toString(), Ledger.class);
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            query.setParameter(entry.getKey(), entry.getValue());
         }
+        return query;
     }
 }
@@ -1,6 +1,7 @@
 package io.mosip.certify.repository;
 
 import io.mosip.certify.entity.StatusListAvailableIndices;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,36 @@ public interface StatusListAvailableIndicesRepository extends JpaRepository<Stat
      * Count assigned indices for a specific status list
      */
     long countByStatusListCredentialIdAndIsAssignedTrue(String statusListCredentialId);
+
+    /**
+     * Find the index entry for a specific position in a status list
+     */
+    Optional<StatusListAvailableIndices> findByStatusListCredentialIdAndListIndex(String statusListCredentialId, Long listIndex);
+
+    /**
+     * Link an assigned index to the ledger entry of the credential holding it
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatusListAvailableIndices s SET s.ledgerId = :ledgerId, s.expirationDate = :expirationDate " +
+            "WHERE s.statusListCredentialId = :statusListCredentialId AND s.listIndex = :listIndex AND s.isAssigned = true")
+    int linkAssignedIndex(@Param("statusListCredentialId") String statusListCredentialId,
+                          @Param("listIndex") Long listIndex,
+                          @Param("ledgerId") Long ledgerId,
+                          @Param("expirationDate") LocalDateTime expirationDate);
+
+    /**
+     * Find a batch of assigned indices whose credentials expired before the cutoff, oldest first
+     */
+    @Query("SELECT s FROM StatusListAvailableIndices s WHERE s.isAssigned = true AND s.expirationDate < :cutoff ORDER BY s.expirationDate ASC")
+    List<StatusListAvailableIndices> findExpiredAssignedIndices(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Return the given indices to the pool of available indices
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatusListAvailableIndices s SET s.isAssigned = false, s.ledgerId = null, s.expirationDate = null, " +
+            "s.updatedDtimes = :releasedTime WHERE s.id IN :ids AND s.isAssigned = true")
+    int releaseIndices(@Param("ids") Collection<Long> ids, @Param("releasedTime") LocalDateTime releasedTime);
 }
\ No newline at end of file
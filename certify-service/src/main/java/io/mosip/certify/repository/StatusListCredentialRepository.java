@@ -7,22 +7,48 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StatusListCredentialRepository extends JpaRepository<StatusListCredential, String> {
 
     /**
-     * Find a suitable status list credential that is available (not full) and matches the given purpose
+     * Find a suitable status list credential that is available (not full) and matches the given purpose.
+     * Lists that are part of a status list group and Token Status Lists are excluded.
      *
      * @param statusPurpose The purpose of the status list (e.g., "revocation", "suspension")
      * @return An optional containing the first available status list credential, or empty if none found
      */
+    @Query("SELECT s FROM StatusListCredential s WHERE s.statusPurpose = :statusPurpose AND s.credentialStatus = :credentialStatus " +
+            "AND s.statusListGroupId IS NULL AND s.credentialType <> 'TokenStatusList' ORDER BY s.createdDtimes DESC LIMIT 1")
     Optional<StatusListCredential> findFirstByStatusPurposeAndCredentialStatusOrderByCreatedDtimesDesc(
-            String statusPurpose,
-            StatusListCredential.CredentialStatus credentialStatus
+            @Param("statusPurpose") String statusPurpose,
+            @Param("credentialStatus") StatusListCredential.CredentialStatus credentialStatus
     );
 
+    /**
+     * Find the latest status list of the given type, purpose and status
+     */
+    @Query("SELECT s FROM StatusListCredential s WHERE s.credentialType = :credentialType AND s.statusPurpose = :statusPurpose " +
+            "AND s.credentialStatus = :credentialStatus ORDER BY s.createdDtimes DESC LIMIT 1")
+    Optional<StatusListCredential> findLatestByCredentialType(@Param("credentialType") String credentialType,
+                                                              @Param("statusPurpose") String statusPurpose,
+                                                              @Param("credentialStatus") StatusListCredential.CredentialStatus credentialStatus);
+
+    /**
+     * Find the primary lists of status list groups with the given purpose and status, latest first
+     */
+    @Query("SELECT s FROM StatusListCredential s WHERE s.id = s.statusListGroupId AND s.statusPurpose = :statusPurpose " +
+            "AND s.credentialStatus = :credentialStatus ORDER BY s.createdDtimes DESC")
+    List<StatusListCredential> findGroupPrimaryLists(@Param("statusPurpose") String statusPurpose,
+                                                     @Param("credentialStatus") StatusListCredential.CredentialStatus credentialStatus);
+
+    /**
+     * Find all lists of a status list group, including the primary list
+     */
+    List<StatusListCredential> findByStatusListGroupId(String statusListGroupId);
+
     /**
      * Find capacity of status list by ID
      */
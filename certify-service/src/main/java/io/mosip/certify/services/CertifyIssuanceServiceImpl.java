@@ -201,7 +201,7 @@ public class CertifyIssuanceServiceImpl implements VCIssuanceService {
                         if(!isLedgerEnabled) {
                             log.warn("Ledger feature is currently disabled. Since revocation is enabled, please note that searching for VCs to revoke within Certify is not available.");
                         }
-                        statusListCredentialService.addCredentialStatus(jsonObject, credentialStatusPurposeList.getFirst());
+                        statusListCredentialService.addCredentialStatus(jsonObject, credentialStatusPurposeList);
                     }
                     break;
 
@@ -212,6 +212,14 @@ public class CertifyIssuanceServiceImpl implements VCIssuanceService {
                     templateParams.put(Constants.CONFIRMATION, Map.of("kid", holderId));
                     templateParams.put(Constants.ISSUER, certifyIssuer);
                     jsonObject.put(Constants.TYPE, vcRequestDto.getVct());
+
+                    List<String> tokenStatusPurposeList = vcFormatter.getCredentialStatusPurpose(templateName);
+                    if (tokenStatusPurposeList != null && !tokenStatusPurposeList.isEmpty()) {
+                        if(!isLedgerEnabled) {
+                            log.warn("Ledger feature is currently disabled. Since revocation is enabled, please note that searching for VCs to revoke within Certify is not available.");
+                        }
+                        statusListCredentialService.addTokenStatus(jsonObject, tokenStatusPurposeList);
+                    }
                     break;
 
                 default:
@@ -254,12 +262,14 @@ public class CertifyIssuanceServiceImpl implements VCIssuanceService {
                 }
                 CredentialStatusDetail credentialStatusDetail = ledgerUtils.extractCredentialStatusDetails(jsonObject);
                 LocalDateTime issuanceDate = LocalDateTime.parse(time, DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN));
-                credentialLedgerService.storeLedgerEntry(credentialId, didUrl, credentialType, credentialStatusDetail, indexedAttributes, issuanceDate);
+                LocalDateTime expirationDate = LocalDateTime.parse(expiryTime, DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN));
+                credentialLedgerService.storeLedgerEntry(credentialId, didUrl, credentialType, credentialStatusDetail, indexedAttributes, issuanceDate, expirationDate);
                 log.info("Successfully stored the credential issuance data in ledger with credentialType: {}", credentialType);
             }
             VCResult<?> result = cred.addProof(unsignedCredential, "", vcFormatter.getProofAlgorithm(templateName), vcFormatter.getAppID(templateName), vcFormatter.getRefID(templateName), vcFormatter.getDidUrl(templateName), vcFormatter.getSignatureCryptoSuite(templateName));
 
             jsonObject.remove(VCDM2Constants.CREDENTIAL_STATUS);
+            jsonObject.remove(Constants.STATUS);
             return result;
 
         } catch (DataProviderExchangeException e) {
@@ -0,0 +1,160 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells every node when the credential configurations change, so the caches and structures
+ * derived from them can be kept until they are out of date instead of being rebuilt per request.
+ * <p>
+ * A change increments the generation of the configurations in {@code config_generation}, in the
+ * transaction that makes the change. The node making the change applies the new generation once
+ * the transaction commits; every other node polls the counter and applies it within the poll
+ * interval. Applying a generation clears the configured caches and publishes a
+ * {@link ConfigChangedEvent}. Derived structures can also keep the generation they were built
+ * from and compare it with {@link #getGeneration()}, which needs no event at all.</p>
+ */
+@Slf4j
+@Component
+public class ConfigChangeBus {
+
+    public static final String CREDENTIAL_CONFIG = "credential_config";
+
+    static final String INCREMENT_SQL = "UPDATE config_generation SET generation = generation + 1, " +
+            "upd_dtimes = CURRENT_TIMESTAMP WHERE config_name = ?";
+    static final String INSERT_SQL = "INSERT INTO config_generation (config_name, generation, upd_dtimes) " +
+            "VALUES (?, 1, CURRENT_TIMESTAMP)";
+    static final String SELECT_SQL = "SELECT generation FROM config_generation WHERE config_name = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${mosip.certify.config-change.poll-interval:PT2S}")
+    private Duration pollInterval;
+
+    @Value("#{'${mosip.certify.config-change.cache-names:credentialConfig}'.split(',')}")
+    private List<String> cacheNames;
+
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledExecutorService poller;
+
+    @PostConstruct
+    public void start() {
+        try {
+            generation.set(readGeneration());
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the generation of the credential configurations, polling will retry", e);
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-change-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A thread of its own, so long running batch jobs on the scheduler cannot delay invalidation
+        poller.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Polling configuration changes every {}, at generation {}", pollInterval, generation.get());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * Generation of the credential configurations last applied on this node.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Records a change to the credential configurations. Must be called in the transaction that
+     * makes the change: the new generation is applied on this node once it commits, and is not
+     * seen by the other nodes when it rolls back.
+     */
+    public void publishChange() {
+        if (jdbcTemplate.update(INCREMENT_SQL, CREDENTIAL_CONFIG) == 0) {
+            jdbcTemplate.update(INSERT_SQL, CREDENTIAL_CONFIG);
+        }
+        // Locked by the update until the transaction ends, so this is the generation of this change
+        long changed = readGeneration();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(changed);
+                }
+            });
+        } else {
+            apply(changed);
+        }
+    }
+
+    void poll() {
+        try {
+            apply(readGeneration());
+        } catch (DataAccessException e) {
+            log.warn("Failed to poll the generation of the credential configurations", e);
+        } catch (RuntimeException e) {
+            // An exception would cancel the polling
+            log.error("Failed to apply a change of the credential configurations", e);
+        }
+    }
+
+    void apply(long observed) {
+        long previous = generation.getAndAccumulate(observed, Math::max);
+        if (observed <= previous) {
+            return;
+        }
+        log.info("Credential configurations changed to generation {}", observed);
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName.trim());
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        eventPublisher.publishEvent(new ConfigChangedEvent(CREDENTIAL_CONFIG, observed));
+    }
+
+    private long readGeneration() {
+        List<Long> generations = jdbcTemplate.queryForList(SELECT_SQL, Long.class, CREDENTIAL_CONFIG);
+        return generations.isEmpty() ? 0 : generations.getFirst();
+    }
+
+    /**
+     * Published on every node when it applies a new generation of a configuration.
+     */
+    public record ConfigChangedEvent(String configName, long generation) {
+    }
+}
@@ -22,11 +22,11 @@ import io.mosip.certify.validators.credentialconfigvalidators.SdJwtCredentialCon
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -39,6 +39,9 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
     @Autowired
     private CredentialConfigMapper credentialConfigMapper;
 
+    @Autowired
+    private ConfigChangeBus configChangeBus;
+
     @Value("${mosip.certify.domain.url:}")
     private String credentialIssuer;
 
@@ -69,7 +72,11 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
     @Value("#{${mosip.certify.signature-algo.key-alias-mapper}}")
     private Map<String, List<List<String>>> keyAliasMapper;
 
-    private static final String CREDENTIAL_CONFIG_CACHE_NAME = "credentialConfig";
+    // Issuer metadata per version, rebuilt when the generation of the configurations changes
+    private final Map<String, IssuerMetadata> issuerMetadataCache = new ConcurrentHashMap<>();
+
+    private record IssuerMetadata(long generation, CredentialIssuerMetadataDTO metadata) {
+    }
 
     @Override
     public CredentialConfigResponse addCredentialConfiguration(CredentialConfigurationDTO credentialConfigurationDTO) {
@@ -85,6 +92,7 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
         credentialConfig.setProofTypesSupported(proofTypesSupported);
 
         CredentialConfig savedConfig = credentialConfigRepository.save(credentialConfig);
+        configChangeBus.publishChange();
         log.info("Added credential configuration: {}", savedConfig.getConfigId());
 
         CredentialConfigResponse credentialConfigResponse = new CredentialConfigResponse();
@@ -96,11 +104,12 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
 
     private void validateCredentialConfiguration(CredentialConfigurationDTO credentialConfig, boolean shouldCheckDuplicate) {
 
-        if (credentialConfig.getCredentialStatusPurposes() != null && credentialConfig.getCredentialStatusPurposes().size() > 1){
-            throw new CertifyException("Multiple credential status purposes are not currently supported.");
+        // Multiple purposes share one index across a group of status lists, so each purpose may appear only once
+        if (credentialConfig.getCredentialStatusPurposes() != null && new HashSet<>(credentialConfig.getCredentialStatusPurposes()).size() < credentialConfig.getCredentialStatusPurposes().size()){
+            throw new CertifyException("Duplicate credential status purposes are not allowed.");
         }
 
-        if (credentialConfig.getCredentialStatusPurposes() != null && !credentialConfig.getCredentialStatusPurposes().isEmpty() && !allowedCredentialStatusPurposes.contains(credentialConfig.getCredentialStatusPurposes().getFirst())) {
+        if (credentialConfig.getCredentialStatusPurposes() != null && !allowedCredentialStatusPurposes.containsAll(credentialConfig.getCredentialStatusPurposes())) {
             throw new CertifyException("Invalid credential status purposes. Allowed values are: " + allowedCredentialStatusPurposes);
         }
 
@@ -194,13 +203,10 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
     }
 
     /**
-     * NOTE: Using @credentialCacheKeyGenerator.generateKeyFromCredentialConfigKeyId(#id) will cause
-     * an additional database lookup for CredentialConfig by id within the key generator.
-     * This is a trade-off for using declarative @CacheEvict on this method signature.
-     * The alternative is manual CacheManager.evict() after fetching the object once in this method.
+     * Cached configurations are invalidated on every node through the {@link ConfigChangeBus},
+     * whatever key they are cached under.
      */
     @Override
-    @CacheEvict(cacheNames = CREDENTIAL_CONFIG_CACHE_NAME, key = "@credentialCacheKeyGenerator.generateKeyFromCredentialConfigKeyId(#credentialConfigKeyId)", condition = "#credentialConfigKeyId != null")
     public CredentialConfigResponse updateCredentialConfiguration(String credentialConfigKeyId, CredentialConfigurationDTO credentialConfigurationDTO){
         Optional<CredentialConfig> optional = credentialConfigRepository.findByCredentialConfigKeyId(credentialConfigKeyId);
 
@@ -215,6 +221,7 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
         validateCredentialConfiguration(credentialConfigMapper.toDto(credentialConfig), false);
 
         CredentialConfig savedConfig = credentialConfigRepository.save(credentialConfig);
+        configChangeBus.publishChange();
         log.info("Updated credential configuration: {}", savedConfig.getConfigId());
 
         CredentialConfigResponse credentialConfigResponse = new CredentialConfigResponse();
@@ -224,16 +231,8 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
         return credentialConfigResponse;
     }
 
-    /**
-     * NOTE: Using @credentialCacheKeyGenerator.generateKeyFromCredentialConfigKeyId(#id) will cause
-     * an additional database lookup for CredentialConfig by id within the key generator.
-     * This is a trade-off for using declarative @CacheEvict on this method signature.
-     */
     @Override
     @Transactional
-    @CacheEvict(cacheNames = CREDENTIAL_CONFIG_CACHE_NAME,
-            key = "@credentialCacheKeyGenerator.generateKeyFromCredentialConfigKeyId(#credentialConfigKeyId)",
-            beforeInvocation = true)
     public String deleteCredentialConfigurationById(String credentialConfigKeyId) {
         Optional<CredentialConfig> optional = credentialConfigRepository.findByCredentialConfigKeyId(credentialConfigKeyId) ;
 
@@ -242,15 +241,26 @@ public class CredentialConfigurationServiceImpl implements CredentialConfigurati
             throw new CredentialConfigException("Configuration not found with the provided id: " + credentialConfigKeyId);
         }
 
-        // The object is fetched once here.
-        // The @CacheEvict's key SpEL will cause CredentialCacheKeyGenerator to fetch it again.
         credentialConfigRepository.delete(optional.get());
+        configChangeBus.publishChange();
         log.info("Deleted credential configuration: {}", credentialConfigKeyId);
         return credentialConfigKeyId;
     }
 
     @Override
     public CredentialIssuerMetadataDTO fetchCredentialIssuerMetadata(String version) {
+        // Read before building, so metadata built from older configurations is never kept as current
+        long generation = configChangeBus.getGeneration();
+        IssuerMetadata cached = issuerMetadataCache.get(version);
+        if (cached != null && cached.generation() == generation) {
+            return cached.metadata();
+        }
+        CredentialIssuerMetadataDTO metadata = buildCredentialIssuerMetadata(version);
+        issuerMetadataCache.put(version, new IssuerMetadata(generation, metadata));
+        return metadata;
+    }
+
+    private CredentialIssuerMetadataDTO buildCredentialIssuerMetadata(String version) {
         List<CredentialConfig> credentialConfigList = credentialConfigRepository.findAll();
 
         if ("latest".equals(version)) {
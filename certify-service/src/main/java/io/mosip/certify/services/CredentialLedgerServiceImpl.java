@@ -1,5 +1,6 @@
 package io.mosip.certify.services;
 
+import io.mosip.certify.core.dto.CredentialLedgerSearchPage;
 import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.core.dto.CredentialStatusResponse;
 import io.mosip.certify.core.exception.CertifyException;
@@ -7,15 +8,19 @@ import io.mosip.certify.core.spi.CredentialLedgerService;
 import io.mosip.certify.entity.Ledger;
 import io.mosip.certify.core.dto.CredentialStatusDetail;
 import io.mosip.certify.repository.LedgerRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,6 +30,19 @@ public class CredentialLedgerServiceImpl implements CredentialLedgerService {
     @Autowired
     private LedgerRepository ledgerRepository;
 
+    @Autowired
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+
+    // Present when mosip.certify.ledger.write-behind.enabled is true
+    @Autowired(required = false)
+    private LedgerWriteBehindService ledgerWriteBehindService;
+
+    @Value("${mosip.certify.ledger-search.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Value("${mosip.certify.ledger-search.fetch-size:500}")
+    private int fetchSize;
+
     @Override
     public List<CredentialStatusResponse> searchCredentialLedger(CredentialLedgerSearchRequest request) {
         validateSearchRequest(request);
@@ -82,9 +100,57 @@ public class CredentialLedgerServiceImpl implements CredentialLedgerService {
         }
     }
 
+    @Override
+    public CredentialLedgerSearchPage searchCredentialLedgerPage(CredentialLedgerSearchRequest request, boolean v2) {
+        validateSearchRequest(request);
+        Long afterId = decodePageToken(request.getPageToken());
+        int pageSize = Math.min(request.getPageSize() == null ? maxPageSize : request.getPageSize(), maxPageSize);
+        try {
+            // One extra entry tells whether there is a next page
+            List<Ledger> records = ledgerRepository.findPageBySearchRequest(request, afterId, pageSize + 1);
+            boolean hasNextPage = records.size() > pageSize;
+            List<Ledger> page = hasNextPage ? records.subList(0, pageSize) : records;
+            List<CredentialStatusResponse> responses = page.stream()
+                    .flatMap(record -> mapRecordToResponses(record, v2))
+                    .collect(Collectors.toList());
+            return new CredentialLedgerSearchPage(responses, hasNextPage ? encodePageToken(page.getLast().getId()) : null);
+        } catch (Exception e) {
+            log.error("Error searching ledger page", e);
+            throw new CertifyException("SEARCH_CREDENTIALS_FAILED");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamCredentialLedger(CredentialLedgerSearchRequest request, boolean v2, Consumer<CredentialStatusResponse> consumer) {
+        validateSearchRequest(request);
+        try (Stream<Ledger> records = ledgerRepository.streamBySearchRequest(request, fetchSize)) {
+            records.flatMap(record -> mapRecordToResponses(record, v2)).forEach(consumer);
+        } catch (Exception e) {
+            log.error("Error streaming ledger search results", e);
+            throw new CertifyException("SEARCH_CREDENTIALS_FAILED");
+        }
+    }
+
+    // The page token is the opaque form of the id of the last entry of the page
+    private static String encodePageToken(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodePageToken(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new CertifyException("INVALID_PAGE_TOKEN");
+        }
+    }
+
     @Transactional
     @Override
-    public void storeLedgerEntry(String credentialId, String issuerId, String credentialType, CredentialStatusDetail statusDetails, Map<String, Object> indexedAttributes, LocalDateTime issuanceDate) {
+    public void storeLedgerEntry(String credentialId, String issuerId, String credentialType, CredentialStatusDetail statusDetails, Map<String, Object> indexedAttributes, LocalDateTime issuanceDate, LocalDateTime expirationDate) {
         try {
             Ledger ledger = new Ledger();
             if(credentialId != null) {
@@ -92,6 +158,7 @@ public class CredentialLedgerServiceImpl implements CredentialLedgerService {
             }
             ledger.setIssuerId(issuerId);
             ledger.setIssuanceDate(issuanceDate);
+            ledger.setExpirationDate(expirationDate);
             ledger.setCredentialType(credentialType);
             ledger.setIndexedAttributes(indexedAttributes);
 
@@ -102,7 +169,19 @@ public class CredentialLedgerServiceImpl implements CredentialLedgerService {
             }
             ledger.setCredentialStatusDetails(statusDetailsList);
 
+            if(ledgerWriteBehindService != null) {
+                // The writer links the assigned index when the entry is flushed
+                ledgerWriteBehindService.enqueue(ledger);
+                return;
+            }
             ledgerRepository.save(ledger);
+
+            // Link the assigned index back to the ledger entry so it can be reclaimed after expiry
+            if(statusDetails != null && statusDetails.getStatusListCredentialId() != null
+                    && statusDetails.getStatusListIndex() != null) {
+                statusListAvailableIndicesRepository.linkAssignedIndex(statusDetails.getStatusListCredentialId(),
+                        statusDetails.getStatusListIndex(), ledger.getId(), expirationDate);
+            }
         } catch (Exception e) {
             log.error("Error storing ledger entry", e);
             throw new RuntimeException("Failed to store ledger entry", e);
@@ -116,30 +195,32 @@ public class CredentialLedgerServiceImpl implements CredentialLedgerService {
             return Collections.emptyList();
         }
         return records.stream()
-                .flatMap(record -> {
-                    List<CredentialStatusDetail> details = record.getCredentialStatusDetails();
-                    return Optional.ofNullable(details)
-                            .filter(list -> !list.isEmpty())
-                            .map(list -> list.stream().map(detail -> {
-                                CredentialStatusResponse response = mapToSearchResponse(record, detail);
-                                if (isV2) {
-                                    response.setIssueDate(null);
-                                } else {
-                                    response.setIssuanceDate(null);
-                                }
-                                return response;
-                            }))
-                            .orElseGet(() -> {
-                                CredentialStatusResponse response = mapToSearchResponse(record, null);
-                                if (isV2) {
-                                    response.setIssueDate(null);
-                                } else {
-                                    response.setIssuanceDate(null);
-                                }
-                                return Stream.of(response);
-                            });
-                })
+                .flatMap(record -> mapRecordToResponses(record, isV2))
                 .collect(Collectors.toList());
     }
 
+    private Stream<CredentialStatusResponse> mapRecordToResponses(Ledger record, boolean isV2) {
+        List<CredentialStatusDetail> details = record.getCredentialStatusDetails();
+        return Optional.ofNullable(details)
+                .filter(list -> !list.isEmpty())
+                .map(list -> list.stream().map(detail -> {
+                    CredentialStatusResponse response = mapToSearchResponse(record, detail);
+                    if (isV2) {
+                        response.setIssueDate(null);
+                    } else {
+                        response.setIssuanceDate(null);
+                    }
+                    return response;
+                }))
+                .orElseGet(() -> {
+                    CredentialStatusResponse response = mapToSearchResponse(record, null);
+                    if (isV2) {
+                        response.setIssueDate(null);
+                    } else {
+                        response.setIssuanceDate(null);
+                    }
+                    return Stream.of(response);
+                });
+    }
+
 }
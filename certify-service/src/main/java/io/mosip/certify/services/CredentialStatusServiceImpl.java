@@ -3,6 +3,7 @@ package io.mosip.certify.services;
 import io.mosip.certify.core.dto.CredentialStatusResponse;
 import io.mosip.certify.core.dto.UpdateCredentialStatusRequest;
 import io.mosip.certify.core.dto.UpdateCredentialStatusRequestV2;
+import io.mosip.certify.core.constants.ErrorConstants;
 import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.core.spi.CredentialStatusService;
 import io.mosip.certify.entity.CredentialStatusTransaction;
@@ -11,6 +12,7 @@ import io.mosip.certify.core.dto.CredentialStatusDetail;
 import io.mosip.certify.entity.StatusListCredential;
 import io.mosip.certify.repository.CredentialStatusTransactionRepository;
 import io.mosip.certify.repository.LedgerRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
 import io.mosip.certify.repository.StatusListCredentialRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +35,9 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
     @Autowired
     private StatusListCredentialRepository statusListCredentialRepository;
 
+    @Autowired
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+
     @Value("#{${mosip.certify.data-provider-plugin.credential-status.allowed-status-purposes:{}}}")
     private List<String> allowedCredentialStatusPurposes;
 
@@ -45,16 +50,30 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
             throw new CertifyException("CredentialStatus details are not present in the issued credential.");
         }
 
+        validateStatusPurpose(request.getCredentialStatus().getStatusPurpose());
         CredentialStatusDetail credentialStatusDetail = ledger.getCredentialStatusDetails().getFirst();
+        // Indices of expired credentials are reclaimed and may already belong to another credential
+        statusListAvailableIndicesRepository.findByStatusListCredentialIdAndListIndex(
+                        credentialStatusDetail.getStatusListCredentialId(), credentialStatusDetail.getStatusListIndex())
+                .filter(index -> !Boolean.TRUE.equals(index.getIsAssigned())
+                        || (index.getLedgerId() != null && !index.getLedgerId().equals(ledger.getId())))
+                .ifPresent(index -> {
+                    log.warn("Status list index {} of credential {} has been reclaimed", index.getListIndex(), ledger.getCredentialId());
+                    throw new CertifyException(ErrorConstants.STATUS_LIST_INDEX_RECLAIMED);
+                });
+        String statusListCredentialId = credentialStatusDetail.getStatusListCredentialId();
         CredentialStatusTransaction transaction = new CredentialStatusTransaction();
         transaction.setCredentialId(ledger.getCredentialId());
         if(request.getCredentialStatus().getStatusPurpose() != null) {
             transaction.setStatusPurpose(request.getCredentialStatus().getStatusPurpose());
+            if(!request.getCredentialStatus().getStatusPurpose().equals(credentialStatusDetail.getStatusPurpose())) {
+                statusListCredentialId = findSiblingStatusListId(statusListCredentialId, request.getCredentialStatus().getStatusPurpose());
+            }
         } else {
             transaction.setStatusPurpose(credentialStatusDetail.getStatusPurpose());
         }
         transaction.setStatusValue(request.getStatus());
-        transaction.setStatusListCredentialId(credentialStatusDetail.getStatusListCredentialId());
+        transaction.setStatusListCredentialId(statusListCredentialId);
         transaction.setStatusListIndex(credentialStatusDetail.getStatusListIndex());
         CredentialStatusTransaction savedTransaction =credentialStatusTransactionRepository.save(transaction);
 
@@ -64,7 +83,7 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         dto.setCredentialType(ledger.getCredentialType());
         dto.setIssueDate(ledger.getIssuanceDate());
         dto.setExpirationDate(ledger.getExpirationDate());
-        dto.setStatusListCredentialUrl(credentialStatusDetail.getStatusListCredentialId());
+        dto.setStatusListCredentialUrl(statusListCredentialId);
         dto.setStatusListIndex(credentialStatusDetail.getStatusListIndex());
         dto.setStatusPurpose(transaction.getStatusPurpose());
         dto.setStatusTimestamp(savedTransaction.getCreatedDtimes());
@@ -80,6 +99,7 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         if(id != null && !id.equals(statusListCredentialId)) {
             throw new CertifyException("Mismatch between credential status id and status list credential.");
         }
+        validateStatusPurpose(request.getCredentialStatus().getStatusPurpose());
         StatusListCredential statusListCredential = statusListCredentialRepository.findById(statusListCredentialId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "StatusListCredential not found with id: " + statusListCredentialId));
 
@@ -87,6 +107,7 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         if(request.getCredentialStatus().getStatusPurpose() == null) {
             transaction.setStatusPurpose(statusListCredential.getStatusPurpose());
         } else {
+            validateTokenStatusPurpose(statusListCredential, request.getCredentialStatus().getStatusPurpose());
             transaction.setStatusPurpose(request.getCredentialStatus().getStatusPurpose());
         }
         transaction.setStatusValue(request.getStatus());
@@ -104,4 +125,49 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         }
         return dto;
     }
+
+    /**
+     * The ledger only records the primary list of a status list group. A status change for another
+     * purpose goes to the sibling list of that purpose, at the same index. A list outside a group
+     * keeps every purpose of its credentials itself (Token Status Lists).
+     *
+     * @throws CertifyException when the group has no list for the purpose, so the change never
+     * lands on the list of another purpose
+     */
+    private String findSiblingStatusListId(String statusListCredentialId, String statusPurpose) {
+        StatusListCredential statusList = statusListCredentialRepository.findById(statusListCredentialId)
+                .orElseThrow(() -> new CertifyException(ErrorConstants.STATUS_LIST_NOT_FOUND));
+        if (statusList.getStatusListGroupId() == null) {
+            validateTokenStatusPurpose(statusList, statusPurpose);
+            return statusListCredentialId;
+        }
+        return statusListCredentialRepository.findByStatusListGroupId(statusList.getStatusListGroupId()).stream()
+                .filter(sibling -> statusPurpose.equals(sibling.getStatusPurpose()))
+                .findFirst()
+                .map(StatusListCredential::getId)
+                .orElseThrow(() -> new CertifyException(ErrorConstants.STATUS_LIST_NOT_FOUND,
+                        "No status list for purpose " + statusPurpose + " in the group of " + statusListCredentialId));
+    }
+
+    /**
+     * The reclaim purpose resets a status whatever its value, e.g. clears a revocation, so only the
+     * index reclaim job may use it.
+     */
+    private void validateStatusPurpose(String statusPurpose) {
+        if (StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE.equals(statusPurpose)) {
+            throw new CertifyException(ErrorConstants.INVALID_REQUEST, "Status purpose " + statusPurpose + " is reserved");
+        }
+    }
+
+    /**
+     * A Token Status List of 1 bit per status only holds the purpose it was created for.
+     */
+    private void validateTokenStatusPurpose(StatusListCredential statusList, String statusPurpose) {
+        boolean singleBit = statusList.getStatusSize() == null || statusList.getStatusSize() < 2;
+        if (StatusListCredentialService.TOKEN_STATUS_LIST_TYPE.equals(statusList.getCredentialType()) && singleBit
+                && !statusPurpose.equals(statusList.getStatusPurpose())) {
+            throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED,
+                    "Token status list " + statusList.getId() + " has 1 bit per status and only holds " + statusList.getStatusPurpose());
+        }
+    }
 }
@@ -0,0 +1,295 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.services;
+
+import com.danubetech.dataintegrity.DataIntegrityProof;
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.dataintegrity.suites.DataIntegritySuites;
+import com.danubetech.keyformats.crypto.ByteSigner;
+import com.danubetech.keyformats.jose.JWSAlgorithm;
+import foundation.identity.jsonld.JsonLDObject;
+import info.weboftrust.ldsignatures.LdProof;
+import io.mosip.certify.api.dto.VCRequestDto;
+import io.mosip.certify.core.constants.Constants;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.core.constants.VCDM2Constants;
+import io.mosip.certify.core.constants.VCDMConstants;
+import io.mosip.certify.core.constants.VCFormats;
+import io.mosip.certify.core.spi.CredentialConfigurationService;
+import io.mosip.certify.core.spi.RenderingTemplateService;
+import io.mosip.certify.entity.CredentialConfig;
+import io.mosip.certify.proofgenerators.ProofGenerator;
+import io.mosip.certify.proofgenerators.ProofGeneratorFactory;
+import io.mosip.certify.repository.CredentialConfigRepository;
+import io.mosip.certify.utils.CredentialUtils;
+import io.mosip.certify.utils.DIDDocumentUtil;
+import io.mosip.certify.utils.JsonLDContextLoader;
+import io.mosip.certify.vcformatters.VCFormatter;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Warms up a node before it reports itself ready, so the first requests after a restart are not
+ * served from empty caches and interpreted code.
+ * <p>
+ * The warm-up loads every active credential configuration through the templating engine, the
+ * certificates and DID documents of their keys, the issuer metadata and the rendering template.
+ * It then issues synthetic credentials for each configuration: templating with placeholder data,
+ * canonicalization of ldp_vc credentials and signing with a throwaway key generated for the
+ * warm-up. The keys of the issuer are never used to sign, and nothing is written to the ledger.
+ * Each step only logs its failures, so a configuration that cannot be warmed up never prevents
+ * the node from starting. The whole warm-up stops once its time budget is spent.</p>
+ * <p>
+ * Runs from {@code AppConfig.run}. Spring Boot reports the readiness state as accepting traffic
+ * only after the application runners have returned.</p>
+ */
+@Slf4j
+@Service
+public class IssuanceWarmupService {
+
+    private static final Map<String, String> JCA_SIGNATURE_ALGORITHMS = Map.of(
+            JWSAlgorithm.EdDSA, "Ed25519",
+            JWSAlgorithm.ES256, "SHA256withECDSA",
+            JWSAlgorithm.ES256K, "SHA256withECDSA",
+            JWSAlgorithm.RS256, "SHA256withRSA",
+            JWSAlgorithm.PS256, "SHA256withRSA");
+
+    @Autowired
+    private CredentialConfigRepository credentialConfigRepository;
+
+    @Autowired
+    private CredentialConfigurationService credentialConfigurationService;
+
+    @Autowired
+    private VCFormatter vcFormatter;
+
+    @Autowired
+    private DIDDocumentUtil didDocumentUtil;
+
+    @Autowired
+    private ProofGeneratorFactory proofGeneratorFactory;
+
+    @Autowired
+    private RenderingTemplateService renderingTemplateService;
+
+    @Autowired
+    private JsonLDContextLoader jsonLDContextLoader;
+
+    @Value("${mosip.certify.warmup.enabled:true}")
+    private boolean warmupEnabled;
+
+    @Value("${mosip.certify.warmup.iterations:50}")
+    private int iterations;
+
+    @Value("${mosip.certify.warmup.timeout:PT60S}")
+    private Duration timeout;
+
+    @Value("${mosip.certify.plugin-mode}")
+    private String pluginMode;
+
+    @Value("${mosip.certify.data-provider-plugin.rendering-template-id:}")
+    private String renderTemplateId;
+
+    // Throwaway key pairs per JWS algorithm, only kept for one warm-up
+    private final Map<String, KeyPair> warmupKeys = new HashMap<>();
+
+    public void warmUp() {
+        if (!warmupEnabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        List<CredentialConfig> activeConfigs = credentialConfigRepository.findAll().stream()
+                .filter(config -> Constants.ACTIVE.equals(config.getStatus()))
+                .toList();
+        log.info("Warming up issuance for {} active credential configurations", activeConfigs.size());
+
+        run("issuer metadata", () -> credentialConfigurationService.fetchCredentialIssuerMetadata("latest"));
+        if (StringUtils.hasText(renderTemplateId)) {
+            run("rendering template " + renderTemplateId, () -> renderingTemplateService.getTemplate(renderTemplateId));
+        }
+        Set<String> didUrls = new HashSet<>();
+        for (CredentialConfig config : activeConfigs) {
+            if (config.getKeyManagerAppId() != null && config.getKeyManagerRefId() != null) {
+                run("certificate of " + config.getKeyManagerAppId(),
+                        () -> didDocumentUtil.getCertificateDataResponseDto(config.getKeyManagerAppId(), config.getKeyManagerRefId()));
+            }
+            if (config.getDidUrl() != null && didUrls.add(config.getDidUrl())) {
+                run("DID document " + config.getDidUrl(), () -> didDocumentUtil.generateDIDDocument(config.getDidUrl()));
+            }
+        }
+
+        // Templates are only used by the DataProvider plugin mode
+        if ("DataProvider".equals(pluginMode)) {
+            int issued = 0;
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                for (CredentialConfig config : activeConfigs) {
+                    if (issueSynthetic(config, i == 0)) {
+                        issued++;
+                    }
+                }
+            }
+            log.info("Issued {} synthetic credentials during the warm-up", issued);
+        }
+        warmupKeys.clear();
+        log.info("Issuance warm-up completed in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private boolean issueSynthetic(CredentialConfig config, boolean logFailure) {
+        String templateName = getTemplateName(config);
+        if (templateName == null) {
+            return false;
+        }
+        try {
+            String signAlgorithm = vcFormatter.getProofAlgorithm(templateName);
+            String didUrl = vcFormatter.getDidUrl(templateName);
+            vcFormatter.getAppID(templateName);
+            vcFormatter.getRefID(templateName);
+            String signatureCryptoSuite = vcFormatter.getSignatureCryptoSuite(templateName);
+
+            String unsignedCredential = vcFormatter.format(syntheticTemplateParams(templateName, config));
+            if (VCFormats.LDP_VC.equals(config.getCredentialFormat())) {
+                signLdpVc(unsignedCredential, signAlgorithm, signatureCryptoSuite, didUrl);
+            } else {
+                signBytes(signAlgorithm, unsignedCredential.getBytes());
+            }
+            return true;
+        } catch (Exception e) {
+            // Synthetic data may not satisfy every template, only the first failure of a configuration is logged
+            if (logFailure) {
+                log.warn("Skipping synthetic issuance for {} during the warm-up: {}", templateName, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void signLdpVc(String unsignedCredential, String signAlgorithm, String signatureCryptoSuite, String didUrl) throws Exception {
+        JsonLDObject jsonLDObject = JsonLDObject.fromJson(unsignedCredential);
+        jsonLDObject.setDocumentLoader(jsonLDContextLoader);
+        URI verificationMethod = URI.create(didUrl + "#warmup");
+        List<String> dataIntegrityCryptoSuites = DataIntegritySuites.DATA_INTEGRITY_SUITE_DATAINTEGRITYPROOF
+                .findCryptosuitesForJwsAlgorithm(signAlgorithm);
+        if (dataIntegrityCryptoSuites == null || !dataIntegrityCryptoSuites.contains(signatureCryptoSuite)) {
+            Optional<ProofGenerator> proofGenerator = proofGeneratorFactory.getProofGenerator(signatureCryptoSuite);
+            if (proofGenerator.isEmpty()) {
+                return;
+            }
+            LdProof ldProof = LdProof.builder().defaultContexts(false).defaultTypes(false).type(proofGenerator.get().getName())
+                    .created(new Date()).proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                    .verificationMethod(verificationMethod)
+                    .build();
+            signBytes(signAlgorithm, proofGenerator.get().getCanonicalizer().canonicalize(ldProof, jsonLDObject));
+        } else {
+            LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+            signer.setSigner(new ByteSigner(signAlgorithm) {
+                @Override
+                public byte[] sign(byte[] content) throws GeneralSecurityException {
+                    return signBytes(signAlgorithm, content);
+                }
+            });
+            signer.setCryptosuite(signatureCryptoSuite);
+            DataIntegrityProof dataIntegrityProof = DataIntegrityProof.builder()
+                    .created(new Date())
+                    .proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                    .cryptosuite(signatureCryptoSuite)
+                    .verificationMethod(verificationMethod)
+                    .type(SignatureAlg.DATA_INTEGRITY).build();
+            CredentialUtils.generateDataIntegrityProof(dataIntegrityProof, jsonLDObject, signer);
+        }
+    }
+
+    private byte[] signBytes(String signAlgorithm, byte[] content) throws GeneralSecurityException {
+        String jcaAlgorithm = JCA_SIGNATURE_ALGORITHMS.get(signAlgorithm);
+        if (jcaAlgorithm == null) {
+            return new byte[0];
+        }
+        KeyPair keyPair = warmupKeys.get(signAlgorithm);
+        if (keyPair == null) {
+            keyPair = generateWarmupKey(signAlgorithm);
+            warmupKeys.put(signAlgorithm, keyPair);
+        }
+        Signature signature = JWSAlgorithm.ES256K.equals(signAlgorithm)
+                ? Signature.getInstance(jcaAlgorithm, BouncyCastleProvider.PROVIDER_NAME)
+                : Signature.getInstance(jcaAlgorithm);
+        signature.initSign(keyPair.getPrivate());
+        signature.update(content);
+        return signature.sign();
+    }
+
+    private static KeyPair generateWarmupKey(String signAlgorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator;
+        switch (signAlgorithm) {
+            case JWSAlgorithm.EdDSA -> generator = KeyPairGenerator.getInstance("Ed25519");
+            case JWSAlgorithm.ES256 -> {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            case JWSAlgorithm.ES256K -> {
+                // secp256k1 is not available in the JDK providers
+                if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+                    Security.addProvider(new BouncyCastleProvider());
+                }
+                generator = KeyPairGenerator.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME);
+                generator.initialize(new ECGenParameterSpec("secp256k1"));
+            }
+            default -> {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            }
+        }
+        return generator.generateKeyPair();
+    }
+
+    private static String getTemplateName(CredentialConfig config) {
+        VCRequestDto vcRequestDto = new VCRequestDto();
+        vcRequestDto.setFormat(config.getCredentialFormat());
+        if (VCFormats.VC_SD_JWT.equals(config.getCredentialFormat()) && config.getSdJwtVct() != null) {
+            vcRequestDto.setVct(config.getSdJwtVct());
+        } else if (VCFormats.LDP_VC.equals(config.getCredentialFormat()) && config.getContext() != null
+                && config.getCredentialType() != null) {
+            vcRequestDto.setContext(Arrays.asList(config.getContext().split(",")));
+            vcRequestDto.setType(Arrays.asList(config.getCredentialType().split(",")));
+        } else {
+            return null;
+        }
+        return CredentialUtils.getTemplateName(vcRequestDto);
+    }
+
+    private static Map<String, Object> syntheticTemplateParams(String templateName, CredentialConfig config) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constants.UTC_DATETIME_PATTERN);
+        Map<String, Object> templateParams = new HashMap<>();
+        templateParams.put(Constants.TEMPLATE_NAME, templateName);
+        templateParams.put(Constants.DID_URL, config.getDidUrl());
+        templateParams.put(VCDM2Constants.VALID_FROM, now.format(formatter));
+        templateParams.put(VCDM2Constants.VALID_UNTIL, now.plusDays(1).format(formatter));
+        templateParams.put(Constants.TYPE, config.getCredentialType());
+        templateParams.put("_holderId", "did:example:warmup");
+        return templateParams;
+    }
+
+    private static void run(String step, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to warm up the {}: {}", step, e.getMessage());
+        }
+    }
+}
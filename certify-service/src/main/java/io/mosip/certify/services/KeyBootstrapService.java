@@ -0,0 +1,180 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.certify.core.constants.Constants;
+import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the keys the service needs at startup, skipping the keys that already exist.
+ * <p>
+ * The key inventory is read from {@code key_alias} once, and only keys without a valid alias are
+ * passed to the keymanager. On a restart every key usually exists, so no keymanager call is made
+ * at all. Missing keys are created in phases: the root key, then the keys signed by it, then the
+ * keys that need one of those. Keys of a phase are independent of each other and are created in
+ * parallel, as the keymanager does for concurrent requests to its API. Each created key is timed
+ * in the {@code certify.key.bootstrap} timer.</p>
+ */
+@Slf4j
+@Service
+public class KeyBootstrapService {
+
+    static final String KEY_INVENTORY_SQL = "SELECT app_id, ref_id FROM key_alias " +
+            "WHERE (is_deleted IS NULL OR is_deleted = FALSE) AND (key_expire_dtimes IS NULL OR key_expire_dtimes > ?)";
+
+    private static final String CSR = "CSR";
+    private static final String CERTIFICATE = "certificate";
+
+    @Autowired
+    private KeymanagerService keymanagerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mosip.certify.cache.security.secretkey.reference-id}")
+    private String cacheSecretKeyRefId;
+
+    @Value("${mosip.certify.plugin-mode}")
+    private String pluginMode;
+
+    @Value("${mosip.certify.key-bootstrap.parallelism:4}")
+    private int parallelism;
+
+    record KeySpec(String applicationId, String referenceId, Runnable generator) {
+        String name() {
+            return ObjectUtils.isEmpty(referenceId) ? applicationId : applicationId + ":" + referenceId;
+        }
+    }
+
+    public void bootstrap() {
+        long start = System.nanoTime();
+        Set<String> existingKeys = readInventory();
+        List<List<KeySpec>> phases = keyPhases();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "key-bootstrap-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int created = 0;
+        try {
+            for (List<KeySpec> phase : phases) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (KeySpec key : phase) {
+                    if (existingKeys.contains(key.name())) {
+                        log.debug("Key {} already exists", key.name());
+                        continue;
+                    }
+                    futures.add(executor.submit(() -> createKey(key)));
+                }
+                // The next phase needs the keys of this one
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                created += futures.size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating the keys", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Failed to create the keys", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("===================== CERTIFY KEY SETUP COMPLETED ========================");
+        log.info("Key setup created {} of {} keys in {} ms", created, phases.stream().mapToInt(List::size).sum(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private void createKey(KeySpec key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        key.generator().run();
+        long nanos = sample.stop(Timer.builder("certify.key.bootstrap")
+                .description("Time taken to create a missing key at startup")
+                .tag("key", key.name())
+                .register(meterRegistry));
+        log.info("Created key {} in {} ms", key.name(), Duration.ofNanos(nanos).toMillis());
+    }
+
+    private Set<String> readInventory() {
+        Set<String> existingKeys = new HashSet<>();
+        jdbcTemplate.query(KEY_INVENTORY_SQL, rs -> {
+            existingKeys.add(new KeySpec(rs.getString("app_id"), rs.getString("ref_id"), null).name());
+        }, LocalDateTime.now(ZoneOffset.UTC));
+        return existingKeys;
+    }
+
+    List<List<KeySpec>> keyPhases() {
+        List<KeySpec> signedByRoot = new ArrayList<>();
+        List<KeySpec> signedByMaster = new ArrayList<>();
+        signedByRoot.add(masterKey(Constants.CERTIFY_SERVICE_APP_ID, CSR));
+        signedByRoot.add(masterKey(Constants.CERTIFY_PARTNER_APP_ID, CSR));
+        // TODO: Generate an EC & ED key via K8s Job(INJICERT-469)
+        if (!ObjectUtils.isEmpty(cacheSecretKeyRefId)) {
+            signedByMaster.add(new KeySpec(Constants.CERTIFY_SERVICE_APP_ID, cacheSecretKeyRefId, () -> {
+                SymmetricKeyGenerateRequestDto symmetricKeyGenerateRequestDto = new SymmetricKeyGenerateRequestDto();
+                symmetricKeyGenerateRequestDto.setApplicationId(Constants.CERTIFY_SERVICE_APP_ID);
+                symmetricKeyGenerateRequestDto.setReferenceId(cacheSecretKeyRefId);
+                symmetricKeyGenerateRequestDto.setForce(false);
+                keymanagerService.generateSymmetricKey(symmetricKeyGenerateRequestDto);
+            }));
+        }
+        if ("DataProvider".equals(pluginMode)) {
+            signedByRoot.add(masterKey(Constants.CERTIFY_VC_SIGN_RSA, CERTIFICATE));
+            // Ed25519 keys are stored under a master key of the same application id
+            signedByRoot.add(masterKey(Constants.CERTIFY_VC_SIGN_ED25519, CERTIFICATE));
+            signedByMaster.add(ecSignKey(Constants.CERTIFY_VC_SIGN_ED25519, Constants.ED25519_REF_ID));
+            signedByMaster.add(ecSignKey(Constants.CERTIFY_VC_SIGN_EC_K1, Constants.EC_SECP256K1_SIGN));
+            signedByMaster.add(ecSignKey(Constants.CERTIFY_VC_SIGN_EC_R1, Constants.EC_SECP256R1_SIGN));
+        }
+        return List.of(List.of(masterKey(Constants.ROOT_KEY, CSR)), signedByRoot, signedByMaster);
+    }
+
+    private KeySpec masterKey(String applicationId, String objectType) {
+        return new KeySpec(applicationId, Constants.EMPTY_REF_ID, () -> {
+            KeyPairGenerateRequestDto request = new KeyPairGenerateRequestDto();
+            request.setApplicationId(applicationId);
+            // Set the reference id to empty string, as keymanager is expecting the same for initialization
+            request.setReferenceId(Constants.EMPTY_REF_ID);
+            request.setForce(false);
+            keymanagerService.generateMasterKey(objectType, request);
+        });
+    }
+
+    private KeySpec ecSignKey(String applicationId, String referenceId) {
+        return new KeySpec(applicationId, referenceId, () -> {
+            KeyPairGenerateRequestDto request = new KeyPairGenerateRequestDto();
+            request.setApplicationId(applicationId);
+            request.setReferenceId(referenceId);
+            keymanagerService.generateECSignKey(CERTIFICATE, request);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.core.dto.CredentialStatusRollupDTO;
+import io.mosip.certify.core.dto.IssuanceRollupDTO;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.core.spi.LedgerAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers the analytics queries from the rollup tables maintained by {@link LedgerRollupAggregator}.
+ */
+@Slf4j
+@Service
+public class LedgerAnalyticsServiceImpl implements LedgerAnalyticsService {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${mosip.certify.ledger.rollup.max-query-days:366}")
+    private int maxQueryDays;
+
+    @Override
+    public List<IssuanceRollupDTO> getIssuanceCounts(String issuerId, String credentialType, String attributeName,
+                                                     LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        StringBuilder sql = new StringBuilder("SELECT issuer_id, credential_type, issuance_day, attribute_name, attribute_value, issued_count " +
+                "FROM ledger_issuance_rollup WHERE issuance_day >= ? AND issuance_day <= ? AND attribute_name = ?");
+        List<Object> params = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to),
+                StringUtils.hasText(attributeName) ? attributeName : ""));
+        if (StringUtils.hasText(issuerId)) {
+            sql.append(" AND issuer_id = ?");
+            params.add(issuerId);
+        }
+        if (StringUtils.hasText(credentialType)) {
+            sql.append(" AND credential_type = ?");
+            params.add(credentialType);
+        }
+        sql.append(" ORDER BY issuance_day, credential_type, issuer_id, attribute_value");
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            String name = rs.getString("attribute_name");
+            return new IssuanceRollupDTO(
+                    rs.getString("issuer_id"),
+                    rs.getString("credential_type"),
+                    rs.getDate("issuance_day").toLocalDate(),
+                    name.isEmpty() ? null : name,
+                    name.isEmpty() ? null : rs.getString("attribute_value"),
+                    rs.getLong("issued_count"));
+        }, params.toArray());
+    }
+
+    @Override
+    public List<CredentialStatusRollupDTO> getStatusUpdateCounts(String statusPurpose, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        StringBuilder sql = new StringBuilder("SELECT status_day, status_purpose, status_value, update_count " +
+                "FROM credential_status_rollup WHERE status_day >= ? AND status_day <= ?");
+        List<Object> params = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+        if (StringUtils.hasText(statusPurpose)) {
+            sql.append(" AND status_purpose = ?");
+            params.add(statusPurpose);
+        }
+        sql.append(" ORDER BY status_day, status_purpose, status_value");
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new CredentialStatusRollupDTO(
+                rs.getDate("status_day").toLocalDate(),
+                rs.getString("status_purpose"),
+                rs.getBoolean("status_value"),
+                rs.getLong("update_count")), params.toArray());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new CertifyException("INVALID_DATE_RANGE");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxQueryDays) {
+            log.error("Analytics query range {} to {} exceeds {} days", from, to, maxQueryDays);
+            throw new CertifyException("INVALID_DATE_RANGE");
+        }
+    }
+}
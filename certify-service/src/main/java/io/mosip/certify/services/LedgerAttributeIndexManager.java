@@ -0,0 +1,179 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.config.IndexedAttributesConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Creates one btree expression index on the ledger per key of {@code mosip.certify.indexed-mappings},
+ * replacing the GIN index over the whole {@code indexed_attributes} column. Ledger searches filter
+ * configured keys with {@code indexed_attributes ->> 'key' = ?}, which these indexes serve.
+ * <p>
+ * Indexes are built with {@code CREATE INDEX CONCURRENTLY} so the ledger stays writable, by one
+ * instance at a time. An index left invalid by an interrupted build is dropped and built again.
+ * On a partitioned ledger the index is created on the parent only and built concurrently on each
+ * partition that lacks it; partitions created later inherit it.
+ * Indexes of keys that are no longer configured are only dropped when {@code drop-unmapped} is set,
+ * so instances running an older configuration during a rolling update keep their indexes.
+ * Index names are quoted identifiers keeping the case of their key, as {@code State} and
+ * {@code state} are different attributes.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mosip.certify.ledger.attribute-indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerAttributeIndexManager {
+
+    static final String INDEX_PREFIX = "idx_ledger_attr_";
+    private static final String LOCK_NAME = "ledgerAttributeIndexes";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LockProvider lockProvider;
+
+    @Autowired
+    private IndexedAttributesConfig indexedAttributesConfig;
+
+    @Value("${mosip.certify.ledger.attribute-indexes.drop-unmapped:false}")
+    private boolean dropUnmapped;
+
+    @Value("${mosip.certify.ledger.attribute-indexes.lock-at-most-for:PT1H}")
+    private Duration lockAtMostFor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeIndexes() {
+        Optional<SimpleLock> lock = lockProvider.lock(
+                new LockConfiguration(Instant.now(), LOCK_NAME, lockAtMostFor, Duration.ZERO));
+        if (lock.isEmpty()) {
+            log.info("Ledger attribute indexes are being updated by another instance");
+            return;
+        }
+        try {
+            boolean partitioned = isPartitioned();
+            Map<String, Boolean> existing = findManagedIndexes();
+            Set<String> expected = new TreeSet<>();
+            for (String key : indexedAttributesConfig.getIndexedMappings().keySet()) {
+                if (!IndexedAttributesConfig.isIndexableKey(key)) {
+                    log.warn("Indexed attribute key '{}' is not indexed, keys may only contain letters, digits and underscores", key);
+                    continue;
+                }
+                String indexName = indexName(key);
+                expected.add(indexName);
+                Boolean valid = existing.get(indexName);
+                if (Boolean.TRUE.equals(valid)) {
+                    continue;
+                }
+                if (partitioned) {
+                    // An invalid parent index only lacks some partitions
+                    createPartitionedIndex(key);
+                    continue;
+                }
+                if (Boolean.FALSE.equals(valid)) {
+                    log.warn("Rebuilding invalid ledger attribute index {}", indexName);
+                    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + quote(indexName));
+                }
+                log.info("Creating ledger attribute index {}", indexName);
+                jdbcTemplate.execute(createIndexSql(key));
+            }
+            if (dropUnmapped) {
+                for (String indexName : existing.keySet()) {
+                    if (!expected.contains(indexName)) {
+                        log.info("Dropping ledger attribute index {} of a key that is no longer mapped", indexName);
+                        // Partitioned indexes cannot be dropped concurrently
+                        jdbcTemplate.execute((partitioned ? "DROP INDEX IF EXISTS " : "DROP INDEX CONCURRENTLY IF EXISTS ") + quote(indexName));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Searches still work without the indexes, only slower
+            log.error("Failed to update ledger attribute indexes", e);
+        } finally {
+            lock.get().unlock();
+        }
+    }
+
+    static String indexName(String key) {
+        return INDEX_PREFIX + key;
+    }
+
+    /**
+     * Unquoted identifiers are folded to lower case by PostgreSQL.
+     */
+    static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Searches always filter on issuer and credential type and page by id, so those columns are
+     * part of the index.
+     */
+    static String createIndexSql(String key) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + quote(indexName(key)) + " ON ledger " + indexColumns(key);
+    }
+
+    static String partitionIndexName(String partition, String key) {
+        String name = "ix_" + partition.replaceFirst("^ledger_", "") + "_" + key;
+        return name.length() > 63 ? name.substring(0, 63) : name;
+    }
+
+    private static String indexColumns(String key) {
+        return "(issuer_id, credential_type, (indexed_attributes ->> '" + key + "'), id)";
+    }
+
+    /**
+     * Indexes cannot be built concurrently on a partitioned table, so the parent index is created
+     * without its partitions and each partition index is built and attached separately.
+     */
+    private void createPartitionedIndex(String key) {
+        String indexName = indexName(key);
+        log.info("Creating ledger attribute index {} on the ledger partitions", indexName);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + quote(indexName) + " ON ONLY ledger " + indexColumns(key));
+        List<String> partitions = jdbcTemplate.queryForList("SELECT t.relname FROM pg_inherits p " +
+                "JOIN pg_class t ON t.oid = p.inhrelid " +
+                "WHERE p.inhparent = to_regclass('ledger') " +
+                "AND NOT EXISTS (SELECT 1 FROM pg_inherits ip JOIN pg_index x ON x.indexrelid = ip.inhrelid " +
+                "WHERE ip.inhparent = to_regclass(?) AND x.indrelid = t.oid)", String.class, quote(indexName));
+        for (String partition : partitions) {
+            String partitionIndex = partitionIndexName(partition, key);
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + quote(partitionIndex) + " ON " + quote(partition) + " " + indexColumns(key));
+            jdbcTemplate.execute("ALTER INDEX " + quote(indexName) + " ATTACH PARTITION " + quote(partitionIndex));
+        }
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass('ledger')), FALSE)", Boolean.class));
+    }
+
+    private Map<String, Boolean> findManagedIndexes() {
+        Map<String, Boolean> indexes = new HashMap<>();
+        jdbcTemplate.query("SELECT c.relname, i.indisvalid FROM pg_index i " +
+                        "JOIN pg_class c ON c.oid = i.indexrelid " +
+                        "JOIN pg_class t ON t.oid = i.indrelid " +
+                        "WHERE t.relname = 'ledger' AND t.relnamespace = to_regnamespace(current_schema()) " +
+                        "AND c.relname LIKE '" + INDEX_PREFIX.replace("_", "\\_") + "%'",
+                rs -> {
+                    indexes.put(rs.getString(1), rs.getBoolean(2));
+                });
+        return indexes;
+    }
+}
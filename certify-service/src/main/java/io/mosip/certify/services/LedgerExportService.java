@@ -0,0 +1,247 @@
+package io.mosip.certify.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.mosip.certify.core.exception.CertifyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Exports the ledger entries issued in a range of issuance dates to gzip compressed NDJSON or CSV
+ * files, for reconciliation with partner registries.
+ * <p>
+ * The rows are read through a server-side cursor, {@code fetch-size} rows per round trip, from the
+ * read replica configured with {@code mosip.certify.ledger.export.datasource.*}, or from the
+ * primary database when none is configured. The output is split into chunks of {@code chunk-rows}
+ * rows and a {@code manifest.json} lists every chunk with its row count and SHA-256 checksum. The
+ * export is written to a temporary directory that is renamed once the manifest is written, so an
+ * export directory without the {@code .tmp} suffix is always complete.</p>
+ */
+@Slf4j
+@Service
+public class LedgerExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+    static final String MANIFEST_FILE = "manifest.json";
+    private static final DateTimeFormatter EXPORT_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    static final String CSV_HEADER = "id,credential_id,issuer_id,credential_type,issuance_date,expiration_date," +
+            "indexed_attributes,credential_status_details,cr_dtimes";
+
+    static final String NDJSON_SQL = "SELECT json_build_object('id', id, 'credential_id', credential_id, " +
+            "'issuer_id', issuer_id, 'credential_type', credential_type, 'issuance_date', issuance_date, " +
+            "'expiration_date', expiration_date, 'indexed_attributes', indexed_attributes, " +
+            "'credential_status_details', credential_status_details, 'cr_dtimes', cr_dtimes)::text " +
+            "FROM ledger WHERE issuance_date >= ? AND issuance_date < ?";
+
+    static final String CSV_SQL = "SELECT id, credential_id, issuer_id, credential_type, issuance_date, expiration_date, " +
+            "indexed_attributes::text, credential_status_details::text, cr_dtimes " +
+            "FROM ledger WHERE issuance_date >= ? AND issuance_date < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${mosip.certify.ledger.export.enabled:false}")
+    private boolean exportEnabled;
+
+    @Value("${mosip.certify.ledger.export.directory:./ledger-export}")
+    private String exportDirectory;
+
+    @Value("${mosip.certify.ledger.export.format:ndjson}")
+    private String exportFormat;
+
+    @Value("${mosip.certify.ledger.export.chunk-rows:1000000}")
+    private long chunkRows;
+
+    @Value("${mosip.certify.ledger.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${mosip.certify.ledger.export.datasource.url:}")
+    private String replicaUrl;
+
+    @Value("${mosip.certify.ledger.export.datasource.username:}")
+    private String replicaUsername;
+
+    @Value("${mosip.certify.ledger.export.datasource.password:}")
+    private String replicaPassword;
+
+    private HikariDataSource replicaDataSource;
+    private JdbcTemplate exportJdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        if (!StringUtils.hasText(replicaUrl)) {
+            exportJdbcTemplate = jdbcTemplate;
+            return;
+        }
+        replicaDataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replicaDataSource.setPoolName("ledger-export");
+        replicaDataSource.setMaximumPoolSize(2);
+        replicaDataSource.setMinimumIdle(0);
+        replicaDataSource.setReadOnly(true);
+        exportJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        log.info("Ledger exports read from the replica {}", replicaUrl);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (replicaDataSource != null) {
+            replicaDataSource.close();
+        }
+    }
+
+    /**
+     * Exports the entries issued on the previous day (UTC).
+     */
+    @Scheduled(cron = "${mosip.certify.ledger.export.cron-expression:0 0 2 * * *}")
+    @SchedulerLock(
+            name = "exportLedger",
+            lockAtMostFor = "${mosip.certify.ledger.export.lock-at-most-for:2h}",
+            lockAtLeastFor = "${mosip.certify.ledger.export.lock-at-least-for:1m}"
+    )
+    public void exportPreviousDay() {
+        LockAssert.assertLocked();
+        if (!exportEnabled) {
+            return;
+        }
+        LocalDate day = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        try {
+            export(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), exportFormat);
+        } catch (Exception e) {
+            log.error("Failed to export the ledger entries issued on {}", day, e);
+        }
+    }
+
+    /**
+     * Exports the entries with an issuance date from {@code from} (inclusive) to {@code to}
+     * (exclusive). An existing complete export of the same range is kept.
+     *
+     * @param format {@value #FORMAT_NDJSON} or {@value #FORMAT_CSV}.
+     * @return the manifest of the export.
+     */
+    public ExportManifest export(LocalDateTime from, LocalDateTime to, String format) {
+        if (from == null || to == null || !from.isBefore(to)
+                || !(FORMAT_NDJSON.equals(format) || FORMAT_CSV.equals(format))) {
+            throw new CertifyException("INVALID_EXPORT_REQUEST");
+        }
+        String name = "ledger-" + from.format(EXPORT_SUFFIX) + "-" + to.format(EXPORT_SUFFIX);
+        Path target = Paths.get(exportDirectory).resolve(name);
+        Path temporary = Paths.get(exportDirectory).resolve(name + ".tmp");
+        try {
+            if (Files.exists(target.resolve(MANIFEST_FILE))) {
+                log.info("Ledger export {} already exists", target);
+                return objectMapper.readValue(target.resolve(MANIFEST_FILE).toFile(), ExportManifest.class);
+            }
+            // Left behind by an interrupted export
+            FileSystemUtils.deleteRecursively(temporary);
+            Files.createDirectories(temporary);
+
+            long start = System.currentTimeMillis();
+            boolean csv = FORMAT_CSV.equals(format);
+            List<ExportChunk> chunks;
+            try (LedgerExportWriter writer = new LedgerExportWriter(temporary, "ledger", format, csv ? CSV_HEADER : null, chunkRows)) {
+                exportJdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    boolean autoCommit = connection.getAutoCommit();
+                    // PostgreSQL only reads through a cursor inside a transaction
+                    connection.setAutoCommit(false);
+                    try (PreparedStatement statement = connection.prepareStatement(csv ? CSV_SQL : NDJSON_SQL,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                        statement.setFetchSize(fetchSize);
+                        statement.setTimestamp(1, Timestamp.valueOf(from));
+                        statement.setTimestamp(2, Timestamp.valueOf(to));
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                writer.writeLine(csv ? toCsvLine(resultSet) : resultSet.getString(1));
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        connection.rollback();
+                        connection.setAutoCommit(autoCommit);
+                    }
+                    return null;
+                });
+                chunks = writer.finish();
+            }
+
+            long totalRows = chunks.stream().mapToLong(ExportChunk::rows).sum();
+            ExportManifest manifest = new ExportManifest(format, from.toString(), to.toString(), totalRows,
+                    replicaDataSource != null ? "replica" : "primary", LocalDateTime.now(ZoneOffset.UTC).toString(), chunks);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporary.resolve(MANIFEST_FILE).toFile(), manifest);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Exported {} ledger entries in {} chunks to {} in {} ms", totalRows, chunks.size(), target,
+                    System.currentTimeMillis() - start);
+            return manifest;
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to write the ledger export {}", temporary, e);
+            throw new CertifyException("LEDGER_EXPORT_FAILED");
+        }
+    }
+
+    static String toCsvLine(ResultSet resultSet) throws SQLException {
+        int columns = resultSet.getMetaData().getColumnCount();
+        StringBuilder line = new StringBuilder();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                line.append(',');
+            }
+            line.append(toCsvField(resultSet.getString(i)));
+        }
+        return line.toString();
+    }
+
+    static String toCsvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public record ExportChunk(String file, long rows, long bytes, String sha256) {
+    }
+
+    public record ExportManifest(String format, String issuanceDateFrom, String issuanceDateTo, long totalRows,
+                                 String source, String createdAt, List<ExportChunk> chunks) {
+    }
+}
@@ -0,0 +1,123 @@
+package io.mosip.certify.services;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the lines of a ledger export to gzip compressed chunk files of a fixed number of rows,
+ * computing the SHA-256 checksum of every compressed file while it is written.
+ */
+class LedgerExportWriter implements Closeable {
+
+    private final Path directory;
+    private final String prefix;
+    private final String extension;
+    private final String header;
+    private final long chunkRows;
+
+    private final List<LedgerExportService.ExportChunk> chunks = new ArrayList<>();
+    private Path chunkPath;
+    private BufferedWriter writer;
+    private DigestOutputStream digestStream;
+    private CountingOutputStream countingStream;
+    private long chunkRowCount;
+
+    /**
+     * @param header line written at the start of every chunk, null for none.
+     */
+    LedgerExportWriter(Path directory, String prefix, String extension, String header, long chunkRows) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.extension = extension;
+        this.header = header;
+        this.chunkRows = chunkRows;
+    }
+
+    void writeLine(String line) throws IOException {
+        if (writer == null || chunkRowCount >= chunkRows) {
+            closeChunk();
+            openChunk();
+        }
+        writer.write(line);
+        writer.write('\n');
+        chunkRowCount++;
+    }
+
+    /**
+     * Closes the last chunk and returns all chunks written.
+     */
+    List<LedgerExportService.ExportChunk> finish() throws IOException {
+        closeChunk();
+        return List.copyOf(chunks);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void openChunk() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        chunkPath = directory.resolve(String.format("%s-%05d.%s.gz", prefix, chunks.size() + 1, extension));
+        countingStream = new CountingOutputStream(Files.newOutputStream(chunkPath));
+        digestStream = new DigestOutputStream(countingStream, digest);
+        writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(digestStream, 64 * 1024), StandardCharsets.UTF_8), 64 * 1024);
+        chunkRowCount = 0;
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+    }
+
+    private void closeChunk() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        writer.close();
+        writer = null;
+        chunks.add(new LedgerExportService.ExportChunk(chunkPath.getFileName().toString(), chunkRowCount,
+                countingStream.count, HexFormat.of().formatHex(digestStream.getMessageDigest().digest())));
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.mosip.certify.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.mosip.certify.entity.Ledger;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Local append-only journal of the ledger entries queued by {@link LedgerWriteBehindService}.
+ * <p>
+ * Every entry is appended with a sequence number and forced to disk before the issuance
+ * request continues. Appends are group committed: a request waiting for the disk forces every
+ * record written so far, so concurrent requests share one force. Entries are written to segment files of a fixed number of entries. The
+ * writer records the sequence number of the last entry stored in the database as checkpoint,
+ * after which segments holding only older entries are deleted. On startup the entries after
+ * the checkpoint are replayed, so an entry is written at least once.</p>
+ */
+@Slf4j
+class LedgerJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final int segmentSize;
+
+    // Last sequence number of each closed segment
+    private final Map<Path, Long> closedSegments = new LinkedHashMap<>();
+    private FileChannel activeSegment;
+    private Path activeSegmentPath;
+    private long activeSegmentLastSequence;
+    private int activeSegmentEntries;
+    // Records appended so far, and the records of the closed segments, which are forced when closed
+    private long writtenRecords;
+    private volatile long rolledRecords;
+
+    // Group commit: records up to forcedRecords are on disk, a single force is running at a time
+    private final Object forceLock = new Object();
+    private long forcedRecords;
+
+    LedgerJournal(Path directory, ObjectMapper objectMapper, int segmentSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.objectMapper = objectMapper;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Reads the entries that were journaled but not yet checkpointed. Must be called once,
+     * before the first append.
+     */
+    synchronized Recovery recover() throws IOException {
+        long checkpoint = readCheckpoint();
+        long lastSequence = checkpoint;
+        List<Entry> entries = new ArrayList<>();
+        for (Path segment : listSegments()) {
+            long segmentLastSequence = -1;
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JsonNode node;
+                    try {
+                        node = objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        // A torn write at the end of the segment, the request never completed
+                        log.warn("Skipping unreadable ledger journal record in {}", segment.getFileName());
+                        continue;
+                    }
+                    long sequence = node.get("seq").asLong();
+                    segmentLastSequence = Math.max(segmentLastSequence, sequence);
+                    if (sequence > checkpoint) {
+                        entries.add(new Entry(sequence, objectMapper.treeToValue(node.get("ledger"), Ledger.class)));
+                    }
+                }
+            }
+            lastSequence = Math.max(lastSequence, segmentLastSequence);
+            closedSegments.put(segment, segmentLastSequence);
+        }
+        entries.sort(Comparator.comparingLong(Entry::sequence));
+        log.info("Recovered {} ledger entries from the journal after checkpoint {}", entries.size(), checkpoint);
+        return new Recovery(entries, lastSequence + 1);
+    }
+
+    /**
+     * Appends an entry and returns once it is forced to disk. Concurrent appends share the force.
+     */
+    void append(long sequence, Ledger ledger) throws IOException {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("seq", sequence);
+        record.set("ledger", objectMapper.valueToTree(ledger));
+        byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        long recordNumber;
+        synchronized (this) {
+            if (activeSegment == null || activeSegmentEntries >= segmentSize) {
+                rollSegment(sequence);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                activeSegment.write(buffer);
+            }
+            activeSegmentLastSequence = Math.max(activeSegmentLastSequence, sequence);
+            activeSegmentEntries++;
+            recordNumber = ++writtenRecords;
+        }
+        force(recordNumber);
+    }
+
+    private void force(long recordNumber) throws IOException {
+        synchronized (forceLock) {
+            if (forcedRecords >= recordNumber) {
+                // Forced by the append of another request meanwhile
+                return;
+            }
+            FileChannel segment;
+            long records;
+            synchronized (this) {
+                if (activeSegment == null) {
+                    throw new ClosedChannelException();
+                }
+                segment = activeSegment;
+                records = writtenRecords;
+            }
+            try {
+                segment.force(false);
+            } catch (ClosedChannelException e) {
+                // Rolled over meanwhile, the segment was forced before it was closed
+                if (rolledRecords < records) {
+                    throw e;
+                }
+            }
+            forcedRecords = records;
+        }
+    }
+
+    /**
+     * Records that every entry up to and including the given sequence number is stored, and
+     * deletes the closed segments that are no longer needed.
+     */
+    synchronized void checkpoint(long sequence) throws IOException {
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temporary, Long.toString(sequence), StandardCharsets.UTF_8);
+        Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Iterator<Map.Entry<Path, Long>> iterator = closedSegments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> segment = iterator.next();
+            if (segment.getValue() <= sequence) {
+                Files.deleteIfExists(segment.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (activeSegment != null) {
+            activeSegment.close();
+            activeSegment = null;
+        }
+    }
+
+    private void rollSegment(long firstSequence) throws IOException {
+        if (activeSegment != null) {
+            activeSegment.force(false);
+            rolledRecords = writtenRecords;
+            activeSegment.close();
+            closedSegments.put(activeSegmentPath, activeSegmentLastSequence);
+        }
+        activeSegmentLastSequence = 0;
+        activeSegmentPath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        activeSegment = FileChannel.open(activeSegmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSegmentEntries = 0;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(checkpoint, StandardCharsets.UTF_8).trim());
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    record Entry(long sequence, Ledger ledger) {
+    }
+
+    record Recovery(List<Entry> entries, long nextSequence) {
+    }
+}
@@ -0,0 +1,158 @@
+package io.mosip.certify.services;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of a ledger partitioned by range of {@code issuance_date}
+ * (see {@code ledger_partitioning_upgrade.sql}).
+ * <p>
+ * Each run creates the partitions of the current month and the configured number of months
+ * ahead, so inserts never fall into the default partition. When archiving is enabled, a monthly
+ * partition is detached once every credential in it has been expired for longer than the grace
+ * period, and then moved to the archive schema or dropped. Credentials without an expiration date
+ * keep their partition attached.</p>
+ */
+@Slf4j
+@Service
+public class LedgerPartitionManager {
+
+    static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("ledger_p(\\d{4})(\\d{2})");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${mosip.certify.ledger.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Value("${mosip.certify.ledger.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${mosip.certify.ledger.partitioning.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${mosip.certify.ledger.partitioning.archive.grace-period:P30D}")
+    private String archiveGracePeriod;
+
+    // archive moves detached partitions to the archive schema, drop deletes them
+    @Value("${mosip.certify.ledger.partitioning.archive.action:archive}")
+    private String archiveAction;
+
+    @Value("${mosip.certify.ledger.partitioning.archive.schema:certify_archive}")
+    private String archiveSchema;
+
+    @Scheduled(cron = "${mosip.certify.ledger.partitioning.cron-expression:0 30 1 * * *}")
+    @SchedulerLock(
+            name = "maintainLedgerPartitions",
+            lockAtMostFor = "${mosip.certify.ledger.partitioning.lock-at-most-for:50m}",
+            lockAtLeastFor = "${mosip.certify.ledger.partitioning.lock-at-least-for:50s}"
+    )
+    public void maintainPartitions() {
+        LockAssert.assertLocked();
+        if (!partitioningEnabled) {
+            log.info("Ledger partition maintenance is disabled");
+            return;
+        }
+        if (!isPartitioned()) {
+            log.warn("Ledger partitioning is enabled but the ledger table is not partitioned, run ledger_partitioning_upgrade.sql first");
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        List<String> partitions = listPartitions();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            String partition = partitionName(month);
+            if (!partitions.contains(partition)) {
+                createPartition(partition, month);
+            }
+        }
+
+        if (archiveEnabled) {
+            LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(Duration.parse(archiveGracePeriod));
+            for (String partition : partitions) {
+                Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                // Only partitions that no longer receive entries are checked
+                if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff) && isFullyExpired(partition, cutoff)) {
+                    archivePartition(partition);
+                }
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return "ledger_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private void createPartition(String partition, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        log.info("Creating ledger partition {} for issuance dates from {} to {}", partition, from, to);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF ledger FOR VALUES FROM ('"
+                    + from + "') TO ('" + to + "')");
+        } catch (Exception e) {
+            // For example when the default partition already holds entries of that month
+            log.error("Failed to create ledger partition {}", partition, e);
+        }
+    }
+
+    private boolean isFullyExpired(String partition, LocalDateTime cutoff) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM " + partition
+                + " WHERE expiration_date IS NULL OR expiration_date > ?)", Boolean.class, cutoff));
+    }
+
+    private void archivePartition(String partition) {
+        try {
+            log.info("Detaching ledger partition {}, all its credentials have expired", partition);
+            jdbcTemplate.execute("ALTER TABLE ledger DETACH PARTITION " + partition);
+            if ("drop".equalsIgnoreCase(archiveAction)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped ledger partition {}", partition);
+                return;
+            }
+            if (!IDENTIFIER.matcher(archiveSchema).matches()) {
+                log.error("Invalid archive schema '{}', ledger partition {} is left detached", archiveSchema, partition);
+                return;
+            }
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            log.info("Moved ledger partition {} to schema {}", partition, archiveSchema);
+        } catch (Exception e) {
+            log.error("Failed to archive ledger partition {}", partition, e);
+        }
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass('ledger')), FALSE)", Boolean.class));
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass('ledger') ORDER BY c.relname", String.class);
+    }
+}
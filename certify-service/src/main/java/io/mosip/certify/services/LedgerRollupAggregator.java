@@ -0,0 +1,157 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.config.IndexedAttributesConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregates ledger entries and credential status transactions into the daily rollup tables
+ * read by the analytics API, so counts never need a scan of the ledger.
+ * <p>
+ * Every run recounts the days that received rows since the last run from the source table and
+ * overwrites their rollup rows, so a day can be recounted any number of times without counting a
+ * row twice. Each rollup keeps the database time of its last run in {@code ledger_rollup_watermark},
+ * and the next run looks for rows whose {@code cr_dtimes} is at most the reconcile window older.
+ * A row that commits late, such as a ledger entry held by the write-behind queue whose
+ * {@code cr_dtimes} was set on enqueue, is counted as long as it commits within the reconcile
+ * window. Reclaim resets of status list indices are not status updates and are not counted.
+ * Counting outside the issuance path keeps the write path free of contended counter rows.</p>
+ */
+@Slf4j
+@Service
+public class LedgerRollupAggregator {
+
+    static final String ISSUANCE_ROLLUP = "ledger_issuance";
+    static final String STATUS_ROLLUP = "credential_status";
+
+    // cr_dtimes lower bound of the first run, which counts every day
+    private static final LocalDateTime FIRST_RUN_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    static final String ISSUANCE_DAYS_SQL = "SELECT DISTINCT CAST(issuance_date AS DATE) FROM ledger " +
+            "WHERE cr_dtimes >= ? ORDER BY 1";
+
+    static final String ISSUANCE_ROLLUP_SQL = "WITH batch AS (" +
+            "SELECT issuer_id, credential_type, CAST(issuance_date AS DATE) AS issuance_day, indexed_attributes " +
+            "FROM ledger WHERE issuance_date >= ? AND issuance_date < ?), " +
+            "counts AS (" +
+            "SELECT issuer_id, credential_type, issuance_day, '' AS attribute_name, '' AS attribute_value, COUNT(*) AS issued_count " +
+            "FROM batch GROUP BY issuer_id, credential_type, issuance_day " +
+            "UNION ALL " +
+            "SELECT b.issuer_id, b.credential_type, b.issuance_day, a.name, LEFT(b.indexed_attributes ->> a.name, 255), COUNT(*) " +
+            "FROM batch b CROSS JOIN unnest(string_to_array(?, ',')) AS a(name) " +
+            "WHERE b.indexed_attributes ->> a.name IS NOT NULL " +
+            "GROUP BY b.issuer_id, b.credential_type, b.issuance_day, a.name, LEFT(b.indexed_attributes ->> a.name, 255)) " +
+            "INSERT INTO ledger_issuance_rollup " +
+            "(issuer_id, credential_type, issuance_day, attribute_name, attribute_value, issued_count) " +
+            "SELECT issuer_id, credential_type, issuance_day, attribute_name, attribute_value, issued_count FROM counts " +
+            "ON CONFLICT (credential_type, issuance_day, issuer_id, attribute_name, attribute_value) " +
+            "DO UPDATE SET issued_count = EXCLUDED.issued_count, upd_dtimes = NOW()";
+
+    private static final String STATUS_UPDATES = "FROM credential_status_transaction " +
+            "WHERE status_purpose IS NOT NULL AND status_value IS NOT NULL " +
+            "AND status_purpose <> '" + StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE + "' ";
+
+    static final String STATUS_DAYS_SQL = "SELECT DISTINCT CAST(cr_dtimes AS DATE) " + STATUS_UPDATES +
+            "AND cr_dtimes >= ? ORDER BY 1";
+
+    static final String STATUS_ROLLUP_SQL = "INSERT INTO credential_status_rollup (status_day, status_purpose, status_value, update_count) " +
+            "SELECT CAST(cr_dtimes AS DATE), status_purpose, status_value, COUNT(*) " + STATUS_UPDATES +
+            "AND cr_dtimes >= ? AND cr_dtimes < ? " +
+            "GROUP BY CAST(cr_dtimes AS DATE), status_purpose, status_value " +
+            "ON CONFLICT (status_day, status_purpose, status_value) " +
+            "DO UPDATE SET update_count = EXCLUDED.update_count, upd_dtimes = NOW()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${mosip.certify.ledger.rollup.enabled:false}")
+    private boolean rollupEnabled;
+
+    // Comma separated indexed attribute keys to count issuances by, e.g. district,state
+    @Value("${mosip.certify.ledger.rollup.attributes:}")
+    private String rollupAttributes;
+
+    @Value("${mosip.certify.ledger.rollup.reconcile-window:PT15M}")
+    private Duration reconcileWindow;
+
+    @Scheduled(fixedDelayString = "${mosip.certify.ledger.rollup.fixed-delay-ms:60000}")
+    @SchedulerLock(
+            name = "aggregateLedgerRollups",
+            lockAtMostFor = "${mosip.certify.ledger.rollup.lock-at-most-for:30m}",
+            lockAtLeastFor = "${mosip.certify.ledger.rollup.lock-at-least-for:10s}"
+    )
+    public void aggregateRollups() {
+        LockAssert.assertLocked();
+        if (!rollupEnabled) {
+            return;
+        }
+        try {
+            // cr_dtimes of rows from every instance are compared to one clock, the database's
+            LocalDateTime now = jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class).toLocalDateTime();
+            int issuanceDays = aggregate(ISSUANCE_ROLLUP, ISSUANCE_DAYS_SQL, ISSUANCE_ROLLUP_SQL, now, String.join(",", attributes()));
+            int statusDays = aggregate(STATUS_ROLLUP, STATUS_DAYS_SQL, STATUS_ROLLUP_SQL, now, null);
+            log.debug("Recounted {} issuance days and {} status update days into the rollups", issuanceDays, statusDays);
+        } catch (Exception e) {
+            // The watermarks only move once every day is recounted, the next run recounts them again
+            log.error("Failed to aggregate the ledger rollups", e);
+        }
+    }
+
+    /**
+     * Configured attribute keys that are used as rollup dimension. Keys are limited to the
+     * characters of indexable keys, so they can be passed as one comma separated parameter.
+     */
+    List<String> attributes() {
+        return Arrays.stream(rollupAttributes.split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .filter(key -> {
+                    if (IndexedAttributesConfig.isIndexableKey(key)) {
+                        return true;
+                    }
+                    log.warn("Rollup attribute '{}' is ignored, keys may only contain letters, digits and underscores", key);
+                    return false;
+                })
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Recounts the days with rows created since the reconcile window before the last run, then
+     * moves the watermark to the start of this run.
+     *
+     * @return the number of days recounted
+     */
+    private int aggregate(String rollupName, String daysSql, String daySql, LocalDateTime now, String attributes) {
+        jdbcTemplate.update("INSERT INTO ledger_rollup_watermark (rollup_name) VALUES (?) " +
+                "ON CONFLICT (rollup_name) DO NOTHING", rollupName);
+        Timestamp watermark = jdbcTemplate.queryForObject(
+                "SELECT last_dtimes FROM ledger_rollup_watermark WHERE rollup_name = ?", Timestamp.class, rollupName);
+        LocalDateTime from = watermark == null ? FIRST_RUN_FROM : watermark.toLocalDateTime().minus(reconcileWindow);
+        List<Date> days = jdbcTemplate.queryForList(daysSql, Date.class, from);
+        for (Date day : days) {
+            LocalDate date = day.toLocalDate();
+            Object[] params = attributes == null
+                    ? new Object[]{date.atStartOfDay(), date.plusDays(1).atStartOfDay()}
+                    : new Object[]{date.atStartOfDay(), date.plusDays(1).atStartOfDay(), attributes};
+            jdbcTemplate.update(daySql, params);
+        }
+        jdbcTemplate.update("UPDATE ledger_rollup_watermark SET last_dtimes = ?, upd_dtimes = NOW() WHERE rollup_name = ?",
+                now, rollupName);
+        return days.size();
+    }
+}
@@ -0,0 +1,390 @@
+package io.mosip.certify.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.entity.Ledger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind mode of the ledger. Issuance requests put their ledger entry on a bounded
+ * in-memory queue, and a background writer stores the queued entries in multi-row inserts.
+ * <p>
+ * A flush happens when {@code flush-size} entries are queued or the oldest queued entry has
+ * waited {@code flush-interval}. When the queue is full, a request waits up to
+ * {@code enqueue-timeout} for room and then writes its entry itself, so a slow database slows
+ * down issuance instead of growing the heap. With {@code journal-path} set, queued entries are
+ * also kept in a local {@link LedgerJournal} and replayed after a restart. An entry is queued only
+ * once it is journaled, and the journal checkpoint only moves past entries whose lower sequence
+ * numbers are all written, as entries can reach the queue out of sequence order.</p>
+ * <p>
+ * Entries are visible to ledger search and status updates once flushed.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mosip.certify.ledger.write-behind.enabled", havingValue = "true")
+public class LedgerWriteBehindService {
+
+    private static final String INSERT_PREFIX = "WITH inserted AS (INSERT INTO ledger " +
+            "(credential_id, issuer_id, issuance_date, expiration_date, credential_type, indexed_attributes, credential_status_details, cr_dtimes) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?)";
+    private static final int INSERT_ROW_PARAMS = 8;
+    // Links the assigned status list indices to the new ledger rows, see StatusListIndexReclaimJob
+    private static final String INSERT_SUFFIX = " RETURNING id, expiration_date, credential_status_details) " +
+            "UPDATE status_list_available_indices sla SET ledger_id = i.id, expiration_date = i.expiration_date " +
+            "FROM inserted i, jsonb_array_elements(i.credential_status_details) AS csd " +
+            "WHERE sla.is_assigned = TRUE " +
+            "AND sla.status_list_credential_id = csd ->> 'status_list_credential_id' " +
+            "AND sla.list_index = CAST(csd ->> 'status_list_index' AS BIGINT)";
+    // PostgreSQL accepts at most 65535 bind parameters per statement
+    private static final int MAX_FLUSH_SIZE = 65535 / INSERT_ROW_PARAMS;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mosip.certify.ledger.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${mosip.certify.ledger.write-behind.flush-size:500}")
+    private int flushSize;
+
+    @Value("${mosip.certify.ledger.write-behind.flush-interval:PT0.2S}")
+    private Duration flushInterval;
+
+    @Value("${mosip.certify.ledger.write-behind.enqueue-timeout:PT2S}")
+    private Duration enqueueTimeout;
+
+    @Value("${mosip.certify.ledger.write-behind.retry-backoff:PT1S}")
+    private Duration retryBackoff;
+
+    @Value("${mosip.certify.ledger.write-behind.shutdown-timeout:PT30S}")
+    private Duration shutdownTimeout;
+
+    @Value("${mosip.certify.ledger.write-behind.journal-path:}")
+    private String journalPath;
+
+    @Value("${mosip.certify.ledger.write-behind.journal-segment-size:10000}")
+    private int journalSegmentSize;
+
+    private BlockingQueue<LedgerJournal.Entry> queue;
+    private LedgerJournal journal;
+    private final AtomicLong nextSequence = new AtomicLong(1);
+    // Every entry up to completedThrough is written, dropped or failed back to its request, completedAfter
+    // holds the higher sequence numbers done with so far
+    private final Object completionLock = new Object();
+    private final TreeSet<Long> completedAfter = new TreeSet<>();
+    private long completedThrough;
+    private volatile boolean running;
+    private Thread writer;
+
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+    private Counter fallbackCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (flushSize < 1 || flushSize > MAX_FLUSH_SIZE) {
+            throw new IllegalStateException("mosip.certify.ledger.write-behind.flush-size must be between 1 and " + MAX_FLUSH_SIZE);
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("certify.ledger.write.behind.queue.depth", queue, BlockingQueue::size)
+                .description("Ledger entries waiting to be written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("certify.ledger.write.behind.flush")
+                .description("Time taken to write a batch of ledger entries")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("certify.ledger.write.behind.batch.size")
+                .description("Ledger entries written per flush")
+                .register(meterRegistry);
+        fallbackCounter = Counter.builder("certify.ledger.write.behind.fallback")
+                .description("Ledger entries written by the issuing request because the queue was full")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("certify.ledger.write.behind.dropped")
+                .description("Ledger entries dropped because they could not be written")
+                .register(meterRegistry);
+
+        if (StringUtils.hasText(journalPath)) {
+            journal = new LedgerJournal(Path.of(journalPath), objectMapper, journalSegmentSize);
+            LedgerJournal.Recovery recovery = journal.recover();
+            nextSequence.set(recovery.nextSequence());
+            List<LedgerJournal.Entry> recovered = recovery.entries();
+            for (int from = 0; from < recovered.size(); from += flushSize) {
+                List<LedgerJournal.Entry> batch = recovered.subList(from, Math.min(from + flushSize, recovered.size()));
+                if (writeBatch(batch)) {
+                    checkpoint(batch.getLast().sequence());
+                }
+            }
+        }
+        synchronized (completionLock) {
+            completedAfter.clear();
+            completedThrough = nextSequence.get() - 1;
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "ledger-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Ledger write-behind started with queue capacity {}, flush size {} and flush interval {}",
+                queueCapacity, flushSize, flushInterval);
+    }
+
+    /**
+     * Drains the queue before shutting down. Entries left over after the shutdown timeout stay in
+     * the journal, when enabled.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        if (writer != null) {
+            writer.join(shutdownTimeout.toMillis());
+        }
+        if (queue != null && !queue.isEmpty()) {
+            log.warn("Ledger write-behind stopped with {} entries not written", queue.size());
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Queues a ledger entry. Waits for room when the queue is full, and writes the entry
+     * directly when there is still no room after the enqueue timeout.
+     */
+    public void enqueue(Ledger ledger) {
+        // @PrePersist is not run for JDBC inserts
+        ledger.setCreatedDtimes(LocalDateTime.now());
+        if (ledger.getCredentialStatusDetails() == null) {
+            ledger.setCredentialStatusDetails(List.of());
+        }
+        LedgerJournal.Entry entry = new LedgerJournal.Entry(nextSequence.getAndIncrement(), ledger);
+        boolean queued;
+        try {
+            // Group committed with the appends of the other requests, outside of any lock of the service
+            if (journal != null) {
+                journal.append(entry.sequence(), ledger);
+            }
+            queued = queue.offer(entry, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            complete(List.of(entry));
+            Thread.currentThread().interrupt();
+            throw new CertifyException(ErrorConstants.LEDGER_WRITE_FAILED, "Interrupted while queueing ledger entry", e);
+        } catch (IOException e) {
+            complete(List.of(entry));
+            log.error("Failed to journal ledger entry", e);
+            throw new CertifyException(ErrorConstants.LEDGER_WRITE_FAILED, e.getMessage(), e);
+        }
+        if (queued) {
+            return;
+        }
+        log.warn("Ledger write-behind queue is full, writing the entry directly");
+        fallbackCounter.increment();
+        try {
+            insert(List.of(entry));
+        } finally {
+            complete(List.of(entry));
+        }
+    }
+
+    private void runWriter() {
+        List<LedgerJournal.Entry> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LedgerJournal.Entry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0) {
+                        break;
+                    }
+                    LedgerJournal.Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                // Entries written one by one are completed as they go, a batch left by the shutdown stays journaled
+                checkpoint(writeBatch(batch) ? complete(batch) : complete(List.of()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Ledger write-behind writer interrupted with {} entries queued", queue.size());
+                return;
+            } catch (Exception e) {
+                // Not expected, writeBatch handles every failure of an entry. The checkpoint must not stall.
+                droppedCounter.increment(batch.size());
+                log.error("Unexpected error in ledger write-behind writer, dropping {} ledger entries", batch.size(), e);
+                checkpoint(complete(batch));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, retrying while the database is unavailable. When the batch is rejected or
+     * an entry cannot be serialized, its entries are written one by one so a single bad entry does
+     * not hold back the others.
+     *
+     * @return false when the service stopped before the batch could be written
+     */
+    boolean writeBatch(List<LedgerJournal.Entry> batch) throws InterruptedException {
+        while (true) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                batchSizeSummary.record(batch.size());
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Batch of {} ledger entries rejected, writing them one by one", batch.size());
+                return writeIndividually(batch);
+            } catch (DataAccessException e) {
+                if (isStopping()) {
+                    log.error("Failed to write {} ledger entries while shutting down", batch.size(), e);
+                    return false;
+                }
+                log.error("Failed to write {} ledger entries, retrying in {}", batch.size(), retryBackoff, e);
+                Thread.sleep(retryBackoff.toMillis());
+            } catch (RuntimeException e) {
+                log.warn("Failed to prepare a batch of {} ledger entries, writing them one by one", batch.size(), e);
+                return writeIndividually(batch);
+            }
+        }
+    }
+
+    /**
+     * Records the entries as done with and returns the sequence number up to which every entry is.
+     */
+    private long complete(List<LedgerJournal.Entry> entries) {
+        synchronized (completionLock) {
+            for (LedgerJournal.Entry entry : entries) {
+                if (entry.sequence() > completedThrough) {
+                    completedAfter.add(entry.sequence());
+                }
+            }
+            while (completedAfter.remove(completedThrough + 1)) {
+                completedThrough++;
+            }
+            return completedThrough;
+        }
+    }
+
+    /**
+     * Writes the entries one by one, completing each once it is written or dropped. An entry the
+     * database rejects or that cannot be serialized is dropped, the others are retried while the
+     * database is unavailable.
+     *
+     * @return false when the service stopped before every entry was written
+     */
+    private boolean writeIndividually(List<LedgerJournal.Entry> batch) throws InterruptedException {
+        for (LedgerJournal.Entry entry : batch) {
+            while (true) {
+                try {
+                    insert(List.of(entry));
+                    break;
+                } catch (DataIntegrityViolationException e) {
+                    droppedCounter.increment();
+                    log.error("Dropping ledger entry of credential {} rejected by the database", entry.ledger().getCredentialId(), e);
+                    break;
+                } catch (DataAccessException e) {
+                    if (isStopping()) {
+                        log.error("Failed to write ledger entry of credential {} while shutting down", entry.ledger().getCredentialId(), e);
+                        return false;
+                    }
+                    log.error("Failed to write ledger entry of credential {}, retrying in {}", entry.ledger().getCredentialId(), retryBackoff, e);
+                    Thread.sleep(retryBackoff.toMillis());
+                } catch (RuntimeException e) {
+                    droppedCounter.increment();
+                    log.error("Dropping ledger entry of credential {} that cannot be written", entry.ledger().getCredentialId(), e);
+                    break;
+                }
+            }
+            complete(List.of(entry));
+        }
+        return true;
+    }
+
+    private boolean isStopping() {
+        return !running && writer != null;
+    }
+
+    private void checkpoint(long sequence) {
+        if (journal == null || sequence < 1) {
+            return;
+        }
+        try {
+            journal.checkpoint(sequence);
+        } catch (IOException e) {
+            // The entries are replayed after a restart, ledger entries with a credential id are not duplicated
+            log.error("Failed to checkpoint the ledger journal at {}", sequence, e);
+        }
+    }
+
+    private void insert(List<LedgerJournal.Entry> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] params = new Object[entries.size() * INSERT_ROW_PARAMS];
+        int p = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Ledger ledger = entries.get(i).ledger();
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+            params[p++] = ledger.getCredentialId();
+            params[p++] = ledger.getIssuerId();
+            params[p++] = ledger.getIssuanceDate();
+            params[p++] = ledger.getExpirationDate();
+            params[p++] = ledger.getCredentialType();
+            params[p++] = toJson(ledger.getIndexedAttributes());
+            params[p++] = toJson(ledger.getCredentialStatusDetails());
+            params[p++] = ledger.getCreatedDtimes();
+        }
+        sql.append(INSERT_SUFFIX);
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new CertifyException(ErrorConstants.LEDGER_WRITE_FAILED, e.getMessage(), e);
+        }
+    }
+}
@@ -2,14 +2,17 @@ package io.mosip.certify.services;
 
 import io.mosip.certify.api.dto.VCResult;
 import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.VCDM2Constants;
 import io.mosip.certify.core.constants.VCFormats;
 import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.credential.Credential;
 import io.mosip.certify.credential.CredentialFactory;
+import io.mosip.certify.credential.W3CVcJwt;
 import io.mosip.certify.entity.StatusListCredential;
 import io.mosip.certify.repository.StatusListCredentialRepository;
 import io.mosip.certify.utils.BitStringStatusListUtils;
+import io.mosip.certify.utils.TokenStatusListUtils;
 import io.mosip.certify.vcformatters.VCFormatter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -23,8 +26,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing Status List Credentials
@@ -34,6 +39,8 @@ import java.util.*;
 @Service
 public class StatusListCredentialService {
 
+    public static final String TOKEN_STATUS_LIST_TYPE = "TokenStatusList";
+
     @Autowired
     private StatusListCredentialRepository statusListCredentialRepository;
 
@@ -70,6 +77,14 @@ public class StatusListCredentialService {
     @Value("${mosip.certify.status-list.key-manager-ref-id:ED25519_SIGN}")
     private String statusListKeyManagerRefId;
 
+    // ldp_vc (secured with the configured crypto suite) or vc+jwt (enveloped VC-JWT)
+    @Value("${mosip.certify.status-list.credential-format:ldp_vc}")
+    private String statusListCredentialFormat;
+
+    // Bits per status of Token Status Lists, 1, 2, 4 or 8. Suspension needs at least 2.
+    @Value("${mosip.certify.status-list.token.bits:1}")
+    private int tokenStatusListBits;
+
     public String getStatusListCredential(String id) throws CertifyException {
         log.info("Processing status list credential request for ID: {}", id);
 
@@ -77,6 +92,10 @@ public class StatusListCredentialService {
                 .orElseThrow(() -> new CertifyException(ErrorConstants.STATUS_LIST_NOT_FOUND));
 
         try {
+            if (W3CVcJwt.isEnveloped(statusList.getVcDocument())) {
+                log.info("Successfully retrieved enveloped status list credential for ID: {}", id);
+                return statusList.getVcDocument();
+            }
             JSONObject vcDocument = new JSONObject(statusList.getVcDocument());
             log.info("Successfully retrieved status list credential for ID: {}", id);
 
@@ -89,6 +108,20 @@ public class StatusListCredentialService {
         }
     }
 
+    /**
+     * Parse the unsecured status list VC from a stored document, which is either a JSON VC with
+     * an embedded proof or an enveloped VC-JWT.
+     *
+     * @param vcDocument the stored status list credential document
+     * @return the status list VC as JSON
+     */
+    public static JSONObject readStatusListDocument(String vcDocument) {
+        if (W3CVcJwt.isEnveloped(vcDocument)) {
+            return new JSONObject(W3CVcJwt.getPayload(vcDocument));
+        }
+        return new JSONObject(vcDocument);
+    }
+
     /**
      * Find status list credential by ID
      *
@@ -124,60 +157,88 @@ public class StatusListCredentialService {
      */
     @Transactional
     public StatusListCredential generateStatusListCredential(String statusPurpose) {
-        log.info("Generating new status list credential with purpose: {}", statusPurpose);
-
-        try {
-            // Generate unique ID for status list
-            String id = UUID.randomUUID().toString();
-            String statusListId = domainUrl + "/v1/certify/credentials/status-list/" + id;
-
-            // Create the template data for the status list VC
-            JSONObject statusListData = new JSONObject();
-
-            JSONArray contextList = new JSONArray();
-            contextList.put("https://www.w3.org/ns/credentials/v2");
-            statusListData.put("@context", contextList);
-
-            JSONArray typeList = new JSONArray();
-            typeList.put("VerifiableCredential");
-            typeList.put("BitstringStatusListCredential");
-            statusListData.put("type", typeList);
-
-            statusListData.put("id", statusListId);
-            statusListData.put("issuer", didUrl);
-            statusListData.put("validFrom", new Date().toInstant().toString());
-
-            JSONObject credentialSubject = new JSONObject();
-            credentialSubject.put("id", statusListId);
-            credentialSubject.put("type", "BitstringStatusList");
-            credentialSubject.put("statusPurpose", statusPurpose);
-
-            // Create empty encoded list (all 0s)
-            String encodedList = BitStringStatusListUtils.createEmptyEncodedList(statusListSizeInKB);
-            credentialSubject.put("encodedList", encodedList);
-
-            statusListData.put("credentialSubject", credentialSubject);
-
-            log.debug("Created status list VC: id={}, purpose={}", statusListId, statusPurpose);
-
-            String vcDocS = addProofAndHandleResult(statusListData, ErrorConstants.VC_ISSUANCE_FAILED);
+        return generateStatusLists(List.of(statusPurpose), false).getFirst();
+    }
 
-            // Create and save the status list credential entity
-            StatusListCredential statusListCredential = new StatusListCredential();
-            statusListCredential.setId(id);
-            statusListCredential.setVcDocument(vcDocS);
-            statusListCredential.setCredentialType("BitstringStatusListCredential");
-            statusListCredential.setStatusPurpose(statusPurpose);
-            statusListCredential.setCapacityInKB(statusListSizeInKB);
-            statusListCredential.setCredentialStatus(StatusListCredential.CredentialStatus.AVAILABLE);
-            statusListCredential.setCreatedDtimes(LocalDateTime.now());
+    /**
+     * Generate a new group of status list credentials, one per purpose, sharing their indices.
+     * Only the primary list (first purpose) tracks available indices, so one allocation
+     * reserves the same index in every list of the group.
+     *
+     * @param statusPurposes the purposes of the lists in the group, primary purpose first
+     * @return the generated lists, primary list first
+     */
+    @Transactional
+    public List<StatusListCredential> generateStatusListGroup(List<String> statusPurposes) {
+        return generateStatusLists(statusPurposes, true);
+    }
 
-            // Save to database
-            StatusListCredential savedCredential = statusListCredentialRepository.saveAndFlush(statusListCredential);
-            log.info("Saved StatusListCredential: ID={}, CreatedDtimes={}", savedCredential.getId(), savedCredential.getCreatedDtimes());
-            initializeAvailableIndices(savedCredential);
+    private List<StatusListCredential> generateStatusLists(List<String> statusPurposes, boolean grouped) {
+        log.info("Generating new status list credentials with purposes: {}", statusPurposes);
 
-            return savedCredential;
+        try {
+            List<StatusListCredential> statusLists = new ArrayList<>();
+            String groupId = null;
+            for (String statusPurpose : statusPurposes) {
+                // Generate unique ID for status list, the primary list id doubles as the group id
+                String id = UUID.randomUUID().toString();
+                if (grouped && groupId == null) {
+                    groupId = id;
+                }
+                String statusListId = domainUrl + "/v1/certify/credentials/status-list/" + id;
+
+                // Create the template data for the status list VC
+                JSONObject statusListData = new JSONObject();
+
+                JSONArray contextList = new JSONArray();
+                contextList.put("https://www.w3.org/ns/credentials/v2");
+                statusListData.put("@context", contextList);
+
+                JSONArray typeList = new JSONArray();
+                typeList.put("VerifiableCredential");
+                typeList.put("BitstringStatusListCredential");
+                statusListData.put("type", typeList);
+
+                statusListData.put("id", statusListId);
+                statusListData.put("issuer", didUrl);
+                statusListData.put("validFrom", new Date().toInstant().toString());
+
+                JSONObject credentialSubject = new JSONObject();
+                credentialSubject.put("id", statusListId);
+                credentialSubject.put("type", "BitstringStatusList");
+                credentialSubject.put("statusPurpose", statusPurpose);
+
+                // Create empty encoded list (all 0s)
+                String encodedList = BitStringStatusListUtils.createEmptyEncodedList(statusListSizeInKB);
+                credentialSubject.put("encodedList", encodedList);
+
+                statusListData.put("credentialSubject", credentialSubject);
+
+                log.debug("Created status list VC: id={}, purpose={}", statusListId, statusPurpose);
+
+                String vcDocS = addProofAndHandleResult(statusListData, statusListCredentialFormat, ErrorConstants.VC_ISSUANCE_FAILED);
+
+                // Create and save the status list credential entity
+                StatusListCredential statusListCredential = new StatusListCredential();
+                statusListCredential.setId(id);
+                statusListCredential.setVcDocument(vcDocS);
+                statusListCredential.setCredentialType("BitstringStatusListCredential");
+                statusListCredential.setStatusPurpose(statusPurpose);
+                statusListCredential.setCapacityInKB(statusListSizeInKB);
+                statusListCredential.setCredentialStatus(StatusListCredential.CredentialStatus.AVAILABLE);
+                statusListCredential.setStatusListGroupId(groupId);
+                statusListCredential.setCreatedDtimes(LocalDateTime.now());
+
+                // Save to database
+                StatusListCredential savedCredential = statusListCredentialRepository.saveAndFlush(statusListCredential);
+                log.info("Saved StatusListCredential: ID={}, CreatedDtimes={}", savedCredential.getId(), savedCredential.getCreatedDtimes());
+                // Sibling lists of a group share the available indices of the primary list
+                if (statusLists.isEmpty()) {
+                    initializeAvailableIndices(savedCredential);
+                }
+                statusLists.add(savedCredential);
+            }
+            return statusLists;
 
         } catch (JSONException e) {
             log.error("JSON error while generating status list credential", e);
@@ -212,7 +273,7 @@ public class StatusListCredentialService {
 
             Query nativeQuery = entityManager.createNativeQuery(insertSql);
             nativeQuery.setParameter(1, statusListCredential.getId());
-            nativeQuery.setParameter(2, statusListCredential.getCapacityInKB() * 1024L * 8L); // Convert KB to bits
+            nativeQuery.setParameter(2, statusListCredential.getCapacityInEntries());
 
             int rowsInserted = nativeQuery.executeUpdate();
             log.info("Successfully initialized {} available indices for status list: {}", rowsInserted, statusListCredential.getId());
@@ -241,6 +302,36 @@ public class StatusListCredentialService {
                 });
     }
 
+    /**
+     * Find or create a group of status lists for the given purposes.
+     * A group matches when its lists cover exactly the given purposes.
+     *
+     * @param statusPurposes the purposes of the lists in the group, primary purpose first
+     * @return the lists of the group, primary list first, in the order of the given purposes
+     */
+    @Transactional
+    public List<StatusListCredential> findOrCreateStatusListGroup(List<String> statusPurposes) {
+        log.info("Finding or creating status list group for purposes: {}", statusPurposes);
+
+        Set<String> purposes = new HashSet<>(statusPurposes);
+        for (StatusListCredential primary : statusListCredentialRepository.findGroupPrimaryLists(
+                statusPurposes.getFirst(), StatusListCredential.CredentialStatus.AVAILABLE)) {
+            List<StatusListCredential> group = statusListCredentialRepository.findByStatusListGroupId(primary.getId());
+            Set<String> groupPurposes = group.stream().map(StatusListCredential::getStatusPurpose).collect(Collectors.toSet());
+            if (group.size() == purposes.size() && groupPurposes.equals(purposes)) {
+                return orderByPurpose(group, statusPurposes);
+            }
+        }
+        log.info("No suitable status list group found, generating a new one");
+        return generateStatusListGroup(statusPurposes);
+    }
+
+    private List<StatusListCredential> orderByPurpose(List<StatusListCredential> group, List<String> statusPurposes) {
+        Map<String, StatusListCredential> listsByPurpose = group.stream()
+                .collect(Collectors.toMap(StatusListCredential::getStatusPurpose, statusList -> statusList));
+        return statusPurposes.stream().map(listsByPurpose::get).toList();
+    }
+
     /**
      * Find next available index in the status list using the configured index provider
      *
@@ -271,7 +362,7 @@ public class StatusListCredentialService {
                 vcDocument.remove("proof");
             }
 
-            return addProofAndHandleResult(vcDocument, ErrorConstants.VC_RESIGNING_FAILED);
+            return addProofAndHandleResult(vcDocument, statusListCredentialFormat, ErrorConstants.VC_RESIGNING_FAILED);
         } catch (Exception e) {
             log.error("Error re-signing status list credential", e);
             throw new CertifyException(ErrorConstants.VC_RESIGNING_FAILED);
@@ -297,22 +388,179 @@ public class StatusListCredentialService {
             }
         }
 
+        jsonObject.put(VCDM2Constants.CREDENTIAL_STATUS, buildCredentialStatusEntry(statusList, assignedIndex));
+
+        log.info("Successfully added credential status with index {} in status list {}", assignedIndex, statusList.getId());
+    }
+
+    /**
+     * Adds a credential status entry for each of the given purposes. With more than one purpose the
+     * index is allocated once from a status list group and the same index is used in every list.
+     */
+    @Transactional
+    public void addCredentialStatus(JSONObject jsonObject, List<String> statusPurposes) throws CertifyException {
+        if (statusPurposes.size() == 1) {
+            addCredentialStatus(jsonObject, statusPurposes.getFirst());
+            return;
+        }
+        log.info("Adding credential status for status purposes {}", statusPurposes);
+
+        List<StatusListCredential> statusListGroup = findOrCreateStatusListGroup(statusPurposes);
+        long assignedIndex = findNextAvailableIndex(statusListGroup.getFirst().getId());
+
+        if (assignedIndex == -1) {
+            log.info("Current status list group is full, creating a new one");
+            statusListGroup = generateStatusListGroup(statusPurposes);
+            assignedIndex = findNextAvailableIndex(statusListGroup.getFirst().getId());
+
+            if (assignedIndex == -1) {
+                log.error("Failed to get available index even from new status list group");
+                throw new CertifyException(ErrorConstants.STATUS_LIST_INDEX_UNAVAILABLE);
+            }
+        }
+
+        JSONArray credentialStatus = new JSONArray();
+        for (StatusListCredential statusList : statusListGroup) {
+            credentialStatus.put(buildCredentialStatusEntry(statusList, assignedIndex));
+        }
+        jsonObject.put(VCDM2Constants.CREDENTIAL_STATUS, credentialStatus);
+
+        log.info("Successfully added credential status with index {} in status list group {}", assignedIndex, statusListGroup.getFirst().getId());
+    }
+
+    private JSONObject buildCredentialStatusEntry(StatusListCredential statusList, long assignedIndex) {
         JSONObject credentialStatus = new JSONObject();
-            String statusId = domainUrl + "/v1/certify/credentials/status-list/" + statusList.getId();
+        String statusId = domainUrl + "/v1/certify/credentials/status-list/" + statusList.getId();
         credentialStatus.put("id", statusId + "#" + assignedIndex);
         credentialStatus.put("type", "BitstringStatusListEntry");
-        credentialStatus.put("statusPurpose", statusPurpose);
+        credentialStatus.put("statusPurpose", statusList.getStatusPurpose());
         credentialStatus.put("statusListIndex", String.valueOf(assignedIndex));
         credentialStatus.put("statusListCredential", statusId);
-        jsonObject.put(VCDM2Constants.CREDENTIAL_STATUS, credentialStatus);
+        return credentialStatus;
+    }
 
-        log.info("Successfully added credential status with index {} in status list {}", assignedIndex, statusList.getId());
+    /**
+     * Generate a new Token Status List for SD-JWT credentials. The list uses the configured number
+     * of bits per status and is secured as a Status List Token in JWT format.
+     *
+     * @param statusPurpose the purpose of the status list
+     * @return the generated StatusListCredential
+     */
+    @Transactional
+    public StatusListCredential generateTokenStatusList(String statusPurpose) {
+        log.info("Generating new token status list with purpose: {}", statusPurpose);
+        TokenStatusListUtils.validateBits(tokenStatusListBits);
+
+        try {
+            String id = UUID.randomUUID().toString();
+            String statusListUri = domainUrl + "/v1/certify/credentials/status-list/" + id;
+
+            JSONObject statusList = new JSONObject();
+            statusList.put("bits", tokenStatusListBits);
+            statusList.put("lst", TokenStatusListUtils.createEmptyList(statusListSizeInKB));
+
+            JSONObject tokenClaims = new JSONObject();
+            tokenClaims.put("sub", statusListUri);
+            tokenClaims.put(Constants.ISSUER, didUrl);
+            tokenClaims.put("iat", Instant.now().getEpochSecond());
+            tokenClaims.put("status_list", statusList);
+
+            String token = addProofAndHandleResult(tokenClaims, VCFormats.STATUS_LIST_JWT, ErrorConstants.VC_ISSUANCE_FAILED);
+
+            StatusListCredential statusListCredential = new StatusListCredential();
+            statusListCredential.setId(id);
+            statusListCredential.setVcDocument(token);
+            statusListCredential.setCredentialType(TOKEN_STATUS_LIST_TYPE);
+            statusListCredential.setStatusPurpose(statusPurpose);
+            statusListCredential.setCapacityInKB(statusListSizeInKB);
+            statusListCredential.setStatusSize(tokenStatusListBits);
+            statusListCredential.setCredentialStatus(StatusListCredential.CredentialStatus.AVAILABLE);
+            statusListCredential.setCreatedDtimes(LocalDateTime.now());
+
+            StatusListCredential savedCredential = statusListCredentialRepository.saveAndFlush(statusListCredential);
+            log.info("Saved token status list: ID={}, bits={}", savedCredential.getId(), tokenStatusListBits);
+            initializeAvailableIndices(savedCredential);
+            return savedCredential;
+
+        } catch (CertifyException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error generating token status list", e);
+            throw new CertifyException(ErrorConstants.STATUS_LIST_GENERATION_FAILED);
+        }
+    }
+
+    /**
+     * Find or create a Token Status List for the given purpose
+     *
+     * @param statusPurpose the purpose of the status list
+     * @return StatusListCredential that can be used for the given purpose
+     */
+    @Transactional
+    public StatusListCredential findOrCreateTokenStatusList(String statusPurpose) {
+        return statusListCredentialRepository.findLatestByCredentialType(TOKEN_STATUS_LIST_TYPE, statusPurpose,
+                        StatusListCredential.CredentialStatus.AVAILABLE)
+                .orElseGet(() -> {
+                    log.info("No suitable token status list found, generating a new one");
+                    return generateTokenStatusList(statusPurpose);
+                });
+    }
+
+    /**
+     * Adds the status claim of an SD-JWT credential, referencing an index of a Token Status List.
+     * All purposes share one list, their statuses are told apart by the status value.
+     *
+     * @param jsonObject the credential data the claim is added to
+     * @param statusPurposes the configured purposes, the first one names the list
+     */
+    @Transactional
+    public void addTokenStatus(JSONObject jsonObject, List<String> statusPurposes) throws CertifyException {
+        String statusPurpose = statusPurposes.getFirst();
+        if (statusPurposes.size() > 1 && tokenStatusListBits < 2) {
+            log.error("Token status lists with 1 bit per status cannot tell the purposes {} apart", statusPurposes);
+            throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED,
+                    "Token status lists of several purposes need at least 2 bits per status");
+        }
+
+        StatusListCredential statusList = findOrCreateTokenStatusList(statusPurpose);
+        long assignedIndex = findNextAvailableIndex(statusList.getId());
+
+        if (assignedIndex == -1) {
+            log.info("Current token status list is full, creating a new one");
+            statusList = generateTokenStatusList(statusPurpose);
+            assignedIndex = findNextAvailableIndex(statusList.getId());
+
+            if (assignedIndex == -1) {
+                log.error("Failed to get available index even from new token status list");
+                throw new CertifyException(ErrorConstants.STATUS_LIST_INDEX_UNAVAILABLE);
+            }
+        }
+
+        JSONObject statusListReference = new JSONObject();
+        statusListReference.put("idx", assignedIndex);
+        statusListReference.put("uri", domainUrl + "/v1/certify/credentials/status-list/" + statusList.getId());
+        jsonObject.put(Constants.STATUS, new JSONObject().put("status_list", statusListReference));
+
+        log.info("Successfully added token status with index {} in status list {}", assignedIndex, statusList.getId());
+    }
+
+    /**
+     * Re-sign a Status List Token with updated claims
+     *
+     * @param tokenClaims the updated claims of the token
+     * @return the re-signed token
+     */
+    @Transactional
+    public String resignTokenStatusList(JSONObject tokenClaims) {
+        log.info("Re-signing token status list");
+        tokenClaims.put("iat", Instant.now().getEpochSecond());
+        return addProofAndHandleResult(tokenClaims, VCFormats.STATUS_LIST_JWT, ErrorConstants.VC_RESIGNING_FAILED);
     }
 
     /**
      * Helper method to add a proof to a VC and handle the result.
      */
-    private String addProofAndHandleResult(JSONObject vcDocument, String errorConstant) throws CertifyException {
+    private String addProofAndHandleResult(JSONObject vcDocument, String format, String errorConstant) throws CertifyException {
         List<List<String>> aliases =
                 (keyAliasMapper != null) ? keyAliasMapper.get(signatureAlgo) : null;
         if (aliases == null || aliases.isEmpty()
@@ -323,7 +571,7 @@ public class StatusListCredentialService {
         }
         String appId = aliases.get(0).get(0);
 
-        Credential cred = credentialFactory.getCredential(VCFormats.LDP_VC)
+        Credential cred = credentialFactory.getStatusListCredential(format)
                 .orElseThrow(() -> new CertifyException(ErrorConstants.UNSUPPORTED_VC_FORMAT));
 
         VCResult<?> vcResult = cred.addProof(
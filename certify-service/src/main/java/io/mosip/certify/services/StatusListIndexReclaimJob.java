@@ -0,0 +1,193 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.entity.CredentialStatusTransaction;
+import io.mosip.certify.entity.StatusListAvailableIndices;
+import io.mosip.certify.entity.StatusListCredential;
+import io.mosip.certify.repository.CredentialStatusTransactionRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
+import io.mosip.certify.repository.StatusListCredentialRepository;
+import io.mosip.certify.utils.BitStringStatusListUtils;
+import io.mosip.certify.utils.TokenStatusListUtils;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Batch job service for reclaiming status list indices of expired credentials.
+ * An index is returned to the pool once its credential has been expired for longer than the
+ * configured grace period and its bit in the status list is unset. Indices whose bit is still
+ * set are first reset through a credential status transaction of the reserved purpose
+ * {@link #RECLAIM_STATUS_PURPOSE}, which the status list update batch job applies as VALID
+ * whatever the current status, and are released on a later run.
+ */
+@Slf4j
+@Service
+public class StatusListIndexReclaimJob {
+
+    // Purpose of the reset transactions, never accepted from a status update request
+    public static final String RECLAIM_STATUS_PURPOSE = "reclaim";
+
+    @Autowired
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+
+    @Autowired
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    @Autowired
+    private CredentialStatusTransactionRepository transactionRepository;
+
+    @Value("${mosip.certify.batch.status-list-index-reclaim.enabled:false}")
+    private boolean reclaimJobEnabled;
+
+    @Value("${mosip.certify.batch.status-list-index-reclaim.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${mosip.certify.batch.status-list-index-reclaim.grace-period:P30D}")
+    private String gracePeriod;
+
+    /**
+     * Scheduled method that runs periodically (schedule controlled by cron expression property)
+     * to reclaim the status list indices of credentials that have expired.
+     */
+    @Scheduled(cron = "${mosip.certify.batch.status-list-index-reclaim.cron-expression:0 0 2 * * *}")
+    @SchedulerLock(
+            name = "reclaimStatusListIndices",
+            lockAtMostFor = "${mosip.certify.batch.status-list-index-reclaim.lock-at-most-for:50m}",
+            lockAtLeastFor = "${mosip.certify.batch.status-list-index-reclaim.lock-at-least-for:50s}"
+    )
+    public void reclaimStatusListIndices() {
+        LockAssert.assertLocked();
+        if (!reclaimJobEnabled) {
+            log.info("Status list index reclaim batch job is disabled");
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(Duration.parse(gracePeriod));
+        log.info("Starting status list index reclaim batch job for credentials expired before {}", cutoff);
+
+        try {
+            List<StatusListAvailableIndices> expiredIndices = statusListAvailableIndicesRepository
+                    .findExpiredAssignedIndices(cutoff, PageRequest.of(0, batchSize));
+
+            if (expiredIndices.isEmpty()) {
+                log.info("No expired status list indices found");
+                return;
+            }
+
+            log.info("Found {} expired status list indices to reclaim", expiredIndices.size());
+
+            Map<String, List<StatusListAvailableIndices>> indicesByStatusList = expiredIndices.stream()
+                    .collect(Collectors.groupingBy(StatusListAvailableIndices::getStatusListCredentialId));
+
+            int releasedCount = 0;
+            for (Map.Entry<String, List<StatusListAvailableIndices>> entry : indicesByStatusList.entrySet()) {
+                try {
+                    releasedCount += reclaimIndices(entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    log.error("Failed to reclaim indices of status list: {}", entry.getKey(), e);
+                    // Continue processing other status lists even if one fails
+                }
+            }
+
+            log.info("Status list index reclaim batch job completed successfully. Released {} indices", releasedCount);
+
+        } catch (Exception e) {
+            log.error("Error in status list index reclaim batch job", e);
+            throw new CertifyException(ErrorConstants.BATCH_JOB_EXECUTION_FAILED);
+        }
+    }
+
+    /**
+     * Reclaim the expired indices of a single status list. For the primary list of a status list
+     * group, the bits of the sibling lists are checked and reset as well.
+     *
+     * @return number of indices released back to the pool
+     */
+    int reclaimIndices(String statusListId, List<StatusListAvailableIndices> expiredIndices) {
+        StatusListCredential statusList = statusListCredentialRepository.findById(statusListId)
+                .orElseThrow(() -> new CertifyException(ErrorConstants.STATUS_LIST_NOT_FOUND));
+        List<StatusListCredential> statusLists = statusList.getStatusListGroupId() == null
+                ? List.of(statusList)
+                : statusListCredentialRepository.findByStatusListGroupId(statusList.getStatusListGroupId());
+
+        List<Long> listIndices = expiredIndices.stream().map(StatusListAvailableIndices::getListIndex).toList();
+        Map<String, Map<Long, Boolean>> statusesByList = new HashMap<>();
+        for (StatusListCredential list : statusLists) {
+            statusesByList.put(list.getId(), readStatuses(list, listIndices));
+        }
+
+        List<Long> releasable = new ArrayList<>();
+        List<CredentialStatusTransaction> resets = new ArrayList<>();
+        for (StatusListAvailableIndices index : expiredIndices) {
+            // A pending change has not reached the published list yet, check again on the next run
+            boolean pending = statusLists.stream().anyMatch(list -> transactionRepository
+                    .existsByStatusListCredentialIdAndStatusListIndexAndIsProcessedFalse(list.getId(), index.getListIndex()));
+            if (pending) {
+                continue;
+            }
+            boolean anyBitSet = false;
+            for (StatusListCredential list : statusLists) {
+                if (Boolean.TRUE.equals(statusesByList.get(list.getId()).get(index.getListIndex()))) {
+                    CredentialStatusTransaction reset = new CredentialStatusTransaction();
+                    reset.setStatusPurpose(RECLAIM_STATUS_PURPOSE);
+                    reset.setStatusValue(false);
+                    reset.setStatusListCredentialId(list.getId());
+                    reset.setStatusListIndex(index.getListIndex());
+                    resets.add(reset);
+                    anyBitSet = true;
+                }
+            }
+            if (!anyBitSet) {
+                releasable.add(index.getId());
+            }
+        }
+
+        if (!resets.isEmpty()) {
+            transactionRepository.saveAll(resets);
+            log.info("Queued reset of {} set bits in status list {} before reclaiming them", resets.size(), statusListId);
+        }
+        if (releasable.isEmpty()) {
+            return 0;
+        }
+
+        int released = statusListAvailableIndicesRepository.releaseIndices(releasable, LocalDateTime.now());
+        // The index provider re-checks the usable capacity before handing out an index again
+        if (released > 0 && statusList.getCredentialStatus() == StatusListCredential.CredentialStatus.FULL) {
+            statusList.setCredentialStatus(StatusListCredential.CredentialStatus.AVAILABLE);
+            statusList.setUpdatedDtimes(LocalDateTime.now());
+            statusListCredentialRepository.save(statusList);
+        }
+        log.info("Released {} expired indices of status list {}", released, statusListId);
+        return released;
+    }
+
+    /**
+     * Read whether the status of each index is set. In a Token Status List any value other than
+     * VALID counts as set.
+     */
+    private Map<Long, Boolean> readStatuses(StatusListCredential list, List<Long> listIndices) {
+        JSONObject document = StatusListCredentialService.readStatusListDocument(list.getVcDocument());
+        if (StatusListCredentialService.TOKEN_STATUS_LIST_TYPE.equals(list.getCredentialType())) {
+            JSONObject statusList = document.getJSONObject("status_list");
+            return TokenStatusListUtils.readStatuses(statusList.getString("lst"), listIndices, statusList.getInt("bits"), list.getCapacityInKB())
+                    .entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue() != TokenStatusListUtils.STATUS_VALID));
+        }
+        String encodedList = document.getJSONObject("credentialSubject").getString("encodedList");
+        return BitStringStatusListUtils.readStatuses(encodedList, listIndices, list.getCapacityInKB());
+    }
+}
@@ -7,6 +7,7 @@ import io.mosip.certify.entity.StatusListCredential;
 import io.mosip.certify.repository.CredentialStatusTransactionRepository;
 import io.mosip.certify.repository.StatusListCredentialRepository;
 import io.mosip.certify.utils.BitStringStatusListUtils;
+import io.mosip.certify.utils.TokenStatusListUtils;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.LockAssert;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
@@ -78,18 +79,21 @@ public class StatusListUpdateBatchJob {
             // Group transactions by status list credential ID
             Map<String, List<CredentialStatusTransaction>> transactionsByStatusList = groupTransactionsByStatusList(newTransactions);
 
+            // Sibling lists of a status list group share their indices and are updated together
+            Map<String, List<String>> statusListsByGroup = groupStatusListsByGroup(transactionsByStatusList.keySet());
+
             // Update each affected status list
             int updatedLists = 0;
-            for (Map.Entry<String, List<CredentialStatusTransaction>> entry : transactionsByStatusList.entrySet()) {
-                String statusListId = entry.getKey();
-                List<CredentialStatusTransaction> transactions = entry.getValue();
-
+            for (Map.Entry<String, List<String>> group : statusListsByGroup.entrySet()) {
                 try {
-                    updateStatusList(statusListId, transactions);
-                    updatedLists++;
-                    log.info("Successfully updated status list: {} and marked {} transactions as processed", statusListId, transactions.size());
+                    for (String statusListId : group.getValue()) {
+                        List<CredentialStatusTransaction> transactions = transactionsByStatusList.get(statusListId);
+                        updateStatusList(statusListId, transactions);
+                        updatedLists++;
+                        log.info("Successfully updated status list: {} and marked {} transactions as processed", statusListId, transactions.size());
+                    }
                 } catch (Exception e) {
-                    log.error("Failed to update status list: {}", statusListId, e);
+                    log.error("Failed to update status list group: {}", group.getKey(), e);
                     // Continue processing other status lists even if one fails
                 }
             }
@@ -112,6 +116,19 @@ public class StatusListUpdateBatchJob {
                 .collect(Collectors.groupingBy(CredentialStatusTransaction::getStatusListCredentialId));
     }
 
+    /**
+     * Group status list IDs by their status list group. Lists outside a group form a group of their own.
+     */
+    private Map<String, List<String>> groupStatusListsByGroup(Set<String> statusListIds) {
+        Map<String, String> groupIdByStatusList = statusListRepository.findAllById(statusListIds).stream()
+                .filter(statusList -> statusList.getStatusListGroupId() != null)
+                .collect(Collectors.toMap(StatusListCredential::getId, StatusListCredential::getStatusListGroupId));
+
+        return statusListIds.stream()
+                .collect(Collectors.groupingBy(id -> groupIdByStatusList.getOrDefault(id, id),
+                        LinkedHashMap::new, Collectors.toList()));
+    }
+
     /**
      * Update a specific status list with the given transactions
      */
@@ -130,16 +147,20 @@ public class StatusListUpdateBatchJob {
 
             StatusListCredential statusListCredential = optionalStatusList.get();
 
-            // Apply transaction updates to the status data
-            Map<Long, Boolean> updatedStatuses = getUpdatedStatus(transactions);
+            if (StatusListCredentialService.TOKEN_STATUS_LIST_TYPE.equals(statusListCredential.getCredentialType())) {
+                updateTokenStatusList(statusListCredential, transactions);
+            } else {
+                // Apply transaction updates to the status data
+                Map<Long, Boolean> updatedStatuses = getUpdatedStatus(transactions);
 
-            JSONObject vcDocument = new JSONObject(statusListCredential.getVcDocument());
+                JSONObject vcDocument = StatusListCredentialService.readStatusListDocument(statusListCredential.getVcDocument());
 
-            // Generate new encoded list
-            String newEncodedList = BitStringStatusListUtils.updateEncodedList(vcDocument.getJSONObject("credentialSubject").getString("encodedList"),updatedStatuses, statusListCredential.getCapacityInKB());
+                // Generate new encoded list
+                String newEncodedList = BitStringStatusListUtils.updateEncodedList(vcDocument.getJSONObject("credentialSubject").getString("encodedList"),updatedStatuses, statusListCredential.getCapacityInKB());
 
-            // Update the status list credential with new encoded list
-            updateStatusListCredential(statusListCredential, newEncodedList);
+                // Update the status list credential with new encoded list
+                updateStatusListCredential(statusListCredential, newEncodedList);
+            }
 
             // Mark transactions as processed
             LocalDateTime processedTime = LocalDateTime.now();
@@ -172,6 +193,62 @@ public class StatusListUpdateBatchJob {
                 ));
     }
 
+    /**
+     * Token Status Lists hold a status value per index. The transactions of an index are applied
+     * in creation order on top of its current value in the list. A list of 1 bit per status only
+     * holds its own purpose, transactions of any other purpose are rejected. The reset of an index
+     * being reclaimed makes it VALID whatever its current value.
+     */
+    private Map<Long, Integer> getUpdatedStatusValues(StatusListCredential statusListCredential, String lst,
+                                                      List<CredentialStatusTransaction> transactions, int bits) {
+        List<CredentialStatusTransaction> applicable = transactions.stream()
+                .filter(t -> t.getStatusListIndex() != null)
+                .filter(t -> {
+                    if (bits == 1 && t.getStatusPurpose() != null
+                            && !StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE.equals(t.getStatusPurpose())
+                            && !t.getStatusPurpose().equals(statusListCredential.getStatusPurpose())) {
+                        log.error("Rejected {} status change of index {}, token status list {} has 1 bit per status for {}",
+                                t.getStatusPurpose(), t.getStatusListIndex(), statusListCredential.getId(),
+                                statusListCredential.getStatusPurpose());
+                        return false;
+                    }
+                    return true;
+                })
+                .sorted(Comparator.comparing(CredentialStatusTransaction::getCreatedDtimes))
+                .toList();
+
+        Set<Long> indices = applicable.stream().map(CredentialStatusTransaction::getStatusListIndex).collect(Collectors.toSet());
+        Map<Long, Integer> statusValues = new HashMap<>(
+                TokenStatusListUtils.readStatuses(lst, indices, bits, statusListCredential.getCapacityInKB()));
+        for (CredentialStatusTransaction t : applicable) {
+            if (StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE.equals(t.getStatusPurpose())) {
+                statusValues.computeIfPresent(t.getStatusListIndex(), (index, current) -> TokenStatusListUtils.STATUS_VALID);
+                continue;
+            }
+            String statusPurpose = t.getStatusPurpose() != null ? t.getStatusPurpose() : statusListCredential.getStatusPurpose();
+            statusValues.computeIfPresent(t.getStatusListIndex(), (index, current) -> TokenStatusListUtils.nextStatusValue(
+                    current, statusPurpose, Boolean.TRUE.equals(t.getStatusValue()), bits));
+        }
+        return statusValues;
+    }
+
+    /**
+     * Apply the transactions to a Token Status List and re-sign the Status List Token
+     */
+    private void updateTokenStatusList(StatusListCredential statusListCredential, List<CredentialStatusTransaction> transactions) {
+        JSONObject tokenClaims = StatusListCredentialService.readStatusListDocument(statusListCredential.getVcDocument());
+        JSONObject statusList = tokenClaims.getJSONObject("status_list");
+        int bits = statusList.getInt("bits");
+        String lst = statusList.getString("lst");
+
+        Map<Long, Integer> updatedStatuses = getUpdatedStatusValues(statusListCredential, lst, transactions, bits);
+        statusList.put("lst", TokenStatusListUtils.updateList(lst, updatedStatuses, bits, statusListCredential.getCapacityInKB()));
+
+        statusListCredential.setVcDocument(statusListCredentialService.resignTokenStatusList(tokenClaims));
+        statusListCredential.setUpdatedDtimes(LocalDateTime.now());
+        statusListRepository.save(statusListCredential);
+        log.info("Successfully updated and saved token status list ID: {}", statusListCredential.getId());
+    }
 
     /**
      * Update the status list credential with the new encoded list
@@ -182,7 +259,7 @@ public class StatusListUpdateBatchJob {
             log.info("Starting update of StatusListCredential with ID: {}", statusListCredential.getId());
 
             // Parse the current VC document
-            JSONObject vcDocument = new JSONObject(statusListCredential.getVcDocument());
+            JSONObject vcDocument = StatusListCredentialService.readStatusListDocument(statusListCredential.getVcDocument());
             log.info("Parsed VC document for StatusListCredential ID: {}", statusListCredential.getId());
 
             // Update the encodedList in the credential subject
@@ -0,0 +1,301 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.signer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Micro-batching VCSigner, put in front of the signing backend when
+ * {@code mosip.certify.signer.batching.enabled} is set.
+ * <p>
+ * The raw signatures ({@code signv2}, used by {@code KeymanagerByteSigner} and the Data Integrity proof
+ * generators) and the detached JWS ({@code jwsSign}, used by the legacy proof generators) of the same
+ * application id, reference id and algorithm are collected until {@code max-batch-size} requests are
+ * waiting or the first one waited {@code max-wait}, and are then signed with one batch call of the
+ * backend. Each caller still waits only for its own response, up to {@code timeout}. The credential JWS
+ * ({@code jwsSignV2}) carry request specific headers and are passed through.</p>
+ * <p>
+ * Only a backend overriding a batch method of {@link VCSigner} signs a batch in one go. Otherwise, e.g.
+ * with keymanager, batching would only funnel the requests through {@code threads} sender threads, so
+ * the requests of that method are passed through instead.</p>
+ * <p>
+ * The batch sizes are published in the {@code certify.signer.batch.size} summary and the time from a
+ * request being queued to its response in the {@code certify.signer.batch.latency} timer.</p>
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(value = "mosip.certify.signer.batching.enabled", havingValue = "true")
+public class BatchingVCSigner implements VCSigner {
+
+    private static final String SIGN = "sign";
+    private static final String JWS = "jws";
+
+    // The signing backend, a bean never receives itself for a single valued injection point
+    @Autowired
+    private VCSigner delegate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mosip.certify.signer.batching.max-batch-size:32}")
+    private int maxBatchSize;
+
+    @Value("${mosip.certify.signer.batching.max-wait:PT0.005S}")
+    private Duration maxWait;
+
+    @Value("${mosip.certify.signer.batching.threads:4}")
+    private int threads;
+
+    @Value("${mosip.certify.signer.batching.timeout:PT30S}")
+    private Duration timeout;
+
+    private boolean batchingSignatures;
+
+    private boolean batchingJws;
+
+    private final Map<BatchKey, Batch<?, ?>> openBatches = new HashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService sender;
+
+    record BatchKey(String kind, String applicationId, String referenceId, String signAlgorithm) {
+    }
+
+    private record Pending<Q, R>(Q request, CompletableFuture<R> response, long queuedAt) {
+    }
+
+    private static final class Batch<Q, R> {
+        private final BatchKey key;
+        private final Function<List<Q>, List<R>> batchCall;
+        private final Function<Q, R> singleCall;
+        private final List<Pending<Q, R>> requests = new ArrayList<>();
+
+        private Batch(BatchKey key, Function<List<Q>, List<R>> batchCall, Function<Q, R> singleCall) {
+            this.key = key;
+            this.batchCall = batchCall;
+            this.singleCall = singleCall;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        Class<?> backend = ClassUtils.getUserClass(AopUtils.getTargetClass(delegate));
+        batchingSignatures = overridesBatchMethod(backend, "signv2Batch");
+        batchingJws = overridesBatchMethod(backend, "jwsSignBatch");
+        if (!batchingSignatures && !batchingJws) {
+            log.warn("Signing backend {} signs batches one by one, signatures are not batched", backend.getSimpleName());
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signer-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sender = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "signer-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Batching up to {} requests or {} ms, signatures: {}, JWS: {}", maxBatchSize, maxWait.toMillis(),
+                batchingSignatures, batchingJws);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        // Batches waiting for their timer are still sent
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(maxWait.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sender.shutdown();
+    }
+
+    @Override
+    public JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto request) {
+        if (!batchingJws) {
+            return delegate.jwsSign(request);
+        }
+        BatchKey key = new BatchKey(JWS, request.getApplicationId(), request.getReferenceId(), request.getSignAlgorithm());
+        return submit(key, request, delegate::jwsSignBatch, delegate::jwsSign);
+    }
+
+    @Override
+    public JWTSignatureResponseDto jwsSignV2(JWSSignatureRequestDtoV2 request) {
+        return delegate.jwsSignV2(request);
+    }
+
+    @Override
+    public SignResponseDto signv2(SignRequestDtoV2 request) {
+        if (!batchingSignatures) {
+            return delegate.signv2(request);
+        }
+        BatchKey key = new BatchKey(SIGN, request.getApplicationId(), request.getReferenceId(), request.getSignAlgorithm());
+        return submit(key, request, delegate::signv2Batch, delegate::signv2);
+    }
+
+    @Override
+    public List<SignResponseDto> signv2Batch(List<SignRequestDtoV2> requests) {
+        return delegate.signv2Batch(requests);
+    }
+
+    @Override
+    public List<JWTSignatureResponseDto> jwsSignBatch(List<JWSSignatureRequestDto> requests) {
+        return delegate.jwsSignBatch(requests);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Q, R> R submit(BatchKey key, Q request, Function<List<Q>, List<R>> batchCall, Function<Q, R> singleCall) {
+        Pending<Q, R> pending = new Pending<>(request, new CompletableFuture<>(), System.nanoTime());
+        Batch<Q, R> full = null;
+        synchronized (openBatches) {
+            Batch<Q, R> batch = (Batch<Q, R>) openBatches.computeIfAbsent(key, k -> new Batch<>(k, batchCall, singleCall));
+            batch.requests.add(pending);
+            if (batch.requests.size() >= maxBatchSize) {
+                openBatches.remove(key);
+                full = batch;
+            } else if (batch.requests.size() == 1) {
+                Batch<Q, R> opened = batch;
+                scheduler.schedule(() -> flush(opened), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            // The caller completing a batch sends it, it has to wait for its response anyway
+            send(full);
+        }
+        try {
+            return pending.response().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to sign", e.getCause());
+        } catch (TimeoutException e) {
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Timed out waiting for the batch signature", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Interrupted waiting for the batch signature", e);
+        }
+    }
+
+    /**
+     * @return true when the backend overrides the one by one default of the batch method
+     */
+    static boolean overridesBatchMethod(Class<?> backend, String methodName) {
+        try {
+            return backend.getMethod(methodName, List.class).getDeclaringClass() != VCSigner.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private void flush(Batch<?, ?> batch) {
+        synchronized (openBatches) {
+            // Already sent by the request that filled it
+            if (openBatches.get(batch.key) != batch) {
+                return;
+            }
+            openBatches.remove(batch.key);
+        }
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            // Shutting down, the timer thread sends it
+            send(batch);
+        }
+    }
+
+    private <Q, R> void send(Batch<Q, R> batch) {
+        List<Pending<Q, R>> requests = batch.requests;
+        DistributionSummary.builder("certify.signer.batch.size")
+                .description("Number of sign requests sent in one batch")
+                .tag("kind", batch.key.kind())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(requests.size());
+        try {
+            List<R> responses = batch.batchCall.apply(requests.stream().map(Pending::request).toList());
+            for (int i = 0; i < requests.size(); i++) {
+                complete(batch.key, requests.get(i), responses.get(i), null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} {} requests for {}:{} failed, signing them one by one", requests.size(),
+                    batch.key.kind(), batch.key.applicationId(), batch.key.referenceId(), e);
+            // One failing request must not fail the others
+            for (Pending<Q, R> pending : requests) {
+                try {
+                    complete(batch.key, pending, batch.singleCall.apply(pending.request()), null);
+                } catch (Throwable singleFailure) {
+                    complete(batch.key, pending, null, singleFailure);
+                }
+            }
+        } catch (Throwable e) {
+            log.error("Batch of {} {} requests for {}:{} failed", requests.size(),
+                    batch.key.kind(), batch.key.applicationId(), batch.key.referenceId(), e);
+            // No caller may be left waiting
+            for (Pending<Q, R> pending : requests) {
+                if (!pending.response().isDone()) {
+                    complete(batch.key, pending, null, e);
+                }
+            }
+        }
+    }
+
+    private <Q, R> void complete(BatchKey key, Pending<Q, R> pending, R response, Throwable failure) {
+        Timer.builder("certify.signer.batch.latency")
+                .description("Time from a sign request being queued to its response")
+                .tag("kind", key.kind())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - pending.queuedAt(), TimeUnit.NANOSECONDS);
+        if (failure != null) {
+            pending.response().completeExceptionally(failure);
+        } else {
+            pending.response().complete(response);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.signer;
+
+import com.danubetech.keyformats.jose.JWSAlgorithm;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ipfs.multibase.Multibase;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.utils.DIDDocumentUtil;
+import io.mosip.kernel.core.keymanager.model.CertificateEntry;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.dto.SignatureCertificate;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.PSSParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VCSigner that keeps the signing keys as JCA key handles in memory, so a signature needs neither
+ * the keystore nor the database.
+ * <p>
+ * A key is fetched from the keymanager on its first use and kept for
+ * {@code mosip.certify.signer.in-memory.key-ttl}, or until its certificate expires if that is
+ * earlier, after which the current key of the application and reference id is fetched again. This
+ * picks up keys rotated by the keymanager. Software keys are re-created from their PKCS#8 encoding,
+ * which is wiped right after, and the key object of the keystore is dropped. Handles are not destroyed
+ * when they are replaced, as a signature may still be in progress with them, and the JDK keys don't
+ * support it anyway. Keys of a PKCS#11 keystore can't be exported, so the keystore's key
+ * handle is kept and used through its provider, which pools the sessions to the HSM.</p>
+ * <p>
+ * The JWS are built here with the header parameters the request asks for: the certificate hash, the
+ * certificate chain, the certificate URL, the additional headers and the unencoded payload option.
+ * ECDSA signatures are in the JWS (R || S) encoding.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "mosip.certify.signer.backend", havingValue = "in-memory")
+public class InMemoryKeyVCSigner implements VCSigner {
+
+    private static final Provider BOUNCY_CASTLE = new BouncyCastleProvider();
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String BASE58BTC = "base58btc";
+
+    @Autowired
+    private KeymanagerService keymanagerService;
+
+    @Autowired
+    private DIDDocumentUtil didDocumentUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${mosip.certify.signer.in-memory.key-ttl:PT15M}")
+    private Duration keyTtl;
+
+    private final Map<String, CompletableFuture<KeyHandle>> keyHandles = new ConcurrentHashMap<>();
+
+    record KeyHandle(PrivateKey privateKey, Provider provider, X509Certificate[] chain,
+                     String keyId, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    @Override
+    public JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto request) {
+        KeyHandle key = getKeyHandle(request.getApplicationId(), request.getReferenceId());
+        Map<String, Object> header = jwsHeader(request.getSignAlgorithm(), key, request.getIncludeCertHash(),
+                Boolean.TRUE.equals(request.getIncludeCertificate()) ? new X509Certificate[]{key.chain()[0]} : null,
+                request.getCertificateUrl(), null);
+        return jws(key, header, request.getDataToSign(), request.getSignAlgorithm(),
+                request.getIncludePayload(), request.getB64JWSHeaderParam());
+    }
+
+    @Override
+    public JWTSignatureResponseDto jwsSignV2(JWSSignatureRequestDtoV2 request) {
+        KeyHandle key = getKeyHandle(request.getApplicationId(), request.getReferenceId());
+        Map<String, Object> header = jwsHeader(request.getSignAlgorithm(), key, request.getIncludeCertHash(),
+                Boolean.TRUE.equals(request.getIncludeCertificateChain()) ? key.chain() : null,
+                request.getCertificateUrl(), request.getAdditionalHeaders());
+        return jws(key, header, request.getDataToSign(), request.getSignAlgorithm(),
+                request.getIncludePayload(), request.getB64JWSHeaderParam());
+    }
+
+    @Override
+    public SignResponseDto signv2(SignRequestDtoV2 request) {
+        KeyHandle key = getKeyHandle(request.getApplicationId(), request.getReferenceId());
+        byte[] signature = sign(key, request.getSignAlgorithm(), Base64.getUrlDecoder().decode(request.getDataToSign()));
+        return signResponse(signature, request.getResponseEncodingFormat());
+    }
+
+    /**
+     * Signs the batch with a single key lookup and a single initialized signature, for a PKCS#11
+     * key this is one session for the whole batch.
+     */
+    @Override
+    public List<SignResponseDto> signv2Batch(List<SignRequestDtoV2> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        SignRequestDtoV2 first = requests.get(0);
+        KeyHandle key = getKeyHandle(first.getApplicationId(), first.getReferenceId());
+        try {
+            Signature signature = newSignature(first.getSignAlgorithm(), key.provider());
+            signature.initSign(key.privateKey());
+            List<SignResponseDto> responses = new ArrayList<>(requests.size());
+            for (SignRequestDtoV2 request : requests) {
+                signature.update(Base64.getUrlDecoder().decode(request.getDataToSign()));
+                responses.add(signResponse(signature.sign(), request.getResponseEncodingFormat()));
+            }
+            return responses;
+        } catch (GeneralSecurityException e) {
+            log.error("Failed to sign a batch with {}", first.getSignAlgorithm(), e);
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to sign with " + first.getSignAlgorithm(), e);
+        }
+    }
+
+    private static SignResponseDto signResponse(byte[] signature, String responseEncodingFormat) {
+        SignResponseDto response = new SignResponseDto();
+        response.setSignature(BASE58BTC.equals(responseEncodingFormat)
+                ? Multibase.encode(Multibase.Base.Base58BTC, signature)
+                : BASE64URL.encodeToString(signature));
+        return response;
+    }
+
+    /**
+     * Drops every key handle, the next signature of each key fetches it from the keymanager.
+     */
+    public void evictAll() {
+        keyHandles.clear();
+    }
+
+    KeyHandle getKeyHandle(String applicationId, String referenceId) {
+        if (!StringUtils.hasText(applicationId)) {
+            throw new CertifyException(ErrorConstants.MISSING_APPLICATION_OR_REFERENCE_ID);
+        }
+        String name = StringUtils.hasText(referenceId) ? applicationId + ":" + referenceId : applicationId;
+        CompletableFuture<KeyHandle> handle = keyHandles.get(name);
+        if (handle == null || isStale(handle, Instant.now())) {
+            // Only the load is published with compute, the keymanager is called outside of it so the
+            // map stays unblocked. Concurrent requests for the key wait for the same load.
+            CompletableFuture<KeyHandle> loading = new CompletableFuture<>();
+            handle = keyHandles.compute(name, (k, current) ->
+                    current != null && !isStale(current, Instant.now()) ? current : loading);
+            if (handle == loading) {
+                try {
+                    loading.complete(loadKeyHandle(applicationId, referenceId));
+                } catch (Throwable e) {
+                    // The next request loads the key again
+                    keyHandles.remove(name, loading);
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return handle.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to load the signing key", e.getCause());
+        }
+    }
+
+    /**
+     * A key still being loaded is not stale, it is waited for.
+     */
+    private static boolean isStale(CompletableFuture<KeyHandle> handle, Instant now) {
+        return handle.isDone() && (handle.isCompletedExceptionally() || handle.join().isExpired(now));
+    }
+
+    private KeyHandle loadKeyHandle(String applicationId, String referenceId) {
+        SignatureCertificate signatureCertificate = keymanagerService.getSignatureCertificate(applicationId,
+                Optional.ofNullable(referenceId), DateUtils.getUTCCurrentDateTimeString());
+        CertificateEntry<X509Certificate, PrivateKey> certificateEntry = signatureCertificate.getCertificateEntry();
+        X509Certificate[] chain = certificateEntry.getChain();
+        Instant expiresAt = Instant.now().plus(keyTtl);
+        Instant notAfter = chain[0].getNotAfter().toInstant();
+        if (notAfter.isBefore(expiresAt)) {
+            expiresAt = notAfter;
+        }
+        String keyId = didDocumentUtil.getCertificateDataResponseDto(applicationId, referenceId).getKeyId();
+        PrivateKey privateKey = certificateEntry.getPrivateKey();
+        byte[] encoded = privateKey.getEncoded();
+        try {
+            if (encoded == null) {
+                // Non extractable key of a hardware keystore, signed with by the keystore's provider
+                Provider provider = StringUtils.hasText(signatureCertificate.getProviderName())
+                        ? Security.getProvider(signatureCertificate.getProviderName())
+                        : null;
+                log.info("Loaded key handle {}:{} of provider {}", applicationId, referenceId, signatureCertificate.getProviderName());
+                return new KeyHandle(privateKey, provider, chain, keyId, expiresAt);
+            }
+            PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(encoded);
+            log.info("Loaded key {}:{} valid until {}", applicationId, referenceId, expiresAt);
+            try {
+                return new KeyHandle(KeyFactory.getInstance(privateKey.getAlgorithm()).generatePrivate(keySpec),
+                        null, chain, keyId, expiresAt);
+            } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+                // e.g. secp256k1, which the JDK providers no longer support
+                return new KeyHandle(KeyFactory.getInstance(privateKey.getAlgorithm(), BOUNCY_CASTLE).generatePrivate(keySpec),
+                        BOUNCY_CASTLE, chain, keyId, expiresAt);
+            }
+        } catch (GeneralSecurityException e) {
+            log.error("Failed to load the key {}:{}", applicationId, referenceId, e);
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to load the signing key", e);
+        } finally {
+            if (encoded != null) {
+                Arrays.fill(encoded, (byte) 0);
+            }
+        }
+    }
+
+    private Map<String, Object> jwsHeader(String signAlgorithm, KeyHandle key, Boolean includeCertHash,
+                                          X509Certificate[] certificates, String certificateUrl,
+                                          Map<String, String> additionalHeaders) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", signAlgorithm);
+        if (StringUtils.hasText(key.keyId())) {
+            header.put("kid", key.keyId());
+        }
+        try {
+            if (Boolean.TRUE.equals(includeCertHash)) {
+                byte[] thumbprint = MessageDigest.getInstance("SHA-256").digest(key.chain()[0].getEncoded());
+                header.put("x5t#S256", BASE64URL.encodeToString(thumbprint));
+            }
+            if (certificates != null) {
+                List<String> x5c = new ArrayList<>();
+                for (X509Certificate certificate : certificates) {
+                    x5c.add(Base64.getEncoder().encodeToString(certificate.getEncoded()));
+                }
+                header.put("x5c", x5c);
+            }
+        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            log.error("Failed to add the certificate to the JWS header", e);
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to add the certificate to the JWS header", e);
+        }
+        if (StringUtils.hasText(certificateUrl)) {
+            header.put("x5u", certificateUrl);
+        }
+        if (additionalHeaders != null) {
+            header.putAll(additionalHeaders);
+        }
+        return header;
+    }
+
+    private JWTSignatureResponseDto jws(KeyHandle key, Map<String, Object> header, String dataToSign, String signAlgorithm,
+                                        Boolean includePayload, Boolean b64) {
+        byte[] payload = Base64.getUrlDecoder().decode(dataToSign);
+        boolean encodePayload = !Boolean.FALSE.equals(b64);
+        if (!encodePayload) {
+            // RFC 7797 unencoded payload
+            header.put("b64", false);
+            header.put("crit", List.of("b64"));
+        }
+        String encodedHeader;
+        try {
+            encodedHeader = BASE64URL.encodeToString(objectMapper.writeValueAsBytes(header));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize the JWS header", e);
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to serialize the JWS header", e);
+        }
+        String payloadPart = encodePayload ? BASE64URL.encodeToString(payload) : new String(payload, StandardCharsets.UTF_8);
+        ByteArrayOutputStream signingInput = new ByteArrayOutputStream(encodedHeader.length() + 1 + payload.length);
+        signingInput.writeBytes(encodedHeader.getBytes(StandardCharsets.US_ASCII));
+        signingInput.write('.');
+        signingInput.writeBytes(encodePayload ? payloadPart.getBytes(StandardCharsets.US_ASCII) : payload);
+        String signature = BASE64URL.encodeToString(sign(key, signAlgorithm, signingInput.toByteArray()));
+
+        JWTSignatureResponseDto response = new JWTSignatureResponseDto();
+        response.setJwtSignedData(encodedHeader + "." + (Boolean.TRUE.equals(includePayload) ? payloadPart : "") + "." + signature);
+        return response;
+    }
+
+    private static byte[] sign(KeyHandle key, String signAlgorithm, byte[] data) {
+        try {
+            Signature signature = newSignature(signAlgorithm, key.provider());
+            signature.initSign(key.privateKey());
+            signature.update(data);
+            return signature.sign();
+        } catch (GeneralSecurityException e) {
+            log.error("Failed to sign with {}", signAlgorithm, e);
+            throw new CertifyException(ErrorConstants.SIGNING_FAILED, "Failed to sign with " + signAlgorithm, e);
+        }
+    }
+
+    private static Signature newSignature(String signAlgorithm, Provider provider) throws GeneralSecurityException {
+        boolean bouncyCastle = provider != null && BOUNCY_CASTLE.getName().equals(provider.getName());
+        String jcaAlgorithm = switch (signAlgorithm) {
+            case JWSAlgorithm.RS256 -> "SHA256withRSA";
+            case JWSAlgorithm.PS256 -> "RSASSA-PSS";
+            case JWSAlgorithm.ES256, JWSAlgorithm.ES256K -> bouncyCastle ? "SHA256withPLAIN-ECDSA" : "SHA256withECDSAinP1363Format";
+            case JWSAlgorithm.EdDSA -> "Ed25519";
+            default -> throw new CertifyException(ErrorConstants.UNSUPPORTED_ALGORITHM, "Unsupported sign algorithm " + signAlgorithm);
+        };
+        Signature signature = provider != null ? Signature.getInstance(jcaAlgorithm, provider) : Signature.getInstance(jcaAlgorithm);
+        if (JWSAlgorithm.PS256.equals(signAlgorithm)) {
+            signature.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
+        }
+        return signature;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.signer;
+
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import io.mosip.kernel.signature.service.SignatureService;
+import io.mosip.kernel.signature.service.SignatureServicev2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default VCSigner, signs every request through the keymanager signature service.
+ */
+@Component
+@ConditionalOnProperty(value = "mosip.certify.signer.backend", havingValue = "keymanager", matchIfMissing = true)
+public class KeymanagerVCSigner implements VCSigner {
+
+    @Autowired
+    private SignatureService signatureService;
+
+    @Autowired
+    private SignatureServicev2 signatureServicev2;
+
+    @Override
+    public JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto request) {
+        return signatureService.jwsSign(request);
+    }
+
+    @Override
+    public JWTSignatureResponseDto jwsSignV2(JWSSignatureRequestDtoV2 request) {
+        return signatureService.jwsSignV2(request);
+    }
+
+    @Override
+    public SignResponseDto signv2(SignRequestDtoV2 request) {
+        return signatureServicev2.signv2(request);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.signer;
+
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+
+import java.util.List;
+
+/**
+ * VCSigner is the signing backend used for every credential and proof signed by Certify.
+ * <p>
+ * The requests are the keymanager signature DTOs, so a backend can be swapped in without
+ * changing the credential formats and proof generators. The backend is selected with
+ * {@code mosip.certify.signer.backend}:</p>
+ * <ul>
+ *     <li>{@code keymanager} (default): {@link KeymanagerVCSigner}, every request is signed by the keymanager</li>
+ *     <li>{@code in-memory}: {@link InMemoryKeyVCSigner}, keys are fetched from the keymanager once and
+ *     kept as JCA key handles</li>
+ * </ul>
+ * <p>
+ * The batch methods sign several requests for the same key and algorithm in one operation, they are
+ * used by {@link BatchingVCSigner}. Their default implementation signs the requests one by one.</p>
+ */
+public interface VCSigner {
+
+    /**
+     * Creates a JWS over the base64url encoded {@code dataToSign}, as the keymanager {@code jwsSign}.
+     */
+    JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto request);
+
+    /**
+     * Creates a JWS with the additional headers and certificate chain of the request, as the
+     * keymanager {@code jwsSignV2}.
+     */
+    JWTSignatureResponseDto jwsSignV2(JWSSignatureRequestDtoV2 request);
+
+    /**
+     * Signs the base64url encoded {@code dataToSign} and returns the raw signature in the requested
+     * encoding, as the keymanager {@code signv2}.
+     */
+    SignResponseDto signv2(SignRequestDtoV2 request);
+
+    /**
+     * Signs requests of the same application id, reference id and algorithm, the responses are in
+     * the order of the requests.
+     */
+    default List<SignResponseDto> signv2Batch(List<SignRequestDtoV2> requests) {
+        return requests.stream().map(this::signv2).toList();
+    }
+
+    /**
+     * Creates the JWS of requests of the same application id, reference id and algorithm, the
+     * responses are in the order of the requests.
+     */
+    default List<JWTSignatureResponseDto> jwsSignBatch(List<JWSSignatureRequestDto> requests) {
+        return requests.stream().map(this::jwsSign).toList();
+    }
+}
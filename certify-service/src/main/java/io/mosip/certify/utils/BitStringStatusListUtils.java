@@ -4,16 +4,28 @@ import io.mosip.certify.core.constants.ErrorConstants;
 import io.mosip.certify.core.exception.CertifyException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
  * Utility class to handle bit string operations for status lists.
  * This utility provides static methods for manipulating encoded status lists.
+ * <p>
+ * The encoded list is never materialised as a whole. Both the encoder and the
+ * decoder stream through the GZIP payload in fixed size chunks, so the heap
+ * needed for an update is bounded by the chunk size and the compressed list,
+ * not by the capacity of the list.</p>
  */
 @Slf4j
 public final class BitStringStatusListUtils {
@@ -22,6 +34,11 @@ public final class BitStringStatusListUtils {
     private static final long KB_TO_BITS_MULTIPLIER = 8192L; // 1024 * 8
     private static final long MIN_CAPACITY_BITS = 131072L; // 16KB minimum
 
+    // Size of the uncompressed window processed at a time while streaming
+    private static final int CHUNK_SIZE_BYTES = 64 * 1024;
+
+    private static final char MULTIBASE_BASE64URL_PREFIX = 'u';
+
     // Private constructor to prevent instantiation
     private BitStringStatusListUtils() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
@@ -29,7 +46,9 @@ public final class BitStringStatusListUtils {
 
     /**
      * Generate an encoded list from a map of index-status pairs.
+     * The existing list is decompressed, patched and recompressed chunk by chunk.
      *
+     * @param encodedStatusList The current multibase encoded list.
      * @param statusMap Map containing index -> status mappings.
      * @param capacityInKB Total capacity of the status list.
      * @return Base64URL encoded compressed bitstring.
@@ -40,19 +59,11 @@ public final class BitStringStatusListUtils {
 
         try {
             long actualCapacity = safeConvertKBToBits(capacityInKB);
-            BitSet bitstring = decodeEncodedList(encodedStatusList, (int) actualCapacity);
-            for (Map.Entry<Long, Boolean> entry : statusMap.entrySet()) {
-                long index = entry.getKey();
-                boolean status = entry.getValue();
-
-                if (index >= 0 && index < actualCapacity) {
-                    bitstring.set((int) index, status);
-                } else {
-                    log.warn("Index {} is out of bounds for capacity {}", index, actualCapacity);
-                }
+            SortedUpdates updates = SortedUpdates.of(statusMap, actualCapacity);
+            String encodedList;
+            try (InputStream source = openDecodedStream(encodedStatusList)) {
+                encodedList = encode(source, actualCapacity, updates);
             }
-            byte[] byteArray = convertBitstringToByteArray(bitstring, (int) actualCapacity);
-            String encodedList = "u" + compressAndEncode(byteArray);
 
             log.info("Generated encoded list of length {} from {} status entries", encodedList.length(), statusMap.size());
 
@@ -75,102 +86,143 @@ public final class BitStringStatusListUtils {
     public static String createEmptyEncodedList(long capacityInKB) {
         log.debug("Creating empty encoded list with capacity {}", capacityInKB);
         long actualCapacity = safeConvertKBToBits(capacityInKB);
-        BitSet emptyBitstring = new BitSet((int) actualCapacity);
-        byte[] emptyByteArray = convertBitstringToByteArray(emptyBitstring, (int) actualCapacity);
-        return "u" + compressAndEncode(emptyByteArray);
+        try {
+            return encode(null, actualCapacity, SortedUpdates.EMPTY);
+        } catch (IOException e) {
+            log.error("Failed to compress and encode bitstring", e);
+            throw new RuntimeException("Failed to compress and encode bitstring", e);
+        }
     }
 
     /**
-     * Convert bitstring to byte array. Each byte contains 8 bits, with the most significant bit first (big-endian within each byte).
+     * Reads the status of the given indices from an encoded list. Decompression stops
+     * as soon as the highest requested index has been read.
+     *
+     * @param encodedStatusList The multibase encoded list.
+     * @param indices Indices to look up. Out of range indices are ignored.
+     * @param capacityInKB Total capacity of the status list.
+     * @return Map of index -> status for every requested in range index.
      */
-    private static byte[] convertBitstringToByteArray(BitSet bitstring, int capacity) {
-        int byteLength = (capacity + 7) / 8;
-        byte[] byteArray = new byte[byteLength];
-        for (int i = 0; i < capacity; i++) {
-            if (bitstring.get(i)) {
-                int byteIndex = i / 8;
-                int bitIndex = i % 8;
-                byteArray[byteIndex] = (byte) (byteArray[byteIndex] | (1 << (7 - bitIndex)));
+    public static Map<Long, Boolean> readStatuses(String encodedStatusList, Collection<Long> indices, long capacityInKB) {
+        long actualCapacity = safeConvertKBToBits(capacityInKB);
+        long[] sortedIndices = indices.stream()
+                .filter(index -> index != null && index >= 0 && index < actualCapacity)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        Map<Long, Boolean> statuses = new HashMap<>();
+        if (sortedIndices.length == 0) {
+            return statuses;
+        }
+
+        try (InputStream source = openDecodedStream(encodedStatusList)) {
+            byte[] buffer = new byte[CHUNK_SIZE_BYTES];
+            long chunkStartByte = 0;
+            int cursor = 0;
+            while (cursor < sortedIndices.length) {
+                int read = source.readNBytes(buffer, 0, buffer.length);
+                long chunkStartBit = chunkStartByte * 8L;
+                long chunkEndBit = chunkStartBit + (read * 8L);
+                while (cursor < sortedIndices.length && sortedIndices[cursor] < chunkEndBit) {
+                    long bitOffset = sortedIndices[cursor] - chunkStartBit;
+                    statuses.put(sortedIndices[cursor], isBitSet(buffer, bitOffset));
+                    cursor++;
+                }
+                if (read < buffer.length) {
+                    // Lists shorter than their capacity are implicitly zero padded
+                    while (cursor < sortedIndices.length) {
+                        statuses.put(sortedIndices[cursor++], false);
+                    }
+                }
+                chunkStartByte += read;
             }
+            return statuses;
+        } catch (CertifyException exception) {
+            throw exception;
+        } catch (Exception e) {
+            log.error("Error reading statuses from encoded list", e);
+            throw new CertifyException(ErrorConstants.INVALID_ENCODED_LIST, e.getMessage(), e);
         }
-        return byteArray;
     }
 
     /**
-     * Compresses a byte array using GZIP and then encodes it to Base64URL.
-     * Returns a Base64URL-encoded string (without multibase prefix).
-     *
-     * @param input The byte array to compress and encode.
-     * @return A Base64URL encoded string.
-     * @throws RuntimeException if compression or encoding fails.
+     * Streams the bitstring from {@code source} (or zeros when it is null) through the sorted
+     * updates into a GZIP + Base64URL encoder. Each byte contains 8 bits, with the most
+     * significant bit first (big-endian within each byte).
      */
-    private static String compressAndEncode(byte[] input) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+    private static String encode(InputStream source, long capacityInBits, SortedUpdates updates) throws IOException {
+        long byteLength = (capacityInBits + 7) / 8;
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        sink.write(MULTIBASE_BASE64URL_PREFIX);
+        byte[] buffer = new byte[(int) Math.min(CHUNK_SIZE_BYTES, byteLength)];
+        boolean sourceExhausted = (source == null);
+        int cursor = 0;
 
-            gzipOut.write(input);
-            gzipOut.finish();
-            byte[] compressedBytes = baos.toByteArray();
+        try (OutputStream out = new GZIPOutputStream(
+                Base64.getUrlEncoder().withoutPadding().wrap(sink), CHUNK_SIZE_BYTES)) {
+            long written = 0;
+            while (written < byteLength) {
+                int chunkLength = (int) Math.min(buffer.length, byteLength - written);
+                int read = 0;
+                if (!sourceExhausted) {
+                    read = source.readNBytes(buffer, 0, chunkLength);
+                    sourceExhausted = read < chunkLength;
+                }
+                // Bits beyond the decoded payload are treated as unset
+                Arrays.fill(buffer, read, chunkLength, (byte) 0);
 
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(compressedBytes);
-        } catch (IOException e) {
-            log.error("Failed to compress and encode bitstring", e);
-            throw new RuntimeException("Failed to compress and encode bitstring", e);
+                long chunkStartBit = written * 8L;
+                long chunkEndBit = chunkStartBit + (chunkLength * 8L);
+                while (cursor < updates.size() && updates.indices[cursor] < chunkEndBit) {
+                    setBit(buffer, updates.indices[cursor] - chunkStartBit, updates.values[cursor]);
+                    cursor++;
+                }
+                out.write(buffer, 0, chunkLength);
+                written += chunkLength;
+            }
         }
+        return sink.toString(StandardCharsets.US_ASCII);
     }
 
     /**
-     * Decodes an encoded list string (Base64URL + GZIP) back to a BitSet bitstring.
+     * Opens a stream over the decompressed bitstring of an encoded list (Base64URL + GZIP).
      *
      * @param encodedList The encoded list string (may have multibase prefix 'u').
-     * @param capacity The number of bits to decode (should match the original capacity).
-     * @return BitSet representing the bitstring status list.
      */
-    private static BitSet decodeEncodedList(String encodedList, int capacity) throws IOException {
+    private static InputStream openDecodedStream(String encodedList) throws IOException {
         if (encodedList == null || encodedList.isEmpty()) {
             throw new CertifyException(ErrorConstants.INVALID_ENCODED_LIST, "Encoded list string is null or empty");
         }
-        String base64Part = encodedList.startsWith("u") ? encodedList.substring(1) : encodedList;
-        byte[] compressedBytes = Base64.getUrlDecoder().decode(base64Part);
-        byte[] decompressedBytes = decompress(compressedBytes);
-        BitSet bitstring = new BitSet(capacity);
-        for (int i = 0; i < capacity; i++) {
-            int byteIndex = i / 8;
-            int bitIndex = i % 8;
-            if (byteIndex < decompressedBytes.length) {
-                boolean bit = ((decompressedBytes[byteIndex] >> (7 - bitIndex)) & 1) == 1;
-                bitstring.set(i, bit);
-            } else {
-                bitstring.set(i, false);
-            }
-        }
-        return bitstring;
+        int offset = encodedList.charAt(0) == MULTIBASE_BASE64URL_PREFIX ? 1 : 0;
+        byte[] base64Bytes = encodedList.substring(offset).getBytes(StandardCharsets.US_ASCII);
+        return new GZIPInputStream(Base64.getUrlDecoder().wrap(new ByteArrayInputStream(base64Bytes)), CHUNK_SIZE_BYTES);
     }
 
-    /**
-     * GZIP decompress a byte array.
-     */
-    private static byte[] decompress(byte[] compressedBytes) throws IOException {
-        try (java.io.ByteArrayInputStream bais = new java.io.ByteArrayInputStream(compressedBytes);
-             java.util.zip.GZIPInputStream gzipIn = new java.util.zip.GZIPInputStream(bais);
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[1024];
-            int len;
-            while ((len = gzipIn.read(buffer)) > 0) {
-                baos.write(buffer, 0, len);
-            }
-            return baos.toByteArray();
+    private static boolean isBitSet(byte[] chunk, long bitOffset) {
+        int byteIndex = (int) (bitOffset >>> 3);
+        int bitIndex = (int) (bitOffset & 7);
+        return ((chunk[byteIndex] >> (7 - bitIndex)) & 1) == 1;
+    }
+
+    private static void setBit(byte[] chunk, long bitOffset, boolean status) {
+        int byteIndex = (int) (bitOffset >>> 3);
+        int mask = 1 << (7 - (int) (bitOffset & 7));
+        if (status) {
+            chunk[byteIndex] = (byte) (chunk[byteIndex] | mask);
+        } else {
+            chunk[byteIndex] = (byte) (chunk[byteIndex] & ~mask);
         }
     }
 
     /**
      * Safely converts capacity from KB to bits, checking for overflow.
      * Ensures the result is at least the minimum capacity (131072 bits = 16KB).
-     * Also validates that the result fits within Integer.MAX_VALUE for BitSet compatibility.
+     * As the list is streamed, the capacity is only bounded by the range of a long.
      *
      * @param capacityInKB Capacity in kilobytes
      * @return Capacity in bits
-     * @throws CertifyException if capacity is negative, overflow occurs, or result exceeds BitSet limits
+     * @throws CertifyException if capacity is negative or overflow occurs
      */
     private static long safeConvertKBToBits(long capacityInKB) {
         // Check for negative input
@@ -184,19 +236,50 @@ public final class BitStringStatusListUtils {
             long capacityInBits = Math.multiplyExact(capacityInKB, KB_TO_BITS_MULTIPLIER);
 
             // Ensure minimum capacity (131072 bits = 16KB)
-            long actualCapacity = Math.max(capacityInBits, MIN_CAPACITY_BITS);
-
-            // Check if the result exceeds Integer.MAX_VALUE for array compatibility
-            if (actualCapacity > Integer.MAX_VALUE) {
-                log.error("Capacity exceeds maximum supported size for BitString operations: {}", actualCapacity);
-                throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED,"Capacity exceeds maximum supported size for BitString operations: " + actualCapacity);
-            }
-
-            return actualCapacity;
+            return Math.max(capacityInBits, MIN_CAPACITY_BITS);
 
         } catch (ArithmeticException e) {
             log.error("Overflow occurred while converting capacity from KB to bits for capacity: {}", capacityInKB, e);
             throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED, "Overflow occurred while converting capacity from KB to bits for capacity: " + capacityInKB);
         }
     }
+
+    /**
+     * In range status updates sorted by index so they can be applied in a single pass.
+     */
+    private static final class SortedUpdates {
+        private static final SortedUpdates EMPTY = new SortedUpdates(new long[0], new boolean[0]);
+
+        private final long[] indices;
+        private final boolean[] values;
+
+        private SortedUpdates(long[] indices, boolean[] values) {
+            this.indices = indices;
+            this.values = values;
+        }
+
+        private static SortedUpdates of(Map<Long, Boolean> statusMap, long capacityInBits) {
+            long[] indices = statusMap.entrySet().stream()
+                    .filter(entry -> {
+                        Long index = entry.getKey();
+                        if (index != null && index >= 0 && index < capacityInBits) {
+                            return true;
+                        }
+                        log.warn("Index {} is out of bounds for capacity {}", index, capacityInBits);
+                        return false;
+                    })
+                    .mapToLong(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+            boolean[] values = new boolean[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                values[i] = Boolean.TRUE.equals(statusMap.get(indices[i]));
+            }
+            return new SortedUpdates(indices, values);
+        }
+
+        private int size() {
+            return indices.length;
+        }
+    }
 }
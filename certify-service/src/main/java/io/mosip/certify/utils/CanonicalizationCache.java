@@ -0,0 +1,155 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.utils;
+
+import foundation.identity.jsonld.JsonLDException;
+import foundation.identity.jsonld.JsonLDObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the canonicalized proof options of ldp_vc credentials signed with an RDF canonicalization
+ * (URDNA2015, RDFC-1.0).
+ * <p>
+ * The hash data of these proofs is {@code SHA-256(canonical proof options) || SHA-256(canonical credential)}.
+ * For a credential configuration the proof options only differ in their {@code created} date: they
+ * are one blank node whose {@code created} quad keeps its position in the sorted N-Quads whatever the
+ * date is. Their N-Quads are therefore kept per proof options, with the date left out, and only the
+ * credential is canonicalized per request. The credential itself is canonicalized as a whole, the
+ * labels of its blank nodes (credential, subject, status) depend on every quad of the document.</p>
+ * <p>
+ * Proof options that canonicalize to more than one blank node are never cached, the labels and the
+ * order of their quads could depend on the date. The template is also rendered for a second date and
+ * compared to the canonicalization with that date, and the first time a proof options entry is
+ * created, the result is compared to the full canonicalization of the signature library byte for
+ * byte. When they differ the proof options are never served from the cache.</p>
+ */
+@Slf4j
+@Component
+public class CanonicalizationCache {
+
+    private static final String CREATED = "created";
+    private static final String CREATED_PLACEHOLDER = "1111-11-11T11:11:11Z";
+    private static final String SECOND_CREATED_PLACEHOLDER = "2222-12-22T22:22:22Z";
+    // URDNA2015 labels blank nodes _:c14n0, _:c14n1, ... in canonical order
+    private static final String SECOND_BLANK_NODE = "_:c14n1";
+    private static final String NORMALIZATION_ALGORITHM = "urdna2015";
+    private static final ProofOptionsTemplate UNCACHEABLE = new ProofOptionsTemplate("", "");
+
+    @Value("${mosip.certify.canonicalization-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mosip.certify.canonicalization-cache.max-entries:256}")
+    private int maxEntries;
+
+    private final Map<String, ProofOptionsTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * The full canonicalization of the signature library.
+     */
+    @FunctionalInterface
+    public interface Canonicalization {
+        byte[] canonicalize() throws IOException, GeneralSecurityException, JsonLDException;
+    }
+
+    record ProofOptionsTemplate(String beforeCreated, String afterCreated) {
+        String render(String created) {
+            return beforeCreated + created + afterCreated;
+        }
+    }
+
+    /**
+     * @param proofOptions the proof options as canonicalized by the signature library, i.e. without
+     *                     proof values and with the contexts the library adds
+     * @param credential   the credential without proof
+     * @param canonicalization the full canonicalization, used when the proof options are not cached
+     * @return the hash data to sign
+     */
+    public byte[] canonicalize(JsonLDObject proofOptions, JsonLDObject credential, Canonicalization canonicalization)
+            throws IOException, GeneralSecurityException, JsonLDException {
+        if (!enabled || !(proofOptions.getJsonObject().get(CREATED) instanceof String created)) {
+            return canonicalization.canonicalize();
+        }
+        String key = templateKey(proofOptions);
+        ProofOptionsTemplate template = templates.get(key);
+        if (template == UNCACHEABLE) {
+            return canonicalization.canonicalize();
+        }
+        if (template != null) {
+            return hashData(template.render(created), credential);
+        }
+
+        byte[] expected = canonicalization.canonicalize();
+        if (templates.size() >= maxEntries) {
+            return expected;
+        }
+        template = newTemplate(proofOptions);
+        if (template != null && Arrays.equals(expected, hashData(template.render(created), credential))) {
+            templates.put(key, template);
+        } else {
+            log.warn("Canonicalization of the proof options {} differs from the signature library, not caching it", key);
+            templates.put(key, UNCACHEABLE);
+        }
+        return expected;
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    private static String templateKey(JsonLDObject proofOptions) {
+        Map<String, Object> json = new LinkedHashMap<>(proofOptions.getJsonObject());
+        json.remove(CREATED);
+        return JsonLDObject.fromJsonObject(json).toJson();
+    }
+
+    private static ProofOptionsTemplate newTemplate(JsonLDObject proofOptions) throws GeneralSecurityException, JsonLDException {
+        String nquads = normalizeWithCreated(proofOptions, CREATED_PLACEHOLDER);
+        if (nquads.contains(SECOND_BLANK_NODE)) {
+            return null;
+        }
+        int index = nquads.indexOf('"' + CREATED_PLACEHOLDER + '"');
+        if (index < 0 || nquads.indexOf(CREATED_PLACEHOLDER, index + 1 + CREATED_PLACEHOLDER.length()) >= 0) {
+            return null;
+        }
+        ProofOptionsTemplate template = new ProofOptionsTemplate(nquads.substring(0, index + 1),
+                nquads.substring(index + 1 + CREATED_PLACEHOLDER.length()));
+        if (!template.render(SECOND_CREATED_PLACEHOLDER).equals(normalizeWithCreated(proofOptions, SECOND_CREATED_PLACEHOLDER))) {
+            return null;
+        }
+        return template;
+    }
+
+    private static String normalizeWithCreated(JsonLDObject proofOptions, String created)
+            throws GeneralSecurityException, JsonLDException {
+        Map<String, Object> json = new LinkedHashMap<>(proofOptions.getJsonObject());
+        json.put(CREATED, created);
+        JsonLDObject placeholderProofOptions = JsonLDObject.fromJsonObject(json);
+        placeholderProofOptions.setDocumentLoader(proofOptions.getDocumentLoader());
+        return placeholderProofOptions.normalize(NORMALIZATION_ALGORITHM);
+    }
+
+    private static byte[] hashData(String proofOptionsNQuads, JsonLDObject credential) throws GeneralSecurityException, JsonLDException {
+        byte[] hashData = new byte[64];
+        System.arraycopy(sha256(proofOptionsNQuads), 0, hashData, 0, 32);
+        System.arraycopy(sha256(credential.normalize(NORMALIZATION_ALGORITHM)), 0, hashData, 32, 32);
+        return hashData;
+    }
+
+    private static byte[] sha256(String nquads) throws GeneralSecurityException {
+        return MessageDigest.getInstance("SHA-256").digest(nquads.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -12,6 +12,7 @@ import foundation.identity.jsonld.JsonLDObject;
 import foundation.identity.jsonld.JsonLDUtils;
 import info.weboftrust.ldsignatures.LdProof;
 import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
+import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
 import io.mosip.certify.api.dto.VCRequestDto;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.VCFormats;
@@ -21,6 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class CredentialUtils {
+    private static final String RDFC_CRYPTOSUITE_MARKER = "-rdfc-";
+
     // returns true for VC 2.0 VCI requests
     public static boolean isVC2_0Request(VCRequestDto r) {
         return r.getContext().get(0).equals("https://www.w3.org/ns/credentials/v2");
@@ -50,10 +53,29 @@ public class CredentialUtils {
     public static LdProof generateLdProof(LdProof vcLdProof, JsonLDObject j,
                                           Map<String, String> keyReferenceDetails,
                                           ProofGenerator proofGenerator) throws CertifyException {
+        return generateLdProof(vcLdProof, j, keyReferenceDetails, proofGenerator, null);
+    }
+
+    /**
+     * Generates the proof, taking the canonicalized proof options from the cache when one is given
+     * and the proof is canonicalized with URDNA2015.
+     */
+    public static LdProof generateLdProof(LdProof vcLdProof, JsonLDObject j,
+                                          Map<String, String> keyReferenceDetails,
+                                          ProofGenerator proofGenerator,
+                                          CanonicalizationCache canonicalizationCache) throws CertifyException {
         Canonicalizer canonicalizer = proofGenerator.getCanonicalizer();
         byte[] vcHashBytes;
         try {
-            vcHashBytes = canonicalizer.canonicalize(vcLdProof, j);
+            if (canonicalizationCache != null && canonicalizer instanceof URDNA2015Canonicalizer) {
+                // The proof options as canonicalized by URDNA2015Canonicalizer
+                LdProof proofOptions = LdProof.builder().base(vcLdProof).defaultContexts(true).build();
+                LdProof.removeLdProofValues(proofOptions);
+                proofOptions.setDocumentLoader(j.getDocumentLoader());
+                vcHashBytes = canonicalizationCache.canonicalize(proofOptions, j, () -> canonicalizer.canonicalize(vcLdProof, j));
+            } else {
+                vcHashBytes = canonicalizer.canonicalize(vcLdProof, j);
+            }
         } catch (IOException | GeneralSecurityException | JsonLDException e) {
             log.error("Error during canonicalization", e.getMessage());
             throw new CertifyException("Error during canonicalization");
@@ -64,6 +86,15 @@ public class CredentialUtils {
     }
 
     public static DataIntegrityProof generateDataIntegrityProof(DataIntegrityProof dataIntegrityProof, JsonLDObject jsonLDObject, LdSigner signer) {
+        return generateDataIntegrityProof(dataIntegrityProof, jsonLDObject, signer, null);
+    }
+
+    /**
+     * Generates the proof, taking the canonicalized proof options from the cache when one is given
+     * and the cryptosuite is an RDF canonicalization (rdfc) one.
+     */
+    public static DataIntegrityProof generateDataIntegrityProof(DataIntegrityProof dataIntegrityProof, JsonLDObject jsonLDObject,
+                                                                LdSigner signer, CanonicalizationCache canonicalizationCache) {
         DataIntegrityProof.Builder<? extends DataIntegrityProof.Builder<?>> ldProofBuilder = DataIntegrityProof.builder()
                 .base(dataIntegrityProof)
                 .defaultContexts(false);
@@ -76,6 +107,7 @@ public class CredentialUtils {
         }
 
         DataIntegrityProof ldProofOptions = DataIntegrityProof.fromJson(dataIntegrityProof.toJson());
+        ldProofOptions.setDocumentLoader(jsonLDObject.getDocumentLoader());
         if (ldProofOptions.getContexts() == null || ldProofOptions.getContexts().isEmpty()) {
             JsonLDUtils.jsonLdAdd(ldProofOptions, Keywords.CONTEXT, jsonLDObject.getContexts().stream().map(JsonLDUtils::uriToString).filter(Objects::nonNull).toList());
         }
@@ -84,7 +116,13 @@ public class CredentialUtils {
 
         byte[] canonicalizationResult;
         try {
-            canonicalizationResult = canonicalizer.canonicalize(ldProofOptions, jsonLDObject);
+            if (canonicalizationCache != null && ldProofOptions.getJsonObject().get("cryptosuite") instanceof String cryptosuite
+                    && cryptosuite.contains(RDFC_CRYPTOSUITE_MARKER)) {
+                canonicalizationResult = canonicalizationCache.canonicalize(ldProofOptions, jsonLDObject,
+                        () -> canonicalizer.canonicalize(ldProofOptions, jsonLDObject));
+            } else {
+                canonicalizationResult = canonicalizer.canonicalize(ldProofOptions, jsonLDObject);
+            }
         } catch (IOException | GeneralSecurityException | JsonLDException e) {
             log.error("Error during canonicalization", e.getMessage());
             throw new CertifyException("Error during canonicalization");
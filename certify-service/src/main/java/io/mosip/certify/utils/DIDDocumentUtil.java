@@ -20,6 +20,7 @@ import io.mosip.certify.core.dto.CertificateResponseDTO;
 import io.mosip.certify.entity.CredentialConfig;
 import io.mosip.certify.repository.CredentialConfigRepository;
 import io.mosip.certify.services.CertifyIssuanceServiceImpl;
+import io.mosip.certify.services.ConfigChangeBus;
 import io.mosip.kernel.keymanagerservice.dto.AllCertificatesDataResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.CertificateDataResponseDto;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
@@ -48,11 +49,20 @@ public class DIDDocumentUtil {
     @Autowired
     private CredentialConfigRepository credentialConfigRepository;
 
+    @Autowired
+    private ConfigChangeBus configChangeBus;
+
     @Value("#{${mosip.certify.credential-config.credential-signing-alg-values-supported}}")
     private LinkedHashMap<String, List<String>> credentialSigningAlgValuesSupportedMap;
 
     private static final String MULTICODEC_PREFIX = "ed01";
 
+    // Signing keys of the credential configurations, rebuilt when their generation changes
+    private volatile SignatureCryptoSuites signatureCryptoSuites;
+
+    private record SignatureCryptoSuites(long generation, Map<String, List<String>> suites) {
+    }
+
     public Map<String, Object> generateDIDDocument(String didUrl) {
         HashMap<String, Object> didDocument = new HashMap<>();
         didDocument.put("@context", Collections.singletonList("https://www.w3.org/ns/did/v1"));
@@ -253,6 +263,17 @@ public class DIDDocumentUtil {
     }
 
     private Map<String, List<String>> getSignatureCryptoSuiteMap() {
+        long generation = configChangeBus.getGeneration();
+        SignatureCryptoSuites cached = signatureCryptoSuites;
+        if (cached != null && cached.generation() == generation) {
+            return cached.suites();
+        }
+        Map<String, List<String>> suites = Collections.unmodifiableMap(buildSignatureCryptoSuiteMap());
+        signatureCryptoSuites = new SignatureCryptoSuites(generation, suites);
+        return suites;
+    }
+
+    private Map<String, List<String>> buildSignatureCryptoSuiteMap() {
         // Fetch all credential configurations
         List<CredentialConfig> allConfigs = credentialConfigRepository.findAll();
 
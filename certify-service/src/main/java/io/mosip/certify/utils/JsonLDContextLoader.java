@@ -0,0 +1,123 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package io.mosip.certify.utils;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import com.danubetech.dataintegrity.jsonld.DataIntegrityContexts;
+import info.weboftrust.ldsignatures.jsonld.LDSecurityContexts;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Document loader of the JSON-LD contexts used to canonicalize ldp_vc credentials.
+ * <p>
+ * The VCDM 1.1 and 2.0 contexts bundled with Certify, the security and data integrity contexts
+ * bundled with the signature libraries and the contexts configured in
+ * {@code mosip.certify.jsonld.contexts} are parsed once at startup and kept in memory. Any other
+ * context is only fetched when it is listed in {@code mosip.certify.jsonld.remote-context-allow-list},
+ * once, and kept in a cache bounded by {@code mosip.certify.jsonld.max-remote-contexts}. Loading a
+ * context which is neither preloaded nor allow-listed fails.</p>
+ */
+@Slf4j
+@Component
+public class JsonLDContextLoader implements DocumentLoader {
+
+    private static final Map<String, String> BUNDLED_CONTEXTS = Map.of(
+            "https://www.w3.org/2018/credentials/v1", "classpath:jsonld-contexts/credentials-v1.jsonld",
+            "https://www.w3.org/ns/credentials/v2", "classpath:jsonld-contexts/credentials-v2.jsonld");
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    // context url -> resource location of a local copy, overrides a bundled context of the same url
+    @Value("#{${mosip.certify.jsonld.contexts:{:}}}")
+    private Map<String, String> configuredContexts;
+
+    @Value("#{${mosip.certify.jsonld.remote-context-allow-list:{}}}")
+    private List<String> remoteContextAllowList;
+
+    @Value("${mosip.certify.jsonld.max-remote-contexts:50}")
+    private int maxRemoteContexts;
+
+    private Map<URI, Document> preloadedContexts = Map.of();
+
+    private Map<URI, Document> remoteContexts = Map.of();
+
+    private DocumentLoader remoteLoader = SchemeRouter.defaultInstance();
+
+    @PostConstruct
+    public void preload() {
+        Map<URI, Document> contexts = new HashMap<>();
+        contexts.putAll(LDSecurityContexts.CONTEXTS);
+        contexts.putAll(DataIntegrityContexts.CONTEXTS);
+        BUNDLED_CONTEXTS.forEach((url, location) -> contexts.put(URI.create(url), readContext(url, location)));
+        configuredContexts.forEach((url, location) -> contexts.put(URI.create(url), readContext(url, location)));
+        preloadedContexts = Map.copyOf(contexts);
+        remoteContexts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, Document> eldest) {
+                return size() > maxRemoteContexts;
+            }
+        });
+        log.info("Preloaded {} JSON-LD contexts, remote contexts allowed: {}", preloadedContexts.size(), remoteContextAllowList);
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        Document context = preloadedContexts.get(url);
+        if (context != null) {
+            return context;
+        }
+        if (!remoteContextAllowList.contains(url.toString())) {
+            log.error("JSON-LD context {} is not preloaded nor allow-listed", url);
+            throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED,
+                    "JSON-LD context " + url + " is not preloaded nor allow-listed");
+        }
+        context = remoteContexts.get(url);
+        if (context == null) {
+            log.info("Fetching allow-listed JSON-LD context {}", url);
+            context = remoteLoader.loadDocument(url, options);
+            remoteContexts.put(url, context);
+        }
+        return context;
+    }
+
+    private Document readContext(String url, String location) {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            JsonDocument context = JsonDocument.of(MediaType.JSON_LD, inputStream);
+            context.setDocumentUrl(URI.create(url));
+            return context;
+        } catch (IOException | JsonLdError e) {
+            log.error("Failed to read the JSON-LD context {} from {}", url, location, e);
+            throw new CertifyException(ErrorConstants.JSONLD_CONTEXT_LOAD_FAILED,
+                    "Failed to read the JSON-LD context " + url + " from " + location, e);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package io.mosip.certify.utils;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import io.mosip.certify.config.IndexedAttributesConfig;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.dto.CredentialStatusDetail;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +20,38 @@ import java.util.*;
 @Component
 public class LedgerUtils {
 
+    private static final Configuration JSON_PATH_CONFIG = Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
+
     @Autowired
     private IndexedAttributesConfig indexedAttributesConfig;
 
+    // Target key -> compiled JSONPath alternatives, in the order they are tried
+    private Map<String, List<JsonPath>> compiledMappings = Collections.emptyMap();
+
+    /**
+     * Compiles the JSONPath expressions of {@code mosip.certify.indexed-mappings} once. Invalid
+     * alternatives are left out.
+     */
+    @PostConstruct
+    public void compileIndexedMappings() {
+        Map<String, List<JsonPath>> compiled = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : indexedAttributesConfig.getIndexedMappings().entrySet()) {
+            List<JsonPath> paths = new ArrayList<>();
+            for (String jsonPath : entry.getValue().split("\\|")) {
+                try {
+                    paths.add(JsonPath.compile(jsonPath.trim()));
+                } catch (InvalidPathException | IllegalArgumentException e) {
+                    log.error("Invalid path '{}' for indexed attribute '{}': {}", jsonPath, entry.getKey(), e.getMessage());
+                }
+            }
+            if (!paths.isEmpty()) {
+                compiled.put(entry.getKey(), List.copyOf(paths));
+            }
+        }
+        compiledMappings = Collections.unmodifiableMap(compiled);
+        log.info("Indexed attribute mappings configured for {}", compiledMappings.keySet());
+    }
+
     /**
      * Process extracted values to handle complex types appropriately
      */
@@ -58,38 +90,30 @@ public class LedgerUtils {
         }
     }
 
-    // Enhanced version with better complex field support
+    /**
+     * Extracts the configured indexed attributes. The document is parsed once and every
+     * precompiled path is evaluated against it.
+     */
     public Map<String, Object> extractIndexedAttributes(JSONObject jsonObject) {
-        Configuration jsonPathConfig = Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
         Map<String, Object> indexedAttributes = new HashMap<>();
 
-        if(jsonObject == null) {
+        if(jsonObject == null || compiledMappings.isEmpty()) {
             return indexedAttributes;
         }
 
-        Map<String, String> indexedMappings = indexedAttributesConfig.getIndexedMappings();
-        if(indexedMappings.isEmpty()) {
-            log.info("No indexed mappings configured, returning empty attributes");
-            return indexedAttributes;
-        }
-        log.info("Indexed Mapping Found: {}", indexedMappings);
-
-        String sourceJsonString = jsonObject.toString();
-        for (Map.Entry<String, String> entry : indexedMappings.entrySet()) {
+        DocumentContext document = JsonPath.using(JSON_PATH_CONFIG).parse(jsonObject.toString());
+        for (Map.Entry<String, List<JsonPath>> entry : compiledMappings.entrySet()) {
             String targetKey = entry.getKey();
-            String pathsConfig = entry.getValue();
-            String[] paths = pathsConfig.split("\\|");
             Object extractedValue = null;
 
-            for (String jsonPath : paths) {
-                jsonPath = jsonPath.trim();
+            for (JsonPath jsonPath : entry.getValue()) {
                 try {
-                    extractedValue = JsonPath.using(jsonPathConfig).parse(sourceJsonString).read(jsonPath);
+                    extractedValue = document.read(jsonPath);
                     if (extractedValue != null) {
                         break; // Found a value, no need to check other fallback paths
                     }
                 } catch (Exception e) {
-                    log.warn("Error extracting value for path '{}' and key '{}': {}", jsonPath, targetKey, e.getMessage());
+                    log.warn("Error extracting value for path '{}' and key '{}': {}", jsonPath.getPath(), targetKey, e.getMessage());
                 }
             }
 
@@ -97,10 +121,9 @@ public class LedgerUtils {
                 Object processedValue = processExtractedIndexedAttributes(extractedValue);
                 if (processedValue != null) {
                     indexedAttributes.put(targetKey, processedValue);
-                    log.info("Added processed value '{}' to indexed attributes under key '{}'", processedValue, targetKey);
                 }
             } else {
-                log.info("No value extracted for key '{}'; skipping indexing.", targetKey);
+                log.debug("No value extracted for key '{}'; skipping indexing.", targetKey);
             }
         }
         return indexedAttributes;
@@ -124,22 +147,48 @@ public class LedgerUtils {
 
     public CredentialStatusDetail extractCredentialStatusDetails(JSONObject jsonObject) {
         JSONObject credentialStatus = jsonObject.optJSONObject("credentialStatus");
+        // With multiple purposes all entries share one index, the first entry refers to the primary list of the group
+        org.json.JSONArray credentialStatusList = jsonObject.optJSONArray("credentialStatus");
+        if(credentialStatusList != null && !credentialStatusList.isEmpty()) {
+            credentialStatus = credentialStatusList.optJSONObject(0);
+        }
         if(credentialStatus == null) {
-            return null;
+            return extractTokenStatusDetails(jsonObject);
         }
 
         CredentialStatusDetail credentialStatusDetail = new CredentialStatusDetail();
         credentialStatusDetail.setStatusPurpose((String) credentialStatus.get("statusPurpose"));
         credentialStatusDetail.setStatusListIndex(Long.parseLong((String) credentialStatus.get("statusListIndex")));
         String statusListCredentialUrl = credentialStatus.getString("statusListCredential");
-        String statusListCredentialId = statusListCredentialUrl;
-        int lastSlash = statusListCredentialUrl.lastIndexOf('/');
-        if (lastSlash >= 0 && lastSlash < statusListCredentialUrl.length() - 1) {
-            statusListCredentialId = statusListCredentialUrl.substring(lastSlash + 1);
-        }
-        credentialStatusDetail.setStatusListCredentialId(statusListCredentialId);
+        credentialStatusDetail.setStatusListCredentialId(extractStatusListCredentialId(statusListCredentialUrl));
         credentialStatusDetail.setCreatedTimes(System.currentTimeMillis());
 
         return credentialStatusDetail;
     }
+
+    /**
+     * Reads the status.status_list claim of an SD-JWT credential. A Token Status List covers
+     * all purposes of the credential, so no purpose is recorded.
+     */
+    private CredentialStatusDetail extractTokenStatusDetails(JSONObject jsonObject) {
+        JSONObject status = jsonObject.optJSONObject(Constants.STATUS);
+        JSONObject statusList = status == null ? null : status.optJSONObject("status_list");
+        if(statusList == null) {
+            return null;
+        }
+
+        CredentialStatusDetail credentialStatusDetail = new CredentialStatusDetail();
+        credentialStatusDetail.setStatusListIndex(statusList.getLong("idx"));
+        credentialStatusDetail.setStatusListCredentialId(extractStatusListCredentialId(statusList.getString("uri")));
+        credentialStatusDetail.setCreatedTimes(System.currentTimeMillis());
+        return credentialStatusDetail;
+    }
+
+    private static String extractStatusListCredentialId(String statusListCredentialUrl) {
+        int lastSlash = statusListCredentialUrl.lastIndexOf('/');
+        if (lastSlash >= 0 && lastSlash < statusListCredentialUrl.length() - 1) {
+            return statusListCredentialUrl.substring(lastSlash + 1);
+        }
+        return statusListCredentialUrl;
+    }
 }
@@ -0,0 +1,305 @@
+package io.mosip.certify.utils;
+
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Utility class to handle the compressed byte array of an IETF Token Status List
+ * (https://datatracker.ietf.org/doc/draft-ietf-oauth-status-list/).
+ * <p>
+ * Each referenced token has a status of 1, 2, 4 or 8 bits. Statuses are packed least
+ * significant bits first, the byte array is compressed with DEFLATE in the ZLIB format
+ * and encoded as base64url without padding. Like {@link BitStringStatusListUtils}, the
+ * list is streamed in fixed size chunks and never materialised as a whole.</p>
+ */
+@Slf4j
+public final class TokenStatusListUtils {
+
+    public static final int STATUS_VALID = 0x00;
+    public static final int STATUS_INVALID = 0x01;
+    public static final int STATUS_SUSPENDED = 0x02;
+
+    private static final String SUSPENSION = "suspension";
+
+    private static final Set<Integer> SUPPORTED_BITS = Set.of(1, 2, 4, 8);
+
+    // Size of the uncompressed window processed at a time while streaming
+    private static final int CHUNK_SIZE_BYTES = 64 * 1024;
+
+    private TokenStatusListUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates an empty list (every status VALID).
+     *
+     * @param capacityInKB Size of the uncompressed byte array in kilobytes.
+     * @return base64url encoded, ZLIB compressed byte array.
+     */
+    public static String createEmptyList(long capacityInKB) {
+        try {
+            return encode(null, toByteLength(capacityInKB), 1, SortedUpdates.EMPTY);
+        } catch (IOException e) {
+            log.error("Failed to compress and encode token status list", e);
+            throw new CertifyException(ErrorConstants.ENCODED_LIST_UPDATE_FAILED, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies the given status values to a list. The list is decompressed, patched and
+     * recompressed chunk by chunk.
+     *
+     * @param lst The current base64url encoded list.
+     * @param statusMap Map containing index -> status value mappings.
+     * @param bits Number of bits per status.
+     * @param capacityInKB Size of the uncompressed byte array in kilobytes.
+     * @return base64url encoded, ZLIB compressed byte array.
+     */
+    public static String updateList(String lst, Map<Long, Integer> statusMap, int bits, long capacityInKB) {
+        validateBits(bits);
+        try {
+            long byteLength = toByteLength(capacityInKB);
+            SortedUpdates updates = SortedUpdates.of(statusMap, getCapacityInEntries(capacityInKB, bits), bits);
+            String updatedList;
+            try (InputStream source = openDecodedStream(lst)) {
+                updatedList = encode(source, byteLength, bits, updates);
+            }
+            log.info("Generated token status list of length {} from {} status entries", updatedList.length(), statusMap.size());
+            return updatedList;
+        } catch (CertifyException exception) {
+            throw exception;
+        } catch (Exception e) {
+            log.error("Error updating token status list", e);
+            throw new CertifyException(ErrorConstants.ENCODED_LIST_UPDATE_FAILED, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the status values of the given indices. Decompression stops as soon as the
+     * highest requested index has been read.
+     *
+     * @param lst The base64url encoded list.
+     * @param indices Indices to look up. Out of range indices are ignored.
+     * @param bits Number of bits per status.
+     * @param capacityInKB Size of the uncompressed byte array in kilobytes.
+     * @return Map of index -> status value for every requested in range index.
+     */
+    public static Map<Long, Integer> readStatuses(String lst, Collection<Long> indices, int bits, long capacityInKB) {
+        validateBits(bits);
+        long capacityInEntries = getCapacityInEntries(capacityInKB, bits);
+        long[] sortedIndices = indices.stream()
+                .filter(index -> index != null && index >= 0 && index < capacityInEntries)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        Map<Long, Integer> statuses = new HashMap<>();
+        if (sortedIndices.length == 0) {
+            return statuses;
+        }
+
+        try (InputStream source = openDecodedStream(lst)) {
+            byte[] buffer = new byte[CHUNK_SIZE_BYTES];
+            long chunkStartByte = 0;
+            int cursor = 0;
+            while (cursor < sortedIndices.length) {
+                int read = source.readNBytes(buffer, 0, buffer.length);
+                long chunkStartBit = chunkStartByte * 8L;
+                long chunkEndBit = chunkStartBit + (read * 8L);
+                while (cursor < sortedIndices.length && sortedIndices[cursor] * bits < chunkEndBit) {
+                    statuses.put(sortedIndices[cursor], getStatus(buffer, sortedIndices[cursor] * bits - chunkStartBit, bits));
+                    cursor++;
+                }
+                if (read < buffer.length) {
+                    // Lists shorter than their capacity are implicitly VALID
+                    while (cursor < sortedIndices.length) {
+                        statuses.put(sortedIndices[cursor++], STATUS_VALID);
+                    }
+                }
+                chunkStartByte += read;
+            }
+            return statuses;
+        } catch (CertifyException exception) {
+            throw exception;
+        } catch (Exception e) {
+            log.error("Error reading statuses from token status list", e);
+            throw new CertifyException(ErrorConstants.INVALID_ENCODED_LIST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Number of referenced tokens a list can hold.
+     */
+    public static long getCapacityInEntries(long capacityInKB, int bits) {
+        validateBits(bits);
+        return toByteLength(capacityInKB) * 8L / bits;
+    }
+
+    /**
+     * Applies a credential status update to the current Token Status List value of a token.
+     * INVALID is final. With 2 or more bits suspension has its own value, which is only cleared
+     * by lifting the suspension, and any other purpose invalidates the token. A list of 1 bit
+     * per status holds a single purpose, where a suspension is cleared and anything else is final.
+     *
+     * @param current current value of the token in the list.
+     * @param statusPurpose purpose of the status update, may be null.
+     * @param status whether the status of the purpose is set.
+     * @param bits Number of bits per status of the list.
+     */
+    public static int nextStatusValue(int current, String statusPurpose, boolean status, int bits) {
+        boolean suspension = SUSPENSION.equals(statusPurpose);
+        if (bits == 1) {
+            if (status) {
+                return STATUS_INVALID;
+            }
+            return suspension ? STATUS_VALID : current;
+        }
+        if (current == STATUS_INVALID) {
+            return STATUS_INVALID;
+        }
+        if (suspension) {
+            return status ? STATUS_SUSPENDED : (current == STATUS_SUSPENDED ? STATUS_VALID : current);
+        }
+        return status ? STATUS_INVALID : current;
+    }
+
+    public static void validateBits(int bits) {
+        if (!SUPPORTED_BITS.contains(bits)) {
+            throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED,
+                    "Token status list bits must be one of " + SUPPORTED_BITS + ", got " + bits);
+        }
+    }
+
+    /**
+     * Streams the byte array from {@code source} (or zeros when it is null) through the sorted
+     * updates into a ZLIB + base64url encoder.
+     */
+    private static String encode(InputStream source, long byteLength, int bits, SortedUpdates updates) throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        byte[] buffer = new byte[(int) Math.min(CHUNK_SIZE_BYTES, byteLength)];
+        boolean sourceExhausted = (source == null);
+        int cursor = 0;
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream out = new DeflaterOutputStream(Base64.getUrlEncoder().withoutPadding().wrap(sink),
+                deflater, CHUNK_SIZE_BYTES)) {
+            long written = 0;
+            while (written < byteLength) {
+                int chunkLength = (int) Math.min(buffer.length, byteLength - written);
+                int read = 0;
+                if (!sourceExhausted) {
+                    read = source.readNBytes(buffer, 0, chunkLength);
+                    sourceExhausted = read < chunkLength;
+                }
+                // Statuses beyond the decoded payload are treated as VALID
+                Arrays.fill(buffer, read, chunkLength, (byte) 0);
+
+                long chunkStartBit = written * 8L;
+                long chunkEndBit = chunkStartBit + (chunkLength * 8L);
+                while (cursor < updates.size() && updates.indices[cursor] * bits < chunkEndBit) {
+                    setStatus(buffer, updates.indices[cursor] * bits - chunkStartBit, bits, updates.values[cursor]);
+                    cursor++;
+                }
+                out.write(buffer, 0, chunkLength);
+                written += chunkLength;
+            }
+        } finally {
+            deflater.end();
+        }
+        return sink.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static InputStream openDecodedStream(String lst) {
+        if (lst == null || lst.isEmpty()) {
+            throw new CertifyException(ErrorConstants.INVALID_ENCODED_LIST, "Token status list is null or empty");
+        }
+        byte[] base64Bytes = lst.getBytes(StandardCharsets.US_ASCII);
+        return new InflaterInputStream(Base64.getUrlDecoder().wrap(new ByteArrayInputStream(base64Bytes)));
+    }
+
+    private static int getStatus(byte[] chunk, long bitOffset, int bits) {
+        int byteIndex = (int) (bitOffset >>> 3);
+        int shift = (int) (bitOffset & 7);
+        return (chunk[byteIndex] >> shift) & ((1 << bits) - 1);
+    }
+
+    private static void setStatus(byte[] chunk, long bitOffset, int bits, int value) {
+        int byteIndex = (int) (bitOffset >>> 3);
+        int shift = (int) (bitOffset & 7);
+        int mask = ((1 << bits) - 1) << shift;
+        chunk[byteIndex] = (byte) ((chunk[byteIndex] & ~mask) | ((value << shift) & mask));
+    }
+
+    private static long toByteLength(long capacityInKB) {
+        if (capacityInKB <= 0) {
+            throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED, "Capacity must be positive: " + capacityInKB);
+        }
+        try {
+            return Math.multiplyExact(capacityInKB, 1024L);
+        } catch (ArithmeticException e) {
+            throw new CertifyException(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED, "Overflow occurred while converting capacity for: " + capacityInKB);
+        }
+    }
+
+    /**
+     * In range status updates sorted by index so they can be applied in a single pass.
+     */
+    private static final class SortedUpdates {
+        private static final SortedUpdates EMPTY = new SortedUpdates(new long[0], new int[0]);
+
+        private final long[] indices;
+        private final int[] values;
+
+        private SortedUpdates(long[] indices, int[] values) {
+            this.indices = indices;
+            this.values = values;
+        }
+
+        private static SortedUpdates of(Map<Long, Integer> statusMap, long capacityInEntries, int bits) {
+            int maxValue = (1 << bits) - 1;
+            long[] indices = statusMap.entrySet().stream()
+                    .filter(entry -> {
+                        Long index = entry.getKey();
+                        if (index == null || index < 0 || index >= capacityInEntries) {
+                            log.warn("Index {} is out of bounds for capacity {}", index, capacityInEntries);
+                            return false;
+                        }
+                        Integer value = entry.getValue();
+                        if (value == null || value < 0 || value > maxValue) {
+                            log.warn("Status value {} of index {} does not fit in {} bits", value, index, bits);
+                            return false;
+                        }
+                        return true;
+                    })
+                    .mapToLong(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+            int[] values = new int[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                values[i] = statusMap.get(indices[i]);
+            }
+            return new SortedUpdates(indices, values);
+        }
+
+        private int size() {
+            return indices.length;
+        }
+    }
+}
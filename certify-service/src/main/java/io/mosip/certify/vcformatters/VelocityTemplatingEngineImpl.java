@@ -337,6 +337,10 @@ public class VelocityTemplatingEngineImpl implements VCFormatter {
             jsonObject.put(VCTYPE, templateInput.get(VCTYPE));
             jsonObject.put(CONFIRMATION, templateInput.get(CONFIRMATION));
             jsonObject.put(ISSUER, templateInput.get(ISSUER));
+            // Token Status List reference added at issuance, see StatusListCredentialService.addTokenStatus
+            if (templateInput.get(STATUS) instanceof Map<?, ?> status && status.containsKey("status_list")) {
+                jsonObject.put(STATUS, status);
+            }
         }
 
         return jsonObject.toString();
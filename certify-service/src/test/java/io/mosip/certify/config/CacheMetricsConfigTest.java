@@ -0,0 +1,56 @@
+package io.mosip.certify.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.certify.core.config.TwoTierCache;
+import org.junit.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CacheMetricsConfigTest {
+
+    private final CacheMetricsConfig cacheMetricsConfig = new CacheMetricsConfig();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void caffeineCache_ReportsStatisticsAndLoads() {
+        CaffeineCache cache = new CaffeineCache("credentialConfig", Caffeine.newBuilder().recordStats().build(), true);
+        cacheMetricsConfig.caffeineCacheMeterBinderProvider()
+                .getMeterBinder(cache, Tags.of("cache.manager", "cache")).bindTo(registry);
+
+        cache.get("key", () -> "value");
+        cache.get("key", String.class);
+        cache.get("other");
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "credentialConfig", "result", "hit").functionCounter().count(), 0.0);
+        assertEquals(2.0, registry.get("cache.gets").tags("result", "miss").functionCounter().count(), 0.0);
+        assertEquals(1.0, registry.get("cache.size").gauge().value(), 0.0);
+        assertEquals(1.0, registry.get("cache.load").tags("result", "success").functionCounter().count(), 0.0);
+        assertTrue(registry.get("cache.load.duration").timeGauge().value(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void twoTierCache_ReportsBothTiers() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("renderTemplate");
+        TwoTierCache cache = new TwoTierCache(remote, Caffeine.newBuilder().recordStats().build(), key -> { });
+        cacheMetricsConfig.twoTierCacheMeterBinderProvider()
+                .getMeterBinder(cache, Tags.of("cache.manager", "cache")).bindTo(registry);
+
+        remote.put("key", "value");
+        cache.get("key");
+        cache.get("key");
+        cache.get("key2", () -> "loaded");
+
+        assertEquals(1.0, registry.get("cache.local.gets").tags("result", "hit").functionCounter().count(), 0.0);
+        assertEquals(2.0, registry.get("cache.local.gets").tags("result", "miss").functionCounter().count(), 0.0);
+        assertEquals(2.0, registry.get("cache.size").gauge().value(), 0.0);
+        assertEquals(1.0, registry.get("cache.load").tags("result", "success").functionCounter().count(), 0.0);
+    }
+}
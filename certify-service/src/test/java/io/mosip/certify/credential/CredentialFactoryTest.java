@@ -56,4 +56,13 @@ public class CredentialFactoryTest {
 
         assertFalse(result.isPresent());
     }
+
+    @Test
+    public void testGetCredentialWhenCredentialIsStatusListOnly() {
+        when(mockCredential.canHandle("vc+jwt")).thenReturn(true);
+        when(mockCredential.isStatusListOnly()).thenReturn(true);
+
+        assertFalse(credentialFactory.getCredential("vc+jwt").isPresent());
+        assertEquals(mockCredential, credentialFactory.getStatusListCredential("vc+jwt").get());
+    }
 }
@@ -2,9 +2,9 @@ package io.mosip.certify.credential;
 
 import io.mosip.certify.api.dto.VCResult;
 import io.mosip.certify.credential.Credential;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
-import io.mosip.kernel.signature.service.SignatureService;
 import io.mosip.certify.vcformatters.VCFormatter;
 import org.junit.Before;
 import org.junit.Test;
@@ -15,16 +15,16 @@ import static org.mockito.Mockito.*;
 public class CredentialTest {
 
     private VCFormatter mockFormatter;
-    private SignatureService mockSignatureService;
+    private VCSigner mockVCSigner;
     private Credential credential;
 
     @Before
     public void setUp() {
         mockFormatter = mock(VCFormatter.class);
-        mockSignatureService = mock(SignatureService.class);
+        mockVCSigner = mock(VCSigner.class);
 
         // Minimal subclass of Credential to allow testing
-        credential = new Credential(mockFormatter, mockSignatureService) {
+        credential = new Credential(mockFormatter, mockVCSigner) {
             @Override
             public boolean canHandle(String format) {
                 return false;
@@ -37,7 +37,7 @@ public class CredentialTest {
         JWTSignatureResponseDto responseDto = new JWTSignatureResponseDto();
         responseDto.setJwtSignedData("signed.jwt.token");
 
-        when(mockSignatureService.jwsSign(any(JWSSignatureRequestDto.class)))
+        when(mockVCSigner.jwsSign(any(JWSSignatureRequestDto.class)))
                 .thenReturn(responseDto);
 
         VCResult<?> result = credential.addProof(
@@ -0,0 +1,194 @@
+package io.mosip.certify.credential;
+
+import com.danubetech.dataintegrity.DataIntegrityProof;
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.keyformats.crypto.ByteSigner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import foundation.identity.jsonld.JsonLDObject;
+import io.ipfs.multibase.Multibase;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.core.constants.VCDMConstants;
+import io.mosip.certify.proofgenerators.dataintegrity.JcsDataIntegrityProofGenerator;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.utils.CredentialUtils;
+import io.mosip.certify.utils.JsonLDContextLoader;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Compares the cost of adding the proof of an ldp_vc credential with the JSON canonicalization fast path
+ * ({@link JcsDataIntegrityProofGenerator}) to the generic Data Integrity signer, for eddsa-jcs-2022 and the
+ * RDF canonicalization suite eddsa-rdfc-2022. Keymanager is replaced with an
+ * in-memory Ed25519 key and the contexts are preloaded, so the numbers reflect the document processing of
+ * each path.
+ * <p>Skipped unless run with {@code -Dcertify.benchmark=true}, for example
+ * {@code mvn test -Dtest=JcsSigningBenchmarkTest -Dcertify.benchmark=true}.</p>
+ */
+@Slf4j
+public class JcsSigningBenchmarkTest {
+
+    private static final String VERIFICATION_METHOD = "did:example:issuer#key-1";
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+    private static final String CREDENTIAL = """
+            {
+              "@context": ["https://www.w3.org/ns/credentials/v2"],
+              "id": "urn:uuid:3978344f-8596-4c3a-a978-8fcaba3903c5",
+              "type": ["VerifiableCredential", "FarmerCredential"],
+              "issuer": "did:example:issuer",
+              "validFrom": "2025-01-01T00:00:00Z",
+              "validUntil": "2030-01-01T00:00:00Z",
+              "credentialSubject": {
+                "id": "did:example:holder",
+                "fullName": "Ramesh Kumar",
+                "mobileNumber": "9876543210",
+                "dateOfBirth": "1980-01-24",
+                "gender": "Male",
+                "state": "Karnataka",
+                "district": "Bangalore",
+                "villageOrTown": "Koramangala",
+                "postalCode": "560068",
+                "landArea": 5.5,
+                "landOwnershipType": "Self-owned",
+                "primaryCropType": "Cereals",
+                "secondaryCropType": "Vegetables",
+                "farmerID": "4567538771"
+              }
+            }""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PrivateKey privateKey;
+
+    private JsonLDContextLoader jsonLDContextLoader;
+
+    private JcsDataIntegrityProofGenerator jcsDataIntegrityProofGenerator;
+
+    @Before
+    public void setUp() throws GeneralSecurityException {
+        Assume.assumeTrue("Benchmarks are enabled with -Dcertify.benchmark=true", Boolean.getBoolean("certify.benchmark"));
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        privateKey = keyPair.getPrivate();
+
+        jsonLDContextLoader = new JsonLDContextLoader();
+        ReflectionTestUtils.setField(jsonLDContextLoader, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "configuredContexts", Map.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "remoteContextAllowList", List.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "maxRemoteContexts", 1);
+        jsonLDContextLoader.preload();
+
+        jcsDataIntegrityProofGenerator = new JcsDataIntegrityProofGenerator();
+        ReflectionTestUtils.setField(jcsDataIntegrityProofGenerator, "vcSigner", new InMemoryEd25519Signer());
+        ReflectionTestUtils.setField(jcsDataIntegrityProofGenerator, "enabled", true);
+    }
+
+    @Test
+    public void benchmarkLdpVcSigning() throws Exception {
+        double jcsFastPath = measure(this::signWithJcsFastPath);
+        double jcs = measure(() -> signWithDataIntegritySigner(SignatureAlg.ED_JCS_2022));
+        double rdfc = measure(() -> signWithDataIntegritySigner(SignatureAlg.ED_RDFC_2022));
+        log.info("Credential of {} bytes: eddsa-jcs-2022 fast path {} us, eddsa-jcs-2022 {} us, eddsa-rdfc-2022 {} us",
+                CREDENTIAL.length(), String.format("%.1f", jcsFastPath), String.format("%.1f", jcs), String.format("%.1f", rdfc));
+    }
+
+    private Object signWithJcsFastPath() throws Exception {
+        ObjectNode document = (ObjectNode) objectMapper.readTree(CREDENTIAL);
+        return jcsDataIntegrityProofGenerator.addProof(document, new Date(), VERIFICATION_METHOD,
+                SignatureAlg.ED_JCS_2022, "appId", "refId", "EdDSA");
+    }
+
+    private Object signWithDataIntegritySigner(String cryptosuite) {
+        JsonLDObject jsonLDObject = JsonLDObject.fromJson(CREDENTIAL);
+        jsonLDObject.setDocumentLoader(jsonLDContextLoader);
+        LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+        signer.setSigner(new ByteSigner("EdDSA") {
+            @Override
+            public byte[] sign(byte[] content) throws GeneralSecurityException {
+                return JcsSigningBenchmarkTest.this.sign(content);
+            }
+        });
+        signer.setCryptosuite(cryptosuite);
+        DataIntegrityProof proofOptions = DataIntegrityProof.builder()
+                .created(new Date())
+                .proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                .cryptosuite(cryptosuite)
+                .verificationMethod(URI.create(VERIFICATION_METHOD))
+                .type(SignatureAlg.DATA_INTEGRITY).build();
+        return CredentialUtils.generateDataIntegrityProof(proofOptions, jsonLDObject, signer);
+    }
+
+    private byte[] sign(byte[] content) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initSign(privateKey);
+        signature.update(content);
+        return signature.sign();
+    }
+
+    /**
+     * Mean time of one run in microseconds, after a warm up.
+     */
+    private double measure(SigningRun run) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertNotNull(run.sign());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            assertNotNull(run.sign());
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface SigningRun {
+        Object sign() throws Exception;
+    }
+
+    private class InMemoryEd25519Signer implements VCSigner {
+
+        @Override
+        public JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JWTSignatureResponseDto jwsSignV2(JWSSignatureRequestDtoV2 request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SignResponseDto signv2(SignRequestDtoV2 request) {
+            try {
+                SignResponseDto response = new SignResponseDto();
+                response.setSignature(Multibase.encode(Multibase.Base.Base58BTC,
+                        sign(Base64.getUrlDecoder().decode(request.getDataToSign()))));
+                return response;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -5,11 +5,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.certify.api.dto.VCResult;
 import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.certify.vcformatters.VCFormatter;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
-import io.mosip.kernel.signature.service.SignatureService;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,7 +34,7 @@ public class SDJWTTest {
     private VCFormatter mockFormatter;
 
     @Mock
-    private SignatureService mockSignatureService;
+    private VCSigner mockVCSigner;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -102,7 +102,7 @@ public class SDJWTTest {
         JWTSignatureResponseDto signedResponse = new JWTSignatureResponseDto();
         signedResponse.setJwtSignedData(signedJwt);
 
-        when(mockSignatureService.jwsSignV2(any(JWSSignatureRequestDtoV2.class))).thenReturn(signedResponse);
+        when(mockVCSigner.jwsSignV2(any(JWSSignatureRequestDtoV2.class))).thenReturn(signedResponse);
 
         VCResult<?> result = sdjwt.addProof(unsignedVC, null, "RS256", "appID", "refID", "url", "Ed25519Signature2020");
 
@@ -116,11 +116,11 @@ public class SDJWTTest {
 
         JWTSignatureResponseDto response = new JWTSignatureResponseDto();
         response.setJwtSignedData("signed.jwt");
-        when(mockSignatureService.jwsSignV2(any(JWSSignatureRequestDtoV2.class))).thenReturn(response);
+        when(mockVCSigner.jwsSignV2(any(JWSSignatureRequestDtoV2.class))).thenReturn(response);
 
         sdjwt.addProof(unsignedVC, null, "PS256", "myApp", "myRef", "https://example.com", "Ed25519Signature2020");
 
-        verify(mockSignatureService).jwsSignV2(argThat(dto ->
+        verify(mockVCSigner).jwsSignV2(argThat(dto ->
                 "myApp".equals(dto.getApplicationId()) &&
                         "myRef".equals(dto.getReferenceId()) &&
                         "PS256".equals(dto.getSignAlgorithm()) &&
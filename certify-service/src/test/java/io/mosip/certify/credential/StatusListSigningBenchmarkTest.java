@@ -0,0 +1,159 @@
+package io.mosip.certify.credential;
+
+import com.danubetech.dataintegrity.DataIntegrityProof;
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.keyformats.crypto.ByteSigner;
+import foundation.identity.jsonld.JsonLDObject;
+import info.weboftrust.ldsignatures.LdProof;
+import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.core.constants.VCDMConstants;
+import io.mosip.certify.utils.BitStringStatusListUtils;
+import io.mosip.certify.utils.CredentialUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.*;
+
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Compares the cost of re-signing a status list credential with each supported securing mechanism:
+ * Ed25519Signature2020 (URDNA2015 canonicalization), eddsa-jcs-2022 (JSON canonicalization) and
+ * enveloped VC-JWT (signature over the serialized bytes). Keymanager is replaced with an in-memory
+ * Ed25519 key, so the numbers reflect the document processing of each mechanism.
+ * <p>Skipped unless run with {@code -Dcertify.benchmark=true}, for example
+ * {@code mvn test -Dtest=StatusListSigningBenchmarkTest -Dcertify.benchmark=true}.</p>
+ */
+@Slf4j
+public class StatusListSigningBenchmarkTest {
+
+    private static final String VERIFICATION_METHOD = "did:example:issuer#key-1";
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 100;
+
+    private PrivateKey privateKey;
+
+    @Before
+    public void setUp() throws GeneralSecurityException {
+        Assume.assumeTrue("Benchmarks are enabled with -Dcertify.benchmark=true", Boolean.getBoolean("certify.benchmark"));
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        privateKey = keyPair.getPrivate();
+    }
+
+    @Test
+    public void benchmarkStatusListResigning() throws Exception {
+        for (long capacityInKB : new long[]{16L, 128L}) {
+            String unsecuredVc = createStatusListVc(capacityInKB);
+            double rdfc = measure(() -> signWithEd25519Signature2020(unsecuredVc));
+            double jcs = measure(() -> signWithEddsaJcs2022(unsecuredVc));
+            double jwt = measure(() -> signAsVcJwt(unsecuredVc));
+            log.info("Status list of {} KB ({} bytes): Ed25519Signature2020 {} us, eddsa-jcs-2022 {} us, vc+jwt {} us",
+                    capacityInKB, unsecuredVc.length(), String.format("%.1f", rdfc), String.format("%.1f", jcs), String.format("%.1f", jwt));
+        }
+    }
+
+    private Object signWithEd25519Signature2020(String unsecuredVc) throws Exception {
+        JsonLDObject jsonLDObject = JsonLDObject.fromJson(unsecuredVc);
+        jsonLDObject.setDocumentLoader(null);
+        LdProof proofOptions = LdProof.builder().defaultContexts(false).defaultTypes(false)
+                .type(SignatureAlg.ED25519_SIGNATURE_SUITE_2020)
+                .created(new Date()).proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                .verificationMethod(URI.create(VERIFICATION_METHOD))
+                .build();
+        byte[] canonicalized = new URDNA2015Canonicalizer().canonicalize(proofOptions, jsonLDObject);
+        return sign(canonicalized);
+    }
+
+    private Object signWithEddsaJcs2022(String unsecuredVc) {
+        JsonLDObject jsonLDObject = JsonLDObject.fromJson(unsecuredVc);
+        jsonLDObject.setDocumentLoader(null);
+        LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+        signer.setSigner(new ByteSigner("EdDSA") {
+            @Override
+            public byte[] sign(byte[] content) throws GeneralSecurityException {
+                return StatusListSigningBenchmarkTest.this.sign(content);
+            }
+        });
+        signer.setCryptosuite(SignatureAlg.ED_JCS_2022);
+        DataIntegrityProof proofOptions = DataIntegrityProof.builder()
+                .created(new Date())
+                .proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                .cryptosuite(SignatureAlg.ED_JCS_2022)
+                .verificationMethod(URI.create(VERIFICATION_METHOD))
+                .type(SignatureAlg.DATA_INTEGRITY).build();
+        return CredentialUtils.generateDataIntegrityProof(proofOptions, jsonLDObject, signer);
+    }
+
+    private Object signAsVcJwt(String unsecuredVc) throws GeneralSecurityException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"EdDSA\",\"typ\":\"vc+jwt\",\"cty\":\"vc\"}".getBytes(StandardCharsets.UTF_8));
+        String signingInput = header + "." + encoder.encodeToString(unsecuredVc.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + encoder.encodeToString(sign(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private byte[] sign(byte[] content) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initSign(privateKey);
+        signature.update(content);
+        return signature.sign();
+    }
+
+    /**
+     * Mean time of one run in microseconds, after a warm up.
+     */
+    private double measure(SigningRun run) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertNotNull(run.sign());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            assertNotNull(run.sign());
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static String createStatusListVc(long capacityInKB) {
+        // Revoke 1% of the indices so the compressed list is not trivially small
+        Random random = new Random(42);
+        long capacityInBits = capacityInKB * 1024L * 8L;
+        Map<Long, Boolean> statuses = new HashMap<>();
+        for (int i = 0; i < capacityInBits / 100; i++) {
+            statuses.put((long) random.nextInt((int) capacityInBits), true);
+        }
+        String encodedList = BitStringStatusListUtils.updateEncodedList(
+                BitStringStatusListUtils.createEmptyEncodedList(capacityInKB), statuses, capacityInKB);
+
+        String id = "https://example.com/v1/certify/credentials/status-list/benchmark";
+        JSONObject credentialSubject = new JSONObject()
+                .put("id", id)
+                .put("type", "BitstringStatusList")
+                .put("statusPurpose", "revocation")
+                .put("encodedList", encodedList);
+        return new JSONObject()
+                .put("@context", new JSONArray().put("https://www.w3.org/ns/credentials/v2"))
+                .put("type", new JSONArray().put("VerifiableCredential").put("BitstringStatusListCredential"))
+                .put("id", id)
+                .put("issuer", "did:example:issuer")
+                .put("validFrom", "2025-01-01T00:00:00Z")
+                .put("credentialSubject", credentialSubject)
+                .toString();
+    }
+
+    @FunctionalInterface
+    private interface SigningRun {
+        Object sign() throws Exception;
+    }
+}
@@ -10,14 +10,18 @@ import io.mosip.certify.core.dto.CertificateResponseDTO;
 import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.proofgenerators.ProofGenerator;
 import io.mosip.certify.proofgenerators.ProofGeneratorFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.certify.proofgenerators.dataintegrity.DataIntegrityLdSignerPool;
+import io.mosip.certify.proofgenerators.dataintegrity.JcsDataIntegrityProofGenerator;
 import io.mosip.certify.proofgenerators.dataintegrity.KeymanagerByteSigner;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.certify.utils.DIDDocumentUtil;
 import io.mosip.certify.vcformatters.VCFormatter;
-import io.mosip.kernel.signature.service.SignatureService;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
 import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.LdProof;
 import foundation.identity.jsonld.JsonLDObject;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -45,10 +49,7 @@ public class W3CJsonLDTest {
     private VCFormatter vcFormatter;
 
     @Mock
-    private SignatureService signatureService;
-
-    @Mock
-    private SignatureServicev2 signatureServicev2;
+    private VCSigner vcSigner;
 
     @Mock
     private ProofGenerator proofGenerator;
@@ -68,6 +69,15 @@ public class W3CJsonLDTest {
         ReflectionTestUtils.setField(w3cJsonLd, "proofGeneratorFactory", proofGeneratorFactory);
         ReflectionTestUtils.setField(w3cJsonLd, "didDocumentUtil", didDocumentUtil);
         ReflectionTestUtils.setField(w3cJsonLd, "keyAliasMapper", keyAliasMapper);
+        DataIntegrityLdSignerPool dataIntegrityLdSignerPool = new DataIntegrityLdSignerPool();
+        ReflectionTestUtils.setField(dataIntegrityLdSignerPool, "vcSigner", vcSigner);
+        ReflectionTestUtils.setField(dataIntegrityLdSignerPool, "maxIdle", 16);
+        ReflectionTestUtils.setField(w3cJsonLd, "dataIntegrityLdSignerPool", dataIntegrityLdSignerPool);
+        JcsDataIntegrityProofGenerator jcsDataIntegrityProofGenerator = new JcsDataIntegrityProofGenerator();
+        ReflectionTestUtils.setField(jcsDataIntegrityProofGenerator, "vcSigner", vcSigner);
+        ReflectionTestUtils.setField(jcsDataIntegrityProofGenerator, "enabled", true);
+        ReflectionTestUtils.setField(w3cJsonLd, "jcsDataIntegrityProofGenerator", jcsDataIntegrityProofGenerator);
+        ReflectionTestUtils.setField(w3cJsonLd, "objectMapper", new ObjectMapper());
         when(proofGeneratorFactory.getProofGenerator(any())).thenReturn(Optional.of(proofGenerator));
     }
 
@@ -203,6 +213,29 @@ public class W3CJsonLDTest {
         }
     }
 
+    @Test
+    public void testAddProof_JcsCryptoSuitePath_NoJsonLdProcessing() {
+        SignResponseDto signResponse = new SignResponseDto();
+        signResponse.setSignature("z3Wv5u");
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(signResponse);
+        CertificateResponseDTO certificateResponseDTO = new CertificateResponseDTO();
+        certificateResponseDTO.setKeyId("key-1");
+        when(didDocumentUtil.getCertificateDataResponseDto("appID", "refID")).thenReturn(certificateResponseDTO);
+
+        // The context is not resolvable, the JCS cryptosuites never load it
+        String vcJson = "{\"@context\":[\"https://example.org/unknown/v1\"],\"validFrom\":\"2023-01-01T00:00:00.000Z\"}";
+        VCResult<?> result = w3cJsonLd.addProof(vcJson, null, "EdDSA", "appID", "refID", "did:example:issuer", "eddsa-jcs-2022");
+
+        assertEquals("ldp_vc", result.getFormat());
+        Map<String, Object> proof = (Map<String, Object>) ((JsonLDObject) result.getCredential()).getJsonObject().get("proof");
+        assertEquals("DataIntegrityProof", proof.get("type"));
+        assertEquals("eddsa-jcs-2022", proof.get("cryptosuite"));
+        assertEquals("did:example:issuer#key-1", proof.get("verificationMethod"));
+        assertEquals("z3Wv5u", proof.get("proofValue"));
+        assertFalse(proof.containsKey("@context"));
+        verifyNoInteractions(proofGeneratorFactory);
+    }
+
     @Test
     public void testAddProof_NullHeaders() throws Exception {
         String vcJson = "{\"@context\":[],\"issuanceDate\":\"2023-01-01T00:00:00.000Z\"}";
@@ -0,0 +1,75 @@
+package io.mosip.certify.credential;
+
+import io.mosip.certify.api.dto.VCResult;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.vcformatters.VCFormatter;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class W3CVcJwtTest {
+
+    @Mock
+    private VCFormatter mockFormatter;
+
+    @Mock
+    private VCSigner mockVCSigner;
+
+    @InjectMocks
+    private W3CVcJwt w3CVcJwt;
+
+    @Test
+    public void testCanHandle_ShouldReturnTrueForVcJwt() {
+        assertTrue(w3CVcJwt.canHandle("vc+jwt"));
+        assertFalse(w3CVcJwt.canHandle("ldp_vc"));
+        // Only secures status list credentials, never served for a credential request
+        assertTrue(w3CVcJwt.isStatusListOnly());
+    }
+
+    @Test
+    public void testAddProof_ShouldEnvelopeUnsecuredVc() {
+        String unsecuredVc = "{\"id\":\"https://example.com/status-list/1\"}";
+        JWTSignatureResponseDto response = new JWTSignatureResponseDto();
+        response.setJwtSignedData("header.payload.signature");
+        when(mockVCSigner.jwsSignV2(any(JWSSignatureRequestDtoV2.class))).thenReturn(response);
+
+        VCResult<?> result = w3CVcJwt.addProof(unsecuredVc, "", "EdDSA", "myApp", "myRef", "did:example:issuer", "");
+
+        assertEquals("header.payload.signature", result.getCredential());
+        assertEquals("vc+jwt", result.getFormat());
+        String expectedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(unsecuredVc.getBytes(StandardCharsets.UTF_8));
+        verify(mockVCSigner).jwsSignV2(argThat(dto ->
+                expectedPayload.equals(dto.getDataToSign()) &&
+                        "myApp".equals(dto.getApplicationId()) &&
+                        "myRef".equals(dto.getReferenceId()) &&
+                        "EdDSA".equals(dto.getSignAlgorithm()) &&
+                        "vc+jwt".equals(dto.getAdditionalHeaders().get("typ")) &&
+                        dto.getIncludePayload()
+        ));
+    }
+
+    @Test
+    public void testGetPayload_ReturnsUnsecuredVc() {
+        String unsecuredVc = "{\"id\":\"https://example.com/status-list/1\"}";
+        String jwt = "eyJhbGciOiJFZERTQSJ9." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(unsecuredVc.getBytes(StandardCharsets.UTF_8)) + ".c2ln";
+
+        assertTrue(W3CVcJwt.isEnveloped(jwt));
+        assertFalse(W3CVcJwt.isEnveloped(unsecuredVc));
+        assertFalse(W3CVcJwt.isEnveloped("not-json"));
+        assertEquals(unsecuredVc, W3CVcJwt.getPayload(jwt));
+    }
+}
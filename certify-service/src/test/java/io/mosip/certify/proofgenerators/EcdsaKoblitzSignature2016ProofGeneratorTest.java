@@ -3,9 +3,9 @@ package io.mosip.certify.proofgenerators;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
 import io.mosip.certify.proofgenerators.EcdsaKoblitzSignature2016ProofGenerator;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
-import io.mosip.kernel.signature.service.SignatureService;
 import info.weboftrust.ldsignatures.LdProof;
 import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
@@ -28,7 +28,7 @@ public class EcdsaKoblitzSignature2016ProofGeneratorTest {
     private EcdsaKoblitzSignature2016ProofGenerator proofGenerator;
 
     @Mock
-    private SignatureService signatureService;
+    private VCSigner vcSigner;
 
     private Map<String, String> keyID;
 
@@ -58,20 +58,20 @@ public class EcdsaKoblitzSignature2016ProofGeneratorTest {
         JWTSignatureResponseDto response = new JWTSignatureResponseDto();
         response.setJwtSignedData("mockJWS");
 
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(baseProof, "mockEncodedHash", keyID);
 
         assertNotNull(result);
         assertEquals("mockJWS", result.getJws());
-        verify(signatureService).jwsSign(any(JWSSignatureRequestDto.class));
+        verify(vcSigner).jwsSign(any(JWSSignatureRequestDto.class));
     }
 
     @Test
     public void testGenerateProof_NullProof() {
         JWTSignatureResponseDto response = new JWTSignatureResponseDto();
         response.setJwtSignedData("mockJWS");
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(null, "mockEncodedHash", keyID);
 
@@ -85,7 +85,7 @@ public class EcdsaKoblitzSignature2016ProofGeneratorTest {
         JWTSignatureResponseDto response = new JWTSignatureResponseDto();
         response.setJwtSignedData("mockJWS");
 
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(new LdProof(), "mockEncodedHash", emptyKeyID);
 
@@ -2,9 +2,9 @@ package io.mosip.certify.proofgenerators;
 
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.SignRequestDtoV2;
 import io.mosip.kernel.signature.dto.SignResponseDto;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import info.weboftrust.ldsignatures.LdProof;
 import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
@@ -25,7 +25,7 @@ public class EcdsaSecp256r1Signature2019ProofGeneratorTest {
     private EcdsaSecp256r1Signature2019ProofGenerator proofGenerator;
 
     @Mock
-    private SignatureServicev2 signatureService;
+    private VCSigner vcSigner;
 
     private Map<String, String> keyID;
 
@@ -55,20 +55,20 @@ public class EcdsaSecp256r1Signature2019ProofGeneratorTest {
         SignResponseDto response = new SignResponseDto();
         response.setSignature("mockSignature");
 
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(baseProof, "mockEncodedHash", keyID);
 
         assertNotNull(result);
         assertEquals("mockSignature", result.getProofValue());
-        verify(signatureService).signv2(any(SignRequestDtoV2.class));
+        verify(vcSigner).signv2(any(SignRequestDtoV2.class));
     }
 
     @Test
     public void testGenerateProof_NullBaseProof() {
         SignResponseDto response = new SignResponseDto();
         response.setSignature("mockSignature");
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(null, "mockEncodedHash", keyID);
 
@@ -81,7 +81,7 @@ public class EcdsaSecp256r1Signature2019ProofGeneratorTest {
         Map<String, String> emptyKeyID = new HashMap<>();
         SignResponseDto response = new SignResponseDto();
         response.setSignature("mockSignature");
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
 
         LdProof result = proofGenerator.generateProof(new LdProof(), "mockEncodedHash", emptyKeyID);
 
@@ -94,11 +94,11 @@ public class EcdsaSecp256r1Signature2019ProofGeneratorTest {
         SignResponseDto response = new SignResponseDto();
         response.setSignature("mockSignature");
         ArgumentCaptor<SignRequestDtoV2> captor = ArgumentCaptor.forClass(SignRequestDtoV2.class);
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
 
         proofGenerator.generateProof(new LdProof(), "mockEncodedHash", keyID);
 
-        verify(signatureService).signv2(captor.capture());
+        verify(vcSigner).signv2(captor.capture());
         SignRequestDtoV2 dto = captor.getValue();
         assertEquals("mockEncodedHash", dto.getDataToSign());
         assertEquals("appId", dto.getApplicationId());
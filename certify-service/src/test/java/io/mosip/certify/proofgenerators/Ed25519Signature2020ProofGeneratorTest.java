@@ -5,10 +5,10 @@ import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.SignRequestDtoV2;
 import io.mosip.kernel.signature.dto.SignResponseDto;
 import io.mosip.kernel.signature.exception.RequestException;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -28,7 +28,7 @@ class Ed25519Signature2020ProofGeneratorTest {
     private Ed25519Signature2020ProofGenerator proofGenerator;
 
     @Mock
-    private SignatureServicev2 signatureService;
+    private VCSigner vcSigner;
 
     private Map<String, String> keyID;
 
@@ -59,20 +59,20 @@ class Ed25519Signature2020ProofGeneratorTest {
         SignResponseDto responseDto = new SignResponseDto();
         responseDto.setSignature("mockSignatureValue");
 
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
 
         LdProof result = proofGenerator.generateProof(baseProof, vcEncodedHash, keyID);
 
         assertNotNull(result);
         assertEquals("mockSignatureValue", result.getProofValue());
-        verify(signatureService).signv2(any(SignRequestDtoV2.class));
+        verify(vcSigner).signv2(any(SignRequestDtoV2.class));
     }
 
     @Test
     void testGenerateProof_NullProof() {
         SignResponseDto responseDto = new SignResponseDto();
         responseDto.setSignature("mockSignatureValue");
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
 
         LdProof result = proofGenerator.generateProof(null, "mockEncodedHash", keyID);
 
@@ -84,7 +84,7 @@ class Ed25519Signature2020ProofGeneratorTest {
     void testGenerateProof_EmptyKeyID() {
         SignResponseDto responseDto = new SignResponseDto();
         responseDto.setSignature("mockSignatureValue");
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(responseDto);
 
         Map<String, String> emptyKeyID = new HashMap<>();
         LdProof result = proofGenerator.generateProof(new LdProof(), "mockEncodedHash", emptyKeyID);
@@ -95,7 +95,7 @@ class Ed25519Signature2020ProofGeneratorTest {
 
     @Test
     void testGenerateProofSignature_ServiceFailure() {
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenThrow(new RequestException("SIGNATURE_TEST_ERROR","Signature Failed"));
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenThrow(new RequestException("SIGNATURE_TEST_ERROR","Signature Failed"));
 
         RequestException exception = assertThrows(RequestException.class, () -> {
             proofGenerator.generateProof(new LdProof(), "mockEncodedHash", keyID);
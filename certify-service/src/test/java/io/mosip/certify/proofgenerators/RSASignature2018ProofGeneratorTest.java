@@ -5,10 +5,10 @@ import info.weboftrust.ldsignatures.canonicalizer.Canonicalizer;
 import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
 import io.mosip.certify.core.constants.Constants;
 import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
 import io.mosip.kernel.signature.exception.RequestException;
-import io.mosip.kernel.signature.service.SignatureService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -28,7 +28,7 @@ class RSASignature2018ProofGeneratorTest {
     private RSASignature2018ProofGenerator proofGenerator;
 
     @Mock
-    private SignatureService signatureService;
+    private VCSigner vcSigner;
 
     private Map<String, String> keyID;
 
@@ -59,20 +59,20 @@ class RSASignature2018ProofGeneratorTest {
         JWTSignatureResponseDto responseDto = new JWTSignatureResponseDto();
         responseDto.setJwtSignedData("mockJwsData");
 
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
 
         LdProof result = proofGenerator.generateProof(baseProof, vcEncodedHash, keyID);
 
         assertNotNull(result);
         assertEquals("mockJwsData", result.getJws());
-        verify(signatureService).jwsSign(any(JWSSignatureRequestDto.class));
+        verify(vcSigner).jwsSign(any(JWSSignatureRequestDto.class));
     }
 
     @Test
     void testGenerateProof_NullProof() {
         JWTSignatureResponseDto responseDto = new JWTSignatureResponseDto();
         responseDto.setJwtSignedData("mockJwsData");
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
 
         LdProof result = proofGenerator.generateProof(null, "mockEncodedHash", keyID);
 
@@ -84,7 +84,7 @@ class RSASignature2018ProofGeneratorTest {
     void testGenerateProof_EmptyKeyID() {
         JWTSignatureResponseDto responseDto = new JWTSignatureResponseDto();
         responseDto.setJwtSignedData("mockJwsData");
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenReturn(responseDto);
 
         Map<String, String> emptyKeyID = new HashMap<>();
         LdProof result = proofGenerator.generateProof(new LdProof(), "mockEncodedHash", emptyKeyID);
@@ -95,7 +95,7 @@ class RSASignature2018ProofGeneratorTest {
 
     @Test
     void testGenerateProofSignature_ServiceFailure() {
-        when(signatureService.jwsSign(any(JWSSignatureRequestDto.class))).thenThrow(new RequestException("SIGNATURE_TEST_ERROR","Signature Failed"));
+        when(vcSigner.jwsSign(any(JWSSignatureRequestDto.class))).thenThrow(new RequestException("SIGNATURE_TEST_ERROR","Signature Failed"));
 
         RequestException exception = assertThrows(RequestException.class, () -> {
             proofGenerator.generateProof(new LdProof(), "mockEncodedHash", keyID);
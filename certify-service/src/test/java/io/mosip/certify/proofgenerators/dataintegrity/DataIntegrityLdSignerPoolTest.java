@@ -0,0 +1,111 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.keyformats.jose.JWSAlgorithm;
+import io.mosip.certify.signer.VCSigner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataIntegrityLdSignerPoolTest {
+
+    private static final String EDDSA_CRYPTOSUITE = "eddsa-rdfc-2022";
+    private static final String ECDSA_CRYPTOSUITE = "ecdsa-rdfc-2019";
+
+    @Mock
+    private VCSigner vcSigner;
+
+    @InjectMocks
+    private DataIntegrityLdSignerPool dataIntegrityLdSignerPool;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(dataIntegrityLdSignerPool, "maxIdle", 16);
+    }
+
+    @Test
+    public void isDataIntegrityCryptosuite_MatchesCryptosuitesOfAlgorithm() {
+        assertTrue(dataIntegrityLdSignerPool.isDataIntegrityCryptosuite(JWSAlgorithm.EdDSA, EDDSA_CRYPTOSUITE));
+        assertTrue(dataIntegrityLdSignerPool.isDataIntegrityCryptosuite(JWSAlgorithm.EdDSA, EDDSA_CRYPTOSUITE));
+        assertFalse(dataIntegrityLdSignerPool.isDataIntegrityCryptosuite(JWSAlgorithm.EdDSA, "Ed25519Signature2020"));
+        assertFalse(dataIntegrityLdSignerPool.isDataIntegrityCryptosuite(JWSAlgorithm.RS256, EDDSA_CRYPTOSUITE));
+        assertFalse(dataIntegrityLdSignerPool.isDataIntegrityCryptosuite("HS256", EDDSA_CRYPTOSUITE));
+    }
+
+    @Test
+    public void withLdSigner_ReusesConfiguredSignerPerKey() {
+        LdSigner first = dataIntegrityLdSignerPool.withLdSigner(EDDSA_CRYPTOSUITE, "appId", "refId", JWSAlgorithm.EdDSA, signer -> signer);
+        LdSigner second = dataIntegrityLdSignerPool.withLdSigner(EDDSA_CRYPTOSUITE, "appId", "refId", JWSAlgorithm.EdDSA, signer -> signer);
+        LdSigner otherKey = dataIntegrityLdSignerPool.withLdSigner(EDDSA_CRYPTOSUITE, "appId", "otherRefId", JWSAlgorithm.EdDSA, signer -> signer);
+
+        assertSame(first, second);
+        assertNotSame(first, otherKey);
+        assertEquals(EDDSA_CRYPTOSUITE, first.getCryptosuite());
+        assertTrue(first.getSigner() instanceof KeymanagerByteSigner);
+        assertEquals(JWSAlgorithm.EdDSA, first.getSigner().getAlgorithm());
+    }
+
+    @Test
+    public void withLdSigner_ConcurrentRequests_NeverShareASigner() throws Exception {
+        int threads = 32;
+        int iterations = 500;
+        Set<LdSigner> inUse = ConcurrentHashMap.newKeySet();
+        Set<LdSigner> created = ConcurrentHashMap.newKeySet();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean eddsa = t % 2 == 0;
+                String cryptosuite = eddsa ? EDDSA_CRYPTOSUITE : ECDSA_CRYPTOSUITE;
+                String algorithm = eddsa ? JWSAlgorithm.EdDSA : JWSAlgorithm.ES256;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        dataIntegrityLdSignerPool.withLdSigner(cryptosuite, "appId", "refId", algorithm, signer -> {
+                            created.add(signer);
+                            if (!inUse.add(signer)
+                                    || !cryptosuite.equals(signer.getCryptosuite())
+                                    || !algorithm.equals(signer.getSigner().getAlgorithm())) {
+                                failures.incrementAndGet();
+                            }
+                            Thread.yield();
+                            inUse.remove(signer);
+                            return null;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, failures.get());
+        // Signers are only created while every pooled one is in use
+        assertTrue(created.size() <= threads);
+    }
+}
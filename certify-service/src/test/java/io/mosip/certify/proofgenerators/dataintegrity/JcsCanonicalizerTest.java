@@ -0,0 +1,70 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.junit.Assert.*;
+
+public class JcsCanonicalizerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void canonicalize_Rfc8785Example() throws Exception {
+        String json = "{\"numbers\":[333333333.33333329,1E30,4.50,2e-3,0.000000000000000000000000001],"
+                + "\"string\":\"\\u20ac$\\u000F\\u000aA'\\u0042\\u0022\\u005c\\\\\\\"\\/\","
+                + "\"literals\":[null,true,false]}";
+
+        assertEquals("{\"literals\":[null,true,false],\"numbers\":[333333333.3333333,1e+30,4.5,0.002,1e-27],"
+                        + "\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\"}",
+                JcsCanonicalizer.canonicalize(objectMapper.readTree(json)));
+    }
+
+    @Test
+    public void canonicalize_SortsMembersByUtf16CodeUnits() throws Exception {
+        String json = "{\"\\u20ac\":\"Euro Sign\",\"\\r\":\"Carriage Return\",\"\\ufb33\":\"Hebrew Letter Dalet With Dagesh\","
+                + "\"1\":\"One\",\"\\ud83d\\ude00\":\"Emoji: Grinning Face\",\"\\u0080\":\"Control\","
+                + "\"\\u00f6\":\"Latin Small Letter O With Diaeresis\",\"nested\":{\"b\":[],\"a\":{}}}";
+
+        String canonical = JcsCanonicalizer.canonicalize(objectMapper.readTree(json));
+
+        assertEquals("{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"nested\":{\"a\":{},\"b\":[]},\"\u0080\":\"Control\","
+                + "\"\u00f6\":\"Latin Small Letter O With Diaeresis\",\"\u20ac\":\"Euro Sign\","
+                + "\"\ud83d\ude00\":\"Emoji: Grinning Face\",\"\ufb33\":\"Hebrew Letter Dalet With Dagesh\"}", canonical);
+    }
+
+    @Test
+    public void formatNumber_EcmaScriptSerialization() {
+        assertEquals("0", JcsCanonicalizer.formatNumber(0.0));
+        assertEquals("0", JcsCanonicalizer.formatNumber(-0.0));
+        assertEquals("5e-324", JcsCanonicalizer.formatNumber(Double.MIN_VALUE));
+        assertEquals("1.7976931348623157e+308", JcsCanonicalizer.formatNumber(Double.MAX_VALUE));
+        assertEquals("9007199254740992", JcsCanonicalizer.formatNumber(9007199254740992d));
+        assertEquals("1e+23", JcsCanonicalizer.formatNumber(1e23));
+        assertEquals("1e+21", JcsCanonicalizer.formatNumber(1e21));
+        assertEquals("100000000000000000000", JcsCanonicalizer.formatNumber(1e20));
+        assertEquals("0.000001", JcsCanonicalizer.formatNumber(1e-6));
+        assertEquals("1e-7", JcsCanonicalizer.formatNumber(1e-7));
+        assertEquals("-1.5", JcsCanonicalizer.formatNumber(-1.5));
+        assertEquals("0.30000000000000004", JcsCanonicalizer.formatNumber(0.1 + 0.2));
+        assertEquals("100", JcsCanonicalizer.formatNumber(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatNumber_NaN_ThrowsException() {
+        JcsCanonicalizer.formatNumber(Double.NaN);
+    }
+
+    @Test
+    public void sha256_HashesCanonicalUtf8() throws Exception {
+        String json = "{\"b\": \"\u00e9\", \"a\": [1.0, true]}";
+
+        byte[] expected = MessageDigest.getInstance("SHA-256")
+                .digest("{\"a\":[1,true],\"b\":\"\u00e9\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertArrayEquals(expected, JcsCanonicalizer.sha256(objectMapper.readTree(json)));
+    }
+}
@@ -0,0 +1,201 @@
+package io.mosip.certify.proofgenerators.dataintegrity;
+
+import com.danubetech.dataintegrity.DataIntegrityProof;
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.keyformats.crypto.ByteSigner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import foundation.identity.jsonld.JsonLDObject;
+import io.ipfs.multibase.Multibase;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.core.constants.VCDMConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.signer.VCSigner;
+import io.mosip.certify.utils.CredentialUtils;
+import io.mosip.certify.utils.JsonLDContextLoader;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JcsDataIntegrityProofGeneratorTest {
+
+    private static final String DOCUMENT = """
+            {
+              "@context": ["https://www.w3.org/ns/credentials/v2"],
+              "type": ["VerifiableCredential"],
+              "issuer": "did:example:issuer",
+              "validFrom": "2025-01-01T00:00:00Z",
+              "credentialSubject": {"id": "did:example:holder", "age": 30}
+            }""";
+
+    private static final String VCDM1_DOCUMENT = """
+            {
+              "@context": ["https://www.w3.org/2018/credentials/v1"],
+              "id": "urn:uuid:3978344f-8596-4c3a-a978-8fcaba3903c5",
+              "type": ["VerifiableCredential"],
+              "issuer": "did:example:issuer",
+              "issuanceDate": "2025-01-01T00:00:00Z",
+              "credentialSubject": {
+                "id": "did:example:holder",
+                "名前": "Ramesh Kumar",
+                "größe": 1.75,
+                "landArea": 0.000001,
+                "population": 1e21,
+                "€": "Euro Sign",
+                "emoji😀": [true, null, -0.5]
+              }
+            }""";
+
+    @Mock
+    private VCSigner vcSigner;
+
+    private JcsDataIntegrityProofGenerator generator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Before
+    public void setUp() {
+        generator = new JcsDataIntegrityProofGenerator();
+        ReflectionTestUtils.setField(generator, "vcSigner", vcSigner);
+        ReflectionTestUtils.setField(generator, "enabled", true);
+    }
+
+    @Test
+    public void supports_JcsCryptosuites() {
+        assertTrue(generator.supports("EdDSA", "eddsa-jcs-2022"));
+        assertTrue(generator.supports("ES256", "ecdsa-jcs-2019"));
+        assertFalse(generator.supports("ES384", "ecdsa-jcs-2019"));
+        assertFalse(generator.supports("EdDSA", "eddsa-rdfc-2022"));
+
+        ReflectionTestUtils.setField(generator, "enabled", false);
+        assertFalse(generator.supports("EdDSA", "eddsa-jcs-2022"));
+    }
+
+    @Test
+    public void addProof_SignsHashOfCanonicalProofConfigAndDocument() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenAnswer(invocation -> {
+            SignRequestDtoV2 request = invocation.getArgument(0);
+            Signature signature = Signature.getInstance("Ed25519");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(Base64.getUrlDecoder().decode(request.getDataToSign()));
+            SignResponseDto response = new SignResponseDto();
+            response.setSignature(Multibase.encode(Multibase.Base.Base58BTC, signature.sign()));
+            return response;
+        });
+
+        ObjectNode secured = generator.addProof((ObjectNode) objectMapper.readTree(DOCUMENT),
+                Date.from(Instant.parse("2025-01-01T00:00:00Z")), "did:example:issuer#key-1", "eddsa-jcs-2022",
+                "appId", "refId", "EdDSA");
+
+        byte[] hashData = new byte[64];
+        System.arraycopy(sha256("{\"@context\":[\"https://www.w3.org/ns/credentials/v2\"],\"created\":\"2025-01-01T00:00:00Z\","
+                + "\"cryptosuite\":\"eddsa-jcs-2022\",\"proofPurpose\":\"assertionMethod\",\"type\":\"DataIntegrityProof\","
+                + "\"verificationMethod\":\"did:example:issuer#key-1\"}"), 0, hashData, 0, 32);
+        System.arraycopy(sha256("{\"@context\":[\"https://www.w3.org/ns/credentials/v2\"],"
+                + "\"credentialSubject\":{\"age\":30,\"id\":\"did:example:holder\"},\"issuer\":\"did:example:issuer\","
+                + "\"type\":[\"VerifiableCredential\"],\"validFrom\":\"2025-01-01T00:00:00Z\"}"), 0, hashData, 32, 32);
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(hashData);
+        assertTrue(verifier.verify(Multibase.decode(secured.get("proof").get("proofValue").asText())));
+
+        ObjectNode proof = (ObjectNode) secured.get("proof");
+        assertEquals("DataIntegrityProof", proof.get("type").asText());
+        assertEquals("2025-01-01T00:00:00Z", proof.get("created").asText());
+        assertFalse(proof.has("@context"));
+        verify(vcSigner).signv2(argThat(request -> "appId".equals(request.getApplicationId())
+                && "refId".equals(request.getReferenceId()) && "EdDSA".equals(request.getSignAlgorithm())
+                && "base58btc".equals(request.getResponseEncodingFormat())));
+    }
+
+    @Test
+    public void addProof_SameProofValueAsGenericDataIntegritySigner() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenAnswer(invocation -> {
+            SignResponseDto response = new SignResponseDto();
+            response.setSignature(Multibase.encode(Multibase.Base.Base58BTC, ed25519Sign(keyPair,
+                    Base64.getUrlDecoder().decode(invocation.<SignRequestDtoV2>getArgument(0).getDataToSign()))));
+            return response;
+        });
+        JsonLDContextLoader jsonLDContextLoader = new JsonLDContextLoader();
+        ReflectionTestUtils.setField(jsonLDContextLoader, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "configuredContexts", Map.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "remoteContextAllowList", List.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "maxRemoteContexts", 1);
+        jsonLDContextLoader.preload();
+        Date created = Date.from(Instant.parse("2025-01-01T00:00:00Z"));
+
+        for (String document : List.of(VCDM1_DOCUMENT, DOCUMENT)) {
+            JsonLDObject jsonLDObject = JsonLDObject.fromJson(document);
+            jsonLDObject.setDocumentLoader(jsonLDContextLoader);
+            LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+            signer.setSigner(new ByteSigner("EdDSA") {
+                @Override
+                public byte[] sign(byte[] content) throws GeneralSecurityException {
+                    return ed25519Sign(keyPair, content);
+                }
+            });
+            signer.setCryptosuite(SignatureAlg.ED_JCS_2022);
+            DataIntegrityProof proofOptions = DataIntegrityProof.builder()
+                    .created(created)
+                    .proofPurpose(VCDMConstants.ASSERTION_METHOD)
+                    .cryptosuite(SignatureAlg.ED_JCS_2022)
+                    .verificationMethod(URI.create("did:example:issuer#key-1"))
+                    .type(SignatureAlg.DATA_INTEGRITY).build();
+            DataIntegrityProof genericProof = CredentialUtils.generateDataIntegrityProof(proofOptions, jsonLDObject, signer);
+
+            ObjectNode secured = generator.addProof((ObjectNode) objectMapper.readTree(document), created,
+                    "did:example:issuer#key-1", SignatureAlg.ED_JCS_2022, "appId", "refId", "EdDSA");
+
+            // Ed25519 signatures are deterministic, equal proof values mean equal signed bytes
+            assertEquals(genericProof.getProofValue(), secured.get("proof").get("proofValue").asText());
+        }
+    }
+
+    @Test
+    public void addProof_MissingReferenceId_ThrowsException() throws Exception {
+        CertifyException exception = assertThrows(CertifyException.class,
+                () -> generator.addProof((ObjectNode) objectMapper.readTree(DOCUMENT), new Date(),
+                        "did:example:issuer#key-1", "eddsa-jcs-2022", "appId", "", "EdDSA"));
+
+        assertEquals(ErrorConstants.MISSING_APPLICATION_OR_REFERENCE_ID, exception.getErrorCode());
+        verifyNoInteractions(vcSigner);
+    }
+
+    private static byte[] ed25519Sign(KeyPair keyPair, byte[] content) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(content);
+        return signature.sign();
+    }
+
+    private static byte[] sha256(String canonical) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+}
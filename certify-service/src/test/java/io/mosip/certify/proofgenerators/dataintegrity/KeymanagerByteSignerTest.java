@@ -2,9 +2,9 @@ package io.mosip.certify.proofgenerators.dataintegrity;
 
 import io.mosip.certify.core.constants.ErrorConstants;
 import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.signer.VCSigner;
 import io.mosip.kernel.signature.dto.SignRequestDtoV2;
 import io.mosip.kernel.signature.dto.SignResponseDto;
-import io.mosip.kernel.signature.service.SignatureServicev2;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -20,14 +20,14 @@ import static org.mockito.Mockito.*;
 public class KeymanagerByteSignerTest {
 
     @Mock
-    private SignatureServicev2 signatureService;
+    private VCSigner vcSigner;
     @Mock
     private KeymanagerByteSigner signer;
 
     @Before
     public void setUp() {
-        signatureService = mock(SignatureServicev2.class);
-        signer = new KeymanagerByteSigner("appId", "refId", signatureService, "ES256");
+        vcSigner = mock(VCSigner.class);
+        signer = new KeymanagerByteSigner("appId", "refId", vcSigner, "ES256");
     }
 
     @Test
@@ -38,17 +38,17 @@ public class KeymanagerByteSignerTest {
         SignResponseDto response = new SignResponseDto();
         response.setSignature(base58Signature);
 
-        when(signatureService.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
+        when(vcSigner.signv2(any(SignRequestDtoV2.class))).thenReturn(response);
 
         byte[] result = signer.sign(data);
 
         assertNotNull(result);
-        verify(signatureService).signv2(any(SignRequestDtoV2.class));
+        verify(vcSigner).signv2(any(SignRequestDtoV2.class));
     }
 
     @Test
     public void testSign_MissingAppId_ThrowsException() {
-        signer = new KeymanagerByteSigner("", "refId", signatureService, "ES256");
+        signer = new KeymanagerByteSigner("", "refId", vcSigner, "ES256");
         try {
             signer.sign("abc".getBytes());
             fail("Expected CertifyException");
@@ -61,7 +61,7 @@ public class KeymanagerByteSignerTest {
 
     @Test
     public void testSign_MissingRefId_ThrowsException() {
-        signer = new KeymanagerByteSigner("appId", "", signatureService, "ES256");
+        signer = new KeymanagerByteSigner("appId", "", vcSigner, "ES256");
         try {
             signer.sign("abc".getBytes());
             fail("Expected CertifyException");
@@ -499,7 +499,7 @@ public class CertifyIssuanceServiceImplTest {
         assertTrue("Response credential should be JsonLDObject", response.getCredential() instanceof JsonLDObject);
 
         // Assert
-        verify(statusListCredentialService).addCredentialStatus(any(JSONObject.class), eq("revocation"));
+        verify(statusListCredentialService).addCredentialStatus(any(JSONObject.class), eq(List.of("revocation")));
     }
 
     @Test
@@ -566,7 +566,7 @@ public class CertifyIssuanceServiceImplTest {
         // Act
         issuanceService.getCredential(request);
         verify(credentialLedgerService, atLeastOnce()).storeLedgerEntry(
-                isNull(), anyString(), anyString(), isNull(), anyMap(), any(LocalDateTime.class)
+                isNull(), anyString(), anyString(), isNull(), anyMap(), any(LocalDateTime.class), any(LocalDateTime.class)
         );
     }
 }
\ No newline at end of file
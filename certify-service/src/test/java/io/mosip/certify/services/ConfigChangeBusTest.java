@@ -0,0 +1,120 @@
+package io.mosip.certify.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigChangeBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Cache credentialConfigCache;
+
+    @InjectMocks
+    private ConfigChangeBus configChangeBus;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(configChangeBus, "cacheNames", List.of("credentialConfig"));
+    }
+
+    @Test
+    public void publishChange_WithoutTransaction_AppliesImmediately() {
+        when(cacheManager.getCache("credentialConfig")).thenReturn(credentialConfigCache);
+        when(jdbcTemplate.update(ConfigChangeBus.INCREMENT_SQL, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(1);
+        when(jdbcTemplate.queryForList(ConfigChangeBus.SELECT_SQL, Long.class, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(List.of(3L));
+
+        configChangeBus.publishChange();
+
+        assertEquals(3L, configChangeBus.getGeneration());
+        verify(credentialConfigCache).clear();
+        verify(eventPublisher).publishEvent(new ConfigChangeBus.ConfigChangedEvent(ConfigChangeBus.CREDENTIAL_CONFIG, 3L));
+        verify(jdbcTemplate, never()).update(ConfigChangeBus.INSERT_SQL, ConfigChangeBus.CREDENTIAL_CONFIG);
+    }
+
+    @Test
+    public void publishChange_MissingCounter_InsertsFirstGeneration() {
+        when(cacheManager.getCache("credentialConfig")).thenReturn(credentialConfigCache);
+        when(jdbcTemplate.update(ConfigChangeBus.INCREMENT_SQL, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(0);
+        when(jdbcTemplate.queryForList(ConfigChangeBus.SELECT_SQL, Long.class, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(List.of(1L));
+
+        configChangeBus.publishChange();
+
+        verify(jdbcTemplate).update(ConfigChangeBus.INSERT_SQL, ConfigChangeBus.CREDENTIAL_CONFIG);
+        assertEquals(1L, configChangeBus.getGeneration());
+    }
+
+    @Test
+    public void publishChange_InTransaction_AppliesAfterCommit() {
+        when(cacheManager.getCache("credentialConfig")).thenReturn(credentialConfigCache);
+        when(jdbcTemplate.update(ConfigChangeBus.INCREMENT_SQL, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(1);
+        when(jdbcTemplate.queryForList(ConfigChangeBus.SELECT_SQL, Long.class, ConfigChangeBus.CREDENTIAL_CONFIG)).thenReturn(List.of(5L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            configChangeBus.publishChange();
+
+            assertEquals(0L, configChangeBus.getGeneration());
+            verify(credentialConfigCache, never()).clear();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(5L, configChangeBus.getGeneration());
+        verify(credentialConfigCache).clear();
+    }
+
+    @Test
+    public void poll_AppliesOnlyNewerGenerations() {
+        when(cacheManager.getCache("credentialConfig")).thenReturn(credentialConfigCache);
+        when(jdbcTemplate.queryForList(ConfigChangeBus.SELECT_SQL, Long.class, ConfigChangeBus.CREDENTIAL_CONFIG))
+                .thenReturn(List.of(2L), List.of(2L), List.of(1L));
+
+        configChangeBus.poll();
+        configChangeBus.poll();
+        configChangeBus.poll();
+
+        assertEquals(2L, configChangeBus.getGeneration());
+        verify(credentialConfigCache, times(1)).clear();
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void poll_DatabaseUnavailable_KeepsGeneration() {
+        when(jdbcTemplate.queryForList(ConfigChangeBus.SELECT_SQL, Long.class, ConfigChangeBus.CREDENTIAL_CONFIG))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        configChangeBus.poll();
+
+        assertEquals(0L, configChangeBus.getGeneration());
+        verifyNoInteractions(cacheManager, eventPublisher);
+    }
+}
@@ -38,6 +38,9 @@ public class CredentialConfigurationServiceImplTest {
     @Mock
     private CredentialConfigMapper credentialConfigMapper;
 
+    @Mock
+    private ConfigChangeBus configChangeBus;
+
     @InjectMocks
     private CredentialConfigurationServiceImpl credentialConfigurationService;
 
@@ -221,6 +224,7 @@ public class CredentialConfigurationServiceImplTest {
         verify(credentialConfigRepository).findByCredentialConfigKeyId(eq(expectedId));
         verify(credentialConfigMapper).updateEntityFromDto(eq(mockDto), eq(mockCredentialConfig));
         verify(credentialConfigRepository).save(eq(mockCredentialConfig));
+        verify(configChangeBus).publishChange();
     }
 
     @Test
@@ -243,6 +247,7 @@ public class CredentialConfigurationServiceImplTest {
 
         Assert.assertNotNull(result);
         assertEquals("12345678", result);
+        verify(configChangeBus).publishChange();
     }
 
     @Test
@@ -282,6 +287,21 @@ public class CredentialConfigurationServiceImplTest {
         verify(credentialConfigMapper).toDto(credentialConfig);
     }
 
+    @Test
+    public void fetchCredentialIssuerMetadata_CachedUntilGenerationChanges() {
+        when(credentialConfigRepository.findAll()).thenReturn(List.of(credentialConfig));
+        when(credentialConfigMapper.toDto(any(CredentialConfig.class))).thenReturn(credentialConfigurationDTO);
+        when(configChangeBus.getGeneration()).thenReturn(1L, 1L, 2L);
+
+        CredentialIssuerMetadataDTO first = credentialConfigurationService.fetchCredentialIssuerMetadata("latest");
+        CredentialIssuerMetadataDTO second = credentialConfigurationService.fetchCredentialIssuerMetadata("latest");
+        CredentialIssuerMetadataDTO third = credentialConfigurationService.fetchCredentialIssuerMetadata("latest");
+
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(second, third);
+        verify(credentialConfigRepository, times(2)).findAll();
+    }
+
     @Test
     public void fetchCredentialIssuerMetadata_SigningAlgValuesSupported_UsesSignatureAlgo_WhenCryptoSuiteIsNull() {
         CredentialConfig config = new CredentialConfig();
@@ -600,7 +620,7 @@ public class CredentialConfigurationServiceImplTest {
     }
 
     @Test
-    public void validateCredentialConfiguration_MultipleCredentialStatusPurposes_ThrowsException() {
+    public void validateCredentialConfiguration_MultipleCredentialStatusPurposesNotAllowed_ThrowsException() {
         CredentialConfigurationDTO dto = new CredentialConfigurationDTO();
         dto.setCredentialFormat("ldp_vc");
         dto.setVcTemplate("test_template");
@@ -609,7 +629,20 @@ public class CredentialConfigurationServiceImplTest {
         CertifyException ex = assertThrows(CertifyException.class, () ->
                 ReflectionTestUtils.invokeMethod(credentialConfigurationService, "validateCredentialConfiguration", dto, true)
         );
-        assertEquals("Multiple credential status purposes are not currently supported.", ex.getMessage());
+        assertEquals("Invalid credential status purposes. Allowed values are: [purpose1]", ex.getMessage());
+    }
+
+    @Test
+    public void validateCredentialConfiguration_DuplicateCredentialStatusPurposes_ThrowsException() {
+        CredentialConfigurationDTO dto = new CredentialConfigurationDTO();
+        dto.setCredentialFormat("ldp_vc");
+        dto.setVcTemplate("test_template");
+        dto.setCredentialStatusPurposes(List.of("purpose1", "purpose1"));
+        ReflectionTestUtils.setField(credentialConfigurationService, "allowedCredentialStatusPurposes", List.of("purpose1"));
+        CertifyException ex = assertThrows(CertifyException.class, () ->
+                ReflectionTestUtils.invokeMethod(credentialConfigurationService, "validateCredentialConfiguration", dto, true)
+        );
+        assertEquals("Duplicate credential status purposes are not allowed.", ex.getMessage());
     }
 
     @Test
@@ -1,11 +1,13 @@
 package io.mosip.certify.services;
 
+import io.mosip.certify.core.dto.CredentialLedgerSearchPage;
 import io.mosip.certify.core.dto.CredentialLedgerSearchRequest;
 import io.mosip.certify.core.dto.CredentialStatusDetail;
 import io.mosip.certify.core.dto.CredentialStatusResponse;
 import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.entity.Ledger;
 import io.mosip.certify.repository.LedgerRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -14,15 +16,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -30,12 +36,17 @@ public class CredentialLedgerServiceTestImpl {
     @Mock
     private LedgerRepository ledgerRepository;
 
+    @Mock
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+
     @InjectMocks
     private CredentialLedgerServiceImpl ledgerService;
 
     @Before
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(ledgerService, "maxPageSize", 1000);
+        ReflectionTestUtils.setField(ledgerService, "fetchSize", 500);
     }
 
     @Test
@@ -108,15 +119,33 @@ public class CredentialLedgerServiceTestImpl {
     public void storeLedgerEntry_Success() {
         CredentialStatusDetail detail = new CredentialStatusDetail();
         Map<String, Object> attrs = Collections.singletonMap("foo", "bar");
-        ledgerService.storeLedgerEntry("cid", "issuer", "ctype", detail, attrs, LocalDateTime.now());
+        ledgerService.storeLedgerEntry("cid", "issuer", "ctype", detail, attrs, LocalDateTime.now(), LocalDateTime.now().plusYears(2));
         verify(ledgerRepository).save(any(Ledger.class));
+        verifyNoInteractions(statusListAvailableIndicesRepository);
+    }
+
+    @Test
+    public void storeLedgerEntry_WithStatusDetail_LinksAssignedIndex() {
+        CredentialStatusDetail detail = new CredentialStatusDetail();
+        detail.setStatusListCredentialId("https://example.com/status-list/xyz");
+        detail.setStatusListIndex(42L);
+        LocalDateTime expirationDate = LocalDateTime.now().plusYears(2);
+        when(ledgerRepository.save(any(Ledger.class))).thenAnswer(invocation -> {
+            Ledger saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+
+        ledgerService.storeLedgerEntry("cid", "issuer", "ctype", detail, Collections.emptyMap(), LocalDateTime.now(), expirationDate);
+
+        verify(statusListAvailableIndicesRepository).linkAssignedIndex("https://example.com/status-list/xyz", 42L, 7L, expirationDate);
     }
 
     @Test
     public void storeLedgerEntry_Error_Throws() {
         doThrow(new RuntimeException("fail")).when(ledgerRepository).save(any());
         try {
-            ledgerService.storeLedgerEntry("cid", "issuer", "ctype", new CredentialStatusDetail(), Collections.emptyMap(), LocalDateTime.now());
+            ledgerService.storeLedgerEntry("cid", "issuer", "ctype", new CredentialStatusDetail(), Collections.emptyMap(), LocalDateTime.now(), null);
             fail("Expected RuntimeException");
         } catch (RuntimeException ex) {
             // expected
@@ -332,6 +361,79 @@ public class CredentialLedgerServiceTestImpl {
     }
 
 
+    @Test
+    public void searchCredentialLedgerPage_MoreResults_ReturnsNextPageToken() {
+        CredentialLedgerSearchRequest request = createSearchRequest();
+        request.setPageSize(2);
+        Ledger first = createLedger("cred-1");
+        first.setId(10L);
+        Ledger second = createLedger("cred-2");
+        second.setId(11L);
+        Ledger third = createLedger("cred-3");
+        third.setId(12L);
+        when(ledgerRepository.findPageBySearchRequest(eq(request), isNull(), eq(3))).thenReturn(List.of(first, second, third));
+
+        CredentialLedgerSearchPage page = ledgerService.searchCredentialLedgerPage(request, true);
+
+        assertEquals(2, page.getRecords().size());
+        assertNull(page.getRecords().get(0).getIssueDate());
+        assertNotNull(page.getNextPageToken());
+
+        request.setPageToken(page.getNextPageToken());
+        when(ledgerRepository.findPageBySearchRequest(request, 11L, 3)).thenReturn(List.of(third));
+
+        CredentialLedgerSearchPage lastPage = ledgerService.searchCredentialLedgerPage(request, true);
+
+        assertEquals("cred-3", lastPage.getRecords().get(0).getCredentialId());
+        assertNull(lastPage.getNextPageToken());
+    }
+
+    @Test
+    public void searchCredentialLedgerPage_PageSizeAboveMaximum_IsCapped() {
+        ReflectionTestUtils.setField(ledgerService, "maxPageSize", 5);
+        CredentialLedgerSearchRequest request = createSearchRequest();
+        request.setPageSize(100);
+        when(ledgerRepository.findPageBySearchRequest(request, null, 6)).thenReturn(Collections.emptyList());
+
+        CredentialLedgerSearchPage page = ledgerService.searchCredentialLedgerPage(request, false);
+
+        assertTrue(page.getRecords().isEmpty());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    public void searchCredentialLedgerPage_InvalidPageToken_ThrowsCertifyException() {
+        CredentialLedgerSearchRequest request = createSearchRequest();
+        request.setPageSize(10);
+        request.setPageToken("not a token");
+
+        CertifyException ex = assertThrows(CertifyException.class, () -> ledgerService.searchCredentialLedgerPage(request, true));
+        assertEquals("INVALID_PAGE_TOKEN", ex.getErrorCode());
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    public void streamCredentialLedger_PassesEveryResultToConsumer() {
+        CredentialLedgerSearchRequest request = createSearchRequest();
+        when(ledgerRepository.streamBySearchRequest(request, 500))
+                .thenReturn(Stream.of(createLedger("cred-1"), createLedger("cred-2")));
+        List<CredentialStatusResponse> results = new ArrayList<>();
+
+        ledgerService.streamCredentialLedger(request, true, results::add);
+
+        assertEquals(2, results.size());
+        assertEquals("cred-2", results.get(1).getCredentialId());
+        assertNull(results.get(0).getIssueDate());
+    }
+
+    private CredentialLedgerSearchRequest createSearchRequest() {
+        CredentialLedgerSearchRequest request = new CredentialLedgerSearchRequest();
+        request.setIssuerId("did:web:test");
+        request.setCredentialType("VerifiableCredential");
+        request.setIndexedAttributesEquals(Map.of("state", "Karnataka"));
+        return request;
+    }
+
     private Ledger createLedger(String credentialId) {
         Ledger ledger = new Ledger();
         ledger.setId(1L);
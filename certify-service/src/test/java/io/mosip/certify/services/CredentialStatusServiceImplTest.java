@@ -2,11 +2,17 @@ package io.mosip.certify.services;
 
 import io.mosip.certify.core.dto.CredentialStatusResponse;
 import io.mosip.certify.core.dto.UpdateCredentialStatusRequest;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
 import io.mosip.certify.entity.CredentialStatusTransaction;
 import io.mosip.certify.entity.Ledger;
+import io.mosip.certify.entity.StatusListAvailableIndices;
+import io.mosip.certify.entity.StatusListCredential;
 import io.mosip.certify.core.dto.CredentialStatusDetail;
 import io.mosip.certify.repository.CredentialStatusTransactionRepository;
 import io.mosip.certify.repository.LedgerRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
+import io.mosip.certify.repository.StatusListCredentialRepository;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,6 +30,7 @@ import java.util.Optional;
 import static org.junit.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +40,10 @@ public class CredentialStatusServiceImplTest {
     private LedgerRepository ledgerRepository;
     @Mock
     private CredentialStatusTransactionRepository credentialStatusTransactionRepository;
+    @Mock
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+    @Mock
+    private StatusListCredentialRepository statusListCredentialRepository;
 
     @InjectMocks
     private CredentialStatusServiceImpl credentialStatusService;
@@ -197,6 +208,124 @@ public class CredentialStatusServiceImplTest {
         return transaction;
     }
 
+    @Test
+    public void updateCredential_WithReclaimedIndex_ThrowsException() {
+        String credentialId = "67823e96-fda0-4eba-9828-a32a8d22cc46";
+        String statusListCredential = "https://example.com/status-list/xyz";
+        UpdateCredentialStatusRequest request = createValidUpdateCredentialRequest(credentialId, statusListCredential);
+        Ledger ledger = createLedger(credentialId);
+        CredentialStatusDetail detail = new CredentialStatusDetail();
+        detail.setStatusListCredentialId(statusListCredential);
+        detail.setStatusListIndex(87823L);
+        detail.setStatusPurpose("revocation");
+        ledger.getCredentialStatusDetails().add(detail);
+
+        // The index now belongs to the ledger entry of another credential
+        StatusListAvailableIndices index = new StatusListAvailableIndices();
+        index.setStatusListCredentialId(statusListCredential);
+        index.setListIndex(87823L);
+        index.setIsAssigned(true);
+        index.setLedgerId(2L);
+
+        when(ledgerRepository.findByCredentialId(credentialId)).thenReturn(Optional.of(ledger));
+        when(statusListAvailableIndicesRepository.findByStatusListCredentialIdAndListIndex(statusListCredential, 87823L))
+                .thenReturn(Optional.of(index));
+
+        CertifyException exception = assertThrows(CertifyException.class, () -> credentialStatusService.updateCredentialStatus(request));
+
+        assertEquals(ErrorConstants.STATUS_LIST_INDEX_RECLAIMED, exception.getErrorCode());
+        verify(credentialStatusTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    public void updateCredential_WithSiblingPurpose_UsesSiblingStatusList() {
+        String credentialId = "67823e96-fda0-4eba-9828-a32a8d22cc47";
+        UpdateCredentialStatusRequest request = createValidUpdateCredentialRequest(credentialId, "primary");
+        request.getCredentialStatus().setStatusPurpose("suspension");
+        Ledger ledger = createLedger(credentialId);
+        CredentialStatusDetail detail = new CredentialStatusDetail();
+        detail.setStatusListCredentialId("primary");
+        detail.setStatusListIndex(87823L);
+        detail.setStatusPurpose("revocation");
+        ledger.getCredentialStatusDetails().add(detail);
+
+        StatusListCredential primary = new StatusListCredential();
+        primary.setId("primary");
+        primary.setStatusPurpose("revocation");
+        primary.setStatusListGroupId("primary");
+        StatusListCredential sibling = new StatusListCredential();
+        sibling.setId("sibling");
+        sibling.setStatusPurpose("suspension");
+        sibling.setStatusListGroupId("primary");
+
+        when(ledgerRepository.findByCredentialId(credentialId)).thenReturn(Optional.of(ledger));
+        when(statusListCredentialRepository.findById("primary")).thenReturn(Optional.of(primary));
+        when(statusListCredentialRepository.findByStatusListGroupId("primary")).thenReturn(List.of(primary, sibling));
+        when(credentialStatusTransactionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CredentialStatusResponse response = credentialStatusService.updateCredentialStatus(request);
+
+        assertEquals("sibling", response.getStatusListCredentialUrl());
+        assertEquals("suspension", response.getStatusPurpose());
+        assertEquals(87823, response.getStatusListIndex().longValue());
+    }
+
+    @Test
+    public void updateCredential_WithPurposeMissingFromGroup_ThrowsException() {
+        String credentialId = "67823e96-fda0-4eba-9828-a32a8d22cc48";
+        UpdateCredentialStatusRequest request = createValidUpdateCredentialRequest(credentialId, "primary");
+        request.getCredentialStatus().setStatusPurpose("suspension");
+        Ledger ledger = createLedger(credentialId);
+        CredentialStatusDetail detail = new CredentialStatusDetail();
+        detail.setStatusListCredentialId("primary");
+        detail.setStatusListIndex(87823L);
+        detail.setStatusPurpose("revocation");
+        ledger.getCredentialStatusDetails().add(detail);
+
+        StatusListCredential primary = new StatusListCredential();
+        primary.setId("primary");
+        primary.setStatusPurpose("revocation");
+        primary.setStatusListGroupId("primary");
+
+        when(ledgerRepository.findByCredentialId(credentialId)).thenReturn(Optional.of(ledger));
+        when(statusListCredentialRepository.findById("primary")).thenReturn(Optional.of(primary));
+        when(statusListCredentialRepository.findByStatusListGroupId("primary")).thenReturn(List.of(primary));
+
+        CertifyException exception = assertThrows(CertifyException.class,
+                () -> credentialStatusService.updateCredentialStatus(request));
+
+        assertEquals(ErrorConstants.STATUS_LIST_NOT_FOUND, exception.getErrorCode());
+        verify(credentialStatusTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    public void updateCredential_WithOtherPurposeOnSingleBitTokenStatusList_ThrowsException() {
+        String credentialId = "67823e96-fda0-4eba-9828-a32a8d22cc48";
+        UpdateCredentialStatusRequest request = createValidUpdateCredentialRequest(credentialId, "token-list");
+        request.getCredentialStatus().setStatusPurpose("suspension");
+        Ledger ledger = createLedger(credentialId);
+        CredentialStatusDetail detail = new CredentialStatusDetail();
+        detail.setStatusListCredentialId("token-list");
+        detail.setStatusListIndex(87823L);
+        detail.setStatusPurpose("revocation");
+        ledger.getCredentialStatusDetails().add(detail);
+
+        StatusListCredential tokenStatusList = new StatusListCredential();
+        tokenStatusList.setId("token-list");
+        tokenStatusList.setStatusPurpose("revocation");
+        tokenStatusList.setCredentialType(StatusListCredentialService.TOKEN_STATUS_LIST_TYPE);
+        tokenStatusList.setStatusSize(1);
+
+        when(ledgerRepository.findByCredentialId(credentialId)).thenReturn(Optional.of(ledger));
+        when(statusListCredentialRepository.findById("token-list")).thenReturn(Optional.of(tokenStatusList));
+
+        CertifyException exception = assertThrows(CertifyException.class,
+                () -> credentialStatusService.updateCredentialStatus(request));
+
+        assertEquals(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED, exception.getErrorCode());
+        verify(credentialStatusTransactionRepository, never()).save(any());
+    }
+
     private Ledger createLedger(String credentialId) {
         Ledger ledger = new Ledger();
         ledger.setId(1L);
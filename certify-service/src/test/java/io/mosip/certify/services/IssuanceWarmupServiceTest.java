@@ -0,0 +1,113 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.core.constants.Constants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.core.spi.CredentialConfigurationService;
+import io.mosip.certify.core.spi.RenderingTemplateService;
+import io.mosip.certify.entity.CredentialConfig;
+import io.mosip.certify.proofgenerators.ProofGeneratorFactory;
+import io.mosip.certify.repository.CredentialConfigRepository;
+import io.mosip.certify.utils.DIDDocumentUtil;
+import io.mosip.certify.vcformatters.VCFormatter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IssuanceWarmupServiceTest {
+
+    private static final String TEMPLATE_NAME = "vc+sd-jwt::test-vct";
+
+    @Mock
+    private CredentialConfigRepository credentialConfigRepository;
+
+    @Mock
+    private CredentialConfigurationService credentialConfigurationService;
+
+    @Mock
+    private VCFormatter vcFormatter;
+
+    @Mock
+    private DIDDocumentUtil didDocumentUtil;
+
+    @Mock
+    private ProofGeneratorFactory proofGeneratorFactory;
+
+    @Mock
+    private RenderingTemplateService renderingTemplateService;
+
+    @InjectMocks
+    private IssuanceWarmupService issuanceWarmupService;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(issuanceWarmupService, "warmupEnabled", true);
+        ReflectionTestUtils.setField(issuanceWarmupService, "iterations", 3);
+        ReflectionTestUtils.setField(issuanceWarmupService, "timeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(issuanceWarmupService, "pluginMode", "DataProvider");
+        ReflectionTestUtils.setField(issuanceWarmupService, "renderTemplateId", "");
+    }
+
+    @Test
+    public void warmUp_LoadsCachesAndIssuesSyntheticCredentials() {
+        CredentialConfig active = sdJwtConfig("test-vct", Constants.ACTIVE);
+        CredentialConfig sameDid = sdJwtConfig("other-vct", Constants.ACTIVE);
+        CredentialConfig inactive = sdJwtConfig("inactive-vct", "inactive");
+        when(credentialConfigRepository.findAll()).thenReturn(List.of(active, sameDid, inactive));
+        when(vcFormatter.getProofAlgorithm(anyString())).thenReturn("ES256");
+        when(vcFormatter.format(anyMap())).thenReturn("{\"vct\":\"test-vct\"}");
+
+        issuanceWarmupService.warmUp();
+
+        verify(credentialConfigurationService).fetchCredentialIssuerMetadata("latest");
+        verify(didDocumentUtil, times(2)).getCertificateDataResponseDto("CERTIFY_VC_SIGN_EC_R1", "EC_SECP256R1_SIGN");
+        verify(didDocumentUtil, times(1)).generateDIDDocument("did:web:example.com");
+        verify(vcFormatter, times(3)).format(argThat(params -> TEMPLATE_NAME.equals(params.get(Constants.TEMPLATE_NAME))));
+        verify(vcFormatter, times(6)).format(anyMap());
+        verify(vcFormatter, never()).getProofAlgorithm("vc+sd-jwt::inactive-vct");
+    }
+
+    @Test
+    public void warmUp_FailingSteps_DoNotStopWarmup() {
+        when(credentialConfigRepository.findAll()).thenReturn(List.of(sdJwtConfig("test-vct", Constants.ACTIVE)));
+        when(credentialConfigurationService.fetchCredentialIssuerMetadata("latest")).thenThrow(new CertifyException("unknown_error"));
+        when(didDocumentUtil.generateDIDDocument(anyString())).thenThrow(new CertifyException("No certificates found"));
+        when(vcFormatter.getProofAlgorithm(anyString())).thenReturn("ES256");
+        when(vcFormatter.format(anyMap())).thenThrow(new CertifyException("template_error"));
+
+        issuanceWarmupService.warmUp();
+
+        verify(vcFormatter, times(3)).format(anyMap());
+    }
+
+    @Test
+    public void warmUp_Disabled_DoesNothing() {
+        ReflectionTestUtils.setField(issuanceWarmupService, "warmupEnabled", false);
+
+        issuanceWarmupService.warmUp();
+
+        verifyNoInteractions(credentialConfigRepository, vcFormatter, didDocumentUtil);
+    }
+
+    private static CredentialConfig sdJwtConfig(String vct, String status) {
+        CredentialConfig config = new CredentialConfig();
+        config.setCredentialFormat("vc+sd-jwt");
+        config.setSdJwtVct(vct);
+        config.setStatus(status);
+        config.setDidUrl("did:web:example.com");
+        config.setKeyManagerAppId("CERTIFY_VC_SIGN_EC_R1");
+        config.setKeyManagerRefId("EC_SECP256R1_SIGN");
+        return config;
+    }
+}
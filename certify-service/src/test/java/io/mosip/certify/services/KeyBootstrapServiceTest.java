@@ -0,0 +1,113 @@
+package io.mosip.certify.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.certify.core.constants.Constants;
+import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KeyBootstrapServiceTest {
+
+    @Mock
+    private KeymanagerService keymanagerService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private KeyBootstrapService keyBootstrapService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(keyBootstrapService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(keyBootstrapService, "cacheSecretKeyRefId", "TRANSACTION_CACHE");
+        ReflectionTestUtils.setField(keyBootstrapService, "pluginMode", "DataProvider");
+        ReflectionTestUtils.setField(keyBootstrapService, "parallelism", 4);
+    }
+
+    @Test
+    public void bootstrap_AllKeysPresent_SkipsKeymanager() {
+        List<String[]> inventory = keyBootstrapService.keyPhases().stream()
+                .flatMap(List::stream)
+                .map(key -> new String[]{key.applicationId(), key.referenceId()})
+                .toList();
+        mockInventory(inventory);
+
+        keyBootstrapService.bootstrap();
+
+        verifyNoInteractions(keymanagerService);
+    }
+
+    @Test
+    public void bootstrap_NoKeys_CreatesAllKeysInPhases() {
+        mockInventory(List.of());
+
+        keyBootstrapService.bootstrap();
+
+        InOrder inOrder = inOrder(keymanagerService);
+        inOrder.verify(keymanagerService).generateMasterKey(eq("CSR"), argThat(r -> Constants.ROOT_KEY.equals(r.getApplicationId())));
+        inOrder.verify(keymanagerService).generateMasterKey(eq("certificate"), argThat(r -> Constants.CERTIFY_VC_SIGN_ED25519.equals(r.getApplicationId())));
+        inOrder.verify(keymanagerService).generateECSignKey(eq("certificate"), argThat(r -> Constants.ED25519_REF_ID.equals(r.getReferenceId())));
+        verify(keymanagerService, times(5)).generateMasterKey(anyString(), any(KeyPairGenerateRequestDto.class));
+        verify(keymanagerService, times(3)).generateECSignKey(anyString(), any(KeyPairGenerateRequestDto.class));
+        verify(keymanagerService).generateSymmetricKey(any(SymmetricKeyGenerateRequestDto.class));
+        assertEquals(9, meterRegistry.get("certify.key.bootstrap").timers().size());
+    }
+
+    @Test
+    public void bootstrap_OnlyRootPresent_CreatesTheRest() {
+        mockInventory(List.<String[]>of(new String[]{Constants.ROOT_KEY, null}));
+
+        keyBootstrapService.bootstrap();
+
+        verify(keymanagerService, never()).generateMasterKey(eq("CSR"), argThat(r -> Constants.ROOT_KEY.equals(r.getApplicationId())));
+        verify(keymanagerService, times(4)).generateMasterKey(anyString(), any(KeyPairGenerateRequestDto.class));
+    }
+
+    @Test
+    public void bootstrap_KeymanagerFailure_FailsStartup() {
+        mockInventory(List.of());
+        when(keymanagerService.generateMasterKey(anyString(), any(KeyPairGenerateRequestDto.class)))
+                .thenThrow(new IllegalStateException("keystore unavailable"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> keyBootstrapService.bootstrap());
+
+        assertEquals("keystore unavailable", exception.getMessage());
+        verify(keymanagerService, never()).generateECSignKey(anyString(), any(KeyPairGenerateRequestDto.class));
+    }
+
+    private void mockInventory(List<String[]> keys) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String[] key : keys) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("app_id")).thenReturn(key[0]);
+                when(rs.getString("ref_id")).thenReturn(key[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(KeyBootstrapService.KEY_INVENTORY_SQL), any(RowCallbackHandler.class), any(LocalDateTime.class));
+    }
+}
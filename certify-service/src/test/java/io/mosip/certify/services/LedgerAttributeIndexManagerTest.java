@@ -0,0 +1,131 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.config.IndexedAttributesConfig;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerAttributeIndexManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private LockProvider lockProvider;
+
+    @Mock
+    private SimpleLock lock;
+
+    @Spy
+    private IndexedAttributesConfig indexedAttributesConfig = new IndexedAttributesConfig();
+
+    @InjectMocks
+    private LedgerAttributeIndexManager indexManager;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(indexManager, "lockAtMostFor", Duration.ofHours(1));
+        indexedAttributesConfig.setIndexedMappings(Map.of("state", "$.state", "home-district", "$.district"));
+    }
+
+    @Test
+    public void synchronizeIndexes_CreatesIndexForEachIndexableKey() {
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+
+        indexManager.synchronizeIndexes();
+
+        verify(jdbcTemplate).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"idx_ledger_attr_state\" " +
+                "ON ledger (issuer_id, credential_type, (indexed_attributes ->> 'state'), id)");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+        verify(lock).unlock();
+    }
+
+    @Test
+    public void synchronizeIndexes_KeysDifferingInCase_GetTheirOwnIndex() {
+        indexedAttributesConfig.setIndexedMappings(Map.of("state", "$.state", "State", "$.State"));
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+
+        indexManager.synchronizeIndexes();
+
+        verify(jdbcTemplate).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"idx_ledger_attr_state\" " +
+                "ON ledger (issuer_id, credential_type, (indexed_attributes ->> 'state'), id)");
+        verify(jdbcTemplate).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"idx_ledger_attr_State\" " +
+                "ON ledger (issuer_id, credential_type, (indexed_attributes ->> 'State'), id)");
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    public void synchronizeIndexes_InvalidIndex_IsRebuilt() throws Exception {
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("idx_ledger_attr_state");
+        when(resultSet.getBoolean(2)).thenReturn(false);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        indexManager.synchronizeIndexes();
+
+        verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS \"idx_ledger_attr_state\"");
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    public void synchronizeIndexes_DropUnmapped_DropsIndexOfRemovedKey() throws Exception {
+        ReflectionTestUtils.setField(indexManager, "dropUnmapped", true);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("idx_ledger_attr_state", "idx_ledger_attr_village");
+        when(resultSet.getBoolean(2)).thenReturn(true);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        indexManager.synchronizeIndexes();
+
+        verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS \"idx_ledger_attr_village\"");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    public void synchronizeIndexes_LockHeldElsewhere_DoesNothing() {
+        when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+        indexManager.synchronizeIndexes();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void isIndexedKey_OnlyMappedKeysWithSafeNames() {
+        assertTrue(indexedAttributesConfig.isIndexedKey("state"));
+        assertFalse(indexedAttributesConfig.isIndexedKey("home-district"));
+        assertFalse(indexedAttributesConfig.isIndexedKey("village"));
+    }
+}
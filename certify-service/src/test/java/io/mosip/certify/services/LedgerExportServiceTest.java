@@ -0,0 +1,137 @@
+package io.mosip.certify.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerExportServiceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private LedgerExportService exportService;
+
+    private Path exportDirectory;
+
+    private final LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final LocalDateTime to = from.plusDays(1);
+
+    @Before
+    public void setUp() throws Exception {
+        exportDirectory = temporaryFolder.newFolder("export").toPath();
+        ReflectionTestUtils.setField(exportService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(exportService, "exportDirectory", exportDirectory.toString());
+        ReflectionTestUtils.setField(exportService, "chunkRows", 2L);
+        ReflectionTestUtils.setField(exportService, "fetchSize", 100);
+        ReflectionTestUtils.setField(exportService, "replicaUrl", "");
+        exportService.init();
+    }
+
+    @Test
+    public void export_WritesChunksWithManifest() throws Exception {
+        mockQuery();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("{\"id\":1}", "{\"id\":2}", "{\"id\":3}");
+
+        LedgerExportService.ExportManifest manifest = exportService.export(from, to, LedgerExportService.FORMAT_NDJSON);
+
+        assertEquals(3, manifest.totalRows());
+        assertEquals("primary", manifest.source());
+        assertEquals(2, manifest.chunks().size());
+        Path target = exportDirectory.resolve("ledger-20250101000000-20250102000000");
+        assertTrue(Files.exists(target.resolve(LedgerExportService.MANIFEST_FILE)));
+        assertFalse(Files.exists(exportDirectory.resolve("ledger-20250101000000-20250102000000.tmp")));
+
+        LedgerExportService.ExportChunk first = manifest.chunks().get(0);
+        assertEquals("ledger-00001.ndjson.gz", first.file());
+        assertEquals(2, first.rows());
+        byte[] compressed = Files.readAllBytes(target.resolve(first.file()));
+        assertEquals(compressed.length, first.bytes());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(compressed)), first.sha256());
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", gunzip(target.resolve(first.file())));
+        assertEquals("{\"id\":3}\n", gunzip(target.resolve(manifest.chunks().get(1).file())));
+
+        verify(statement).setFetchSize(100);
+        verify(connection).setAutoCommit(false);
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    public void export_WhenExportExists_ReturnsExistingManifest() throws Exception {
+        mockQuery();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("{\"id\":1}");
+        exportService.export(from, to, LedgerExportService.FORMAT_NDJSON);
+
+        LedgerExportService.ExportManifest manifest = exportService.export(from, to, LedgerExportService.FORMAT_NDJSON);
+
+        assertEquals(1, manifest.totalRows());
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    public void toCsvField_QuotesSpecialCharacters() {
+        assertEquals("", LedgerExportService.toCsvField(null));
+        assertEquals("KA", LedgerExportService.toCsvField("KA"));
+        assertEquals("\"{\"\"state\"\": \"\"KA\"\", \"\"district\"\": \"\"1\"\"}\"",
+                LedgerExportService.toCsvField("{\"state\": \"KA\", \"district\": \"1\"}"));
+    }
+
+    private void mockQuery() throws Exception {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+                invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(eq(LedgerExportService.NDJSON_SQL), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    private static String gunzip(Path file) throws Exception {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.mosip.certify.services;
+
+import net.javacrumbs.shedlock.core.LockAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LedgerPartitionManager partitionManager;
+
+    private final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+
+    @Before
+    public void setUp() {
+        LockAssert.TestHelper.makeAllAssertsPass(true);
+        ReflectionTestUtils.setField(partitionManager, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(partitionManager, "monthsAhead", 2);
+        ReflectionTestUtils.setField(partitionManager, "archiveEnabled", false);
+        ReflectionTestUtils.setField(partitionManager, "archiveGracePeriod", "P30D");
+        ReflectionTestUtils.setField(partitionManager, "archiveAction", "archive");
+        ReflectionTestUtils.setField(partitionManager, "archiveSchema", "certify_archive");
+    }
+
+    @After
+    public void tearDown() {
+        LockAssert.TestHelper.makeAllAssertsPass(false);
+    }
+
+    @Test
+    public void maintainPartitions_CreatesMissingPartitionsAhead() {
+        mockPartitions(List.of("ledger_default", "ledger_legacy", LedgerPartitionManager.partitionName(currentMonth)));
+
+        partitionManager.maintainPartitions();
+
+        YearMonth nextMonth = currentMonth.plusMonths(1);
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS " + LedgerPartitionManager.partitionName(nextMonth)
+                + " PARTITION OF ledger FOR VALUES FROM ('" + nextMonth.atDay(1) + "') TO ('" + nextMonth.plusMonths(1).atDay(1) + "')");
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS " + LedgerPartitionManager.partitionName(currentMonth.plusMonths(2))));
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    public void maintainPartitions_LedgerNotPartitioned_DoesNothing() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        partitionManager.maintainPartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void maintainPartitions_Disabled_DoesNothing() {
+        ReflectionTestUtils.setField(partitionManager, "partitioningEnabled", false);
+
+        partitionManager.maintainPartitions();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void maintainPartitions_ExpiredPartition_IsDetachedAndArchived() {
+        ReflectionTestUtils.setField(partitionManager, "archiveEnabled", true);
+        String expired = LedgerPartitionManager.partitionName(currentMonth.minusMonths(3));
+        String active = LedgerPartitionManager.partitionName(currentMonth.minusMonths(2));
+        String current = LedgerPartitionManager.partitionName(currentMonth);
+        List<String> partitions = new ArrayList<>(List.of(expired, active, current, "ledger_legacy"));
+        for (int i = 1; i <= 2; i++) {
+            partitions.add(LedgerPartitionManager.partitionName(currentMonth.plusMonths(i)));
+        }
+        mockPartitions(partitions);
+        when(jdbcTemplate.queryForObject(contains("FROM " + expired), eq(Boolean.class), any(LocalDateTime.class))).thenReturn(true);
+        // Checked unless it ended less than the grace period ago
+        lenient().when(jdbcTemplate.queryForObject(contains("FROM " + active), eq(Boolean.class), any(LocalDateTime.class))).thenReturn(false);
+
+        partitionManager.maintainPartitions();
+
+        verify(jdbcTemplate).execute("ALTER TABLE ledger DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA certify_archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE ledger DETACH PARTITION " + active);
+        verify(jdbcTemplate, never()).execute("ALTER TABLE ledger DETACH PARTITION " + current);
+    }
+
+    @Test
+    public void maintainPartitions_DropAction_DropsExpiredPartition() {
+        ReflectionTestUtils.setField(partitionManager, "archiveEnabled", true);
+        ReflectionTestUtils.setField(partitionManager, "archiveAction", "drop");
+        ReflectionTestUtils.setField(partitionManager, "monthsAhead", 0);
+        String expired = LedgerPartitionManager.partitionName(currentMonth.minusMonths(6));
+        mockPartitions(List.of(expired, LedgerPartitionManager.partitionName(currentMonth)));
+        when(jdbcTemplate.queryForObject(contains("FROM " + expired), eq(Boolean.class), any(LocalDateTime.class))).thenReturn(true);
+
+        partitionManager.maintainPartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        verify(jdbcTemplate, never()).execute(contains("SET SCHEMA"));
+    }
+
+    private void mockPartitions(List<String> partitions) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(partitions);
+    }
+}
@@ -0,0 +1,118 @@
+package io.mosip.certify.services;
+
+import net.javacrumbs.shedlock.core.LockAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerRollupAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LedgerRollupAggregator aggregator;
+
+    @Before
+    public void setUp() {
+        LockAssert.TestHelper.makeAllAssertsPass(true);
+        ReflectionTestUtils.setField(aggregator, "rollupEnabled", true);
+        ReflectionTestUtils.setField(aggregator, "rollupAttributes", "district, state");
+        ReflectionTestUtils.setField(aggregator, "reconcileWindow", Duration.ofMinutes(15));
+    }
+
+    @After
+    public void tearDown() {
+        LockAssert.TestHelper.makeAllAssertsPass(false);
+    }
+
+    @Test
+    public void aggregateRollups_RecountsDaysWithRowsSinceReconcileWindowBeforeLastRun() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 0, 5);
+        when(jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class)).thenReturn(Timestamp.valueOf(now));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(LedgerRollupAggregator.ISSUANCE_ROLLUP)))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 0, 4)));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(LedgerRollupAggregator.STATUS_ROLLUP)))
+                .thenReturn(null);
+        when(jdbcTemplate.queryForList(LedgerRollupAggregator.ISSUANCE_DAYS_SQL, Date.class, LocalDateTime.of(2025, 1, 1, 23, 49)))
+                .thenReturn(List.of(Date.valueOf(LocalDate.of(2025, 1, 1)), Date.valueOf(LocalDate.of(2025, 1, 2))));
+        when(jdbcTemplate.queryForList(LedgerRollupAggregator.STATUS_DAYS_SQL, Date.class, LocalDateTime.of(1970, 1, 1, 0, 0)))
+                .thenReturn(List.of(Date.valueOf(LocalDate.of(2024, 12, 31))));
+
+        aggregator.aggregateRollups();
+
+        // A day is recounted as a whole, a row committed after the previous run is counted with it
+        verify(jdbcTemplate).update(LedgerRollupAggregator.ISSUANCE_ROLLUP_SQL,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0), "district,state");
+        verify(jdbcTemplate).update(LedgerRollupAggregator.ISSUANCE_ROLLUP_SQL,
+                LocalDateTime.of(2025, 1, 2, 0, 0), LocalDateTime.of(2025, 1, 3, 0, 0), "district,state");
+        verify(jdbcTemplate).update(LedgerRollupAggregator.STATUS_ROLLUP_SQL,
+                LocalDateTime.of(2024, 12, 31, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+        verify(jdbcTemplate).update(anyString(), eq(now), eq(LedgerRollupAggregator.ISSUANCE_ROLLUP));
+        verify(jdbcTemplate).update(anyString(), eq(now), eq(LedgerRollupAggregator.STATUS_ROLLUP));
+    }
+
+    @Test
+    public void aggregateRollups_WhenDayFailsToRecount_KeepsWatermark() {
+        when(jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 0, 5)));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(LedgerRollupAggregator.ISSUANCE_ROLLUP)))
+                .thenReturn(null);
+        when(jdbcTemplate.queryForList(LedgerRollupAggregator.ISSUANCE_DAYS_SQL, Date.class, LocalDateTime.of(1970, 1, 1, 0, 0)))
+                .thenReturn(List.of(Date.valueOf(LocalDate.of(2025, 1, 1))));
+        // Lenient, the watermark row is also written with update
+        lenient().when(jdbcTemplate.update(eq(LedgerRollupAggregator.ISSUANCE_ROLLUP_SQL), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        aggregator.aggregateRollups();
+
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE ledger_rollup_watermark"), any(Object[].class));
+    }
+
+    @Test
+    public void statusRollup_DoesNotCountReclaimResets() {
+        assertTrue(LedgerRollupAggregator.STATUS_ROLLUP_SQL.contains(
+                "status_purpose <> '" + StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE + "'"));
+        assertTrue(LedgerRollupAggregator.STATUS_DAYS_SQL.contains(
+                "status_purpose <> '" + StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE + "'"));
+    }
+
+    @Test
+    public void aggregateRollups_WhenDisabled_DoesNothing() {
+        ReflectionTestUtils.setField(aggregator, "rollupEnabled", false);
+
+        aggregator.aggregateRollups();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void attributes_IgnoresKeysThatCannotBeParameters() {
+        ReflectionTestUtils.setField(aggregator, "rollupAttributes", "district,,state,district,a,b'");
+
+        assertEquals(List.of("district", "state", "a"), aggregator.attributes());
+    }
+}
@@ -0,0 +1,275 @@
+package io.mosip.certify.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.dto.CredentialStatusDetail;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.entity.Ledger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerWriteBehindServiceTest {
+
+    private static final int ROW_PARAMS = 8;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LedgerWriteBehindService writeBehindService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object[]> statements = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(writeBehindService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(writeBehindService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(writeBehindService, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writeBehindService, "flushSize", 3);
+        ReflectionTestUtils.setField(writeBehindService, "flushInterval", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(writeBehindService, "enqueueTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(writeBehindService, "retryBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(writeBehindService, "shutdownTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(writeBehindService, "journalPath", "");
+        ReflectionTestUtils.setField(writeBehindService, "journalSegmentSize", 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        writeBehindService.stop();
+    }
+
+    @Test
+    public void enqueue_WhenFlushSizeReached_WritesEntriesInOneStatement() throws Exception {
+        CountDownLatch flushed = recordStatements(1);
+        writeBehindService.start();
+
+        for (int i = 1; i <= 3; i++) {
+            writeBehindService.enqueue(createLedger("cred-" + i));
+        }
+
+        assertTrue(flushed.await(2, TimeUnit.SECONDS));
+        assertEquals(1, statements.size());
+        String sql = (String) statements.get(0)[0];
+        assertTrue(sql.startsWith("WITH inserted AS (INSERT INTO ledger"));
+        assertTrue(sql.contains("UPDATE status_list_available_indices"));
+        assertEquals(3 * ROW_PARAMS, statements.get(0).length - 1);
+        assertEquals("cred-1", statements.get(0)[1]);
+        assertEquals("cred-3", statements.get(0)[1 + 2 * ROW_PARAMS]);
+        assertEquals(3.0, meterRegistry.get("certify.ledger.write.behind.batch.size").summary().totalAmount(), 0.0);
+    }
+
+    @Test
+    public void enqueue_WhenFlushIntervalElapses_WritesPartialBatch() throws Exception {
+        ReflectionTestUtils.setField(writeBehindService, "flushInterval", Duration.ofMillis(50));
+        CountDownLatch flushed = recordStatements(1);
+        writeBehindService.start();
+
+        writeBehindService.enqueue(createLedger("cred-1"));
+
+        assertTrue(flushed.await(2, TimeUnit.SECONDS));
+        assertEquals(ROW_PARAMS, statements.get(0).length - 1);
+    }
+
+    @Test
+    public void writeBatch_WhenBatchRejected_WritesEntriesIndividually() throws Exception {
+        writeBehindService.start();
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        writeBehindService.writeBatch(List.of(
+                new LedgerJournal.Entry(1, createLedger("cred-1")),
+                new LedgerJournal.Entry(2, createLedger("cred-2"))));
+
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+        assertEquals(1.0, meterRegistry.get("certify.ledger.write.behind.dropped").counter().count(), 0.0);
+    }
+
+    @Test
+    public void start_WithJournal_ReplaysEntriesAfterCheckpoint() throws Exception {
+        Path journalDirectory = temporaryFolder.newFolder("journal").toPath();
+        try (LedgerJournal journal = new LedgerJournal(journalDirectory, objectMapper, 2)) {
+            journal.recover();
+            for (int i = 1; i <= 3; i++) {
+                journal.append(i, createLedger("cred-" + i));
+            }
+            journal.checkpoint(1);
+        }
+        ReflectionTestUtils.setField(writeBehindService, "journalPath", journalDirectory.toString());
+        recordStatements(1);
+
+        writeBehindService.start();
+
+        assertEquals(1, statements.size());
+        assertEquals(2 * ROW_PARAMS, statements.get(0).length - 1);
+        assertEquals("cred-2", statements.get(0)[1]);
+        assertEquals("3", Files.readString(journalDirectory.resolve("checkpoint")));
+    }
+
+    @Test
+    public void enqueue_ConcurrentRequestsWithJournal_CheckpointsEveryEntry() throws Exception {
+        Path journalDirectory = temporaryFolder.newFolder("concurrent").toPath();
+        ReflectionTestUtils.setField(writeBehindService, "journalPath", journalDirectory.toString());
+        ReflectionTestUtils.setField(writeBehindService, "flushInterval", Duration.ofMillis(20));
+        CountDownLatch written = new CountDownLatch(40);
+        doAnswer(invocation -> {
+            for (int i = 0; i < (invocation.getArguments().length - 1) / ROW_PARAMS; i++) {
+                written.countDown();
+            }
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        writeBehindService.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 1; i <= 40; i++) {
+            String credentialId = "cred-" + i;
+            executor.submit(() -> writeBehindService.enqueue(createLedger(credentialId)));
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        writeBehindService.stop();
+        try (LedgerJournal journal = new LedgerJournal(journalDirectory, objectMapper, 2)) {
+            assertTrue(journal.recover().entries().isEmpty());
+        }
+        assertEquals("40", Files.readString(journalDirectory.resolve("checkpoint")));
+    }
+
+    @Test
+    public void enqueue_WhenEntryCannotBeSerialized_DropsItAndAdvancesCheckpoint() throws Exception {
+        Path journalDirectory = temporaryFolder.newFolder("unserializable").toPath();
+        ReflectionTestUtils.setField(writeBehindService, "journalPath", journalDirectory.toString());
+        ReflectionTestUtils.setField(writeBehindService, "flushInterval", Duration.ofMillis(20));
+        CountDownLatch written = recordStatements(2);
+        writeBehindService.start();
+        // The journal keeps the mapper it was opened with, only the database insert fails to serialize
+        ReflectionTestUtils.setField(writeBehindService, "objectMapper", new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value instanceof Map<?, ?> attributes && attributes.containsKey("unserializable")) {
+                    throw new JsonMappingException(null, "cannot serialize");
+                }
+                return objectMapper.writeValueAsString(value);
+            }
+        });
+
+        Ledger unserializable = createLedger("cred-2");
+        unserializable.setIndexedAttributes(Map.of("unserializable", "true"));
+        writeBehindService.enqueue(createLedger("cred-1"));
+        writeBehindService.enqueue(unserializable);
+        writeBehindService.enqueue(createLedger("cred-3"));
+
+        assertTrue(written.await(2, TimeUnit.SECONDS));
+        writeBehindService.stop();
+        assertEquals(2, statements.size());
+        assertEquals("cred-1", statements.get(0)[1]);
+        assertEquals("cred-3", statements.get(1)[1]);
+        assertEquals(1.0, meterRegistry.get("certify.ledger.write.behind.dropped").counter().count(), 0.0);
+        assertEquals("3", Files.readString(journalDirectory.resolve("checkpoint")));
+    }
+
+    @Test
+    public void enqueue_WhenJournalAppendFails_DoesNotQueueEntry() throws Exception {
+        writeBehindService.start();
+        LedgerJournal journal = mock(LedgerJournal.class);
+        doThrow(new IOException("disk full")).when(journal).append(anyLong(), any(Ledger.class));
+        ReflectionTestUtils.setField(writeBehindService, "journal", journal);
+
+        CertifyException exception = assertThrows(CertifyException.class,
+                () -> writeBehindService.enqueue(createLedger("cred-1")));
+
+        assertEquals(ErrorConstants.LEDGER_WRITE_FAILED, exception.getErrorCode());
+        writeBehindService.stop();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void journal_Checkpoint_DeletesSegmentsWrittenToDatabase() throws Exception {
+        Path journalDirectory = temporaryFolder.newFolder("segments").toPath();
+        try (LedgerJournal journal = new LedgerJournal(journalDirectory, objectMapper, 2)) {
+            journal.recover();
+            for (int i = 1; i <= 5; i++) {
+                journal.append(i, createLedger("cred-" + i));
+            }
+            journal.checkpoint(4);
+        }
+
+        try (LedgerJournal journal = new LedgerJournal(journalDirectory, objectMapper, 2)) {
+            LedgerJournal.Recovery recovery = journal.recover();
+            assertEquals(1, recovery.entries().size());
+            assertEquals("cred-5", recovery.entries().get(0).ledger().getCredentialId());
+            assertEquals(6L, recovery.nextSequence());
+        }
+        try (var files = Files.list(journalDirectory)) {
+            assertEquals(2L, files.count());
+        }
+    }
+
+    private CountDownLatch recordStatements(int expected) {
+        CountDownLatch latch = new CountDownLatch(expected);
+        doAnswer(invocation -> {
+            statements.add(invocation.getArguments());
+            latch.countDown();
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        return latch;
+    }
+
+    private static Ledger createLedger(String credentialId) {
+        Ledger ledger = new Ledger();
+        ledger.setCredentialId(credentialId);
+        ledger.setIssuerId("did:example:issuer");
+        ledger.setCredentialType("FarmerCredential");
+        ledger.setIssuanceDate(LocalDateTime.now());
+        ledger.setIndexedAttributes(Map.of("state", "KA"));
+        CredentialStatusDetail statusDetail = new CredentialStatusDetail();
+        statusDetail.setStatusPurpose("revocation");
+        statusDetail.setStatusListCredentialId("https://example.com/status-list/xyz");
+        statusDetail.setStatusListIndex(7L);
+        ledger.setCredentialStatusDetails(List.of(statusDetail));
+        return ledger;
+    }
+}
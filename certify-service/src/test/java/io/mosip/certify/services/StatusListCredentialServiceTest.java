@@ -58,6 +58,7 @@ public class StatusListCredentialServiceTest {
         ReflectionTestUtils.setField(service, "signatureCryptoSuite", "Ed25519Signature2020");
         ReflectionTestUtils.setField(service, "signatureAlgo", "EdDSA");
         ReflectionTestUtils.setField(service, "statusListKeyManagerRefId", "ED25519_SIGN");
+        ReflectionTestUtils.setField(service, "statusListCredentialFormat", VCFormats.LDP_VC);
         Map<String, List<List<String>>> keyAliasMapper = new HashMap<>();
         keyAliasMapper.put("EdDSA", Arrays.asList(Arrays.asList("appId")));
         ReflectionTestUtils.setField(service, "keyAliasMapper", keyAliasMapper);
@@ -117,7 +118,7 @@ public class StatusListCredentialServiceTest {
     @Test
     public void generateStatusListCredential_Success() {
         W3CJsonLD w3CJsonLD = mock(W3CJsonLD.class);
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
         VCResult mockVcResultLdp = new VCResult<JsonLDObject>();
         JsonLDObject signedCredObj = JsonLDObject.fromJson("{\"signed\":\"credential\", \"proof\":{}}");
         mockVcResultLdp.setCredential(signedCredObj);
@@ -145,7 +146,7 @@ public class StatusListCredentialServiceTest {
 
     @Test
     public void generateStatusListCredential_JsonError_Throws() {
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(credential));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(credential));
         when(credential.addProof(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
                 .thenThrow(new RuntimeException("json error"));
         try {
@@ -180,7 +181,7 @@ public class StatusListCredentialServiceTest {
     public void findOrCreateStatusList_CreatesNew() {
         when(statusListCredentialRepository.findFirstByStatusPurposeAndCredentialStatusOrderByCreatedDtimesDesc(anyString(), any())).thenReturn(Optional.empty());
         W3CJsonLD w3CJsonLD = mock(W3CJsonLD.class);
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
         VCResult mockVcResultLdp = new VCResult<JsonLDObject>();
         JsonLDObject signedCredObj = JsonLDObject.fromJson("{\"signed\":\"credential\", \"proof\":{}}");
         mockVcResultLdp.setCredential(signedCredObj);
@@ -225,7 +226,7 @@ public class StatusListCredentialServiceTest {
     @Test
     public void resignStatusListCredential_Success() {
         W3CJsonLD w3CJsonLD = mock(W3CJsonLD.class);
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
         VCResult mockVcResultLdp = new VCResult<JsonLDObject>();
         JsonLDObject signedCredObj = JsonLDObject.fromJson("{\"signed\":\"credential\", \"proof\":{}}");
         mockVcResultLdp.setCredential(signedCredObj);
@@ -247,7 +248,7 @@ public class StatusListCredentialServiceTest {
 
     @Test
     public void resignStatusListCredential_Error_Throws() {
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(credential));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(credential));
         when(credential.addProof(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
                 .thenThrow(new RuntimeException("fail"));
         try {
@@ -278,7 +279,7 @@ public class StatusListCredentialServiceTest {
         when(statusListCredentialRepository.findFirstByStatusPurposeAndCredentialStatusOrderByCreatedDtimesDesc(anyString(), any())).thenReturn(Optional.of(slc));
         when(indexProvider.acquireIndex(anyString(), anyMap())).thenReturn(Optional.of(-1L)).thenReturn(Optional.of(2L));
         W3CJsonLD w3CJsonLD = mock(W3CJsonLD.class);
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
         VCResult mockVcResultLdp = new VCResult<JsonLDObject>();
         JsonLDObject signedCredObj = JsonLDObject.fromJson("{\"signed\":\"credential\", \"proof\":{}}");
         mockVcResultLdp.setCredential(signedCredObj);
@@ -314,7 +315,7 @@ public class StatusListCredentialServiceTest {
         when(statusListCredentialRepository.findFirstByStatusPurposeAndCredentialStatusOrderByCreatedDtimesDesc(anyString(), any())).thenReturn(Optional.of(slc));
         when(indexProvider.acquireIndex(anyString(), anyMap())).thenReturn(Optional.of(-1L)).thenReturn(Optional.of(-1L));
         W3CJsonLD w3CJsonLD = mock(W3CJsonLD.class);
-        when(credentialFactory.getCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
+        when(credentialFactory.getStatusListCredential(VCFormats.LDP_VC)).thenReturn(Optional.of(w3CJsonLD));
         VCResult mockVcResultLdp = new VCResult<JsonLDObject>();
         JsonLDObject signedCredObj = JsonLDObject.fromJson("{\"signed\":\"credential\", \"proof\":{}}");
         mockVcResultLdp.setCredential(signedCredObj);
@@ -328,4 +329,89 @@ public class StatusListCredentialServiceTest {
             // expected
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void addCredentialStatus_MultiplePurposes_SharesIndexAcrossGroup() {
+        StatusListCredential primary = new StatusListCredential();
+        primary.setId("primary");
+        primary.setStatusPurpose("revocation");
+        primary.setStatusListGroupId("primary");
+        StatusListCredential sibling = new StatusListCredential();
+        sibling.setId("sibling");
+        sibling.setStatusPurpose("suspension");
+        sibling.setStatusListGroupId("primary");
+        when(statusListCredentialRepository.findGroupPrimaryLists(eq("revocation"), any())).thenReturn(List.of(primary));
+        when(statusListCredentialRepository.findByStatusListGroupId("primary")).thenReturn(List.of(sibling, primary));
+        when(indexProvider.acquireIndex(eq("primary"), anyMap())).thenReturn(Optional.of(7L));
+
+        JSONObject json = new JSONObject();
+        service.addCredentialStatus(json, List.of("revocation", "suspension"));
+
+        org.json.JSONArray credentialStatus = json.getJSONArray(VCDM2Constants.CREDENTIAL_STATUS);
+        assertEquals(2, credentialStatus.length());
+        assertEquals("revocation", credentialStatus.getJSONObject(0).getString("statusPurpose"));
+        assertEquals("https://example.com/v1/certify/credentials/status-list/primary", credentialStatus.getJSONObject(0).getString("statusListCredential"));
+        assertEquals("suspension", credentialStatus.getJSONObject(1).getString("statusPurpose"));
+        assertEquals("https://example.com/v1/certify/credentials/status-list/sibling", credentialStatus.getJSONObject(1).getString("statusListCredential"));
+        assertEquals("7", credentialStatus.getJSONObject(1).getString("statusListIndex"));
+        verify(indexProvider, times(1)).acquireIndex(anyString(), anyMap());
+    }
+
+    @Test
+    public void addTokenStatus_AddsStatusListClaim() {
+        ReflectionTestUtils.setField(service, "tokenStatusListBits", 2);
+        StatusListCredential tokenStatusList = new StatusListCredential();
+        tokenStatusList.setId("token-list");
+        tokenStatusList.setCredentialType(StatusListCredentialService.TOKEN_STATUS_LIST_TYPE);
+        when(statusListCredentialRepository.findLatestByCredentialType(StatusListCredentialService.TOKEN_STATUS_LIST_TYPE,
+                "revocation", StatusListCredential.CredentialStatus.AVAILABLE)).thenReturn(Optional.of(tokenStatusList));
+        when(indexProvider.acquireIndex(eq("token-list"), anyMap())).thenReturn(Optional.of(42L));
+
+        JSONObject json = new JSONObject();
+        service.addTokenStatus(json, List.of("revocation", "suspension"));
+
+        JSONObject statusList = json.getJSONObject("status").getJSONObject("status_list");
+        assertEquals(42L, statusList.getLong("idx"));
+        assertEquals("https://example.com/v1/certify/credentials/status-list/token-list", statusList.getString("uri"));
+        assertFalse(json.has(VCDM2Constants.CREDENTIAL_STATUS));
+    }
+
+    @Test
+    public void addTokenStatus_SeveralPurposesWithSingleBit_ThrowsException() {
+        ReflectionTestUtils.setField(service, "tokenStatusListBits", 1);
+
+        CertifyException exception = assertThrows(CertifyException.class,
+                () -> service.addTokenStatus(new JSONObject(), List.of("revocation", "suspension")));
+
+        assertEquals(ErrorConstants.STATUS_LIST_CAPACITY_MISCONFIGURED, exception.getErrorCode());
+        verifyNoInteractions(indexProvider);
+    }
+
+    @Test
+    public void generateTokenStatusList_SignsStatusListToken() {
+        ReflectionTestUtils.setField(service, "tokenStatusListBits", 2);
+        Credential tokenCredential = mock(Credential.class);
+        VCResult<String> vcResult = new VCResult<>();
+        vcResult.setCredential("header.payload.signature");
+        when(credentialFactory.getStatusListCredential(VCFormats.STATUS_LIST_JWT)).thenReturn(Optional.of(tokenCredential));
+        when(tokenCredential.addProof(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> vcResult);
+        when(statusListCredentialRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getSingleResult()).thenReturn(1L);
+
+        StatusListCredential result = service.generateTokenStatusList("revocation");
+
+        assertEquals("header.payload.signature", result.getVcDocument());
+        assertEquals(StatusListCredentialService.TOKEN_STATUS_LIST_TYPE, result.getCredentialType());
+        assertEquals(Integer.valueOf(2), result.getStatusSize());
+        ArgumentCaptor<String> claimsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(tokenCredential).addProof(claimsCaptor.capture(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+        JSONObject claims = new JSONObject(claimsCaptor.getValue());
+        assertEquals("https://example.com/v1/certify/credentials/status-list/" + result.getId(), claims.getString("sub"));
+        assertEquals(2, claims.getJSONObject("status_list").getInt("bits"));
+        // 2 KB of 2 bit statuses
+        verify(query).setParameter(2, 8192L);
+    }
+}
@@ -0,0 +1,214 @@
+package io.mosip.certify.services;
+
+import io.mosip.certify.entity.CredentialStatusTransaction;
+import io.mosip.certify.entity.StatusListAvailableIndices;
+import io.mosip.certify.entity.StatusListCredential;
+import io.mosip.certify.repository.CredentialStatusTransactionRepository;
+import io.mosip.certify.repository.StatusListAvailableIndicesRepository;
+import io.mosip.certify.repository.StatusListCredentialRepository;
+import io.mosip.certify.utils.BitStringStatusListUtils;
+import io.mosip.certify.utils.TokenStatusListUtils;
+import net.javacrumbs.shedlock.core.LockAssert;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatusListIndexReclaimJobTest {
+
+    private static final String STATUS_LIST_ID = "https://example.com/status-list/xyz";
+
+    @Mock
+    private StatusListAvailableIndicesRepository statusListAvailableIndicesRepository;
+
+    @Mock
+    private StatusListCredentialRepository statusListCredentialRepository;
+
+    @Mock
+    private CredentialStatusTransactionRepository transactionRepository;
+
+    @Mock
+    private StatusListCredentialService statusListCredentialService;
+
+    @InjectMocks
+    private StatusListIndexReclaimJob reclaimJob;
+
+    @Before
+    public void setUp() {
+        LockAssert.TestHelper.makeAllAssertsPass(true);
+        ReflectionTestUtils.setField(reclaimJob, "reclaimJobEnabled", true);
+        ReflectionTestUtils.setField(reclaimJob, "batchSize", 100);
+        ReflectionTestUtils.setField(reclaimJob, "gracePeriod", "P30D");
+    }
+
+    @After
+    public void tearDown() {
+        LockAssert.TestHelper.makeAllAssertsPass(false);
+    }
+
+    @Test
+    public void reclaimStatusListIndices_WhenDisabled_DoesNothing() {
+        ReflectionTestUtils.setField(reclaimJob, "reclaimJobEnabled", false);
+
+        reclaimJob.reclaimStatusListIndices();
+
+        verifyNoInteractions(statusListAvailableIndicesRepository, statusListCredentialRepository, transactionRepository);
+    }
+
+    @Test
+    public void reclaimStatusListIndices_WithUnsetBit_ReleasesIndexAndMarksListAvailable() {
+        StatusListCredential statusList = createStatusList(Map.of());
+        when(statusListAvailableIndicesRepository.findExpiredAssignedIndices(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(createIndex(1L, 5L)));
+        when(statusListCredentialRepository.findById(STATUS_LIST_ID)).thenReturn(Optional.of(statusList));
+        when(statusListAvailableIndicesRepository.releaseIndices(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(1);
+
+        reclaimJob.reclaimStatusListIndices();
+
+        verify(statusListAvailableIndicesRepository).releaseIndices(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(transactionRepository, never()).saveAll(any());
+        assertEquals(StatusListCredential.CredentialStatus.AVAILABLE, statusList.getCredentialStatus());
+        verify(statusListCredentialRepository).save(statusList);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reclaimStatusListIndices_WithSetBit_QueuesResetInsteadOfRelease() {
+        when(statusListAvailableIndicesRepository.findExpiredAssignedIndices(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(createIndex(1L, 5L)));
+        when(statusListCredentialRepository.findById(STATUS_LIST_ID)).thenReturn(Optional.of(createStatusList(Map.of(5L, true))));
+
+        reclaimJob.reclaimStatusListIndices();
+
+        ArgumentCaptor<List<CredentialStatusTransaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(captor.capture());
+        CredentialStatusTransaction reset = captor.getValue().getFirst();
+        assertEquals(STATUS_LIST_ID, reset.getStatusListCredentialId());
+        assertEquals(Long.valueOf(5L), reset.getStatusListIndex());
+        assertEquals(StatusListIndexReclaimJob.RECLAIM_STATUS_PURPOSE, reset.getStatusPurpose());
+        assertFalse(reset.getStatusValue());
+        verify(statusListAvailableIndicesRepository, never()).releaseIndices(any(), any());
+    }
+
+    @Test
+    public void reclaimStatusListIndices_WithPendingTransaction_SkipsIndex() {
+        when(statusListAvailableIndicesRepository.findExpiredAssignedIndices(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(createIndex(1L, 5L)));
+        when(statusListCredentialRepository.findById(STATUS_LIST_ID)).thenReturn(Optional.of(createStatusList(Map.of())));
+        when(transactionRepository.existsByStatusListCredentialIdAndStatusListIndexAndIsProcessedFalse(anyString(), anyLong()))
+                .thenReturn(true);
+
+        reclaimJob.reclaimStatusListIndices();
+
+        verify(transactionRepository, never()).saveAll(any());
+        verify(statusListAvailableIndicesRepository, never()).releaseIndices(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reclaimStatusListIndices_RevokedToken_ResetByBatchJobAndReleased() {
+        String lst = TokenStatusListUtils.updateList(TokenStatusListUtils.createEmptyList(1L),
+                Map.of(5L, TokenStatusListUtils.STATUS_INVALID), 2, 1L);
+        StatusListCredential tokenStatusList = new StatusListCredential();
+        tokenStatusList.setId(STATUS_LIST_ID);
+        tokenStatusList.setCredentialType(StatusListCredentialService.TOKEN_STATUS_LIST_TYPE);
+        tokenStatusList.setVcDocument(new JSONObject().put("status_list", new JSONObject().put("bits", 2).put("lst", lst)).toString());
+        tokenStatusList.setStatusPurpose("revocation");
+        tokenStatusList.setStatusSize(2);
+        tokenStatusList.setCapacityInKB(1L);
+        tokenStatusList.setCredentialStatus(StatusListCredential.CredentialStatus.AVAILABLE);
+
+        List<CredentialStatusTransaction> transactions = new ArrayList<>();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            for (CredentialStatusTransaction transaction : (List<CredentialStatusTransaction>) invocation.getArgument(0)) {
+                if (!transactions.contains(transaction)) {
+                    transaction.setCreatedDtimes(LocalDateTime.now());
+                    transactions.add(transaction);
+                }
+            }
+            return invocation.getArgument(0);
+        });
+        when(transactionRepository.existsByStatusListCredentialIdAndStatusListIndexAndIsProcessedFalse(anyString(), anyLong()))
+                .thenAnswer(invocation -> transactions.stream().anyMatch(t -> !t.getIsProcessed()
+                        && t.getStatusListCredentialId().equals(invocation.getArgument(0))
+                        && t.getStatusListIndex().equals(invocation.getArgument(1))));
+        when(transactionRepository.findByIsProcessedFalseOrderByCreatedDtimesAsc(any(Pageable.class)))
+                .thenAnswer(invocation -> transactions.stream().filter(t -> !t.getIsProcessed()).toList());
+        when(statusListAvailableIndicesRepository.findExpiredAssignedIndices(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(createIndex(1L, 5L)));
+        when(statusListCredentialRepository.findById(STATUS_LIST_ID)).thenReturn(Optional.of(tokenStatusList));
+        when(statusListCredentialRepository.findAllById(any())).thenReturn(List.of(tokenStatusList));
+        when(statusListCredentialService.resignTokenStatusList(any(JSONObject.class)))
+                .thenAnswer(invocation -> invocation.<JSONObject>getArgument(0).toString());
+        when(statusListAvailableIndicesRepository.releaseIndices(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(1);
+        StatusListUpdateBatchJob updateBatchJob = new StatusListUpdateBatchJob();
+        ReflectionTestUtils.setField(updateBatchJob, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(updateBatchJob, "statusListRepository", statusListCredentialRepository);
+        ReflectionTestUtils.setField(updateBatchJob, "statusListCredentialService", statusListCredentialService);
+        ReflectionTestUtils.setField(updateBatchJob, "batchJobEnabled", true);
+        ReflectionTestUtils.setField(updateBatchJob, "batchSize", 100);
+
+        // The second run waits for the pending reset instead of queueing another one
+        reclaimJob.reclaimStatusListIndices();
+        reclaimJob.reclaimStatusListIndices();
+        assertEquals(1, transactions.size());
+        verify(statusListAvailableIndicesRepository, never()).releaseIndices(any(), any());
+
+        updateBatchJob.updateStatusLists();
+        reclaimJob.reclaimStatusListIndices();
+
+        JSONObject statusList = new JSONObject(tokenStatusList.getVcDocument()).getJSONObject("status_list");
+        assertEquals(Integer.valueOf(TokenStatusListUtils.STATUS_VALID),
+                TokenStatusListUtils.readStatuses(statusList.getString("lst"), List.of(5L), 2, 1L).get(5L));
+        verify(statusListAvailableIndicesRepository).releaseIndices(eq(List.of(1L)), any(LocalDateTime.class));
+        assertEquals(1, transactions.size());
+        assertTrue(transactions.getFirst().getIsProcessed());
+    }
+
+    private StatusListAvailableIndices createIndex(Long id, Long listIndex) {
+        StatusListAvailableIndices index = new StatusListAvailableIndices();
+        index.setId(id);
+        index.setStatusListCredentialId(STATUS_LIST_ID);
+        index.setListIndex(listIndex);
+        index.setIsAssigned(true);
+        index.setExpirationDate(LocalDateTime.now().minusYears(1));
+        return index;
+    }
+
+    private StatusListCredential createStatusList(Map<Long, Boolean> statuses) {
+        String encodedList = BitStringStatusListUtils.updateEncodedList(
+                BitStringStatusListUtils.createEmptyEncodedList(16L), statuses, 16L);
+        JSONObject vcDocument = new JSONObject()
+                .put("credentialSubject", new JSONObject().put("encodedList", encodedList));
+        StatusListCredential statusList = new StatusListCredential();
+        statusList.setId(STATUS_LIST_ID);
+        statusList.setVcDocument(vcDocument.toString());
+        statusList.setStatusPurpose("revocation");
+        statusList.setCapacityInKB(16L);
+        statusList.setCredentialStatus(StatusListCredential.CredentialStatus.FULL);
+        return statusList;
+    }
+}
@@ -0,0 +1,208 @@
+package io.mosip.certify.signer;
+
+import com.danubetech.keyformats.jose.JWSAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignResponseDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchingVCSignerTest {
+
+    // A backend which signs batches in one go
+    @Mock
+    private InMemoryKeyVCSigner delegate;
+
+    @InjectMocks
+    private BatchingVCSigner batchingVCSigner;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(batchingVCSigner, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(batchingVCSigner, "maxBatchSize", 4);
+        ReflectionTestUtils.setField(batchingVCSigner, "maxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(batchingVCSigner, "threads", 1);
+        ReflectionTestUtils.setField(batchingVCSigner, "timeout", Duration.ofSeconds(30));
+        batchingVCSigner.start();
+        lenient().when(delegate.signv2Batch(anyList())).thenAnswer(invocation -> {
+            List<SignRequestDtoV2> requests = invocation.getArgument(0);
+            return requests.stream().map(request -> signResponse("sig-" + request.getDataToSign())).toList();
+        });
+    }
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+        batchingVCSigner.stop();
+    }
+
+    @Test
+    public void signv2_FullBatch_SignedInOneCall() {
+        List<CompletableFuture<SignResponseDto>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            SignRequestDtoV2 request = signRequest("data" + i);
+            responses.add(CompletableFuture.supplyAsync(() -> batchingVCSigner.signv2(request), callers));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("sig-data" + i, responses.get(i).join().getSignature());
+        }
+        verify(delegate, times(1)).signv2Batch(argThat(requests -> requests.size() == 4));
+        verify(delegate, never()).signv2(any());
+        assertEquals(4.0, meterRegistry.get("certify.signer.batch.size").tag("kind", "sign").summary().max(), 0.0);
+        assertEquals(4, meterRegistry.get("certify.signer.batch.latency").tag("kind", "sign").timer().count());
+    }
+
+    @Test
+    public void signv2_PartialBatch_SentAfterMaxWait() {
+        ReflectionTestUtils.setField(batchingVCSigner, "maxWait", Duration.ofMillis(10));
+
+        SignResponseDto response = batchingVCSigner.signv2(signRequest("data"));
+
+        assertEquals("sig-data", response.getSignature());
+        verify(delegate).signv2Batch(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    public void signv2_DifferentKeys_BatchedSeparately() {
+        ReflectionTestUtils.setField(batchingVCSigner, "maxWait", Duration.ofMillis(10));
+        SignRequestDtoV2 ed25519Request = signRequest("ed");
+        ed25519Request.setReferenceId("ED25519_SIGN");
+        ed25519Request.setSignAlgorithm(JWSAlgorithm.EdDSA);
+
+        CompletableFuture<SignResponseDto> ecResponse = CompletableFuture.supplyAsync(() -> batchingVCSigner.signv2(signRequest("ec")), callers);
+        CompletableFuture<SignResponseDto> edResponse = CompletableFuture.supplyAsync(() -> batchingVCSigner.signv2(ed25519Request), callers);
+
+        assertEquals("sig-ec", ecResponse.join().getSignature());
+        assertEquals("sig-ed", edResponse.join().getSignature());
+        verify(delegate, times(2)).signv2Batch(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    public void signv2_BatchFails_RequestsCompletedIndividually() {
+        when(delegate.signv2Batch(anyList())).thenThrow(new CertifyException(ErrorConstants.SIGNING_FAILED));
+        when(delegate.signv2(argThat(request -> request != null && "bad".equals(request.getDataToSign()))))
+                .thenThrow(new CertifyException(ErrorConstants.UNSUPPORTED_ALGORITHM));
+        when(delegate.signv2(argThat(request -> request != null && !"bad".equals(request.getDataToSign()))))
+                .thenAnswer(invocation -> signResponse("sig-" + invocation.<SignRequestDtoV2>getArgument(0).getDataToSign()));
+        List<CompletableFuture<SignResponseDto>> responses = new ArrayList<>();
+        for (String data : List.of("data0", "bad", "data2", "data3")) {
+            SignRequestDtoV2 request = signRequest(data);
+            responses.add(CompletableFuture.supplyAsync(() -> batchingVCSigner.signv2(request), callers));
+        }
+
+        assertEquals("sig-data0", responses.get(0).join().getSignature());
+        CompletionException exception = assertThrows(CompletionException.class, () -> responses.get(1).join());
+        assertEquals(ErrorConstants.UNSUPPORTED_ALGORITHM, ((CertifyException) exception.getCause()).getErrorCode());
+        assertEquals("sig-data2", responses.get(2).join().getSignature());
+        assertEquals("sig-data3", responses.get(3).join().getSignature());
+    }
+
+    @Test
+    public void signv2_BatchCallThrowsError_CallerFails() {
+        ReflectionTestUtils.setField(batchingVCSigner, "maxWait", Duration.ofMillis(10));
+        when(delegate.signv2Batch(anyList())).thenThrow(new StackOverflowError());
+
+        CertifyException exception = assertThrows(CertifyException.class, () -> batchingVCSigner.signv2(signRequest("data")));
+
+        assertEquals(ErrorConstants.SIGNING_FAILED, exception.getErrorCode());
+        assertTrue(exception.getCause() instanceof StackOverflowError);
+        verify(delegate, never()).signv2(any());
+    }
+
+    @Test
+    public void signv2_BatchNotSignedInTime_CallerTimesOut() throws Exception {
+        ReflectionTestUtils.setField(batchingVCSigner, "maxWait", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(batchingVCSigner, "timeout", Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.signv2Batch(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(signResponse("late"));
+        });
+
+        try {
+            CertifyException exception = assertThrows(CertifyException.class, () -> batchingVCSigner.signv2(signRequest("data")));
+            assertEquals(ErrorConstants.SIGNING_FAILED, exception.getErrorCode());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void signv2_BackendWithoutBatchMethod_PassedThrough() {
+        KeymanagerVCSigner keymanagerVCSigner = mock(KeymanagerVCSigner.class);
+        BatchingVCSigner passThrough = new BatchingVCSigner();
+        ReflectionTestUtils.setField(passThrough, "delegate", keymanagerVCSigner);
+        ReflectionTestUtils.setField(passThrough, "meterRegistry", meterRegistry);
+        passThrough.start();
+        SignRequestDtoV2 request = signRequest("data");
+        SignResponseDto response = signResponse("sig-data");
+        when(keymanagerVCSigner.signv2(request)).thenReturn(response);
+
+        assertSame(response, passThrough.signv2(request));
+        verify(keymanagerVCSigner, never()).signv2Batch(anyList());
+        passThrough.stop();
+    }
+
+    @Test
+    public void overridesBatchMethod_OnlyForBackendsSigningBatches() {
+        assertTrue(BatchingVCSigner.overridesBatchMethod(InMemoryKeyVCSigner.class, "signv2Batch"));
+        assertFalse(BatchingVCSigner.overridesBatchMethod(InMemoryKeyVCSigner.class, "jwsSignBatch"));
+        assertFalse(BatchingVCSigner.overridesBatchMethod(KeymanagerVCSigner.class, "signv2Batch"));
+    }
+
+    @Test
+    public void jwsSignV2_PassedThrough() {
+        JWSSignatureRequestDtoV2 request = new JWSSignatureRequestDtoV2();
+        JWTSignatureResponseDto response = new JWTSignatureResponseDto();
+        when(delegate.jwsSignV2(request)).thenReturn(response);
+
+        assertSame(response, batchingVCSigner.jwsSignV2(request));
+        verify(delegate, never()).jwsSignBatch(anyList());
+    }
+
+    private static SignRequestDtoV2 signRequest(String data) {
+        SignRequestDtoV2 request = new SignRequestDtoV2();
+        request.setApplicationId("CERTIFY_VC_SIGN_EC_R1");
+        request.setReferenceId("EC_SECP256R1_SIGN");
+        request.setSignAlgorithm(JWSAlgorithm.ES256);
+        request.setDataToSign(data);
+        request.setResponseEncodingFormat("base58btc");
+        return request;
+    }
+
+    private static SignResponseDto signResponse(String signature) {
+        SignResponseDto response = new SignResponseDto();
+        response.setSignature(signature);
+        return response;
+    }
+}
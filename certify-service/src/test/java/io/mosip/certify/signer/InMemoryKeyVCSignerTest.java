@@ -0,0 +1,285 @@
+package io.mosip.certify.signer;
+
+import com.danubetech.keyformats.jose.JWSAlgorithm;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ipfs.multibase.Multibase;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.dto.CertificateResponseDTO;
+import io.mosip.certify.core.exception.CertifyException;
+import io.mosip.certify.utils.DIDDocumentUtil;
+import io.mosip.kernel.core.keymanager.model.CertificateEntry;
+import io.mosip.kernel.keymanagerservice.dto.SignatureCertificate;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureRequestDtoV2;
+import io.mosip.kernel.signature.dto.SignRequestDtoV2;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InMemoryKeyVCSignerTest {
+
+    private static final String APP_ID = "CERTIFY_VC_SIGN_EC_R1";
+    private static final String REF_ID = "EC_SECP256R1_SIGN";
+
+    @Mock
+    private KeymanagerService keymanagerService;
+
+    @Mock
+    private DIDDocumentUtil didDocumentUtil;
+
+    @InjectMocks
+    private InMemoryKeyVCSigner inMemoryKeyVCSigner;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(inMemoryKeyVCSigner, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(inMemoryKeyVCSigner, "keyTtl", Duration.ofMinutes(15));
+        CertificateResponseDTO certificateResponseDTO = new CertificateResponseDTO();
+        certificateResponseDTO.setKeyId("test-kid");
+        lenient().when(didDocumentUtil.getCertificateDataResponseDto(anyString(), anyString())).thenReturn(certificateResponseDTO);
+    }
+
+    @Test
+    public void jwsSignV2_ES256_SignsWithRequestedHeaders() throws Exception {
+        KeyPair keyPair = ecKeyPair();
+        X509Certificate certificate = mockKey(keyPair.getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        JWSSignatureRequestDtoV2 request = new JWSSignatureRequestDtoV2();
+        request.setApplicationId(APP_ID);
+        request.setReferenceId(REF_ID);
+        request.setSignAlgorithm(JWSAlgorithm.ES256);
+        request.setDataToSign(Base64.getUrlEncoder().withoutPadding().encodeToString("{\"vct\":\"test\"}".getBytes(StandardCharsets.UTF_8)));
+        request.setAdditionalHeaders(Map.of("typ", "vc+sd-jwt"));
+        request.setIncludePayload(true);
+        request.setIncludeCertificateChain(true);
+        request.setIncludeCertHash(true);
+        request.setB64JWSHeaderParam(true);
+        request.setCertificateUrl("");
+
+        String jws = inMemoryKeyVCSigner.jwsSignV2(request).getJwtSignedData();
+
+        String[] parts = jws.split("\\.");
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+        assertEquals("ES256", header.get("alg").asText());
+        assertEquals("vc+sd-jwt", header.get("typ").asText());
+        assertEquals("test-kid", header.get("kid").asText());
+        assertEquals(Base64.getEncoder().encodeToString(certificate.getEncoded()), header.get("x5c").get(0).asText());
+        assertTrue(header.has("x5t#S256"));
+        assertFalse(header.has("x5u"));
+        assertEquals("{\"vct\":\"test\"}", new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+        byte[] signature = Base64.getUrlDecoder().decode(parts[2]);
+        assertEquals(64, signature.length);
+        assertTrue(verify("SHA256withECDSAinP1363Format", keyPair, (parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII), signature));
+    }
+
+    @Test
+    public void jwsSign_UnencodedPayload_SignsDetachedJws() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        mockKey(keyPair.getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        byte[] hash = new byte[]{(byte) 0xfe, 0x01, 0x7f, 0x00};
+        JWSSignatureRequestDto request = new JWSSignatureRequestDto();
+        request.setApplicationId(APP_ID);
+        request.setReferenceId(REF_ID);
+        request.setSignAlgorithm(JWSAlgorithm.EdDSA);
+        request.setDataToSign(Base64.getUrlEncoder().encodeToString(hash));
+        request.setIncludePayload(false);
+        request.setIncludeCertificate(false);
+        request.setIncludeCertHash(true);
+        request.setB64JWSHeaderParam(false);
+        request.setCertificateUrl("");
+
+        String jws = inMemoryKeyVCSigner.jwsSign(request).getJwtSignedData();
+
+        String[] parts = jws.split("\\.");
+        assertEquals(3, parts.length);
+        assertEquals("", parts[1]);
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+        assertFalse(header.get("b64").asBoolean());
+        assertEquals("b64", header.get("crit").get(0).asText());
+        assertFalse(header.has("x5c"));
+        byte[] signingInput = new byte[parts[0].length() + 1 + hash.length];
+        System.arraycopy(parts[0].getBytes(StandardCharsets.US_ASCII), 0, signingInput, 0, parts[0].length());
+        signingInput[parts[0].length()] = '.';
+        System.arraycopy(hash, 0, signingInput, parts[0].length() + 1, hash.length);
+        assertTrue(verify("Ed25519", keyPair, signingInput, Base64.getUrlDecoder().decode(parts[2])));
+    }
+
+    @Test
+    public void signv2_Base58btc_ReturnsMultibaseSignature() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        mockKey(keyPair.getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        byte[] data = "canonicalized".getBytes(StandardCharsets.UTF_8);
+        SignRequestDtoV2 request = new SignRequestDtoV2();
+        request.setApplicationId(APP_ID);
+        request.setReferenceId(REF_ID);
+        request.setSignAlgorithm(JWSAlgorithm.RS256);
+        request.setDataToSign(Base64.getUrlEncoder().encodeToString(data));
+        request.setResponseEncodingFormat("base58btc");
+
+        String signature = inMemoryKeyVCSigner.signv2(request).getSignature();
+
+        assertTrue(signature.startsWith("z"));
+        assertTrue(verify("SHA256withRSA", keyPair, data, Multibase.decode(signature)));
+    }
+
+    @Test
+    public void signv2_KeyCachedUntilTtl() throws Exception {
+        mockKey(ecKeyPair().getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+
+        inMemoryKeyVCSigner.signv2(es256Request());
+        inMemoryKeyVCSigner.signv2(es256Request());
+        verify(keymanagerService, times(1)).getSignatureCertificate(eq(APP_ID), eq(Optional.of(REF_ID)), anyString());
+
+        ReflectionTestUtils.setField(inMemoryKeyVCSigner, "keyTtl", Duration.ZERO);
+        inMemoryKeyVCSigner.evictAll();
+        inMemoryKeyVCSigner.signv2(es256Request());
+        inMemoryKeyVCSigner.signv2(es256Request());
+        verify(keymanagerService, times(3)).getSignatureCertificate(eq(APP_ID), eq(Optional.of(REF_ID)), anyString());
+    }
+
+    @Test
+    public void signv2_ExpiredCertificate_ReloadsKey() throws Exception {
+        mockKey(ecKeyPair().getPrivate(), Instant.now().minusSeconds(1));
+
+        inMemoryKeyVCSigner.signv2(es256Request());
+        inMemoryKeyVCSigner.signv2(es256Request());
+
+        verify(keymanagerService, times(2)).getSignatureCertificate(eq(APP_ID), eq(Optional.of(REF_ID)), anyString());
+    }
+
+    @Test
+    public void signv2_ConcurrentRequests_WaitForOneKeyLoad() throws Exception {
+        SignatureCertificate signatureCertificate = signatureCertificate(ecKeyPair().getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(keymanagerService.getSignatureCertificate(eq(APP_ID), any(), anyString())).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await();
+            return signatureCertificate;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = callers.submit(() -> inMemoryKeyVCSigner.signv2(es256Request()));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<?> second = callers.submit(() -> inMemoryKeyVCSigner.signv2(es256Request()));
+            releaseLoad.countDown();
+
+            assertNotNull(first.get(5, TimeUnit.SECONDS));
+            assertNotNull(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            releaseLoad.countDown();
+            callers.shutdownNow();
+        }
+        verify(keymanagerService, times(1)).getSignatureCertificate(eq(APP_ID), eq(Optional.of(REF_ID)), anyString());
+    }
+
+    @Test
+    public void signv2_FailedKeyLoad_RetriedByNextRequest() throws Exception {
+        SignatureCertificate signatureCertificate = signatureCertificate(ecKeyPair().getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        when(keymanagerService.getSignatureCertificate(eq(APP_ID), any(), anyString()))
+                .thenThrow(new IllegalStateException("keystore unavailable"))
+                .thenReturn(signatureCertificate);
+
+        assertThrows(IllegalStateException.class, () -> inMemoryKeyVCSigner.signv2(es256Request()));
+        assertNotNull(inMemoryKeyVCSigner.signv2(es256Request()).getSignature());
+
+        verify(keymanagerService, times(2)).getSignatureCertificate(eq(APP_ID), eq(Optional.of(REF_ID)), anyString());
+    }
+
+    @Test
+    public void signv2_UnsupportedAlgorithm_ThrowsException() throws Exception {
+        mockKey(ecKeyPair().getPrivate(), Instant.now().plus(Duration.ofDays(1)));
+        SignRequestDtoV2 request = es256Request();
+        request.setSignAlgorithm("HS256");
+
+        CertifyException exception = assertThrows(CertifyException.class, () -> inMemoryKeyVCSigner.signv2(request));
+
+        assertEquals(ErrorConstants.UNSUPPORTED_ALGORITHM, exception.getErrorCode());
+    }
+
+    @Test
+    public void signv2_MissingApplicationId_ThrowsException() {
+        SignRequestDtoV2 request = es256Request();
+        request.setApplicationId("");
+
+        CertifyException exception = assertThrows(CertifyException.class, () -> inMemoryKeyVCSigner.signv2(request));
+
+        assertEquals(ErrorConstants.MISSING_APPLICATION_OR_REFERENCE_ID, exception.getErrorCode());
+        verifyNoInteractions(keymanagerService);
+    }
+
+    private static SignRequestDtoV2 es256Request() {
+        SignRequestDtoV2 request = new SignRequestDtoV2();
+        request.setApplicationId(APP_ID);
+        request.setReferenceId(REF_ID);
+        request.setSignAlgorithm(JWSAlgorithm.ES256);
+        request.setDataToSign(Base64.getUrlEncoder().encodeToString("data".getBytes(StandardCharsets.UTF_8)));
+        request.setResponseEncodingFormat("base58btc");
+        return request;
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private X509Certificate mockKey(PrivateKey privateKey, Instant notAfter) throws Exception {
+        SignatureCertificate signatureCertificate = signatureCertificate(privateKey, notAfter);
+        when(keymanagerService.getSignatureCertificate(eq(APP_ID), any(), anyString())).thenReturn(signatureCertificate);
+        return signatureCertificate.getCertificateEntry().getChain()[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SignatureCertificate signatureCertificate(PrivateKey privateKey, Instant notAfter) throws Exception {
+        X509Certificate certificate = mock(X509Certificate.class);
+        lenient().when(certificate.getEncoded()).thenReturn(new byte[]{1, 2, 3});
+        when(certificate.getNotAfter()).thenReturn(Date.from(notAfter));
+        CertificateEntry<X509Certificate, PrivateKey> certificateEntry = mock(CertificateEntry.class);
+        when(certificateEntry.getChain()).thenReturn(new X509Certificate[]{certificate});
+        when(certificateEntry.getPrivateKey()).thenReturn(privateKey);
+        SignatureCertificate signatureCertificate = mock(SignatureCertificate.class);
+        when(signatureCertificate.getCertificateEntry()).thenReturn(certificateEntry);
+        return signatureCertificate;
+    }
+
+    private static boolean verify(String algorithm, KeyPair keyPair, byte[] data, byte[] signature) throws Exception {
+        Signature verifier = Signature.getInstance(algorithm);
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(data);
+        return verifier.verify(signature);
+    }
+}
@@ -1,11 +1,13 @@
 package io.mosip.certify.utils;
 
 import io.mosip.certify.core.exception.CertifyException;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.*;
@@ -169,11 +171,84 @@ public class BitStringStatusListUtilsTest {
         assertTrue(result.startsWith("u"));
     }
 
-    @Test(expected = CertifyException.class)
-    public void createEmptyEncodedList_WithCapacityExceedingIntegerMaxValue_ThrowsCertifyException() {
+    @Test
+    public void createEmptyEncodedList_WithCapacityExceedingIntegerMaxValue_ReturnsEncodedString() {
+        // Streams a 256MB list
+        assumeLargeListsEnabled();
         long capacityThatExceedsMaxInt = (Integer.MAX_VALUE / 8192L) + 1;
 
-        BitStringStatusListUtils.createEmptyEncodedList(capacityThatExceedsMaxInt);
+        String result = BitStringStatusListUtils.createEmptyEncodedList(capacityThatExceedsMaxInt);
+
+        assertNotNull(result);
+        assertTrue(result.startsWith("u"));
+    }
+
+    @Test
+    public void updateEncodedList_WithIndexBeyondIntegerMaxValue_UpdatesBit() {
+        // Streams a 256MB list three times
+        assumeLargeListsEnabled();
+        long capacity = (Integer.MAX_VALUE / 8192L) + 1;
+        long index = Integer.MAX_VALUE + 10L;
+        String emptyList = BitStringStatusListUtils.createEmptyEncodedList(capacity);
+
+        String result = BitStringStatusListUtils.updateEncodedList(emptyList, Map.of(index, true), capacity);
+
+        Map<Long, Boolean> statuses = BitStringStatusListUtils.readStatuses(result, List.of(index, 0L), capacity);
+        assertEquals(Boolean.TRUE, statuses.get(index));
+        assertEquals(Boolean.FALSE, statuses.get(0L));
+    }
+
+    @Test
+    public void updateEncodedList_AcrossChunkBoundaries_UpdatesBits() {
+        // 200KB is a little over three chunks of 64KB
+        long capacity = 200L;
+        long chunkBits = 64L * 1024 * 8;
+        List<Long> indices = List.of(chunkBits - 1, chunkBits, 2 * chunkBits, capacity * 8192L - 1);
+        Map<Long, Boolean> statusMap = new HashMap<>();
+        indices.forEach(index -> statusMap.put(index, true));
+        String emptyList = BitStringStatusListUtils.createEmptyEncodedList(capacity);
+
+        String result = BitStringStatusListUtils.updateEncodedList(emptyList, statusMap, capacity);
+
+        Map<Long, Boolean> statuses = BitStringStatusListUtils.readStatuses(result,
+                List.of(0L, chunkBits - 2, chunkBits - 1, chunkBits, chunkBits + 1, 2 * chunkBits, capacity * 8192L - 1), capacity);
+        assertEquals(Boolean.FALSE, statuses.get(0L));
+        assertEquals(Boolean.FALSE, statuses.get(chunkBits - 2));
+        assertEquals(Boolean.FALSE, statuses.get(chunkBits + 1));
+        indices.forEach(index -> assertEquals(Boolean.TRUE, statuses.get(index)));
+    }
+
+    @Test
+    public void readStatuses_AfterUpdate_ReturnsUpdatedBits() {
+        String emptyList = BitStringStatusListUtils.createEmptyEncodedList(16L);
+        Map<Long, Boolean> statusMap = new HashMap<>();
+        statusMap.put(3L, true);
+        statusMap.put(8L, true);
+        statusMap.put(131071L, true);
+        String result = BitStringStatusListUtils.updateEncodedList(emptyList, statusMap, 16L);
+
+        Map<Long, Boolean> statuses = BitStringStatusListUtils.readStatuses(result, List.of(3L, 4L, 8L, 131071L), 16L);
+
+        assertEquals(4, statuses.size());
+        assertTrue(statuses.get(3L));
+        assertFalse(statuses.get(4L));
+        assertTrue(statuses.get(8L));
+        assertTrue(statuses.get(131071L));
+    }
+
+    @Test
+    public void readStatuses_WithOutOfBoundsIndices_IgnoresThem() {
+        String emptyList = BitStringStatusListUtils.createEmptyEncodedList(16L);
+
+        Map<Long, Boolean> statuses = BitStringStatusListUtils.readStatuses(emptyList, List.of(-1L, 200000L, 1L), 16L);
+
+        assertEquals(1, statuses.size());
+        assertFalse(statuses.get(1L));
+    }
+
+    @Test(expected = CertifyException.class)
+    public void readStatuses_WithInvalidEncodedList_ThrowsCertifyException() {
+        BitStringStatusListUtils.readStatuses("invalid-base64-string", List.of(1L), 16L);
     }
 
     @Test
@@ -333,4 +408,11 @@ public class BitStringStatusListUtilsTest {
         String backToEmpty = BitStringStatusListUtils.updateEncodedList(firstBitCleared, clearSecondBit, 16L);
         assertEquals("Clearing all bits should return to empty state", emptyList, backToEmpty);
     }
-}
\ No newline at end of file
+
+    /**
+     * Lists of hundreds of MB are only built with {@code -Dcertify.benchmark=true}, like the benchmarks.
+     */
+    private static void assumeLargeListsEnabled() {
+        Assume.assumeTrue("Large status lists are enabled with -Dcertify.benchmark=true", Boolean.getBoolean("certify.benchmark"));
+    }
+}
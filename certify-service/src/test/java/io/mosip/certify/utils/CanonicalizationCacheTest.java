@@ -0,0 +1,197 @@
+package io.mosip.certify.utils;
+
+import com.danubetech.dataintegrity.DataIntegrityProof;
+import com.danubetech.dataintegrity.signer.LdSigner;
+import com.danubetech.dataintegrity.signer.LdSignerRegistry;
+import com.danubetech.keyformats.crypto.ByteSigner;
+import foundation.identity.jsonld.JsonLDObject;
+import info.weboftrust.ldsignatures.LdProof;
+import info.weboftrust.ldsignatures.canonicalizer.URDNA2015Canonicalizer;
+import io.mosip.certify.core.constants.SignatureAlg;
+import io.mosip.certify.proofgenerators.ProofGenerator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CanonicalizationCacheTest {
+
+    private static final String CREDENTIAL = """
+            {
+              "@context": ["https://www.w3.org/2018/credentials/v1", "https://w3id.org/security/data-integrity/v2"],
+              "type": ["VerifiableCredential"],
+              "issuer": "did:example:issuer",
+              "issuanceDate": "%s",
+              "expirationDate": "2030-01-01T00:00:00Z",
+              "credentialSubject": {"id": "did:example:holder-%d"}
+            }""";
+
+    @Mock
+    private ProofGenerator proofGenerator;
+
+    private JsonLDContextLoader jsonLDContextLoader;
+
+    private CanonicalizationCache canonicalizationCache;
+
+    @Before
+    public void setUp() {
+        jsonLDContextLoader = new JsonLDContextLoader();
+        ReflectionTestUtils.setField(jsonLDContextLoader, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "configuredContexts", Map.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "remoteContextAllowList", List.of());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "maxRemoteContexts", 1);
+        jsonLDContextLoader.preload();
+        canonicalizationCache = new CanonicalizationCache();
+        ReflectionTestUtils.setField(canonicalizationCache, "enabled", true);
+        ReflectionTestUtils.setField(canonicalizationCache, "maxEntries", 16);
+    }
+
+    @Test
+    public void generateLdProof_MatchesFullCanonicalization() {
+        when(proofGenerator.getCanonicalizer()).thenReturn(new URDNA2015Canonicalizer());
+        ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+        when(proofGenerator.generateProof(any(LdProof.class), hashes.capture(), anyMap())).thenReturn(mock(LdProof.class));
+
+        for (int i = 0; i < 5; i++) {
+            Date created = new Date(1_700_000_000_000L + i * 61_000L);
+            LdProof ldProof = LdProof.builder().defaultContexts(false).defaultTypes(false).type("Ed25519Signature2018")
+                    .created(created).proofPurpose("assertionMethod")
+                    .verificationMethod(URI.create("did:example:issuer#key-1"))
+                    .build();
+            CredentialUtils.generateLdProof(ldProof, credential(created, i), Map.of(), proofGenerator);
+            CredentialUtils.generateLdProof(ldProof, credential(created, i), Map.of(), proofGenerator, canonicalizationCache);
+        }
+
+        List<String> values = hashes.getAllValues();
+        for (int i = 0; i < values.size(); i += 2) {
+            assertEquals(values.get(i), values.get(i + 1));
+        }
+    }
+
+    @Test
+    public void generateDataIntegrityProof_MatchesFullCanonicalization() throws Exception {
+        LdSigner signer = LdSignerRegistry.getLdSignerByDataIntegritySuiteTerm(SignatureAlg.DATA_INTEGRITY);
+        signer.setSigner(ed25519Signer());
+        signer.setCryptosuite("eddsa-rdfc-2022");
+
+        for (int i = 0; i < 5; i++) {
+            Date created = new Date(1_700_000_000_000L + i * 61_000L);
+            DataIntegrityProof proofOptions = DataIntegrityProof.builder()
+                    .created(created)
+                    .proofPurpose("assertionMethod")
+                    .cryptosuite("eddsa-rdfc-2022")
+                    .verificationMethod(URI.create("did:example:issuer#key-1"))
+                    .type(SignatureAlg.DATA_INTEGRITY).build();
+
+            DataIntegrityProof full = CredentialUtils.generateDataIntegrityProof(proofOptions, credential(created, i), signer);
+            DataIntegrityProof incremental = CredentialUtils.generateDataIntegrityProof(proofOptions, credential(created, i), signer, canonicalizationCache);
+
+            // Ed25519 signatures are deterministic, equal proof values mean equal hash data
+            assertEquals(full.getProofValue(), incremental.getProofValue());
+        }
+    }
+
+    @Test
+    public void canonicalize_CachedProofOptions_SkipFullCanonicalization() throws Exception {
+        URDNA2015Canonicalizer canonicalizer = new URDNA2015Canonicalizer();
+        AtomicInteger fullCanonicalizations = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Date created = new Date(1_700_000_000_000L + i * 61_000L);
+            LdProof ldProof = LdProof.builder().defaultContexts(false).defaultTypes(false).type("Ed25519Signature2018")
+                    .created(created).proofPurpose("assertionMethod")
+                    .verificationMethod(URI.create("did:example:issuer#key-1"))
+                    .build();
+            JsonLDObject credential = credential(created, i);
+            LdProof proofOptions = LdProof.builder().base(ldProof).defaultContexts(true).build();
+            LdProof.removeLdProofValues(proofOptions);
+            proofOptions.setDocumentLoader(jsonLDContextLoader);
+
+            byte[] expected = canonicalizer.canonicalize(ldProof, credential);
+            byte[] actual = canonicalizationCache.canonicalize(proofOptions, credential, () -> {
+                fullCanonicalizations.incrementAndGet();
+                return canonicalizer.canonicalize(ldProof, credential);
+            });
+
+            assertArrayEquals(expected, actual);
+        }
+        // Only the first request, which verifies the cached proof options
+        assertEquals(1, fullCanonicalizations.get());
+    }
+
+    @Test
+    public void canonicalize_ProofOptionsWithSeveralBlankNodes_AreNotCached() throws Exception {
+        AtomicInteger fullCanonicalizations = new AtomicInteger();
+        byte[] expected = new byte[64];
+
+        for (int i = 0; i < 3; i++) {
+            JsonLDObject proofOptions = JsonLDObject.fromJson("""
+                    {
+                      "@context": {
+                        "created": {"@id": "http://purl.org/dc/terms/created", "@type": "http://www.w3.org/2001/XMLSchema#dateTime"},
+                        "nested": "https://example.com/nested",
+                        "value": "https://example.com/value"
+                      },
+                      "created": "2024-01-0%dT00:00:00Z",
+                      "nested": {"value": "a"}
+                    }""".formatted(i + 1));
+            proofOptions.setDocumentLoader(jsonLDContextLoader);
+
+            assertSame(expected, canonicalizationCache.canonicalize(proofOptions, proofOptions, () -> {
+                fullCanonicalizations.incrementAndGet();
+                return expected;
+            }));
+        }
+        // The labels of several blank nodes may depend on the date, every request is canonicalized in full
+        assertEquals(3, fullCanonicalizations.get());
+    }
+
+    @Test
+    public void canonicalize_Disabled_UsesFullCanonicalization() throws Exception {
+        ReflectionTestUtils.setField(canonicalizationCache, "enabled", false);
+        JsonLDObject proofOptions = JsonLDObject.fromJson("{\"created\":\"2024-01-01T00:00:00Z\"}");
+        byte[] expected = new byte[]{1, 2, 3};
+
+        assertSame(expected, canonicalizationCache.canonicalize(proofOptions, proofOptions, () -> expected));
+        assertSame(expected, canonicalizationCache.canonicalize(proofOptions, proofOptions, () -> expected));
+    }
+
+    private JsonLDObject credential(Date issuanceDate, int index) {
+        String json = String.format(CREDENTIAL, issuanceDate.toInstant().toString(), index);
+        JsonLDObject credential = JsonLDObject.fromJson(json);
+        credential.setDocumentLoader(jsonLDContextLoader);
+        return credential;
+    }
+
+    private static ByteSigner ed25519Signer() throws GeneralSecurityException {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        return new ByteSigner("EdDSA") {
+            @Override
+            public byte[] sign(byte[] content) throws GeneralSecurityException {
+                Signature signature = Signature.getInstance("Ed25519");
+                signature.initSign(keyPair.getPrivate());
+                signature.update(content);
+                return signature.sign();
+            }
+        };
+    }
+}
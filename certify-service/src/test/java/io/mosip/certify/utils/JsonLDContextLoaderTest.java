@@ -0,0 +1,117 @@
+package io.mosip.certify.utils;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import io.mosip.certify.core.constants.ErrorConstants;
+import io.mosip.certify.core.exception.CertifyException;
+import jakarta.json.JsonObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JsonLDContextLoaderTest {
+
+    private static final URI CREDENTIALS_V1 = URI.create("https://www.w3.org/2018/credentials/v1");
+    private static final URI CREDENTIALS_V2 = URI.create("https://www.w3.org/ns/credentials/v2");
+    private static final URI CUSTOM_CONTEXT = URI.create("https://example.org/farmer/v1");
+    private static final URI ALLOWED_CONTEXT = URI.create("https://example.org/allowed.json");
+    private static final URI OTHER_ALLOWED_CONTEXT = URI.create("https://example.org/other-allowed.json");
+
+    @Mock
+    private DocumentLoader remoteLoader;
+
+    private JsonLDContextLoader jsonLDContextLoader;
+
+    private final DocumentLoaderOptions options = new DocumentLoaderOptions();
+
+    @Before
+    public void setUp() {
+        jsonLDContextLoader = new JsonLDContextLoader();
+        ReflectionTestUtils.setField(jsonLDContextLoader, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(jsonLDContextLoader, "configuredContexts",
+                Map.of(CUSTOM_CONTEXT.toString(), "classpath:custom-context.jsonld"));
+        ReflectionTestUtils.setField(jsonLDContextLoader, "remoteContextAllowList",
+                List.of(ALLOWED_CONTEXT.toString(), OTHER_ALLOWED_CONTEXT.toString()));
+        ReflectionTestUtils.setField(jsonLDContextLoader, "maxRemoteContexts", 1);
+        ReflectionTestUtils.setField(jsonLDContextLoader, "remoteLoader", remoteLoader);
+        jsonLDContextLoader.preload();
+    }
+
+    @Test
+    public void loadDocument_BundledContexts_ParsedOnce() throws Exception {
+        Document credentialsV1 = jsonLDContextLoader.loadDocument(CREDENTIALS_V1, options);
+        Document credentialsV2 = jsonLDContextLoader.loadDocument(CREDENTIALS_V2, options);
+
+        assertSame(credentialsV1, jsonLDContextLoader.loadDocument(CREDENTIALS_V1, options));
+        assertEquals(CREDENTIALS_V1, credentialsV1.getDocumentUrl());
+        JsonObject context = credentialsV1.getJsonContent().orElseThrow().asJsonObject().getJsonObject("@context");
+        assertTrue(context.containsKey("VerifiableCredential"));
+        assertTrue(credentialsV2.getJsonContent().orElseThrow().asJsonObject().getJsonObject("@context").containsKey("DataIntegrityProof"));
+        verifyNoInteractions(remoteLoader);
+    }
+
+    @Test
+    public void loadDocument_SecurityContext_Preloaded() throws Exception {
+        assertNotNull(jsonLDContextLoader.loadDocument(URI.create("https://w3id.org/security/v1"), options));
+        verifyNoInteractions(remoteLoader);
+    }
+
+    @Test
+    public void loadDocument_ConfiguredContext_ReadFromLocalCopy() throws Exception {
+        Document context = jsonLDContextLoader.loadDocument(CUSTOM_CONTEXT, options);
+
+        assertEquals(CUSTOM_CONTEXT, context.getDocumentUrl());
+        assertTrue(context.getJsonContent().orElseThrow().asJsonObject().getJsonObject("@context").containsKey("FarmerCredential"));
+        verifyNoInteractions(remoteLoader);
+    }
+
+    @Test
+    public void loadDocument_NotAllowListed_Blocked() {
+        assertThrows(JsonLdError.class,
+                () -> jsonLDContextLoader.loadDocument(URI.create("https://example.org/unknown.json"), options));
+        verifyNoInteractions(remoteLoader);
+    }
+
+    @Test
+    public void loadDocument_AllowListed_FetchedOnceWithinBound() throws Exception {
+        Document allowed = mock(JsonDocument.class);
+        Document otherAllowed = mock(JsonDocument.class);
+        when(remoteLoader.loadDocument(eq(ALLOWED_CONTEXT), any())).thenReturn(allowed);
+        when(remoteLoader.loadDocument(eq(OTHER_ALLOWED_CONTEXT), any())).thenReturn(otherAllowed);
+
+        assertSame(allowed, jsonLDContextLoader.loadDocument(ALLOWED_CONTEXT, options));
+        assertSame(allowed, jsonLDContextLoader.loadDocument(ALLOWED_CONTEXT, options));
+        verify(remoteLoader, times(1)).loadDocument(eq(ALLOWED_CONTEXT), any());
+
+        // Only one remote context is kept, the first one is fetched again once evicted
+        assertSame(otherAllowed, jsonLDContextLoader.loadDocument(OTHER_ALLOWED_CONTEXT, options));
+        assertSame(allowed, jsonLDContextLoader.loadDocument(ALLOWED_CONTEXT, options));
+        verify(remoteLoader, times(2)).loadDocument(eq(ALLOWED_CONTEXT), any());
+    }
+
+    @Test
+    public void preload_MissingConfiguredContext_ThrowsException() {
+        ReflectionTestUtils.setField(jsonLDContextLoader, "configuredContexts",
+                Map.of(CUSTOM_CONTEXT.toString(), "classpath:missing-context.jsonld"));
+
+        CertifyException exception = assertThrows(CertifyException.class, () -> jsonLDContextLoader.preload());
+
+        assertEquals(ErrorConstants.JSONLD_CONTEXT_LOAD_FAILED, exception.getErrorCode());
+    }
+}
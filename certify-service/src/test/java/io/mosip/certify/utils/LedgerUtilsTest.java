@@ -0,0 +1,74 @@
+package io.mosip.certify.utils;
+
+import io.mosip.certify.config.IndexedAttributesConfig;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerUtilsTest {
+
+    @Spy
+    private IndexedAttributesConfig indexedAttributesConfig = new IndexedAttributesConfig();
+
+    @InjectMocks
+    private LedgerUtils ledgerUtils;
+
+    @Before
+    public void setUp() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("state", "$.address.state");
+        mappings.put("district", "$.address.district | $.district");
+        mappings.put("phones", "$.phones[*]");
+        mappings.put("email", "$.email");
+        mappings.put("broken", "$.[[");
+        indexedAttributesConfig.setIndexedMappings(mappings);
+        ledgerUtils.compileIndexedMappings();
+    }
+
+    @Test
+    public void extractIndexedAttributes_EvaluatesCompiledPathsAndFallbacks() {
+        JSONObject document = new JSONObject()
+                .put("address", new JSONObject().put("state", "Karnataka"))
+                .put("district", "Bengaluru")
+                .put("phones", List.of("111", "222"))
+                .put("email", "  ");
+
+        Map<String, Object> attributes = ledgerUtils.extractIndexedAttributes(document);
+
+        assertEquals("Karnataka", attributes.get("state"));
+        assertEquals("Bengaluru", attributes.get("district"));
+        assertEquals(List.of("111", "222"), attributes.get("phones"));
+        assertFalse(attributes.containsKey("email"));
+        assertFalse(attributes.containsKey("broken"));
+    }
+
+    @Test
+    public void extractIndexedAttributes_SingleElementList_IsUnwrapped() {
+        JSONObject document = new JSONObject().put("phones", List.of("111"));
+
+        Map<String, Object> attributes = ledgerUtils.extractIndexedAttributes(document);
+
+        assertEquals("111", attributes.get("phones"));
+        assertEquals(1, attributes.size());
+    }
+
+    @Test
+    public void extractIndexedAttributes_NoMappings_ReturnsEmptyMap() {
+        indexedAttributesConfig.setIndexedMappings(Map.of());
+        ledgerUtils.compileIndexedMappings();
+
+        assertTrue(ledgerUtils.extractIndexedAttributes(new JSONObject().put("state", "Karnataka")).isEmpty());
+        assertTrue(ledgerUtils.extractIndexedAttributes(null).isEmpty());
+    }
+}
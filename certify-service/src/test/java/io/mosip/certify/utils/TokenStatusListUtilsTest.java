@@ -0,0 +1,115 @@
+package io.mosip.certify.utils;
+
+import io.mosip.certify.core.exception.CertifyException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TokenStatusListUtilsTest {
+
+    @Test
+    public void updateList_WithSingleBitStatuses_MatchesSpecificationExample() throws IOException {
+        // Status list example of the IETF Token Status List draft, the first two bytes are 0xB9 0xA3
+        int[] statuses = {1, 0, 0, 1, 1, 1, 0, 1, 1, 1, 0, 0, 0, 1, 0, 1};
+        Map<Long, Integer> statusMap = new HashMap<>();
+        for (int i = 0; i < statuses.length; i++) {
+            statusMap.put((long) i, statuses[i]);
+        }
+
+        String lst = TokenStatusListUtils.updateList(TokenStatusListUtils.createEmptyList(1L), statusMap, 1, 1L);
+
+        byte[] decoded = decode(lst);
+        assertEquals(1024, decoded.length);
+        assertEquals((byte) 0xB9, decoded[0]);
+        assertEquals((byte) 0xA3, decoded[1]);
+    }
+
+    @Test
+    public void updateList_WithMultiBitStatuses_ReadsBackValues() {
+        for (int bits : new int[]{2, 4, 8}) {
+            long lastIndex = TokenStatusListUtils.getCapacityInEntries(1L, bits) - 1;
+            Map<Long, Integer> statusMap = new HashMap<>();
+            statusMap.put(0L, TokenStatusListUtils.STATUS_INVALID);
+            statusMap.put(3L, TokenStatusListUtils.STATUS_SUSPENDED);
+            statusMap.put(lastIndex, (1 << bits) - 1);
+
+            String lst = TokenStatusListUtils.updateList(TokenStatusListUtils.createEmptyList(1L), statusMap, bits, 1L);
+            Map<Long, Integer> result = TokenStatusListUtils.readStatuses(lst, List.of(0L, 1L, 3L, lastIndex), bits, 1L);
+
+            assertEquals(Integer.valueOf(TokenStatusListUtils.STATUS_INVALID), result.get(0L));
+            assertEquals(Integer.valueOf(TokenStatusListUtils.STATUS_VALID), result.get(1L));
+            assertEquals(Integer.valueOf(TokenStatusListUtils.STATUS_SUSPENDED), result.get(3L));
+            assertEquals(Integer.valueOf((1 << bits) - 1), result.get(lastIndex));
+        }
+    }
+
+    @Test
+    public void updateList_WithValueTooLargeOrIndexOutOfBounds_SkipsEntry() {
+        String empty = TokenStatusListUtils.createEmptyList(1L);
+        Map<Long, Integer> statusMap = new HashMap<>();
+        statusMap.put(1L, TokenStatusListUtils.STATUS_SUSPENDED);
+        statusMap.put(8192L, TokenStatusListUtils.STATUS_INVALID);
+
+        String lst = TokenStatusListUtils.updateList(empty, statusMap, 1, 1L);
+
+        assertEquals(empty, lst);
+    }
+
+    @Test
+    public void getCapacityInEntries_DividesByBitsPerStatus() {
+        assertEquals(131072L, TokenStatusListUtils.getCapacityInEntries(16L, 1));
+        assertEquals(65536L, TokenStatusListUtils.getCapacityInEntries(16L, 2));
+        assertEquals(16384L, TokenStatusListUtils.getCapacityInEntries(16L, 8));
+    }
+
+    @Test
+    public void nextStatusValue_AppliesPurposeToCurrentValue() {
+        assertEquals(TokenStatusListUtils.STATUS_INVALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_VALID, "revocation", true, 2));
+        assertEquals(TokenStatusListUtils.STATUS_SUSPENDED, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_VALID, "suspension", true, 2));
+        assertEquals(TokenStatusListUtils.STATUS_VALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_SUSPENDED, "suspension", false, 2));
+        assertEquals(TokenStatusListUtils.STATUS_INVALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_SUSPENDED, "revocation", true, 2));
+        // Only lifting the suspension clears it
+        assertEquals(TokenStatusListUtils.STATUS_SUSPENDED, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_SUSPENDED, "revocation", false, 2));
+        assertEquals(TokenStatusListUtils.STATUS_VALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_VALID, "suspension", false, 2));
+        // INVALID is never downgraded
+        assertEquals(TokenStatusListUtils.STATUS_INVALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_INVALID, "suspension", true, 2));
+        assertEquals(TokenStatusListUtils.STATUS_INVALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_INVALID, "suspension", false, 2));
+        assertEquals(TokenStatusListUtils.STATUS_INVALID, TokenStatusListUtils.nextStatusValue(TokenStatusListUtils.STATUS_INVALID, "revocation", false, 2));
+    }
+
+    @Test
+    public void nextStatusValue_SingleBitListOfOnePurpose() {
+        assertEquals(1, TokenStatusListUtils.nextStatusValue(0, "suspension", true, 1));
+        assertEquals(0, TokenStatusListUtils.nextStatusValue(1, "suspension", false, 1));
+        assertEquals(1, TokenStatusListUtils.nextStatusValue(0, "revocation", true, 1));
+        assertEquals(1, TokenStatusListUtils.nextStatusValue(1, "revocation", false, 1));
+        assertEquals(0, TokenStatusListUtils.nextStatusValue(0, null, false, 1));
+    }
+
+    @Test(expected = CertifyException.class)
+    public void updateList_WithUnsupportedBits_ThrowsException() {
+        TokenStatusListUtils.updateList(TokenStatusListUtils.createEmptyList(1L), Map.of(), 3, 1L);
+    }
+
+    @Test(expected = CertifyException.class)
+    public void readStatuses_WithInvalidList_ThrowsException() {
+        TokenStatusListUtils.readStatuses("not-a-zlib-stream", List.of(0L), 1, 1L);
+    }
+
+    private static byte[] decode(String lst) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(lst)))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -106,3 +106,10 @@ CREATE TABLE IF NOT EXISTS credential_config (
     upd_dtimes TIMESTAMP,
     CONSTRAINT pk_config_id PRIMARY KEY (context, credential_type, credential_format)
 );
+
+CREATE TABLE IF NOT EXISTS config_generation (
+    config_name VARCHAR(64) NOT NULL,
+    generation BIGINT NOT NULL DEFAULT 0,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_config_generation PRIMARY KEY (config_name)
+);
@@ -11,3 +11,5 @@
 \ir ddl/certify-credential_status_transaction.sql
 \ir ddl/certify-status_list_available_indices.sql
 \ir ddl/certify-shedlock.sql
+\ir ddl/certify-ledger_rollup.sql
+\ir ddl/certify-config_generation.sql
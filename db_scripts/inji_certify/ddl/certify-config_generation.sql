@@ -0,0 +1,27 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : config_generation
+-- Purpose    : Generation counters of the configurations, polled by every node to invalidate
+--              the caches and structures derived from them
+--
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS config_generation (
+    config_name VARCHAR(64) NOT NULL,
+    generation BIGINT NOT NULL DEFAULT 0,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_config_generation PRIMARY KEY (config_name)
+);
+
+COMMENT ON TABLE config_generation IS 'Generation counter of each configuration, incremented in the transaction that changes the configuration.';
+COMMENT ON COLUMN config_generation.config_name IS 'Name of the configuration.';
+COMMENT ON COLUMN config_generation.generation IS 'Number of committed changes to the configuration.';
+COMMENT ON COLUMN config_generation.upd_dtimes IS 'Timestamp of the last change.';
+
+INSERT INTO config_generation (config_name, generation) VALUES ('credential_config', 0) ON CONFLICT DO NOTHING;
@@ -37,4 +37,5 @@ COMMENT ON COLUMN credential_status_transaction.processed_dtimes IS 'Timestamp w
 COMMENT ON COLUMN credential_status_transaction.is_processed IS 'Indicates if the transaction has been processed by the status list batch job.';
 
 -- Create indexes for credential_status_transaction
-CREATE INDEX IF NOT EXISTS idx_cst_is_processed_created ON certify.credential_status_transaction (is_processed, cr_dtimes);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_cst_is_processed_created ON certify.credential_status_transaction (is_processed, cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_cst_cr_dtimes ON certify.credential_status_transaction (cr_dtimes);
\ No newline at end of file
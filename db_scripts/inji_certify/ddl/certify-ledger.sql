@@ -40,11 +40,12 @@ COMMENT ON COLUMN ledger.credential_status_details IS 'An array of status object
 COMMENT ON COLUMN ledger.cr_dtimes IS 'Timestamp of when this ledger record for the tracked credential was created.';
 
 -- Create indexes for ledger
-CREATE INDEX IF NOT EXISTS idx_ledger_credential_id ON ledger(credential_id);
 CREATE INDEX IF NOT EXISTS idx_ledger_issuer_id ON ledger(issuer_id);
 CREATE INDEX IF NOT EXISTS idx_ledger_credential_type ON ledger(credential_type);
 CREATE INDEX IF NOT EXISTS idx_ledger_issue_date ON ledger(issuance_date);
 CREATE INDEX IF NOT EXISTS idx_ledger_expiration_date ON ledger(expiration_date);
 CREATE INDEX IF NOT EXISTS idx_ledger_cr_dtimes ON ledger(cr_dtimes);
-CREATE INDEX IF NOT EXISTS idx_gin_ledger_indexed_attrs ON ledger USING GIN (indexed_attributes);
+-- Keyset pagination of ledger searches, which always filter on issuer and credential type and order by id
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_type_id ON ledger(issuer_id, credential_type, id);
+-- indexed_attributes is indexed per configured key by the service (idx_ledger_attr_<key>), see LedgerAttributeIndexManager
 CREATE INDEX IF NOT EXISTS idx_gin_ledger_status_details ON ledger USING GIN (credential_status_details);
\ No newline at end of file
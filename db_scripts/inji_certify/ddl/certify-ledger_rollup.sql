@@ -0,0 +1,61 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : ledger_issuance_rollup, credential_status_rollup, ledger_rollup_watermark
+-- Purpose    : Daily issuance and status update counts, recounted per day from the ledger
+--              and the credential status transactions for the analytics API
+--
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS ledger_issuance_rollup (
+    issuer_id VARCHAR(255) NOT NULL,
+    credential_type VARCHAR(255) NOT NULL,
+    issuance_day DATE NOT NULL,
+    attribute_name VARCHAR(47) NOT NULL,
+    attribute_value VARCHAR(255) NOT NULL,
+    issued_count BIGINT NOT NULL,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_ledger_issuance_rollup PRIMARY KEY (credential_type, issuance_day, issuer_id, attribute_name, attribute_value)
+);
+
+COMMENT ON TABLE ledger_issuance_rollup IS 'Number of credentials issued per issuer, credential type and day, in total and per value of the configured indexed attributes.';
+COMMENT ON COLUMN ledger_issuance_rollup.issuer_id IS 'Issuer of the credentials.';
+COMMENT ON COLUMN ledger_issuance_rollup.credential_type IS 'Credential type as stored in the ledger.';
+COMMENT ON COLUMN ledger_issuance_rollup.issuance_day IS 'Day of the issuance date.';
+COMMENT ON COLUMN ledger_issuance_rollup.attribute_name IS 'Indexed attribute the count is grouped by. Empty for the total of the day.';
+COMMENT ON COLUMN ledger_issuance_rollup.attribute_value IS 'Value of the indexed attribute. Empty for the total of the day.';
+COMMENT ON COLUMN ledger_issuance_rollup.issued_count IS 'Number of credentials issued.';
+COMMENT ON COLUMN ledger_issuance_rollup.upd_dtimes IS 'Timestamp of the last aggregation into this row.';
+
+CREATE TABLE IF NOT EXISTS credential_status_rollup (
+    status_day DATE NOT NULL,
+    status_purpose VARCHAR(100) NOT NULL,
+    status_value BOOLEAN NOT NULL,
+    update_count BIGINT NOT NULL,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_credential_status_rollup PRIMARY KEY (status_day, status_purpose, status_value)
+);
+
+COMMENT ON TABLE credential_status_rollup IS 'Number of credential status updates per day, status purpose and status value.';
+COMMENT ON COLUMN credential_status_rollup.status_day IS 'Day the status update was requested.';
+COMMENT ON COLUMN credential_status_rollup.status_purpose IS 'Purpose of the status update (e.g., revocation, suspension).';
+COMMENT ON COLUMN credential_status_rollup.status_value IS 'Status value that was set.';
+COMMENT ON COLUMN credential_status_rollup.update_count IS 'Number of status updates.';
+COMMENT ON COLUMN credential_status_rollup.upd_dtimes IS 'Timestamp of the last aggregation into this row.';
+
+CREATE TABLE IF NOT EXISTS ledger_rollup_watermark (
+    rollup_name VARCHAR(64) NOT NULL,
+    last_dtimes TIMESTAMP,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_ledger_rollup_watermark PRIMARY KEY (rollup_name)
+);
+
+COMMENT ON TABLE ledger_rollup_watermark IS 'Database time of the last aggregation into each rollup table.';
+COMMENT ON COLUMN ledger_rollup_watermark.rollup_name IS 'Name of the rollup.';
+COMMENT ON COLUMN ledger_rollup_watermark.last_dtimes IS 'Database time the last aggregation started at. Rows created since, less the reconcile window, are recounted by the next aggregation.';
+COMMENT ON COLUMN ledger_rollup_watermark.upd_dtimes IS 'Timestamp of the last aggregation.';
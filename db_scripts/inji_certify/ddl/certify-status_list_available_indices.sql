@@ -16,6 +16,8 @@ CREATE TABLE status_list_available_indices (
     status_list_credential_id VARCHAR(255) NOT NULL, -- References status_list_credential.id
     list_index BIGINT NOT NULL,                    -- The numerical index within the status list
     is_assigned BOOLEAN NOT NULL DEFAULT FALSE,   -- Flag indicating if this index has been assigned
+    ledger_id BIGINT,                              -- Ledger entry of the credential holding this index
+    expiration_date TIMESTAMP,                     -- Expiration date of the credential holding this index
     cr_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),   -- Creation timestamp
     upd_dtimes TIMESTAMP,                          -- Update timestamp
 
@@ -37,6 +39,8 @@ COMMENT ON COLUMN status_list_available_indices.id IS 'Serial primary key for th
 COMMENT ON COLUMN status_list_available_indices.status_list_credential_id IS 'Identifier of the status list credential this index belongs to (FK to status_list_credential.id).';
 COMMENT ON COLUMN status_list_available_indices.list_index IS 'The numerical index (e.g., 0 to N-1) within the specified status list.';
 COMMENT ON COLUMN status_list_available_indices.is_assigned IS 'Flag indicating if this specific index has been assigned (TRUE) or is available (FALSE).';
+COMMENT ON COLUMN status_list_available_indices.ledger_id IS 'Identifier of the ledger entry of the credential this index is assigned to (reverse link to ledger.id).';
+COMMENT ON COLUMN status_list_available_indices.expiration_date IS 'Expiration date of the credential this index is assigned to. Used to reclaim the index once the credential has expired.';
 COMMENT ON COLUMN status_list_available_indices.cr_dtimes IS 'Timestamp when this index entry record was created (typically when the parent status list was populated).';
 COMMENT ON COLUMN status_list_available_indices.upd_dtimes IS 'Timestamp when this index entry record was last updated (e.g., when is_assigned changed).';
 
@@ -50,4 +54,9 @@ CREATE INDEX IF NOT EXISTS idx_sla_available_indices
 CREATE INDEX IF NOT EXISTS idx_sla_status_list_credential_id ON status_list_available_indices(status_list_credential_id);
 CREATE INDEX IF NOT EXISTS idx_sla_is_assigned ON status_list_available_indices(is_assigned);
 CREATE INDEX IF NOT EXISTS idx_sla_list_index ON status_list_available_indices(list_index);
-CREATE INDEX IF NOT EXISTS idx_sla_cr_dtimes ON status_list_available_indices(cr_dtimes);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_sla_cr_dtimes ON status_list_available_indices(cr_dtimes);
+
+-- Partial index for finding assigned indices of expired credentials
+CREATE INDEX IF NOT EXISTS idx_sla_assigned_expiration_date
+    ON status_list_available_indices (expiration_date)
+    WHERE is_assigned = TRUE;
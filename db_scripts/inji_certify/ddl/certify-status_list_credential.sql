@@ -21,6 +21,8 @@ CREATE TABLE status_list_credential (
     status_purpose VARCHAR(100),             -- Intended purpose of this list within the system (e.g., 'revocation', 'suspension', 'general'). NULLABLE.
     capacity_in_kb BIGINT,                        --- length of status list
     credential_status credential_status_enum, -- Use the created ENUM type here
+    status_list_group_id VARCHAR(255),      -- Id of the primary list of the group of lists sharing their indices. NULLABLE.
+    status_size INTEGER,                    -- Bits per status, 1, 2, 4 or 8 for Token Status Lists. NULL means 1.
     cr_dtimes timestamp NOT NULL default now(),
     upd_dtimes timestamp                    -- When this VC record was last updated in the system
 );
@@ -31,6 +33,8 @@ COMMENT ON COLUMN status_list_credential.id IS 'Unique identifier (URL/DID/URN)
 COMMENT ON COLUMN status_list_credential.vc_document IS 'The complete JSON document of the Status List Verifiable Credential.';
 COMMENT ON COLUMN status_list_credential.credential_type IS 'The type of the Status List credential, often found in vc_document.type (e.g., StatusList2021Credential).';
 COMMENT ON COLUMN status_list_credential.status_purpose IS 'The intended purpose assigned to this entire Status List within the system (e.g., revocation, suspension, general). This may be based on convention or system policy, distinct from the credentialStatus.statusPurpose used by individual credentials.';
+COMMENT ON COLUMN status_list_credential.status_list_group_id IS 'Id of the primary list of a group of status lists, one per purpose, that share their indices. Only the primary list has available index entries. NULL for lists outside a group.';
+COMMENT ON COLUMN status_list_credential.status_size IS 'Number of bits per status. Bitstring status lists use 1 bit, Token Status Lists 1, 2, 4 or 8 bits. NULL is treated as 1.';
 COMMENT ON COLUMN status_list_credential.cr_dtimes IS 'Timestamp when this Status List VC was first added/fetched into the local system.';
 COMMENT ON COLUMN status_list_credential.upd_dtimes IS 'Timestamp when this Status List VC record was last updated.';
 
@@ -38,4 +42,5 @@ COMMENT ON COLUMN status_list_credential.upd_dtimes IS 'Timestamp when this Stat
 CREATE INDEX IF NOT EXISTS idx_slc_status_purpose ON status_list_credential(status_purpose);
 CREATE INDEX IF NOT EXISTS idx_slc_credential_type ON status_list_credential(credential_type);
 CREATE INDEX IF NOT EXISTS idx_slc_credential_status ON status_list_credential(credential_status);
-CREATE INDEX IF NOT EXISTS idx_slc_cr_dtimes ON status_list_credential(cr_dtimes);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_slc_cr_dtimes ON status_list_credential(cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_slc_status_list_group_id ON status_list_credential(status_list_group_id);
@@ -0,0 +1,34 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : status_list_available_indices, status_list_credential
+-- Purpose    : To remove Certify v0.14.0 changes and make DB ready for Certify v0.13.1
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+DROP INDEX IF EXISTS certify.idx_sla_assigned_expiration_date;
+
+ALTER TABLE certify.status_list_available_indices
+    DROP COLUMN IF EXISTS ledger_id,
+    DROP COLUMN IF EXISTS expiration_date;
+
+DROP INDEX IF EXISTS certify.idx_slc_status_list_group_id;
+
+ALTER TABLE certify.status_list_credential
+    DROP COLUMN IF EXISTS status_list_group_id,
+    DROP COLUMN IF EXISTS status_size;
+
+DROP INDEX IF EXISTS certify.idx_ledger_issuer_type_id;
+
+CREATE INDEX IF NOT EXISTS idx_ledger_credential_id ON certify.ledger(credential_id);
+CREATE INDEX IF NOT EXISTS idx_gin_ledger_indexed_attrs ON certify.ledger USING GIN (indexed_attributes);
+
+DROP INDEX IF EXISTS certify.idx_cst_cr_dtimes;
+DROP TABLE IF EXISTS certify.ledger_issuance_rollup;
+DROP TABLE IF EXISTS certify.credential_status_rollup;
+DROP TABLE IF EXISTS certify.ledger_rollup_watermark;
+DROP TABLE IF EXISTS certify.config_generation;
@@ -0,0 +1,104 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : status_list_available_indices, status_list_credential
+-- Purpose    : To upgrade Certify v0.13.1 changes and make it compatible with v0.14.0
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+-- Reverse link from an assigned index to the credential holding it, used to reclaim indices of expired credentials
+ALTER TABLE certify.status_list_available_indices
+    ADD COLUMN IF NOT EXISTS ledger_id BIGINT,
+    ADD COLUMN IF NOT EXISTS expiration_date TIMESTAMP;
+
+COMMENT ON COLUMN certify.status_list_available_indices.ledger_id IS 'Identifier of the ledger entry of the credential this index is assigned to (reverse link to ledger.id).';
+COMMENT ON COLUMN certify.status_list_available_indices.expiration_date IS 'Expiration date of the credential this index is assigned to. Used to reclaim the index once the credential has expired.';
+
+-- Backfill the reverse link for credentials issued before the upgrade
+UPDATE certify.status_list_available_indices sla
+SET ledger_id = l.id,
+    expiration_date = l.expiration_date
+FROM certify.ledger l,
+     jsonb_array_elements(l.credential_status_details) AS csd
+WHERE sla.is_assigned = TRUE
+  AND sla.status_list_credential_id = csd ->> 'status_list_credential_id'
+  AND sla.list_index = (csd ->> 'status_list_index')::BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_sla_assigned_expiration_date
+    ON certify.status_list_available_indices (expiration_date)
+    WHERE is_assigned = TRUE;
+
+-- Group of status lists, one per purpose, sharing the indices of the primary list
+ALTER TABLE certify.status_list_credential
+    ADD COLUMN IF NOT EXISTS status_list_group_id VARCHAR(255);
+
+COMMENT ON COLUMN certify.status_list_credential.status_list_group_id IS 'Id of the primary list of a group of status lists, one per purpose, that share their indices. Only the primary list has available index entries. NULL for lists outside a group.';
+
+CREATE INDEX IF NOT EXISTS idx_slc_status_list_group_id ON certify.status_list_credential(status_list_group_id);
+
+-- Bits per status of Token Status Lists used by SD-JWT credentials
+ALTER TABLE certify.status_list_credential
+    ADD COLUMN IF NOT EXISTS status_size INTEGER;
+
+COMMENT ON COLUMN certify.status_list_credential.status_size IS 'Number of bits per status. Bitstring status lists use 1 bit, Token Status Lists 1, 2, 4 or 8 bits. NULL is treated as 1.';
+
+-- Keyset pagination of ledger searches, which always filter on issuer and credential type and order by id
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_type_id ON certify.ledger(issuer_id, credential_type, id);
+
+-- Duplicates the index of the uq_ledger_tracked_credential_id constraint
+DROP INDEX IF EXISTS certify.idx_ledger_credential_id;
+
+-- Replaced by one expression index per configured indexed attribute (idx_ledger_attr_<key>), created by the service
+DROP INDEX IF EXISTS certify.idx_gin_ledger_indexed_attrs;
+
+-- Issuance and status update rollups for the analytics API, aggregated from the ledger by the service
+CREATE TABLE IF NOT EXISTS certify.ledger_issuance_rollup (
+    issuer_id VARCHAR(255) NOT NULL,
+    credential_type VARCHAR(255) NOT NULL,
+    issuance_day DATE NOT NULL,
+    attribute_name VARCHAR(47) NOT NULL,
+    attribute_value VARCHAR(255) NOT NULL,
+    issued_count BIGINT NOT NULL,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_ledger_issuance_rollup PRIMARY KEY (credential_type, issuance_day, issuer_id, attribute_name, attribute_value)
+);
+
+COMMENT ON TABLE certify.ledger_issuance_rollup IS 'Number of credentials issued per issuer, credential type and day, in total and per value of the configured indexed attributes.';
+
+CREATE TABLE IF NOT EXISTS certify.credential_status_rollup (
+    status_day DATE NOT NULL,
+    status_purpose VARCHAR(100) NOT NULL,
+    status_value BOOLEAN NOT NULL,
+    update_count BIGINT NOT NULL,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_credential_status_rollup PRIMARY KEY (status_day, status_purpose, status_value)
+);
+
+COMMENT ON TABLE certify.credential_status_rollup IS 'Number of credential status updates per day, status purpose and status value.';
+
+CREATE TABLE IF NOT EXISTS certify.ledger_rollup_watermark (
+    rollup_name VARCHAR(64) NOT NULL,
+    last_dtimes TIMESTAMP,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_ledger_rollup_watermark PRIMARY KEY (rollup_name)
+);
+
+COMMENT ON TABLE certify.ledger_rollup_watermark IS 'Database time of the last aggregation into each rollup table.';
+
+-- Days with status updates since the last aggregation are looked up by creation time
+CREATE INDEX IF NOT EXISTS idx_cst_cr_dtimes ON certify.credential_status_transaction(cr_dtimes);
+
+CREATE TABLE IF NOT EXISTS certify.config_generation (
+    config_name VARCHAR(64) NOT NULL,
+    generation BIGINT NOT NULL DEFAULT 0,
+    upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_config_generation PRIMARY KEY (config_name)
+);
+
+COMMENT ON TABLE certify.config_generation IS 'Generation counter of each configuration, incremented in the transaction that changes the configuration.';
+
+INSERT INTO certify.config_generation (config_name, generation) VALUES ('credential_config', 0) ON CONFLICT DO NOTHING;
@@ -0,0 +1,51 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : ledger
+-- Purpose    : Converts a ledger partitioned by ledger_partitioning_upgrade.sql back into a plain
+--              table. Partitions already detached and archived are not restored.
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+BEGIN;
+
+LOCK TABLE certify.ledger IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE certify.ledger RENAME TO ledger_partitioned;
+
+CREATE TABLE certify.ledger (
+    id SERIAL PRIMARY KEY,
+    credential_id VARCHAR(255),
+    issuer_id VARCHAR(255) NOT NULL,
+    issuance_date TIMESTAMP NOT NULL,
+    expiration_date TIMESTAMP,
+    credential_type VARCHAR(100) NOT NULL,
+    indexed_attributes JSONB,
+    credential_status_details JSONB NOT NULL DEFAULT '[]'::jsonb,
+    cr_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uq_ledger_tracked_credential_id_plain UNIQUE (credential_id),
+    CONSTRAINT ensure_credential_status_details_is_array_plain CHECK (jsonb_typeof(credential_status_details) = 'array')
+);
+
+INSERT INTO certify.ledger SELECT * FROM certify.ledger_partitioned;
+SELECT setval(pg_get_serial_sequence('certify.ledger', 'id'), COALESCE((SELECT MAX(id) FROM certify.ledger), 0) + 1, false);
+
+DROP TABLE certify.ledger_partitioned CASCADE;
+
+ALTER TABLE certify.ledger RENAME CONSTRAINT uq_ledger_tracked_credential_id_plain TO uq_ledger_tracked_credential_id;
+ALTER TABLE certify.ledger RENAME CONSTRAINT ensure_credential_status_details_is_array_plain TO ensure_credential_status_details_is_array;
+
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_id ON certify.ledger(issuer_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_credential_type ON certify.ledger(credential_type);
+CREATE INDEX IF NOT EXISTS idx_ledger_issue_date ON certify.ledger(issuance_date);
+CREATE INDEX IF NOT EXISTS idx_ledger_expiration_date ON certify.ledger(expiration_date);
+CREATE INDEX IF NOT EXISTS idx_ledger_cr_dtimes ON certify.ledger(cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_type_id ON certify.ledger(issuer_id, credential_type, id);
+CREATE INDEX IF NOT EXISTS idx_gin_ledger_status_details ON certify.ledger USING GIN (credential_status_details);
+
+COMMIT;
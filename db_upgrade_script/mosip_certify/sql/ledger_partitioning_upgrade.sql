@@ -0,0 +1,96 @@
+-- This Source Code Form is subject to the terms of the Mozilla Public
+-- License, v. 2.0. If a copy of the MPL was not distributed with this
+-- file, You can obtain one at https://mozilla.org/MPL/2.0/.
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: inji_certify
+-- Table Name : ledger
+-- Purpose    : Optional. Converts the ledger into a table partitioned by range of issuance_date.
+--              Run once, after 0.13.1_to_0.14.0_upgrade.sql, in a maintenance window, then set
+--              mosip.certify.ledger.partitioning.enabled=true so the service maintains the partitions.
+--              The existing entries become the ledger_legacy partition, which is rewritten once
+--              to widen the id to BIGINT.
+--
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- ------------------------------------------------------------------------------------------
+
+BEGIN;
+
+LOCK TABLE certify.ledger IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE certify.ledger RENAME TO ledger_legacy;
+
+-- Free the index and constraint names for the partitioned table
+DO $$
+DECLARE
+    idx record;
+BEGIN
+    FOR idx IN
+        SELECT c.relname
+        FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE i.indrelid = 'certify.ledger_legacy'::regclass
+    LOOP
+        EXECUTE format('ALTER INDEX certify.%I RENAME TO %I', idx.relname, left('legacy_' || idx.relname, 63));
+    END LOOP;
+END $$;
+
+ALTER TABLE certify.ledger_legacy RENAME CONSTRAINT ensure_credential_status_details_is_array TO legacy_ensure_credential_status_details_is_array;
+-- The partition gets the primary key of the partitioned table when attached
+ALTER TABLE certify.ledger_legacy DROP CONSTRAINT legacy_ledger_pkey;
+ALTER TABLE certify.ledger_legacy ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE certify.ledger_id_seq AS BIGINT;
+
+-- Unique constraints of a partitioned table must include the partition key, so credential_id
+-- is unique within a partition. Credential ids are generated UUIDs, which the service never reuses.
+CREATE TABLE certify.ledger (
+    id BIGINT NOT NULL DEFAULT nextval('certify.ledger_id_seq'),
+    credential_id VARCHAR(255),
+    issuer_id VARCHAR(255) NOT NULL,
+    issuance_date TIMESTAMP NOT NULL,
+    expiration_date TIMESTAMP,
+    credential_type VARCHAR(100) NOT NULL,
+    indexed_attributes JSONB,
+    credential_status_details JSONB NOT NULL DEFAULT '[]'::jsonb,
+    cr_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT ledger_pkey PRIMARY KEY (id, issuance_date),
+    CONSTRAINT uq_ledger_tracked_credential_id UNIQUE (credential_id, issuance_date),
+    CONSTRAINT ensure_credential_status_details_is_array CHECK (jsonb_typeof(credential_status_details) = 'array')
+) PARTITION BY RANGE (issuance_date);
+
+ALTER SEQUENCE certify.ledger_id_seq OWNED BY certify.ledger.id;
+ALTER TABLE certify.ledger_legacy ALTER COLUMN id SET DEFAULT nextval('certify.ledger_id_seq');
+
+COMMENT ON TABLE certify.ledger IS 'Stores intrinsic information about tracked Verifiable Credentials and their status history. Partitioned by month of issuance_date.';
+
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_id ON certify.ledger(issuer_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_credential_type ON certify.ledger(credential_type);
+CREATE INDEX IF NOT EXISTS idx_ledger_issue_date ON certify.ledger(issuance_date);
+CREATE INDEX IF NOT EXISTS idx_ledger_expiration_date ON certify.ledger(expiration_date);
+CREATE INDEX IF NOT EXISTS idx_ledger_cr_dtimes ON certify.ledger(cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_ledger_issuer_type_id ON certify.ledger(issuer_id, credential_type, id);
+CREATE INDEX IF NOT EXISTS idx_gin_ledger_status_details ON certify.ledger USING GIN (credential_status_details);
+
+-- Entries of the current month go to the first monthly partition, older entries stay in ledger_legacy
+DO $$
+DECLARE
+    cutover DATE := date_trunc('month', now() AT TIME ZONE 'UTC')::DATE;
+    partition_name TEXT := 'ledger_p' || to_char(cutover, 'YYYYMM');
+BEGIN
+    EXECUTE format('CREATE TABLE certify.%I PARTITION OF certify.ledger FOR VALUES FROM (%L) TO (%L)',
+            partition_name, cutover, (cutover + INTERVAL '1 month')::DATE);
+    EXECUTE format('INSERT INTO certify.%I SELECT * FROM certify.ledger_legacy WHERE issuance_date >= %L',
+            partition_name, cutover);
+    DELETE FROM certify.ledger_legacy WHERE issuance_date >= cutover;
+    -- Lets the attach skip the validation scan
+    EXECUTE format('ALTER TABLE certify.ledger_legacy ADD CONSTRAINT ledger_legacy_issuance_date CHECK (issuance_date < %L)', cutover);
+    EXECUTE format('ALTER TABLE certify.ledger ATTACH PARTITION certify.ledger_legacy FOR VALUES FROM (MINVALUE) TO (%L)', cutover);
+END $$;
+
+ALTER TABLE certify.ledger_legacy DROP CONSTRAINT ledger_legacy_issuance_date;
+
+-- Catches entries outside the monthly partitions, which the service creates ahead of time
+CREATE TABLE certify.ledger_default PARTITION OF certify.ledger DEFAULT;
+
+COMMIT;
@@ -220,6 +220,8 @@ CREATE TABLE certify.status_list_credential (
     status_purpose VARCHAR(100),             -- Intended purpose of this list within the system (e.g., 'revocation', 'suspension', 'general'). NULLABLE.
     capacity BIGINT,                        --- length of status list
     credential_status credential_status_enum, -- Use the created ENUM type here
+    status_list_group_id VARCHAR(255),      -- Id of the primary list of the group of lists sharing their indices. NULLABLE.
+    status_size INTEGER,                    -- Bits per status, 1, 2, 4 or 8 for Token Status Lists. NULL means 1.
     cr_dtimes timestamp NOT NULL default now(),
     upd_dtimes timestamp                    -- When this VC record was last updated in the system
 );
@@ -229,6 +231,7 @@ CREATE INDEX IF NOT EXISTS idx_slc_status_purpose ON certify.status_list_credent
 CREATE INDEX IF NOT EXISTS idx_slc_credential_type ON certify.status_list_credential(credential_type);
 CREATE INDEX IF NOT EXISTS idx_slc_credential_status ON certify.status_list_credential(credential_status);
 CREATE INDEX IF NOT EXISTS idx_slc_cr_dtimes ON certify.status_list_credential(cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_slc_status_list_group_id ON certify.status_list_credential(status_list_group_id);
 
 -- Create the ledger table
 CREATE TABLE certify.ledger (
@@ -270,12 +273,15 @@ CREATE TABLE IF NOT EXISTS certify.credential_status_transaction (
 );
 
 CREATE INDEX IF NOT EXISTS idx_cst_is_processed_created ON certify.credential_status_transaction (is_processed, cr_dtimes);
+CREATE INDEX IF NOT EXISTS idx_cst_cr_dtimes ON certify.credential_status_transaction (cr_dtimes);
 
 CREATE TABLE certify.status_list_available_indices (
     id SERIAL PRIMARY KEY,                         -- Serial primary key
     status_list_credential_id VARCHAR(255) NOT NULL, -- References status_list_credential.id
     list_index BIGINT NOT NULL,                    -- The numerical index within the status list
     is_assigned BOOLEAN NOT NULL DEFAULT FALSE,   -- Flag indicating if this index has been assigned
+    ledger_id BIGINT,                              -- Ledger entry of the credential holding this index
+    expiration_date TIMESTAMP,                     -- Expiration date of the credential holding this index
     cr_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),   -- Creation timestamp
     upd_dtimes TIMESTAMP,                          -- Update timestamp
 
@@ -301,10 +307,51 @@ CREATE INDEX IF NOT EXISTS idx_sla_is_assigned ON certify.status_list_available_
 CREATE INDEX IF NOT EXISTS idx_sla_list_index ON certify.status_list_available_indices(list_index);
 CREATE INDEX IF NOT EXISTS idx_sla_cr_dtimes ON certify.status_list_available_indices(cr_dtimes);
 
+-- Partial index for finding assigned indices of expired credentials
+CREATE INDEX IF NOT EXISTS idx_sla_assigned_expiration_date
+    ON certify.status_list_available_indices (expiration_date)
+    WHERE is_assigned = TRUE;
+
 CREATE TABLE IF NOT EXISTS certify.shedlock (
   name VARCHAR(64),
   lock_until TIMESTAMPTZ(3) NOT NULL,
   locked_at TIMESTAMPTZ(3) NOT NULL,
   locked_by VARCHAR(255) NOT NULL,
   PRIMARY KEY (name)
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS certify.config_generation (
+  config_name VARCHAR(64) NOT NULL,
+  generation BIGINT NOT NULL DEFAULT 0,
+  upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+  PRIMARY KEY (config_name)
+);
+
+CREATE TABLE IF NOT EXISTS certify.ledger_issuance_rollup (
+  issuer_id VARCHAR(255) NOT NULL,
+  credential_type VARCHAR(255) NOT NULL,
+  issuance_day DATE NOT NULL,
+  attribute_name VARCHAR(47) NOT NULL,
+  attribute_value VARCHAR(255) NOT NULL,
+  issued_count BIGINT NOT NULL,
+  upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT pk_ledger_issuance_rollup PRIMARY KEY (credential_type, issuance_day, issuer_id, attribute_name, attribute_value)
+);
+
+CREATE TABLE IF NOT EXISTS certify.credential_status_rollup (
+  status_day DATE NOT NULL,
+  status_purpose VARCHAR(100) NOT NULL,
+  status_value BOOLEAN NOT NULL,
+  update_count BIGINT NOT NULL,
+  upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT pk_credential_status_rollup PRIMARY KEY (status_day, status_purpose, status_value)
+);
+
+CREATE TABLE IF NOT EXISTS certify.ledger_rollup_watermark (
+  rollup_name VARCHAR(64) NOT NULL,
+  last_dtimes TIMESTAMP,
+  upd_dtimes TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT pk_ledger_rollup_watermark PRIMARY KEY (rollup_name)
+);
+
+INSERT INTO certify.config_generation (config_name, generation) VALUES ('credential_config', 0) ON CONFLICT DO NOTHING;